@@ -0,0 +1,118 @@
+package tech.ydb.jdbc.query;
+
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+
+/**
+ * Throughput and hit ratio of the query cache for statements which differ only by literals. The original mode
+ * caches every SQL text as is, the normalized mode caches the query with lifted literals. The ratio of the
+ * {@code hits} and {@code misses} counters is the hit ratio of the cache.
+ *
+ * @author Aleksandr Gorshenin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryLiteralsBenchmark {
+    private static final YdbTypes TYPES = new YdbTypes(false);
+    private static final int CACHE_SIZE = 256;
+
+    private static final String[] TEMPLATES = new String[] {
+        "SELECT * FROM users WHERE id = %d",
+        "SELECT name, email FROM users WHERE id = %d AND region = 'r%d'u",
+        "UPDATE users SET visits = visits + 1 WHERE id = %d",
+        "UPSERT INTO events (id, user_id, kind) VALUES (%d, %d, 'click'u)",
+    };
+
+    @Param({"1000", "100000"})
+    public int distinctValues;
+
+    private String[] queries;
+    private YdbQueryProperties props;
+    private Cache<QueryKey, YdbQuery> cache;
+    private int next;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CacheCounters {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+    }
+
+    @Setup
+    public void setup() throws SQLException {
+        props = new YdbQueryProperties(new Properties());
+        queries = new String[distinctValues];
+        for (int idx = 0; idx < distinctValues; idx++) {
+            String template = TEMPLATES[idx % TEMPLATES.length];
+            queries[idx] = String.format(template, idx, idx % 97);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetCache() {
+        cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+        next = 0;
+    }
+
+    private String nextQuery() {
+        String sql = queries[next];
+        next = (next + 1) % queries.length;
+        return sql;
+    }
+
+    private YdbQuery lookup(QueryKey key, CacheCounters counters) throws SQLException {
+        YdbQuery query = cache.getIfPresent(key);
+        if (query != null) {
+            counters.hits++;
+            return query;
+        }
+
+        counters.misses++;
+        query = YdbQuery.parseQuery(key, props, TYPES);
+        cache.put(key, query);
+        return query;
+    }
+
+    @Benchmark
+    public void original(CacheCounters counters, Blackhole bh) throws SQLException {
+        bh.consume(lookup(new QueryKey(nextQuery()), counters));
+    }
+
+    @Benchmark
+    public void normalized(CacheCounters counters, Blackhole bh) throws SQLException {
+        QueryLiterals literals = QueryLiterals.extract(nextQuery(), true);
+        bh.consume(lookup(literals.getKey(), counters));
+        bh.consume(literals.toParams(TYPES));
+    }
+}
@@ -0,0 +1,86 @@
+package tech.ydb.jdbc.query.params;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
+
+/**
+ * Compares the boxed setParam with the primitive setters of the prepared query. Run with {@code -prof gc} to see
+ * the allocation per operation.
+ *
+ * @author Aleksandr Gorshenin
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveSettersBenchmark {
+    private static final YdbTypes TYPES = new YdbTypes(false);
+
+    private PreparedQuery query;
+    private int counter;
+
+    @Setup
+    public void setup() throws SQLException {
+        Map<String, Type> types = new HashMap<>();
+        types.put("$p1", PrimitiveType.Int32);
+        types.put("$p2", PrimitiveType.Int64);
+        types.put("$p3", PrimitiveType.Double);
+        types.put("$p4", PrimitiveType.Bool);
+        types.put("$p5", PrimitiveType.Int8);
+        types.put("$p6", PrimitiveType.Int16);
+        types.put("$p7", PrimitiveType.Float);
+
+        YdbQueryProperties props = new YdbQueryProperties(new Properties());
+        YdbQuery parsed = YdbQuery.parseQuery(new QueryKey("SELECT 1"), props, TYPES);
+        query = new PreparedQuery(TYPES, parsed, types);
+    }
+
+    @Benchmark
+    public void boxed() throws SQLException {
+        // values are out of the range of the boxing caches
+        int value = 1000 + (counter++ & 0xFFFF);
+        query.setParam(1, value, Types.INTEGER);
+        query.setParam(2, (long) value, Types.BIGINT);
+        query.setParam(3, (double) value, Types.DOUBLE);
+        query.setParam(4, (value & 1) == 0, Types.BOOLEAN);
+        query.setParam(5, (byte) value, Types.TINYINT);
+        query.setParam(6, (short) value, Types.SMALLINT);
+        query.setParam(7, (float) value, Types.FLOAT);
+    }
+
+    @Benchmark
+    public void primitive() throws SQLException {
+        int value = 1000 + (counter++ & 0xFFFF);
+        query.setInt(1, value);
+        query.setLong(2, value);
+        query.setDouble(3, value);
+        query.setBoolean(4, (value & 1) == 0);
+        query.setByte(5, (byte) value);
+        query.setShort(6, (short) value);
+        query.setFloat(7, value);
+    }
+}
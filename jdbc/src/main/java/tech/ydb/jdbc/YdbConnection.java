@@ -2,9 +2,13 @@ package tech.ydb.jdbc;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collection;
+import java.util.List;
 
 import javax.annotation.Nullable;
 
+import tech.ydb.jdbc.context.YdbCacheStats;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.context.YdbExecutor;
 
@@ -16,6 +20,31 @@ public interface YdbConnection extends Connection {
 
     YdbExecutor getExecutor();
 
+    /**
+     * Returns statistics of query, prepared statement and table description caches of this connection. Caches are
+     * shared between all connections with the same context
+     *
+     * @return list of cache statistics
+     * @throws SQLException if connection is closed
+     * @throws SQLFeatureNotSupportedException if the implementation doesn't provide cache statistics
+     */
+    default List<YdbCacheStats> getCacheStats() throws SQLException {
+        throw new SQLFeatureNotSupportedException(YdbConst.CACHE_STATS_UNSUPPORTED);
+    }
+
+    /**
+     * Parses and prepares queries in parallel to fill the caches of this connection before the first execution.
+     * Queries which cannot be prepared are skipped
+     *
+     * @param queries list of SQL texts
+     * @return count of successfully prepared queries
+     * @throws SQLException if connection is closed or the warm-up was interrupted
+     * @throws SQLFeatureNotSupportedException if the implementation doesn't support the warm-up
+     */
+    default int warmup(Collection<String> queries) throws SQLException {
+        throw new SQLFeatureNotSupportedException(YdbConst.WARMUP_UNSUPPORTED);
+    }
+
     @Override
     YdbDatabaseMetaData getMetaData() throws SQLException;
 
@@ -52,6 +52,8 @@ public final class YdbConst {
     public static final String ABORT_UNSUPPORTED = "Abort operation is not supported yet";
     public static final String SET_NETWORK_TIMEOUT_UNSUPPORTED = "Set network timeout is not supported yet";
     public static final String OBJECT_TYPED_UNSUPPORTED = "Object with type conversion is not supported yet";
+    public static final String CACHE_STATS_UNSUPPORTED = "Cache statistics are not supported by this connection";
+    public static final String WARMUP_UNSUPPORTED = "Warm-up of queries is not supported by this connection";
     public static final String QUERY_EXPECT_RESULT_SET = "Query must return ResultSet";
     public static final String QUERY_EXPECT_UPDATE = "Query must not return ResultSet";
     public static final String UNABLE_TO_SET_NULL_OBJECT = "Unable to set null object, type is required";
@@ -72,6 +74,7 @@ public final class YdbConst {
 
 
     public static final String INVALID_FETCH_DIRECTION = "Fetch direction %s cannot be used when result set type is %s";
+    public static final String INVALID_FETCH_MAX_BYTES = "Fetch max bytes must be non negative: ";
     public static final String COLUMN_NOT_FOUND = "Column not found: ";
     public static final String COLUMN_NUMBER_NOT_FOUND = "Column is out of range: ";
     public static final String PARAMETER_NUMBER_NOT_FOUND = "Parameter is out of range: ";
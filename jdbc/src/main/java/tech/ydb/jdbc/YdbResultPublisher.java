@@ -0,0 +1,46 @@
+package tech.ydb.jdbc;
+
+import tech.ydb.table.result.ResultSetReader;
+
+/**
+ * Non-blocking publisher of parts of the result set. Can be obtained by {@link YdbStatement#executeQueryPublisher}
+ * or by {@code resultSet.unwrap(YdbResultPublisher.class)}. Follows the contract of Reactive Streams, so it can be
+ * easily adapted to {@code java.util.concurrent.Flow.Publisher}: parts are delivered only on demand of the subscriber
+ * and the stream of the query is paused while the subscriber doesn't request new parts (for the streamed result sets
+ * with positive fetch size). Result set must not be read while its parts are published. Note that
+ * {@link YdbStatement#executeQueryPublisher} executes the query synchronously before returning the publisher.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public interface YdbResultPublisher {
+    /**
+     * Subscribes to the parts of result set. Publisher supports only one subscriber.
+     *
+     * @param subscriber subscriber to receive parts
+     */
+    void subscribe(Subscriber subscriber);
+
+    interface Subscriber {
+        void onSubscribe(Subscription subscription);
+
+        void onNext(ResultSetReader part);
+
+        void onError(Throwable th);
+
+        void onComplete();
+    }
+
+    interface Subscription {
+        /**
+         * Requests more parts of the result set
+         *
+         * @param count count of parts, must be positive
+         */
+        void request(long count);
+
+        /**
+         * Stops receiving of parts and cancels the query stream
+         */
+        void cancel();
+    }
+}
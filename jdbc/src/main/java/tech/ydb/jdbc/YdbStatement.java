@@ -33,6 +33,19 @@ public interface YdbStatement extends Statement {
      */
     YdbResultSet executeExplainQuery(String sql) throws SQLException;
 
+    /**
+     * Executes query and returns the non-blocking publisher of parts of its first result set. Stream of the query is
+     * paused while the subscriber doesn't request parts, if the connection uses stream result sets and the statement
+     * has positive fetch size. This call itself blocks like {@link #executeQuery} until the first part of the result
+     * is received (or until the whole result is read if the result set is not streamed), only delivery of the next
+     * parts is non-blocking.
+     *
+     * @param sql query to execute
+     * @return publisher of the result set parts
+     * @throws SQLException if query cannot be executed
+     */
+    YdbResultPublisher executeQueryPublisher(String sql) throws SQLException;
+
     YdbValidator getValidator();
 
     @Override
@@ -58,4 +71,15 @@ public interface YdbStatement extends Statement {
 
     @Override
     int getMaxRows();
+
+    /**
+     * Sets the maximum estimated size of parts of the stream result set, which are loaded ahead of the reading. The
+     * stream is paused when the limit is reached, like with {@link #setFetchSize(int)}
+     *
+     * @param bytes limit in bytes, a value of {@code 0} means no limit
+     * @throws SQLException if the value is negative
+     */
+    void setFetchMaxBytes(long bytes) throws SQLException;
+
+    long getFetchMaxBytes();
 }
@@ -43,6 +43,62 @@ public class MappingSetters {
         return buildToValueImpl(type);
     }
 
+    /**
+     * Converts integer value without boxing. Result is the same as for the boxed {@link Long} or {@link Integer}
+     *
+     * @param type target type
+     * @param x value to convert
+     * @return converted value or {@code null} if the target type requires the generic conversion
+     */
+    static PrimitiveValue longToValue(Type type, long x) {
+        if (type.getKind() != Type.Kind.PRIMITIVE) {
+            return null;
+        }
+        switch ((PrimitiveType) type) {
+            case Bool:
+                return PrimitiveValue.newBool(x > 0);
+            case Int8:
+                return PrimitiveValue.newInt8((byte) x);
+            case Uint8:
+                return PrimitiveValue.newUint8((byte) x);
+            case Int16:
+                return PrimitiveValue.newInt16((short) x);
+            case Uint16:
+                return PrimitiveValue.newUint16((short) x);
+            case Int32:
+                return PrimitiveValue.newInt32((int) x);
+            case Uint32:
+                return PrimitiveValue.newUint32((int) x);
+            case Int64:
+                return PrimitiveValue.newInt64(x);
+            case Uint64:
+                return PrimitiveValue.newUint64(x);
+            case Float:
+                return PrimitiveValue.newFloat(x);
+            case Double:
+                return PrimitiveValue.newDouble(x);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Converts floating point value without boxing. Result is the same as for the boxed {@link Double}
+     *
+     * @param type target type
+     * @param x value to convert
+     * @return converted value or {@code null} if the target type requires the generic conversion
+     */
+    static PrimitiveValue doubleToValue(Type type, double x) {
+        if (type == PrimitiveType.Float) {
+            return PrimitiveValue.newFloat((float) x);
+        }
+        if (type == PrimitiveType.Double) {
+            return PrimitiveValue.newDouble(x);
+        }
+        return null;
+    }
+
     private static Setters buildToValueImpl(Type type) {
         Type.Kind kind = type.getKind();
         // TODO: Separate setters for primitive values?
@@ -85,6 +85,41 @@ public class TypeDescription {
         }
     }
 
+    public Value<?> toYdbValue(int value) throws SQLException {
+        Value<?> direct = MappingSetters.longToValue(type, value);
+        return direct != null ? direct : toYdbValue(Integer.valueOf(value));
+    }
+
+    public Value<?> toYdbValue(long value) throws SQLException {
+        Value<?> direct = MappingSetters.longToValue(type, value);
+        return direct != null ? direct : toYdbValue(Long.valueOf(value));
+    }
+
+    public Value<?> toYdbValue(double value) throws SQLException {
+        Value<?> direct = MappingSetters.doubleToValue(type, value);
+        return direct != null ? direct : toYdbValue(Double.valueOf(value));
+    }
+
+    public Value<?> toYdbValue(boolean value) throws SQLException {
+        Value<?> direct = MappingSetters.longToValue(type, value ? 1 : 0);
+        return direct != null ? direct : toYdbValue(Boolean.valueOf(value));
+    }
+
+    public Value<?> toYdbValue(byte value) throws SQLException {
+        Value<?> direct = MappingSetters.longToValue(type, value);
+        return direct != null ? direct : toYdbValue(Byte.valueOf(value));
+    }
+
+    public Value<?> toYdbValue(short value) throws SQLException {
+        Value<?> direct = MappingSetters.longToValue(type, value);
+        return direct != null ? direct : toYdbValue(Short.valueOf(value));
+    }
+
+    public Value<?> toYdbValue(float value) throws SQLException {
+        Value<?> direct = MappingSetters.doubleToValue(type, value);
+        return direct != null ? direct : toYdbValue(Float.valueOf(value));
+    }
+
     public Type ydbType() {
         return type;
     }
@@ -5,9 +5,15 @@ import java.sql.SQLFeatureNotSupportedException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 
+import tech.ydb.core.Result;
 import tech.ydb.core.Status;
+import tech.ydb.core.grpc.GrpcFlowControl;
 import tech.ydb.core.grpc.GrpcReadStream;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbQueryResult;
@@ -18,16 +24,22 @@ import tech.ydb.jdbc.common.YdbTypes;
 import tech.ydb.jdbc.impl.YdbQueryResultReader;
 import tech.ydb.jdbc.impl.YdbQueryResultStatic;
 import tech.ydb.jdbc.impl.YdbResultSetMemory;
+import tech.ydb.jdbc.impl.YdbResultSpill;
 import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.params.ParallelScan;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.table.Session;
 import tech.ydb.table.SessionRetryContext;
 import tech.ydb.table.TableClient;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.BulkUpsertData;
 import tech.ydb.table.query.Params;
 import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.settings.ExecuteDataQuerySettings;
 import tech.ydb.table.settings.ExecuteScanQuerySettings;
 import tech.ydb.table.settings.ExecuteSchemeQuerySettings;
-import tech.ydb.table.values.ListValue;
+import tech.ydb.table.transaction.TxControl;
 
 /**
  *
@@ -41,7 +53,7 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
     private final boolean useStreamResultSet;
 
     private final AtomicReference<YdbQueryResult> currResult;
-    protected final String prefixPragma;
+    private final String prefixPragma;
     protected final YdbTypes types;
 
     public BaseYdbExecutor(YdbContext ctx) {
@@ -60,6 +72,10 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         this.currResult = new AtomicReference<>();
     }
 
+    protected String withPrefixPragma(YdbQuery query, String preparedYql) {
+        return query.getTemplate().withPrefix(prefixPragma, preparedYql);
+    }
+
     protected Session createNewTableSession(YdbValidator validator) throws SQLException {
         return validator.call("Get session", null, () -> tableClient.createSession(sessionTimeout));
     }
@@ -96,7 +112,7 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
             throw new SQLFeatureNotSupportedException(YdbConst.PARAMETERIZED_SCHEME_QUERIES_UNSUPPORTED);
         }
 
-        String yql = prefixPragma + preparedYql;
+        String yql = withPrefixPragma(query, preparedYql);
         YdbContext ctx = statement.getConnection().getCtx();
         YdbValidator validator = statement.getValidator();
 
@@ -118,11 +134,11 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
     }
 
     @Override
-    public YdbQueryResult executeBulkUpsert(YdbStatement statement, YdbQuery query, String tablePath, ListValue rows)
-            throws SQLException {
+    public YdbQueryResult executeBulkUpsert(YdbStatement statement, YdbQuery query, String tablePath,
+            BulkUpsertData rows) throws SQLException {
         ensureOpened();
 
-        String yql = prefixPragma + query.getPreparedYql();
+        String yql = withPrefixPragma(query, query.getPreparedYql());
         YdbValidator validator = statement.getValidator();
         YdbTracer tracer = statement.getConnection().getCtx().getTracer();
         tracer.trace("--> bulk upsert");
@@ -139,18 +155,100 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
         return updateCurrentResult(new YdbQueryResultStatic(query));
     }
 
+    @Override
+    public YdbQueryResult executeBulkUpsert(YdbStatement statement, YdbQuery query, String tablePath,
+            List<Supplier<BulkUpsertData>> chunks, int[] lanes, IntConsumer onChunkDone) throws SQLException {
+        ensureOpened();
+
+        String yql = withPrefixPragma(query, query.getPreparedYql());
+        YdbContext ctx = statement.getConnection().getCtx();
+        YdbValidator validator = statement.getValidator();
+        int concurrency = ctx.getOperationProperties().getBulkUpsertConcurrency();
+
+        YdbTracer tracer = ctx.getTracer();
+        tracer.trace("--> bulk upsert of " + chunks.size() + " chunks in " + lanes.length + " lanes");
+        tracer.query(yql);
+
+        validator.execute(QueryType.BULK_QUERY + " >>\n" + yql, tracer,
+                () -> new BulkUpsertChunks(tablePath, chunks, lanes, onChunkDone).start(concurrency)
+        );
+
+        if (!isInsideTransaction()) {
+            tracer.close();
+        }
+
+        return updateCurrentResult(new YdbQueryResultStatic(query));
+    }
+
+    @Override
+    public CompletableFuture<Status> executeBulkUpsertAsync(YdbStatement statement, YdbQuery query, String tablePath,
+            BulkUpsertData rows) throws SQLException {
+        ensureOpened();
+
+        YdbTracer tracer = statement.getConnection().getCtx().getTracer();
+        tracer.trace("--> async bulk upsert");
+        tracer.query(withPrefixPragma(query, query.getPreparedYql()));
+
+        return traceAsync(tracer, statement.getValidator().startFuture(
+                () -> idempotentRetryCtx.supplyStatus(session -> session.executeBulkUpsert(tablePath, rows))
+        ));
+    }
+
+    @Override
+    public CompletableFuture<Status> executeDataQueryAsync(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params) throws SQLException {
+        ensureOpened();
+
+        String yql = withPrefixPragma(query, preparedYql);
+        YdbContext ctx = statement.getConnection().getCtx();
+        YdbTracer tracer = ctx.getTracer();
+        tracer.trace("--> async data query");
+        tracer.query(yql);
+
+        // every request is executed in its own transaction, independent from the transaction of the connection
+        ExecuteDataQuerySettings settings = ctx.withDefaultTimeout(new ExecuteDataQuerySettings());
+        return traceAsync(tracer, statement.getValidator().startFuture(() -> retryCtx.supplyStatus(
+                session -> session.executeDataQuery(yql, TxControl.serializableRw(), params, settings)
+                        .thenApply(Result::getStatus)
+        )));
+    }
+
+    /**
+     * Traces the result of the asynchronous request and closes the tracer after its completion
+     *
+     * @param tracer tracer of the request
+     * @param future future of the request
+     * @return the same future
+     */
+    protected static CompletableFuture<Status> traceAsync(YdbTracer tracer, CompletableFuture<Status> future) {
+        return future.whenComplete((status, th) -> {
+            if (th != null) {
+                tracer.trace("<-- " + th.getMessage());
+            }
+            if (status != null) {
+                tracer.trace("<-- " + status.toString());
+            }
+            tracer.close();
+        });
+    }
+
     @Override
     public YdbQueryResult executeScanQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
             throws SQLException {
         ensureOpened();
 
-        String yql = prefixPragma + preparedYql;
+        String yql = withPrefixPragma(query, preparedYql);
         YdbContext ctx = statement.getConnection().getCtx();
         YdbValidator validator = statement.getValidator();
         Duration scanQueryTimeout = ctx.getOperationProperties().getScanQueryTimeout();
         String msg = QueryType.SCAN_QUERY + " >>\n" + yql;
 
         YdbTracer tracer = ctx.getTracer();
+        ParallelScan scan = createParallelScan(ctx, query, preparedYql, params);
+        if (scan != null) {
+            return executeParallelScan(statement, query, yql, scan);
+        }
+
         tracer.trace("--> scan query");
         tracer.query(yql);
 
@@ -163,13 +261,24 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
                         .build();
 
                 List<ResultSetReader> parts = new ArrayList<>();
+                YdbResultSpill spill = YdbResultSpill.of(ctx.getOperationProperties());
 
                 ctx.traceQueryByFullScanDetector(query, yql);
-                validator.execute(QueryType.SCAN_QUERY + " >>\n" + yql, tracer,
-                        () -> session.executeScanQuery(yql, params, settings).start(parts::add)
-                );
+                try {
+                    validator.execute(QueryType.SCAN_QUERY + " >>\n" + yql, tracer,
+                            () -> session.executeScanQuery(yql, params, settings).start(
+                                    part -> parts.add(spill != null ? spill.add(part) : part)
+                            )
+                    );
+                } catch (SQLException | RuntimeException ex) {
+                    if (spill != null) {
+                        spill.close();
+                    }
+                    throw ex;
+                }
 
-                YdbResultSet rs = new YdbResultSetMemory(types, statement, parts.toArray(new ResultSetReader[0]));
+                ResultSetReader[] readers = parts.toArray(new ResultSetReader[0]);
+                YdbResultSet rs = new YdbResultSetMemory(types, statement, spill, readers);
                 return updateCurrentResult(new YdbQueryResultStatic(query, rs));
             } finally {
                 session.close();
@@ -177,10 +286,28 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
             }
         }
 
-        final YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query) {
+        final YdbQueryResultReader reader = createScanReader(statement, query, session::close);
+        ExecuteScanQuerySettings settings = ExecuteScanQuerySettings.newBuilder()
+                .withRequestTimeout(scanQueryTimeout)
+                .setGrpcFlowControl(reader)
+                .build();
+
+        GrpcReadStream<ResultSetReader> stream = session.executeScanQuery(yql, params, settings);
+        validator.execute(msg, tracer, () -> reader.load(stream));
+        return updateCurrentResult(reader);
+    }
+
+    private YdbQueryResultReader createScanReader(YdbStatement statement, YdbQuery query, Runnable onClose)
+            throws SQLException {
+        YdbContext ctx = statement.getConnection().getCtx();
+        YdbValidator validator = statement.getValidator();
+        YdbTracer tracer = ctx.getTracer();
+        YdbOperationProperties options = ctx.getOperationProperties();
+        return new YdbQueryResultReader(types, statement, query, options.getStreamPartsInFlight(),
+                () -> YdbResultSpill.of(options)) {
             @Override
             public void onClose(Status status, Throwable th) {
-                session.close();
+                onClose.run();
                 if (th != null) {
                     tracer.trace("<-- " + th.getMessage());
                 }
@@ -193,14 +320,155 @@ public abstract class BaseYdbExecutor implements YdbExecutor {
                 super.onClose(status, th);
             }
         };
+    }
 
-        ExecuteScanQuerySettings settings = ExecuteScanQuerySettings.newBuilder()
-                .withRequestTimeout(scanQueryTimeout)
-                .setGrpcFlowControl(reader)
-                .build();
+    private ParallelScan createParallelScan(YdbContext ctx, YdbQuery query, String preparedYql, Params params)
+            throws SQLException {
+        int parallelism = ctx.getOperationProperties().getScanParallelism();
+        if (parallelism < 2 || query.getScanTable() == null) {
+            return null;
+        }
 
-        GrpcReadStream<ResultSetReader> stream = session.executeScanQuery(yql, params, settings);
+        Result<TableDescription> description = ctx.describeTable(query.getScanTable());
+        if (!description.isSuccess()) {
+            ctx.getTracer().trace("<-- cannot split scan query, " + description.getStatus());
+            return null;
+        }
+        return ParallelScan.build(query, preparedYql, params, description.getValue(), parallelism);
+    }
+
+    /**
+     * Executes range queries of the parallel scan in their own sessions and merges their streams. Every session is
+     * closed right after the completion of its stream
+     */
+    private YdbQueryResult executeParallelScan(YdbStatement statement, YdbQuery query, String yql, ParallelScan scan)
+            throws SQLException {
+        YdbContext ctx = statement.getConnection().getCtx();
+        YdbValidator validator = statement.getValidator();
+        boolean isOrdered = ctx.getOperationProperties().isScanParallelOrdered();
+        String msg = QueryType.SCAN_QUERY + " >>\n" + yql;
+
+        YdbTracer tracer = ctx.getTracer();
+        tracer.trace("--> parallel scan query of " + scan.size() + " ranges");
+        tracer.query(yql);
+
+        List<Session> sessions = new ArrayList<>();
+        try {
+            for (int idx = 0; idx < scan.size(); idx++) {
+                sessions.add(createNewTableSession(validator));
+            }
+        } catch (SQLException ex) {
+            sessions.forEach(Session::close);
+            tracer.close();
+            throw ex;
+        }
+
+        ExecuteScanQuerySettings.Builder settings = ExecuteScanQuerySettings.newBuilder()
+                .withRequestTimeout(ctx.getOperationProperties().getScanQueryTimeout());
+
+        if (!useStreamResultSet) {
+            GrpcReadStream<ResultSetReader> stream = mergeScanStreams(query, scan, sessions, settings, null, isOrdered);
+            List<ResultSetReader> parts = new ArrayList<>();
+            YdbResultSpill spill = YdbResultSpill.of(ctx.getOperationProperties());
+
+            ctx.traceQueryByFullScanDetector(query, yql);
+            try {
+                validator.execute(msg, tracer,
+                        () -> stream.start(part -> parts.add(spill != null ? spill.add(part) : part))
+                );
+            } catch (SQLException | RuntimeException ex) {
+                if (spill != null) {
+                    spill.close();
+                }
+                throw ex;
+            } finally {
+                tracer.close();
+            }
+
+            ResultSetReader[] readers = parts.toArray(new ResultSetReader[0]);
+            YdbResultSet rs = new YdbResultSetMemory(types, statement, spill, readers);
+            return updateCurrentResult(new YdbQueryResultStatic(query, rs));
+        }
+
+        final YdbQueryResultReader reader = createScanReader(statement, query, () -> { });
+        GrpcReadStream<ResultSetReader> stream = mergeScanStreams(query, scan, sessions, settings, reader, isOrdered);
         validator.execute(msg, tracer, () -> reader.load(stream));
         return updateCurrentResult(reader);
     }
+
+    private GrpcReadStream<ResultSetReader> mergeScanStreams(YdbQuery query, ParallelScan scan, List<Session> sessions,
+            ExecuteScanQuerySettings.Builder settings, GrpcFlowControl flow, boolean isOrdered) {
+        ParallelScanStream merged = new ParallelScanStream(scan.size(), isOrdered);
+        for (int idx = 0; idx < scan.size(); idx++) {
+            Session session = sessions.get(idx);
+            String yql = withPrefixPragma(query, scan.getQuery(idx));
+            // every range has own flow control to pause the stream which runs ahead
+            settings.setGrpcFlowControl(merged.flowControl(idx, flow));
+            merged.addRange(session.executeScanQuery(yql, scan.getParams(idx), settings.build()), session::close);
+        }
+        return merged;
+    }
+
+    /**
+     * Sends chunks of bulk upsert with a bounded count of requests in flight. Chunks are grouped into lanes, chunks of
+     * one lane are sent sequentially and different lanes are sent in parallel. Every worker takes the next unsent lane
+     * after the completion of the previous one, new chunks are not started after the first failure.
+     */
+    private class BulkUpsertChunks {
+        private final String tablePath;
+        private final List<Supplier<BulkUpsertData>> chunks;
+        private final int[] lanes;
+        private final IntConsumer onChunkDone;
+
+        private final AtomicInteger nextLane = new AtomicInteger();
+        private final AtomicReference<Status> firstError = new AtomicReference<>();
+
+        BulkUpsertChunks(String tablePath, List<Supplier<BulkUpsertData>> chunks, int[] lanes,
+                IntConsumer onChunkDone) {
+            this.tablePath = tablePath;
+            this.chunks = chunks;
+            this.lanes = lanes;
+            this.onChunkDone = onChunkDone;
+        }
+
+        CompletableFuture<Status> start(int concurrency) {
+            int count = Math.max(1, Math.min(concurrency, lanes.length));
+            CompletableFuture<?>[] workers = new CompletableFuture<?>[count];
+            for (int idx = 0; idx < workers.length; idx++) {
+                workers[idx] = upsertNextLane();
+            }
+            return CompletableFuture.allOf(workers).thenApply(v -> {
+                Status error = firstError.get();
+                return error != null ? error : Status.SUCCESS;
+            });
+        }
+
+        private CompletableFuture<Void> upsertNextLane() {
+            int lane = nextLane.getAndIncrement();
+            if (lane >= lanes.length) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return upsertChunk(lane > 0 ? lanes[lane - 1] : 0, lanes[lane]);
+        }
+
+        private CompletableFuture<Void> upsertChunk(int chunkIdx, int laneEnd) {
+            if (chunkIdx >= laneEnd) {
+                return upsertNextLane();
+            }
+            if (firstError.get() != null) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            BulkUpsertData rows = chunks.get(chunkIdx).get();
+            return idempotentRetryCtx.supplyStatus(session -> session.executeBulkUpsert(tablePath, rows))
+                    .thenCompose(status -> {
+                        if (status.isSuccess()) {
+                            onChunkDone.accept(chunkIdx);
+                        } else {
+                            firstError.compareAndSet(null, status);
+                        }
+                        return upsertChunk(chunkIdx + 1, laneEnd);
+                    });
+        }
+    }
 }
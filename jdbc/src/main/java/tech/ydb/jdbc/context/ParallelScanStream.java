@@ -0,0 +1,212 @@
+package tech.ydb.jdbc.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.table.result.ResultSetReader;
+
+/**
+ * Merges the streams of the range scans into one stream. Parts of the unordered stream are forwarded as they come,
+ * the ordered stream forwards parts of the first active range and buffers parts of the next ranges until all previous
+ * ranges are completed. Every range ahead of the current one buffers a limited count of parts, its stream is paused
+ * until the range becomes current. The first failed stream cancels the others, the merged stream is completed after
+ * completion of all streams.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class ParallelScanStream implements GrpcReadStream<ResultSetReader> {
+    static final int MAX_BUFFERED_PARTS = 2;
+
+    private final List<GrpcReadStream<ResultSetReader>> streams = new ArrayList<>();
+    private final List<Runnable> onStreamClose = new ArrayList<>();
+    private final boolean isOrdered;
+    private final CompletableFuture<Status> finished = new CompletableFuture<>();
+
+    // guarded by this
+    private final List<List<ResultSetReader>> buffered = new ArrayList<>();
+    private final boolean[] isCompleted;
+    private final IntConsumer[] pausedRequests;
+    private final int[] pausedCounts;
+    private Observer<ResultSetReader> observer = null;
+    private int currentRange = 0;
+    private int startedCount = 0;
+    private int activeCount = 0;
+    private Status firstError = null;
+
+    /**
+     * @param rangesCount count of ranges
+     * @param isOrdered keep the order of ranges
+     */
+    ParallelScanStream(int rangesCount, boolean isOrdered) {
+        this.isOrdered = isOrdered;
+        this.isCompleted = new boolean[rangesCount];
+        this.pausedRequests = new IntConsumer[rangesCount];
+        this.pausedCounts = new int[rangesCount];
+        for (int idx = 0; idx < rangesCount; idx++) {
+            buffered.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Adds the stream of the next range, streams must be added in the order of keys
+     *
+     * @param stream stream of the range
+     * @param onClose action which is executed after completion of the stream
+     */
+    void addRange(GrpcReadStream<ResultSetReader> stream, Runnable onClose) {
+        streams.add(stream);
+        onStreamClose.add(onClose);
+    }
+
+    /**
+     * Creates the flow control of the range stream. Requests of the ordered stream are paused while the range is
+     * ahead of the current one and has {@link #MAX_BUFFERED_PARTS} buffered parts
+     *
+     * @param range index of the range
+     * @param downstream flow control of the consumer or {@code null} to request parts one by one
+     * @return flow control of the range stream
+     */
+    GrpcFlowControl flowControl(int range, GrpcFlowControl downstream) {
+        GrpcFlowControl flow = downstream != null ? downstream : OneByOne::new;
+        if (!isOrdered) {
+            return flow;
+        }
+        return req -> flow.newCall(count -> request(range, req, count));
+    }
+
+    @Override
+    public CompletableFuture<Status> start(Observer<ResultSetReader> partsObserver) {
+        synchronized (this) {
+            observer = partsObserver;
+            activeCount = streams.size();
+        }
+
+        for (int idx = 0; idx < streams.size(); idx++) {
+            final int range = idx;
+            synchronized (this) {
+                startedCount++;
+            }
+            streams.get(idx).start(part -> onNext(range, part)).whenComplete(
+                    (status, th) -> onComplete(range, status != null ? status
+                            : Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th))
+            );
+        }
+
+        // streams which were started after the first error must be cancelled too
+        if (hasError()) {
+            cancel();
+        }
+        return finished;
+    }
+
+    @Override
+    public void cancel() {
+        for (int idx = 0; idx < streams.size(); idx++) {
+            if (isActive(idx)) {
+                streams.get(idx).cancel();
+            }
+        }
+    }
+
+    private synchronized boolean isActive(int range) {
+        return range < startedCount && !isCompleted[range];
+    }
+
+    private synchronized boolean hasError() {
+        return firstError != null;
+    }
+
+    private void request(int range, IntConsumer req, int count) {
+        synchronized (this) {
+            if (range > currentRange && buffered.get(range).size() >= MAX_BUFFERED_PARTS) {
+                pausedRequests[range] = req;
+                pausedCounts[range] += count;
+                return;
+            }
+        }
+        req.accept(count);
+    }
+
+    private synchronized void onNext(int range, ResultSetReader part) {
+        if (!isOrdered || range == currentRange) {
+            observer.onNext(part);
+        } else {
+            buffered.get(range).add(part);
+        }
+    }
+
+    private void onComplete(int range, Status status) {
+        onStreamClose.get(range).run();
+
+        boolean isFirstError = false;
+        Status result = null;
+        IntConsumer resumed = null;
+        int resumedCount = 0;
+        synchronized (this) {
+            isCompleted[range] = true;
+            if (!status.isSuccess() && firstError == null) {
+                firstError = status;
+                isFirstError = true;
+            }
+
+            // next range becomes current, its buffered parts are forwarded before the new ones
+            while (isOrdered && currentRange < isCompleted.length && isCompleted[currentRange]) {
+                currentRange++;
+                if (currentRange < isCompleted.length) {
+                    for (ResultSetReader part: buffered.get(currentRange)) {
+                        observer.onNext(part);
+                    }
+                    buffered.get(currentRange).clear();
+
+                    resumed = pausedRequests[currentRange];
+                    resumedCount = pausedCounts[currentRange];
+                    pausedRequests[currentRange] = null;
+                    pausedCounts[currentRange] = 0;
+                }
+            }
+
+            activeCount--;
+            if (activeCount == 0) {
+                result = firstError != null ? firstError : Status.SUCCESS;
+            }
+        }
+
+        // paused stream of the new current range is resumed
+        if (resumed != null && resumedCount > 0) {
+            resumed.accept(resumedCount);
+        }
+        if (isFirstError) {
+            cancel();
+        }
+        if (result != null) {
+            finished.complete(result);
+        }
+    }
+
+    /**
+     * Default flow control of the stream, the next part is requested after reading of the previous one
+     */
+    private static class OneByOne implements GrpcFlowControl.Call {
+        private final IntConsumer request;
+
+        OneByOne(IntConsumer request) {
+            this.request = request;
+        }
+
+        @Override
+        public void onStart() {
+            request.accept(1);
+        }
+
+        @Override
+        public void onMessageRead() {
+            request.accept(1);
+        }
+    }
+}
@@ -4,12 +4,16 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import tech.ydb.common.transaction.TxMode;
 import tech.ydb.core.Issue;
+import tech.ydb.core.Result;
 import tech.ydb.core.Status;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbQueryResult;
@@ -20,6 +24,7 @@ import tech.ydb.jdbc.impl.YdbQueryResultExplain;
 import tech.ydb.jdbc.impl.YdbQueryResultReader;
 import tech.ydb.jdbc.impl.YdbQueryResultStatic;
 import tech.ydb.jdbc.impl.YdbResultSetMemory;
+import tech.ydb.jdbc.impl.YdbResultSpill;
 import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.jdbc.settings.YdbOperationProperties;
@@ -34,8 +39,9 @@ import tech.ydb.query.settings.CommitTransactionSettings;
 import tech.ydb.query.settings.ExecuteQuerySettings;
 import tech.ydb.query.settings.QueryExecMode;
 import tech.ydb.query.settings.RollbackTransactionSettings;
-import tech.ydb.query.tools.QueryReader;
+import tech.ydb.query.tools.SessionRetryContext;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
 
 /**
  *
@@ -44,7 +50,9 @@ import tech.ydb.table.query.Params;
 public class QueryServiceExecutor extends BaseYdbExecutor {
     private final Duration sessionTimeout;
     private final QueryClient queryClient;
+    private final SessionRetryContext retryCtx;
     private final boolean useStreamResultSet;
+    private final int streamPartsInFlight;
     private final YdbQueryExtentionService querySpi;
 
     private int transactionLevel;
@@ -60,7 +68,11 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         YdbOperationProperties options = ctx.getOperationProperties();
         this.sessionTimeout = options.getSessionTimeout();
         this.queryClient = ctx.getQueryClient();
+        this.retryCtx = SessionRetryContext.create(queryClient)
+                .sessionCreationTimeout(sessionTimeout)
+                .build();
         this.useStreamResultSet = options.getUseStreamResultSets();
+        this.streamPartsInFlight = options.getStreamPartsInFlight();
         this.querySpi = ctx.getQuerySpi();
 
         this.transactionLevel = options.getTransactionLevel();
@@ -249,7 +261,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         YdbValidator validator = statement.getValidator();
 
         YdbTracer tracer = statement.getConnection().getCtx().getTracer();
-        String yql = prefixPragma + preparedYql;
+        String yql = withPrefixPragma(query, preparedYql);
         int timeout = statement.getQueryTimeout();
         ExecuteQuerySettings.Builder settings = ExecuteQuerySettings.newBuilder();
         if (timeout > 0) {
@@ -265,18 +277,20 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
             tracer.query(yql);
             ExecuteQuerySettings requestSettings = settings.build();
 
-            QueryReader result = validator.call(QueryType.DATA_QUERY + " >>\n" + yql, tracer,
-                    () -> QueryReader.readFrom(localTx.createQuery(yql, isAutoCommit, params, requestSettings))
-            );
-            validator.addStatusIssues(result.getIssueList());
-
-            YdbResultSetMemory[] readers = new YdbResultSetMemory[result.getResultSetCount()];
-            for (int idx = 0; idx < readers.length; idx++) {
-                readers[idx] = new YdbResultSetMemory(types, statement, result.getResultSet(idx));
+            InMemoryParts parts = new InMemoryParts(validator, statement.getConnection().getCtx());
+            QueryInfo info;
+            try {
+                info = validator.call(QueryType.DATA_QUERY + " >>\n" + yql, tracer,
+                        () -> localTx.createQuery(yql, isAutoCommit, params, requestSettings).execute(parts)
+                );
+            } catch (SQLException | RuntimeException ex) {
+                parts.close();
+                throw ex;
             }
 
-            if (result.getQueryInfo().hasStats()) {
-                spi.onQueryStats(result.getQueryInfo().getStats());
+            YdbResultSetMemory[] readers = parts.build(statement);
+            if (info.hasStats()) {
+                spi.onQueryStats(info.getStats());
             }
 
             spi.onQueryResult(Status.SUCCESS, null);
@@ -314,7 +328,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         }
 
         YdbValidator validator = statement.getValidator();
-        String yql = prefixPragma + preparedYql;
+        String yql = withPrefixPragma(query, preparedYql);
 
         int timeout = statement.getQueryTimeout();
         ExecuteQuerySettings.Builder settings = ExecuteQuerySettings.newBuilder();
@@ -330,8 +344,17 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         tracer.trace("--> stream query");
         tracer.query(yql);
         String msg = "STREAM_QUERY >>\n" + yql;
+        boolean isSingleQueryTx = isAutoCommit && !localTx.isActive();
+
+        YdbOperationProperties options = statement.getConnection().getCtx().getOperationProperties();
+        YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query, streamPartsInFlight,
+                () -> YdbResultSpill.of(options)) {
+            @Override
+            protected boolean isCancellableOnMaxRows() {
+                // cancellation of the stream breaks the interactive transaction
+                return isSingleQueryTx && super.isCancellableOnMaxRows();
+            }
 
-        YdbQueryResultReader reader = new YdbQueryResultReader(types, statement, query) {
             @Override
             public void onClose(Status status, Throwable th) {
                 spi.onQueryResult(status, th);
@@ -363,12 +386,31 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         return updateCurrentResult(reader);
     }
 
+    @Override
+    public CompletableFuture<Status> executeDataQueryAsync(YdbStatement statement, YdbQuery query, String preparedYql,
+            Params params) throws SQLException {
+        ensureOpened();
+
+        String yql = withPrefixPragma(query, preparedYql);
+        YdbContext ctx = statement.getConnection().getCtx();
+        YdbTracer tracer = ctx.getTracer();
+        tracer.trace("--> async data query");
+        tracer.query(yql);
+
+        // every request is executed in its own transaction, independent from the transaction of the connection
+        ExecuteQuerySettings settings = ctx.withRequestTimeout(ExecuteQuerySettings.newBuilder()).build();
+        return traceAsync(tracer, statement.getValidator().startFuture(() -> retryCtx.supplyStatus(
+                session -> session.createQuery(yql, TxMode.SERIALIZABLE_RW, params, settings).execute()
+                        .thenApply(Result::getStatus)
+        )));
+    }
+
     @Override
     public YdbQueryResult executeSchemeQuery(YdbStatement statement, YdbQuery query, String preparedYql, Params params)
             throws SQLException {
         ensureOpened();
 
-        String yql = prefixPragma + preparedYql;
+        String yql = withPrefixPragma(query, preparedYql);
         YdbContext ctx = statement.getConnection().getCtx();
         YdbValidator validator = statement.getValidator();
 
@@ -396,7 +438,7 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
     public YdbQueryResult executeExplainQuery(YdbStatement statement, YdbQuery query) throws SQLException {
         ensureOpened();
 
-        String yql = prefixPragma + query.getPreparedYql();
+        String yql = withPrefixPragma(query, query.getPreparedYql());
         YdbContext ctx = statement.getConnection().getCtx();
         YdbValidator validator = statement.getValidator();
 
@@ -428,6 +470,51 @@ public class QueryServiceExecutor extends BaseYdbExecutor {
         }
     }
 
+    /**
+     * Collects parts of the results which are read into memory. Parts of every result set are stored in its own
+     * {@link YdbResultSpill}, so the big result is written to the temporary file instead of the heap
+     */
+    private class InMemoryParts extends IssueHandler {
+        private final YdbOperationProperties options;
+        private final List<List<ResultSetReader>> parts = new ArrayList<>();
+        private final List<YdbResultSpill> spills = new ArrayList<>();
+
+        InMemoryParts(YdbValidator validator, YdbContext ctx) {
+            super(validator);
+            this.options = ctx.getOperationProperties();
+        }
+
+        @Override
+        public synchronized void onNextPart(QueryResultPart part) {
+            int index = (int) part.getResultSetIndex();
+            while (parts.size() <= index) {
+                parts.add(new ArrayList<>());
+                spills.add(YdbResultSpill.of(options));
+            }
+
+            YdbResultSpill spill = spills.get(index);
+            ResultSetReader reader = part.getResultSetReader();
+            parts.get(index).add(spill != null ? spill.add(reader) : reader);
+        }
+
+        synchronized YdbResultSetMemory[] build(YdbStatement statement) {
+            YdbResultSetMemory[] readers = new YdbResultSetMemory[parts.size()];
+            for (int idx = 0; idx < readers.length; idx++) {
+                ResultSetReader[] rs = parts.get(idx).toArray(new ResultSetReader[0]);
+                readers[idx] = new YdbResultSetMemory(types, statement, spills.get(idx), rs);
+            }
+            return readers;
+        }
+
+        synchronized void close() {
+            for (YdbResultSpill spill: spills) {
+                if (spill != null) {
+                    spill.close();
+                }
+            }
+        }
+    }
+
     private class IssueHandler implements QueryStream.PartsHandler {
         private final YdbValidator validator;
 
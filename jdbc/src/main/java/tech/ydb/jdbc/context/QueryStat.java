@@ -1,6 +1,7 @@
 package tech.ydb.jdbc.context;
 
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.LongAdder;
 
 import tech.ydb.core.Status;
@@ -14,6 +15,7 @@ import tech.ydb.table.result.ResultSetReader;
 public class QueryStat {
     private static final String PRINT_QUERY = "print_jdbc_stats();";
     private static final String RESET_QUERY = "reset_jdbc_stats();";
+    private static final String PENDING_PLAN = "pending";
 
     private static final FixedResultSetFactory STATS_RS_FACTORY = FixedResultSetFactory.newBuilder()
             .addTextColumn("sql")
@@ -28,30 +30,55 @@ public class QueryStat {
     private final String originSQL;
     private final String preparedYQL;
 
-    private final String ast;
-    private final String plan;
     private final LongAdder usage;
-    private final boolean isFullScan;
-    private final boolean isError;
+    private final AtomicBoolean isScheduled;
 
-    public QueryStat(String sql, String yql, String ast, String plan) {
+    private String ast;
+    private String plan;
+    private boolean isFullScan;
+    private boolean isError;
+    private volatile boolean isAnalyzed;
+
+    public QueryStat(String sql, String yql) {
         this.originSQL = sql;
         this.preparedYQL = yql;
+        this.usage = new LongAdder();
+        this.isScheduled = new AtomicBoolean(false);
+        this.isAnalyzed = false;
+    }
+
+    public QueryStat(String sql, String yql, String ast, String plan) {
+        this(sql, yql);
+        setPlan(ast, plan);
+    }
+
+    public QueryStat(String sql, String yql, Status error) {
+        this(sql, yql);
+        setError(error);
+    }
+
+    final void setPlan(String ast, String plan) {
         this.ast = ast;
         this.plan = plan;
-        this.usage = new LongAdder();
         this.isFullScan = plan.contains("\"Node Type\":\"TableFullScan\"");
         this.isError = false;
+        this.isAnalyzed = true;
     }
 
-    public QueryStat(String sql, String yql, Status error) {
-        this.originSQL = sql;
-        this.preparedYQL = yql;
+    final void setError(Status error) {
         this.ast = null;
         this.plan = error.toString();
-        this.usage = new LongAdder();
         this.isFullScan = false;
         this.isError = true;
+        this.isAnalyzed = true;
+    }
+
+    boolean tryScheduleAnalyze() {
+        return !isAnalyzed && isScheduled.compareAndSet(false, true);
+    }
+
+    void cancelScheduleAnalyze() {
+        isScheduled.set(false);
     }
 
     public long getUsageCounter() {
@@ -66,20 +93,24 @@ public class QueryStat {
         return preparedYQL;
     }
 
+    public boolean isAnalyzed() {
+        return isAnalyzed;
+    }
+
     public String getAst() {
-        return ast;
+        return isAnalyzed ? ast : null;
     }
 
     public String getPlan() {
-        return plan;
+        return isAnalyzed ? plan : PENDING_PLAN;
     }
 
     public boolean isFullScan() {
-        return isFullScan;
+        return isAnalyzed && isFullScan;
     }
 
     public boolean isError() {
-        return isError;
+        return isAnalyzed && isError;
     }
 
     public void incrementUsage() {
@@ -91,12 +122,12 @@ public class QueryStat {
         for (QueryStat stat: stats) {
             builder.newRow()
                     .withTextValue("sql", stat.originSQL)
-                    .withBoolValue("is_fullscan", stat.isFullScan)
-                    .withBoolValue("is_error", stat.isError)
+                    .withBoolValue("is_fullscan", stat.isFullScan())
+                    .withBoolValue("is_error", stat.isError())
                     .withLongValue("executed", stat.usage.longValue())
                     .withTextValue("yql", stat.preparedYQL)
-                    .withTextValue("ast", stat.ast)
-                    .withTextValue("plan", stat.plan)
+                    .withTextValue("ast", stat.getAst())
+                    .withTextValue("plan", stat.getPlan())
                     .build();
         }
         return builder.build();
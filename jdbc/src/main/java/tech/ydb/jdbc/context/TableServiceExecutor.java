@@ -187,7 +187,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
 
         YdbContext ctx = statement.getConnection().getCtx();
         YdbValidator validator = statement.getValidator();
-        String yql = prefixPragma + query.getPreparedYql();
+        String yql = withPrefixPragma(query, query.getPreparedYql());
         YdbTracer tracer = ctx.getTracer();
         tracer.trace("--> explain");
         tracer.query(yql);
@@ -212,7 +212,7 @@ public class TableServiceExecutor extends BaseYdbExecutor {
         ensureOpened();
 
         YdbValidator validator = statement.getValidator();
-        String yql = prefixPragma + preparedYql;
+        String yql = withPrefixPragma(query, preparedYql);
         if (!tx.isInsideTransaction()) {
             querySpi.onNewTransaction();
         }
@@ -9,12 +9,24 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 
 import tech.ydb.core.Result;
 import tech.ydb.core.UnexpectedResultException;
@@ -31,6 +43,8 @@ import tech.ydb.jdbc.query.params.BatchedQuery;
 import tech.ydb.jdbc.query.params.BulkUpsertQuery;
 import tech.ydb.jdbc.query.params.InMemoryQuery;
 import tech.ydb.jdbc.query.params.PreparedQuery;
+import tech.ydb.jdbc.settings.YdbConfig;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
 import tech.ydb.table.SessionRetryContext;
 import tech.ydb.table.description.TableDescription;
@@ -49,15 +63,25 @@ import tech.ydb.table.values.Type;
  * @author Aleksandr Gorshenin
  */
 public class YdbCache {
+    private static final int EXPLAIN_THREADS_COUNT = 1;
+    private static final int EXPLAIN_QUEUE_SIZE = 1000;
+
     private final YdbContext ctx;
     protected final SessionRetryContext retryCtx;
     private final YdbQueryProperties queryOptions;
 
     private final Cache<QueryKey, YdbQuery> queriesCache;
+    private final YdbSharedQueryCache sharedQueriesCache;
     private final Cache<String, QueryStat> statsCache;
+    private final ExecutorService explainExecutor;
     private final Cache<String, Map<String, Type>> queryParamsCache;
     protected final Cache<String, TableDescription> tableDescribeCache;
 
+    private final YdbCacheFile cacheFile;
+    // entries restored from the cache file, which were not validated by server yet
+    private final Set<String> restoredQueries = ConcurrentHashMap.newKeySet();
+    private final Set<String> restoredTables = ConcurrentHashMap.newKeySet();
+
     private final Supplier<String> version = Suppliers.memoizeWithExpiration(this::readVersion, 1, TimeUnit.HOURS);
 
     public YdbCache(YdbContext ctx, YdbQueryProperties queryOptions, int cacheSize, boolean fullScanDetector) {
@@ -65,23 +89,124 @@ public class YdbCache {
         this.retryCtx = SessionRetryContext.create(ctx.getTableClient()).idempotent(true).build();
         this.queryOptions = queryOptions;
 
+        int sharedCacheSize = ctx.getConfig().getSharedQueryCacheSizeMiB();
+        if (sharedCacheSize > 0) {
+            sharedQueriesCache = YdbSharedQueryCache.getInstance(sharedCacheSize * 1024L * 1024L);
+        } else {
+            sharedQueriesCache = null;
+        }
+
         if (cacheSize > 0) {
-            queriesCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            queryParamsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
-            tableDescribeCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+            long cacheWeight = ctx.getConfig().getPreparedStatementsCacheSizeMiB() * 1024L * 1024L;
+            if (cacheWeight > 0) {
+                queriesCache = sharedQueriesCache != null ? null : CacheBuilder.newBuilder()
+                        .maximumWeight(cacheWeight).weigher(YdbCacheWeigher.QUERIES).recordStats().build();
+                queryParamsCache = CacheBuilder.newBuilder().maximumWeight(cacheWeight)
+                        .weigher(YdbCacheWeigher.QUERY_PARAMS).recordStats().build();
+                tableDescribeCache = CacheBuilder.newBuilder().maximumWeight(cacheWeight)
+                        .weigher(YdbCacheWeigher.TABLES).recordStats().build();
+            } else {
+                queriesCache = sharedQueriesCache != null ? null
+                        : CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+                queryParamsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+                tableDescribeCache = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+            }
             if (fullScanDetector) {
-                statsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+                statsCache = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+                explainExecutor = createExplainExecutor(ctx);
             } else {
                 statsCache = null;
+                explainExecutor = null;
             }
+            cacheFile = createCacheFile(ctx, cacheSize);
         } else {
             queriesCache = null;
             statsCache = null;
+            explainExecutor = null;
             queryParamsCache = null;
             tableDescribeCache = null;
+            cacheFile = null;
+        }
+
+        if (cacheFile != null) {
+            Map<String, Map<String, Type>> queries = cacheFile.getQueries();
+            Map<String, TableDescription> tables = cacheFile.getTables();
+            queryParamsCache.putAll(queries);
+            restoredQueries.addAll(queries.keySet());
+            // key ranges of tables are not stored in the file, so tables are described again if ranges are used
+            if (!isKeyRangesRequired(ctx.getOperationProperties())) {
+                tableDescribeCache.putAll(tables);
+                restoredTables.addAll(tables.keySet());
+            }
+        }
+    }
+
+    private static YdbCacheFile createCacheFile(YdbContext ctx, int cacheSize) {
+        YdbConfig config = ctx.getConfig();
+        if (!config.hasPreparedStatementsCacheFile()) {
+            return null;
+        }
+        return new YdbCacheFile(config.getPreparedStatementsCacheFile(), ctx.getPrefixPath(),
+                config.getPreparedStatementsCacheFileTtl(), cacheSize);
+    }
+
+    private static ExecutorService createExplainExecutor(YdbContext ctx) {
+        final String namePrefix = "ydb-jdbc-explain[" + ctx.getConfig().hashCode() + "]-thread-";
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        // Bounded queue without caller runs - if the detector cannot keep up, new tasks are rejected
+        return new ThreadPoolExecutor(EXPLAIN_THREADS_COUNT, EXPLAIN_THREADS_COUNT, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPLAIN_QUEUE_SIZE), (Runnable r) -> {
+                    Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void close() {
+        if (explainExecutor != null) {
+            explainExecutor.shutdownNow();
+        }
+        if (cacheFile != null) {
+            cacheFile.close();
         }
     }
 
+    /**
+     * Removes entries which were restored from the cache file and were used by the failed query. So the next
+     * preparing of this query will be performed with fresh server-side types and table descriptions
+     *
+     * @param query failed query
+     * @return true if any restored entry was removed
+     */
+    public boolean invalidateRestored(YdbQuery query) {
+        if (cacheFile == null) {
+            return false;
+        }
+
+        boolean removed = false;
+        String key = query.getOriginQuery();
+        if (restoredQueries.remove(key)) {
+            queryParamsCache.invalidate(key);
+            cacheFile.removeQuery(key);
+            removed = true;
+        }
+
+        YqlBatcher batcher = query.getYqlBatcher();
+        if (batcher != null && batcher.getTableName() != null) {
+            removed |= invalidateRestoredTable(YdbContext.joined(ctx.getPrefixPath(), batcher.getTableName()));
+        }
+        return removed;
+    }
+
+    private boolean invalidateRestoredTable(String tablePath) {
+        if (cacheFile == null || !restoredTables.remove(tablePath)) {
+            return false;
+        }
+        tableDescribeCache.invalidate(tablePath);
+        cacheFile.removeTable(tablePath);
+        return true;
+    }
+
     String getDatabaseVersion() {
         return version.get();
     }
@@ -94,6 +219,26 @@ public class YdbCache {
         return this.queryOptions;
     }
 
+    public List<YdbCacheStats> getCacheStats() {
+        List<YdbCacheStats> stats = new ArrayList<>();
+        if (queriesCache != null) {
+            stats.add(new YdbCacheStats("queries", queriesCache));
+        }
+        if (sharedQueriesCache != null) {
+            stats.add(new YdbCacheStats("sharedQueries", sharedQueriesCache.getCache()));
+        }
+        if (queryParamsCache != null) {
+            stats.add(new YdbCacheStats("queryParams", queryParamsCache));
+        }
+        if (tableDescribeCache != null) {
+            stats.add(new YdbCacheStats("tableDescriptions", tableDescribeCache));
+        }
+        if (statsCache != null) {
+            stats.add(new YdbCacheStats("queryStats", statsCache));
+        }
+        return stats;
+    }
+
     public boolean queryStatsEnabled() {
         return statsCache != null;
     }
@@ -142,36 +287,61 @@ public class YdbCache {
 
         QueryStat stat = statsCache.getIfPresent(yql);
         if (stat == null) {
-            final ExplainDataQuerySettings settings = ctx.withDefaultTimeout(new ExplainDataQuerySettings());
-            Result<ExplainDataQueryResult> res = retryCtx.supplyResult(
-                    session -> session.explainDataQuery(yql, settings)
-            ).join();
+            QueryStat newStat = new QueryStat(query.getOriginQuery(), yql);
+            stat = statsCache.asMap().putIfAbsent(yql, newStat);
+            if (stat == null) {
+                stat = newStat;
+            }
+        }
+
+        stat.incrementUsage();
+
+        // Query plan is analyzed in background, query execution doesn't wait for it
+        if (stat.tryScheduleAnalyze()) {
+            final QueryStat pending = stat;
+            try {
+                explainExecutor.execute(() -> explainQuery(pending));
+            } catch (RejectedExecutionException ex) {
+                // queue is full or cache is closed, the query will be rescheduled on next execution
+                pending.cancelScheduleAnalyze();
+            }
+        }
+    }
+
+    private void explainQuery(QueryStat stat) {
+        final ExplainDataQuerySettings settings = ctx.withDefaultTimeout(new ExplainDataQuerySettings());
+        analyzeQuery(stat, () -> retryCtx.supplyResult(
+                session -> session.explainDataQuery(stat.getPreparedYQL(), settings)
+        ));
+    }
+
+    static void analyzeQuery(QueryStat stat, Supplier<CompletableFuture<Result<ExplainDataQueryResult>>> explain) {
+        try {
+            Result<ExplainDataQueryResult> res = explain.get().join();
 
             if (res.isSuccess()) {
                 ExplainDataQueryResult exp = res.getValue();
-                stat = new QueryStat(query.getOriginQuery(), yql, exp.getQueryAst(), exp.getQueryPlan());
+                stat.setPlan(exp.getQueryAst(), exp.getQueryPlan());
             } else {
-                stat = new QueryStat(query.getOriginQuery(), yql, res.getStatus());
+                stat.setError(res.getStatus());
             }
-
-            statsCache.put(yql, stat);
+        } catch (RuntimeException ex) {
+            // explain is interrupted or failed unexpectedly, the query will be rescheduled on next execution
+            stat.cancelScheduleAnalyze();
         }
-
-        stat.incrementUsage();
     }
 
     public YdbQuery parseYdbQuery(QueryKey key) throws SQLException {
-        if (queriesCache == null) {
-            return YdbQuery.parseQuery(key, queryOptions, ctx.getTypes());
+        if (sharedQueriesCache != null) {
+            boolean newDatetypes = ctx.getOperationProperties().getForceNewDatetypes();
+            return sharedQueriesCache.parseQuery(key, queryOptions, ctx.getTypes(), newDatetypes);
         }
 
-        YdbQuery cached = queriesCache.getIfPresent(key);
-        if (cached == null) {
-            cached = YdbQuery.parseQuery(key, queryOptions, ctx.getTypes());
-            queriesCache.put(key, cached);
+        if (queriesCache == null) {
+            return YdbQuery.parseQuery(key, queryOptions, ctx.getTypes());
         }
 
-        return cached;
+        return loadOrWait(queriesCache, key, () -> YdbQuery.parseQuery(key, queryOptions, ctx.getTypes()));
     }
 
     public YdbPreparedQuery prepareYdbQuery(YdbQuery query, YdbPrepareMode mode) throws SQLException {
@@ -206,9 +376,8 @@ public class YdbCache {
             return new InMemoryQuery(query, queryOptions.isDeclareJdbcParameters());
         }
 
-        // try to prepare data query
-        Map<String, Type> queryTypes = queryParamsCache.getIfPresent(query.getOriginQuery());
-        if (queryTypes == null) {
+        // try to prepare data query, concurrent callers of the same query wait for the single prepare call
+        Map<String, Type> queryTypes = loadOrWait(queryParamsCache, query.getOriginQuery(), () -> {
             String yql = ctx.getPrefixPragma() + query.getPreparedYql();
             YdbTracer tracer = ctx.getTracer();
             tracer.trace("--> prepare data query");
@@ -226,9 +395,12 @@ public class YdbCache {
                         new UnexpectedResultException("Unexpected status", result.getStatus()));
             }
 
-            queryTypes = result.getValue().types();
-            queryParamsCache.put(query.getOriginQuery(), queryTypes);
-        }
+            Map<String, Type> types = result.getValue().types();
+            if (cacheFile != null) {
+                cacheFile.putQuery(query.getOriginQuery(), types);
+            }
+            return types;
+        });
 
         if (query.isWriting()) { // try to create auto-batched query
             boolean requireBatch = mode == YdbPrepareMode.DATA_QUERY_BATCH;
@@ -248,6 +420,23 @@ public class YdbCache {
 
     private YdbPreparedQuery createBatchQuery(YdbQuery query, YqlBatcher batcher) throws SQLException {
         String tablePath = YdbContext.joined(ctx.getPrefixPath(), batcher.getTableName());
+        try {
+            YdbPreparedQuery batched = createBatchQuery(query, batcher, tablePath);
+            if (batched != null || !invalidateRestoredTable(tablePath)) {
+                return batched;
+            }
+        } catch (SQLException ex) {
+            if (!invalidateRestoredTable(tablePath)) {
+                throw ex;
+            }
+        }
+
+        // table description from the cache file may be outdated, retry with the fresh one
+        return createBatchQuery(query, batcher, tablePath);
+    }
+
+    private YdbPreparedQuery createBatchQuery(YdbQuery query, YqlBatcher batcher, String tablePath)
+            throws SQLException {
         Result<TableDescription> description = describeTable(tablePath);
 
         if (query.getType() == QueryType.BULK_QUERY) {
@@ -270,26 +459,58 @@ public class YdbCache {
         return null;
     }
 
-    private Result<TableDescription> describeTable(String tablePath) {
-        TableDescription cached = tableDescribeCache.getIfPresent(tablePath);
-        if (cached != null) {
-            return Result.success(cached);
+    Result<TableDescription> describeTable(String tablePath) throws SQLException {
+        try {
+            return Result.success(loadOrWait(tableDescribeCache, tablePath, () -> {
+                YdbTracer tracer = ctx.getTracer();
+                tracer.trace("--> describe table");
+                tracer.trace(tablePath);
+
+                DescribeTableSettings settings = ctx.withDefaultTimeout(new DescribeTableSettings());
+                settings.setIncludeShardKeyBounds(isKeyRangesRequired(ctx.getOperationProperties()));
+                Result<TableDescription> result = retryCtx.supplyResult(
+                        session -> session.describeTable(tablePath, settings)
+                ).join();
+
+                tracer.trace("<-- " + result.getStatus());
+                // unsuccessful result throws UnexpectedResultException, so it will not be cached
+                TableDescription description = result.getValue();
+                if (cacheFile != null) {
+                    cacheFile.putTable(tablePath, description);
+                }
+                return description;
+            }));
+        } catch (UnexpectedResultException ex) {
+            return Result.fail(ex.getStatus());
         }
+    }
 
-        YdbTracer tracer = ctx.getTracer();
-        tracer.trace("--> describe table");
-        tracer.trace(tablePath);
-
-        DescribeTableSettings settings = ctx.withDefaultTimeout(new DescribeTableSettings());
-        Result<TableDescription> result = retryCtx.supplyResult(session -> session.describeTable(tablePath, settings))
-                .join();
-
-        tracer.trace("<-- " + result.getStatus());
+    /**
+     * Key ranges are used only to send parallel bulk upserts to different partitions and to split scans
+     */
+    private static boolean isKeyRangesRequired(YdbOperationProperties props) {
+        return props.getBulkUpsertConcurrency() > 1 || props.getScanParallelism() > 1;
+    }
 
-        if (result.isSuccess()) {
-            tableDescribeCache.put(tablePath, result.getValue());
+    /**
+     * Returns the cached value or loads it. Guava cache guarantees that only one loader is executed for the key, all
+     * concurrent callers wait for the same result (or for the same error, errors are not cached)
+     */
+    static <K, V> V loadOrWait(Cache<K, V> cache, K key, Callable<V> loader) throws SQLException {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof SQLException) {
+                throw (SQLException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SQLException(cause);
         }
-
-        return result;
     }
 }
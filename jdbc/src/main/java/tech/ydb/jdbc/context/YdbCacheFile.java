@@ -0,0 +1,320 @@
+package tech.ydb.jdbc.context;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.cache.CacheBuilder;
+
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.description.TableColumn;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.proto.ProtoType;
+
+/**
+ * Local file storage for types of prepared queries and descriptions of tables. Allows to skip prepareDataQuery and
+ * describeTable calls after restart of the application. All entries are bound to the database prefix path and have
+ * limited time to live.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class YdbCacheFile {
+    private static final Logger LOGGER = Logger.getLogger(YdbCacheFile.class.getName());
+
+    private static final int FILE_MAGIC = 0x59444243; // YDBC
+    private static final int FILE_VERSION = 1;
+    private static final long WRITE_DELAY_MS = 1000;
+    private static final long CLOSE_TIMEOUT_MS = 5000;
+
+    private final Path path;
+    private final String database;
+    private final long ttlMillis;
+
+    // entries are evicted in the order of updates, so only the last updated ones are kept and written to the file
+    private final Map<String, Entry<Map<String, Type>>> queries;
+    private final Map<String, Entry<TableDescription>> tables;
+
+    private final AtomicBoolean isWriteScheduled = new AtomicBoolean(false);
+    private final ScheduledThreadPoolExecutor writer;
+
+    YdbCacheFile(String fileName, String database, Duration ttl, int maxSize) {
+        this.path = Paths.get(fileName);
+        this.database = database;
+        this.ttlMillis = ttl.toMillis();
+        // single segment keeps the exact order of eviction
+        this.queries = CacheBuilder.newBuilder().concurrencyLevel(1).maximumSize(maxSize)
+                .<String, Entry<Map<String, Type>>>build().asMap();
+        this.tables = CacheBuilder.newBuilder().concurrencyLevel(1).maximumSize(maxSize)
+                .<String, Entry<TableDescription>>build().asMap();
+
+        final String threadName = "ydb-jdbc-cache-writer[" + fileName.hashCode() + "]";
+        this.writer = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
+        // the delayed write is performed by close() itself
+        this.writer.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+        read();
+    }
+
+    Map<String, Map<String, Type>> getQueries() {
+        Map<String, Map<String, Type>> result = new HashMap<>();
+        queries.forEach((key, entry) -> result.put(key, entry.value));
+        return result;
+    }
+
+    Map<String, TableDescription> getTables() {
+        Map<String, TableDescription> result = new HashMap<>();
+        tables.forEach((key, entry) -> result.put(key, entry.value));
+        return result;
+    }
+
+    void putQuery(String query, Map<String, Type> types) {
+        queries.put(query, new Entry<>(System.currentTimeMillis(), types));
+        scheduleWrite();
+    }
+
+    void putTable(String tablePath, TableDescription description) {
+        tables.put(tablePath, new Entry<>(System.currentTimeMillis(), description));
+        scheduleWrite();
+    }
+
+    void removeQuery(String query) {
+        if (queries.remove(query) != null) {
+            scheduleWrite();
+        }
+    }
+
+    void removeTable(String tablePath) {
+        if (tables.remove(tablePath) != null) {
+            scheduleWrite();
+        }
+    }
+
+    void close() {
+        // the interrupted write cannot complete the file, so the active write is awaited instead of interruption
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                Object[] args = new Object[] {path, CLOSE_TIMEOUT_MS};
+                LOGGER.log(Level.WARNING, "Cache file {0} is not written in {1} ms", args);
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (isWriteScheduled.compareAndSet(true, false)) {
+            write();
+        }
+    }
+
+    private void scheduleWrite() {
+        if (isWriteScheduled.compareAndSet(false, true)) {
+            writer.schedule(() -> {
+                if (isWriteScheduled.compareAndSet(true, false)) {
+                    write();
+                }
+            }, WRITE_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void read() {
+        long minTime = System.currentTimeMillis() - ttlMillis;
+        Map<String, Entry<Map<String, Type>>> readQueries = new HashMap<>();
+        Map<String, Entry<TableDescription>> readTables = new HashMap<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+                LOGGER.log(Level.WARNING, "Skip cache file {0} with unsupported format", path);
+                return;
+            }
+            String fileDatabase = readString(in);
+            if (!database.equals(fileDatabase)) {
+                LOGGER.log(Level.INFO, "Skip cache file {0} of other database {1}", new Object[] {path, fileDatabase});
+                return;
+            }
+
+            int queriesCount = in.readInt();
+            for (int idx = 0; idx < queriesCount; idx++) {
+                String query = readString(in);
+                long updatedAt = in.readLong();
+                int paramsCount = in.readInt();
+                Map<String, Type> types = new HashMap<>();
+                for (int pIdx = 0; pIdx < paramsCount; pIdx++) {
+                    String name = readString(in);
+                    types.put(name, readType(in));
+                }
+                if (updatedAt > minTime) {
+                    readQueries.put(query, new Entry<>(updatedAt, types));
+                }
+            }
+
+            int tablesCount = in.readInt();
+            for (int idx = 0; idx < tablesCount; idx++) {
+                String tablePath = readString(in);
+                long updatedAt = in.readLong();
+                TableDescription.Builder builder = TableDescription.newBuilder();
+                int columnsCount = in.readInt();
+                for (int cIdx = 0; cIdx < columnsCount; cIdx++) {
+                    String name = readString(in);
+                    builder.addColumn(new TableColumn(name, readType(in)));
+                }
+                int keysCount = in.readInt();
+                List<String> keys = new ArrayList<>(keysCount);
+                for (int kIdx = 0; kIdx < keysCount; kIdx++) {
+                    keys.add(readString(in));
+                }
+                builder.setPrimaryKeys(keys);
+                if (updatedAt > minTime) {
+                    readTables.put(tablePath, new Entry<>(updatedAt, builder.build()));
+                }
+            }
+
+            putInUpdateOrder(queries, readQueries);
+            putInUpdateOrder(tables, readTables);
+            LOGGER.log(Level.FINE, "Read {0} queries and {1} tables from cache file {2}", new Object[] {
+                queries.size(), tables.size(), path
+            });
+        } catch (NoSuchFileException ex) {
+            LOGGER.log(Level.FINE, "Cache file {0} doesn't exist", path);
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Cannot read cache file " + path, ex);
+            queries.clear();
+            tables.clear();
+        }
+    }
+
+    private void write() {
+        Path tmp = null;
+        try {
+            Path dir = path.toAbsolutePath().getParent();
+            if (dir != null) {
+                Files.createDirectories(dir);
+            }
+            tmp = Files.createTempFile(dir, path.getFileName().toString(), ".tmp");
+
+            List<Map.Entry<String, Entry<Map<String, Type>>>> queriesList = new ArrayList<>(queries.entrySet());
+            List<Map.Entry<String, Entry<TableDescription>>> tablesList = new ArrayList<>(tables.entrySet());
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(FILE_MAGIC);
+                out.writeInt(FILE_VERSION);
+                writeString(out, database);
+
+                out.writeInt(queriesList.size());
+                for (Map.Entry<String, Entry<Map<String, Type>>> query: queriesList) {
+                    writeString(out, query.getKey());
+                    out.writeLong(query.getValue().updatedAt);
+                    Map<String, Type> types = query.getValue().value;
+                    out.writeInt(types.size());
+                    for (Map.Entry<String, Type> type: types.entrySet()) {
+                        writeString(out, type.getKey());
+                        writeType(out, type.getValue());
+                    }
+                }
+
+                out.writeInt(tablesList.size());
+                for (Map.Entry<String, Entry<TableDescription>> table: tablesList) {
+                    writeString(out, table.getKey());
+                    out.writeLong(table.getValue().updatedAt);
+                    TableDescription description = table.getValue().value;
+                    out.writeInt(description.getColumns().size());
+                    for (TableColumn column: description.getColumns()) {
+                        writeString(out, column.getName());
+                        writeType(out, column.getType());
+                    }
+                    out.writeInt(description.getPrimaryKeys().size());
+                    for (String key: description.getPrimaryKeys()) {
+                        writeString(out, key);
+                    }
+                }
+            }
+
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tmp = null;
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Cannot write cache file " + path, ex);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ex) {
+                    LOGGER.log(Level.FINE, "Cannot delete temporary file " + tmp, ex);
+                }
+            }
+        }
+    }
+
+    private static <V> void putInUpdateOrder(Map<String, Entry<V>> target, Map<String, Entry<V>> entries) {
+        // the oldest entries are put first, so they are evicted first if the file has more entries than the limit
+        List<Map.Entry<String, Entry<V>>> list = new ArrayList<>(entries.entrySet());
+        Collections.sort(list, Comparator.comparingLong(e -> e.getValue().updatedAt));
+        for (Map.Entry<String, Entry<V>> entry: list) {
+            target.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private static void writeType(DataOutputStream out, Type type) throws IOException {
+        byte[] bytes = type.toPb().toByteArray();
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static Type readType(DataInputStream in) throws IOException {
+        return ProtoType.fromPb(ValueProtos.Type.parseFrom(readBytes(in)));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IOException("Invalid length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static class Entry<V> {
+        private final long updatedAt;
+        private final V value;
+
+        Entry(long updatedAt, V value) {
+            this.updatedAt = updatedAt;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package tech.ydb.jdbc.context;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+
+/**
+ * Statistics of one of the driver caches. All values are read from the cache at the moment of the call
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbCacheStats implements YdbCacheStatsMXBean {
+    private final String name;
+    private final Cache<?, ?> cache;
+
+    YdbCacheStats(String name, Cache<?, ?> cache) {
+        this.name = name;
+        this.cache = cache;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getSize() {
+        return cache.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    @Override
+    public double getHitRate() {
+        return cache.stats().hitRate();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    @Override
+    public long getLoadSuccessCount() {
+        return cache.stats().loadSuccessCount();
+    }
+
+    @Override
+    public long getLoadExceptionCount() {
+        return cache.stats().loadExceptionCount();
+    }
+
+    @Override
+    public long getTotalLoadTimeNanos() {
+        return cache.stats().totalLoadTime();
+    }
+
+    @Override
+    public double getAverageLoadPenaltyNanos() {
+        return cache.stats().averageLoadPenalty();
+    }
+
+    @Override
+    public String toString() {
+        CacheStats stats = cache.stats();
+        return "YdbCacheStats{name=" + name
+                + ", size=" + cache.size()
+                + ", hits=" + stats.hitCount()
+                + ", misses=" + stats.missCount()
+                + ", evictions=" + stats.evictionCount()
+                + ", loads=" + stats.loadSuccessCount()
+                + ", loadErrors=" + stats.loadExceptionCount()
+                + ", totalLoadTime=" + stats.totalLoadTime() + "ns}";
+    }
+}
@@ -0,0 +1,28 @@
+package tech.ydb.jdbc.context;
+
+/**
+ * JMX view of the statistics of one of the driver caches
+ *
+ * @author Aleksandr Gorshenin
+ */
+public interface YdbCacheStatsMXBean {
+    String getName();
+
+    long getSize();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRate();
+
+    long getEvictionCount();
+
+    long getLoadSuccessCount();
+
+    long getLoadExceptionCount();
+
+    long getTotalLoadTimeNanos();
+
+    double getAverageLoadPenaltyNanos();
+}
@@ -0,0 +1,77 @@
+package tech.ydb.jdbc.context;
+
+import java.util.Map;
+
+import com.google.common.cache.Weigher;
+
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.QueryStatement;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.table.description.TableColumn;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.description.TableIndex;
+import tech.ydb.table.values.Type;
+
+/**
+ * Rough estimation of retained heap size of cached values. Estimation doesn't need to be exact, it must only grow
+ * with the size of query texts and table descriptions
+ *
+ * @author Aleksandr Gorshenin
+ */
+final class YdbCacheWeigher {
+    private static final int OBJECT_OVERHEAD = 64;
+    private static final int REFERENCE_SIZE = 8;
+    private static final int TYPE_SIZE = 32;
+    private static final int KEY_RANGE_SIZE = 128;
+
+    static final Weigher<QueryKey, YdbQuery> QUERIES = YdbCacheWeigher::weigh;
+    static final Weigher<String, Map<String, Type>> QUERY_PARAMS = YdbCacheWeigher::weigh;
+    static final Weigher<String, TableDescription> TABLES = YdbCacheWeigher::weigh;
+
+    private YdbCacheWeigher() { }
+
+    static int weigh(QueryKey key, YdbQuery query) {
+        long size = OBJECT_OVERHEAD + textSize(key.getQuery()) + textSize(key.getReturning());
+        size += textSize(query.getPreparedYql());
+        for (QueryStatement st: query.getStatements()) {
+            size += OBJECT_OVERHEAD + REFERENCE_SIZE * st.getJdbcPrmFactories().size();
+        }
+        return toWeight(size);
+    }
+
+    static int weigh(String query, Map<String, Type> types) {
+        long size = OBJECT_OVERHEAD + textSize(query);
+        for (String name: types.keySet()) {
+            size += OBJECT_OVERHEAD + textSize(name) + TYPE_SIZE;
+        }
+        return toWeight(size);
+    }
+
+    static int weigh(String tablePath, TableDescription description) {
+        long size = OBJECT_OVERHEAD + textSize(tablePath);
+        for (TableColumn column: description.getColumns()) {
+            size += OBJECT_OVERHEAD + textSize(column.getName()) + TYPE_SIZE;
+        }
+        for (String key: description.getPrimaryKeys()) {
+            size += REFERENCE_SIZE + textSize(key);
+        }
+        for (TableIndex index: description.getIndexes()) {
+            size += OBJECT_OVERHEAD + textSize(index.getName());
+            for (String column: index.getColumns()) {
+                size += REFERENCE_SIZE + textSize(column);
+            }
+        }
+        size += (long) KEY_RANGE_SIZE * description.getKeyRanges().size();
+        size += (long) OBJECT_OVERHEAD * description.getPartitionStats().size();
+        return toWeight(size);
+    }
+
+    private static long textSize(String text) {
+        // java.lang.String with UTF-16 storage in the worst case
+        return text == null ? 0 : OBJECT_OVERHEAD + 2L * text.length();
+    }
+
+    private static int toWeight(long size) {
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+}
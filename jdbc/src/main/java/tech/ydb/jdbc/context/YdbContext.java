@@ -1,13 +1,25 @@
 package tech.ydb.jdbc.context;
 
+import java.lang.management.ManagementFactory;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import tech.ydb.core.Result;
 import tech.ydb.core.grpc.GrpcTransport;
 import tech.ydb.core.grpc.GrpcTransportBuilder;
 import tech.ydb.core.impl.SingleChannelTransport;
@@ -19,6 +31,7 @@ import tech.ydb.jdbc.common.JdbcDriverVersion;
 import tech.ydb.jdbc.common.YdbTypes;
 import tech.ydb.jdbc.impl.YdbTracerNone;
 import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.QueryLiterals;
 import tech.ydb.jdbc.query.YdbPreparedQuery;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.jdbc.settings.YdbClientProperties;
@@ -31,6 +44,7 @@ import tech.ydb.query.QueryClient;
 import tech.ydb.query.impl.QueryClientImpl;
 import tech.ydb.scheme.SchemeClient;
 import tech.ydb.table.TableClient;
+import tech.ydb.table.description.TableDescription;
 import tech.ydb.table.impl.PooledTableClient;
 import tech.ydb.table.rpc.grpc.GrpcTableRpc;
 import tech.ydb.table.settings.RequestSettings;
@@ -45,12 +59,15 @@ public class YdbContext implements AutoCloseable {
 
     private static final int SESSION_POOL_RESIZE_STEP = 50;
     private static final int SESSION_POOL_RESIZE_THRESHOLD = 10;
+    // equal configs may be used by several contexts, so names of MBeans use the sequential id of context
+    private static final AtomicLong CONTEXT_ID = new AtomicLong();
 
     private final YdbConfig config;
 
     private final YdbOperationProperties operationOptions;
     private final YdbTypes types;
     private final YdbCache cache;
+    private final List<ObjectName> cacheMBeans = new ArrayList<>();
 
     private final GrpcTransport grpcTransport;
     private final PooledTableClient tableClient;
@@ -96,14 +113,48 @@ public class YdbContext implements AutoCloseable {
         String queryRewriteTable = operationOptions.getQueryRewriteTable();
         if (queryRewriteTable != null && !queryRewriteTable.isEmpty()) {
             String tablePath = joined(prefixPath, queryRewriteTable);
+            int preloadLimit = operationOptions.isQueryRewritePreload()
+                    ? operationOptions.getQueryRewritePreloadLimit() : YdbQueryRewriteCache.NO_PRELOAD;
             this.cache = new YdbQueryRewriteCache(this, tablePath, operationOptions.getQueryRewriteTtl(),
-                    queryProperties, config.getPreparedStatementsCachecSize(), config.isFullScanDetectorEnabled());
+                    preloadLimit, queryProperties, config.getPreparedStatementsCachecSize(),
+                    config.isFullScanDetectorEnabled());
         } else {
             this.cache = new YdbCache(this,
                     queryProperties, config.getPreparedStatementsCachecSize(), config.isFullScanDetectorEnabled());
         }
 
         this.querySpi = YdbServiceLoader.loadQuerySpi();
+
+        if (config.isCacheMBeansEnabled()) {
+            registerCacheMBeans();
+        }
+    }
+
+    private void registerCacheMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        long contextId = CONTEXT_ID.incrementAndGet();
+        for (YdbCacheStats stats: cache.getCacheStats()) {
+            try {
+                ObjectName name = new ObjectName("tech.ydb.jdbc:type=YdbCache,context=" + contextId
+                        + ",name=" + stats.getName());
+                server.registerMBean(stats, name);
+                cacheMBeans.add(name);
+            } catch (JMException ex) {
+                LOGGER.log(Level.WARNING, "Cannot register MBean for cache " + stats.getName(), ex);
+            }
+        }
+    }
+
+    private void unregisterCacheMBeans() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name: cacheMBeans) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException ex) {
+                LOGGER.log(Level.FINE, "Cannot unregister MBean " + name, ex);
+            }
+        }
+        cacheMBeans.clear();
     }
 
     public YdbTypes getTypes() {
@@ -150,6 +201,10 @@ public class YdbContext implements AutoCloseable {
         return queryClient;
     }
 
+    YdbConfig getConfig() {
+        return config;
+    }
+
     public String getUrl() {
         return config.getUrl();
     }
@@ -184,6 +239,8 @@ public class YdbContext implements AutoCloseable {
     @Override
     public void close() {
         try {
+            unregisterCacheMBeans();
+            cache.close();
             schemeClient.close();
             queryClient.close();
             tableClient.close();
@@ -263,8 +320,17 @@ public class YdbContext implements AutoCloseable {
 
             boolean autoResize = clientProps.applyToTableClient(tableClient, queryClient);
 
-            return new YdbContext(config, operationProps, queryProps, grpcTransport, tableClient.build(),
+            YdbContext ctx = new YdbContext(config, operationProps, queryProps, grpcTransport, tableClient.build(),
                     queryClient.build(), autoResize);
+            if (!config.getWarmupQueries().isEmpty()) {
+                try {
+                    ctx.warmup(config.getWarmupQueries());
+                } catch (SQLException ex) {
+                    ctx.close();
+                    throw ex;
+                }
+            }
+            return ctx;
         } catch (RuntimeException ex) {
             if (grpcTransport != null) {
                 try {
@@ -313,6 +379,15 @@ public class YdbContext implements AutoCloseable {
         cache.resetQueryStats();
     }
 
+    /**
+     * Returns statistics of all driver caches of this context
+     *
+     * @return list of cache statistics
+     */
+    public List<YdbCacheStats> getCacheStats() {
+        return cache.getCacheStats();
+    }
+
     public Collection<QueryStat> getFullScanDetectorStats() {
         return cache.getQueryStats();
     }
@@ -321,11 +396,113 @@ public class YdbContext implements AutoCloseable {
         return YdbQuery.parseQuery(new QueryKey(query), cache.getQueryOptions(), types);
     }
 
+    /**
+     * Replaces literals of DML query with parameters if this is enabled by the option autoParameterizeLiterals
+     *
+     * @param sql text of query
+     * @return query with extracted literals or {@code null} if the query must be executed as is
+     */
+    public QueryLiterals extractLiterals(String sql) {
+        YdbQueryProperties options = cache.getQueryOptions();
+        if (!options.isAutoParameterizeLiterals()) {
+            return null;
+        }
+        return QueryLiterals.extract(sql, options.isDeclareJdbcParameters());
+    }
+
     public YdbQuery parseYdbQuery(QueryKey key) throws SQLException {
         return cache.parseYdbQuery(key);
     }
 
+    /**
+     * Returns the cached description of the table
+     *
+     * @param tableName name of the table relative to the prefix path
+     * @return description of the table with key ranges if they are required by the properties
+     * @throws SQLException if describing is interrupted
+     */
+    Result<TableDescription> describeTable(String tableName) throws SQLException {
+        return cache.describeTable(joined(prefixPath, tableName));
+    }
+
     public YdbPreparedQuery prepareYdbQuery(YdbQuery query, YdbPrepareMode mode) throws SQLException {
         return cache.prepareYdbQuery(query, mode);
     }
+
+    /**
+     * Parses and prepares queries in parallel to fill the caches of parsed queries, prepared statements and table
+     * descriptions before the first execution. Queries which cannot be prepared are skipped
+     *
+     * @param queries list of SQL texts
+     * @return count of successfully prepared queries
+     * @throws SQLException if the warm-up was interrupted
+     */
+    public int warmup(Collection<String> queries) throws SQLException {
+        if (queries.isEmpty()) {
+            return 0;
+        }
+        if (config.getPreparedStatementsCachecSize() <= 0) {
+            LOGGER.log(Level.WARNING, "Skip warm-up of {0} queries, driver caches are disabled", queries.size());
+            return 0;
+        }
+
+        cache.validate();
+
+        final String namePrefix = "ydb-jdbc-warmup[" + config.hashCode() + "]-thread-";
+        final AtomicInteger threadNumber = new AtomicInteger(1);
+        int threadsCount = Math.min(config.getWarmupConcurrency(), queries.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threadsCount, (Runnable r) -> {
+            Thread t = new Thread(r, namePrefix + threadNumber.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
+        try {
+            List<Future<Boolean>> results = new ArrayList<>(queries.size());
+            for (String sql: queries) {
+                results.add(executor.submit(() -> warmupQuery(sql)));
+            }
+
+            int prepared = 0;
+            for (Future<Boolean> result: results) {
+                if (result.get()) {
+                    prepared++;
+                }
+            }
+            LOGGER.log(Level.FINE, "Warm-up prepared {0} of {1} queries", new Object[] {prepared, queries.size()});
+            return prepared;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Warm-up was interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new SQLException("Warm-up failed", ex.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean warmupQuery(String sql) {
+        try {
+            YdbQuery query = cache.parseYdbQuery(new QueryKey(sql));
+            cache.prepareYdbQuery(query, YdbPrepareMode.AUTO);
+            return true;
+        } catch (SQLException | RuntimeException ex) {
+            LOGGER.log(Level.WARNING, "Cannot warm up query " + sql, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Removes cache entries restored from the cache file which were used by the failed query
+     *
+     * @param query failed query
+     * @return true if the query used restored entries and must be prepared again
+     */
+    public boolean invalidateRestoredQuery(YdbQuery query) {
+        if (cache.invalidateRestored(query)) {
+            LOGGER.log(Level.FINE, "Invalidated restored cache entries of {0}", query.getOriginQuery());
+            return true;
+        }
+        return false;
+    }
 }
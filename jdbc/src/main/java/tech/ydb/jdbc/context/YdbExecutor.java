@@ -1,13 +1,18 @@
 package tech.ydb.jdbc.context;
 
 import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 
+import tech.ydb.core.Status;
 import tech.ydb.jdbc.YdbQueryResult;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.impl.YdbResultSetMemory;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.table.query.BulkUpsertData;
 import tech.ydb.table.query.Params;
-import tech.ydb.table.values.ListValue;
 
 /**
  *
@@ -31,7 +36,14 @@ public interface YdbExecutor {
     void setAutoCommit(boolean autoCommit) throws SQLException;
 
     YdbQueryResult executeSchemeQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
-    YdbQueryResult executeBulkUpsert(YdbStatement st, YdbQuery query, String path, ListValue rows) throws SQLException;
+    YdbQueryResult executeBulkUpsert(YdbStatement st, YdbQuery query, String path, BulkUpsertData rows)
+            throws SQLException;
+    YdbQueryResult executeBulkUpsert(YdbStatement st, YdbQuery query, String path,
+            List<Supplier<BulkUpsertData>> chunks, int[] lanes, IntConsumer onChunkDone) throws SQLException;
+    CompletableFuture<Status> executeBulkUpsertAsync(YdbStatement st, YdbQuery query, String path, BulkUpsertData rows)
+            throws SQLException;
+    CompletableFuture<Status> executeDataQueryAsync(YdbStatement st, YdbQuery query, String yql, Params prms)
+            throws SQLException;
     YdbQueryResult executeExplainQuery(YdbStatement st, YdbQuery query) throws SQLException;
     YdbQueryResult executeScanQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
     YdbQueryResult executeDataQuery(YdbStatement st, YdbQuery query, String yql, Params prms) throws SQLException;
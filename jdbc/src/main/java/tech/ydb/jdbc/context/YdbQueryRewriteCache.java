@@ -3,6 +3,20 @@ package tech.ydb.jdbc.context;
 import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
@@ -24,8 +38,14 @@ import tech.ydb.table.description.TableDescription;
 import tech.ydb.table.query.DataQueryResult;
 import tech.ydb.table.query.Params;
 import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.settings.ReadTableSettings;
 import tech.ydb.table.transaction.TxControl;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.PrimitiveType;
 import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructType;
+import tech.ydb.table.values.StructValue;
 
 /**
  *
@@ -53,16 +73,62 @@ public class YdbQueryRewriteCache extends YdbCache {
             + "DECLARE $q AS Text; "
             + "UPSERT INTO `%s` (hash, query, used_at) VALUES ($h, $q, CurrentUtcTimestamp()) RETURNING rewritten;";
 
+    private static final String REFRESH_SQL = ""
+            + "DECLARE $hashes AS List<Text>; "
+            + "DECLARE $rows AS List<Struct<hash:Text, query:Text>>; "
+            + "SELECT hash, rewritten FROM `%s` WHERE hash IN $hashes; "
+            + "UPSERT INTO `%s` SELECT hash, query, CurrentUtcTimestamp() AS used_at FROM AS_TABLE($rows);";
+
+    static final int NO_PRELOAD = -1;
+
+    private static final int REFRESH_BATCH_SIZE = 1000;
+    private static final ListType HASHES_TYPE = ListType.of(PrimitiveType.Text);
+    private static final ListType ROWS_TYPE = ListType.of(StructType.of(
+            "hash", PrimitiveType.Text,
+            "query", PrimitiveType.Text
+    ));
+
     private final String rewriteTable;
     private final Duration rewriteTtl;
     private final Cache<QueryKey, CachedQuery> rewriteCache;
 
-    public YdbQueryRewriteCache(YdbContext ctx, String tableName, Duration ttl, YdbQueryProperties options,
-            int cacheSize, boolean fullScanDetector) {
+    private final int preloadLimit;
+    // rewrites read from the table at start, are moved to rewriteCache on the first usage of the query
+    private final Map<String, Optional<QueryKey>> preloaded = new ConcurrentHashMap<>();
+
+    private final Queue<CachedQuery> refreshQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean isRefreshScheduled = new AtomicBoolean(false);
+    private final ExecutorService refresher;
+
+    public YdbQueryRewriteCache(YdbContext ctx, String tableName, Duration ttl, int preloadLimit,
+            YdbQueryProperties options, int cacheSize, boolean fullScanDetector) {
         super(ctx, options, cacheSize, fullScanDetector);
         this.rewriteTable = tableName;
         this.rewriteTtl = ttl;
-        this.rewriteCache = CacheBuilder.newBuilder().maximumSize(cacheSize).build();
+        // preloaded rewrites are moved to the rewrite cache, so there is no sense to read more than its size
+        this.preloadLimit = preloadLimit == NO_PRELOAD ? NO_PRELOAD
+                : preloadLimit > 0 ? Math.min(preloadLimit, cacheSize) : cacheSize;
+        this.rewriteCache = CacheBuilder.newBuilder().maximumSize(cacheSize).recordStats().build();
+
+        final String threadName = "ydb-jdbc-rewrite-refresher[" + ctx.getConfig().hashCode() + "]";
+        this.refresher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, threadName);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+        super.close();
+    }
+
+    @Override
+    public List<YdbCacheStats> getCacheStats() {
+        List<YdbCacheStats> stats = super.getCacheStats();
+        stats.add(new YdbCacheStats("queryRewrites", rewriteCache));
+        return stats;
     }
 
     @Override
@@ -93,6 +159,9 @@ public class YdbQueryRewriteCache extends YdbCache {
             Result<TableDescription> res = retryCtx.supplyResult(s -> s.describeTable(rewriteTable)).join();
             LOGGER.log(Level.INFO, "Describe QueryRewrite {0} -> {1}", new Object[] {rewriteTable, res.getStatus()});
             if (res.isSuccess()) {
+                if (preloadLimit != NO_PRELOAD) {
+                    preload();
+                }
                 tableDescribeCache.put(rewriteTable, res.getValue());
                 return;
             }
@@ -124,6 +193,99 @@ public class YdbQueryRewriteCache extends YdbCache {
         }
     }
 
+    private void preload() {
+        ReadTableSettings settings = ReadTableSettings.newBuilder()
+                .columns("hash", "rewritten", "used_at")
+                .build();
+
+        PriorityQueue<PreloadedRow> rows = new PriorityQueue<>(Comparator.comparing(row -> row.usedAt));
+        Status status = retryCtx.supplyStatus(session -> {
+            rows.clear();
+            return session.executeReadTable(rewriteTable, settings).start(part -> {
+                ResultSetReader rs = part.getResultSetReader();
+                while (rs.next()) {
+                    ValueReader usedAt = rs.getColumn(2);
+                    Instant time = usedAt.isOptionalItemPresent() ? usedAt.getTimestamp() : Instant.MIN;
+                    rows.add(new PreloadedRow(rs.getColumn(0).getText(), rs.getColumn(1), time));
+                    if (rows.size() > preloadLimit) {
+                        rows.poll(); // remove the least recently used
+                    }
+                }
+            });
+        }).join();
+
+        LOGGER.log(Level.INFO, "Preload {0} rewrites from {1} -> {2}", new Object[] {
+            rows.size(), rewriteTable, status
+        });
+        if (status.isSuccess()) {
+            for (PreloadedRow row: rows) {
+                preloaded.put(row.hash, Optional.ofNullable(row.rewritten));
+            }
+        }
+    }
+
+    private void scheduleRefresh(CachedQuery query) {
+        refreshQueue.add(query);
+        if (isRefreshScheduled.compareAndSet(false, true)) {
+            try {
+                refresher.execute(this::refreshExpired);
+            } catch (RejectedExecutionException ex) {
+                // cache is closed
+                isRefreshScheduled.set(false);
+            }
+        }
+    }
+
+    private void refreshExpired() {
+        isRefreshScheduled.set(false);
+
+        Map<String, CachedQuery> batch = new HashMap<>();
+        CachedQuery next = refreshQueue.poll();
+        while (next != null) {
+            batch.put(next.hash, next);
+            if (batch.size() >= REFRESH_BATCH_SIZE) {
+                refreshBatch(batch);
+                batch.clear();
+            }
+            next = refreshQueue.poll();
+        }
+
+        if (!batch.isEmpty()) {
+            refreshBatch(batch);
+        }
+    }
+
+    private void refreshBatch(Map<String, CachedQuery> batch) {
+        List<PrimitiveValue> hashes = new ArrayList<>(batch.size());
+        List<StructValue> rows = new ArrayList<>(batch.size());
+        for (CachedQuery cached: batch.values()) {
+            PrimitiveValue hash = PrimitiveValue.newText(cached.hash);
+            hashes.add(hash);
+            rows.add(StructValue.of("hash", hash, "query", PrimitiveValue.newText(cached.query)));
+        }
+
+        Params params = Params.of("$hashes", HASHES_TYPE.newValue(hashes), "$rows", ROWS_TYPE.newValue(rows));
+        String refreshQuery = String.format(REFRESH_SQL, rewriteTable, rewriteTable);
+        Result<DataQueryResult> res = retryCtx.supplyResult(
+                session -> session.executeDataQuery(refreshQuery, TxControl.serializableRw(), params)
+        ).join();
+
+        if (!res.isSuccess()) {
+            LOGGER.log(Level.WARNING, "Cannot refresh {0} queries from table {1} -> {2}", new Object[] {
+                batch.size(), rewriteTable, res.getStatus()
+            });
+            return;
+        }
+
+        ResultSetReader rs = res.getValue().getResultSet(0);
+        while (rs.next()) {
+            CachedQuery cached = batch.get(rs.getColumn(0).getText());
+            if (cached != null) {
+                cached.setRewritten(rs.getColumn(1));
+            }
+        }
+    }
+
     private class CachedQuery {
         private final String hash;
         private final String query;
@@ -135,6 +297,13 @@ public class YdbQueryRewriteCache extends YdbCache {
             this.hash = Hashing.sha256().hashBytes(query.getBytes()).toString();
             this.rewritten = new AtomicReference<>();
             this.ttl = new AtomicReference<>(Instant.MIN);
+
+            Optional<QueryKey> preloadedRewrite = preloaded.remove(hash);
+            if (preloadedRewrite != null) {
+                // used_at of preloaded query will be updated by the first background refresh
+                rewritten.set(preloadedRewrite.orElse(null));
+                ttl.set(Instant.now().plus(rewriteTtl));
+            }
         }
 
         public QueryKey update(QueryKey origin) {
@@ -142,25 +311,12 @@ public class YdbQueryRewriteCache extends YdbCache {
             Instant localTtl = ttl.get();
             while (localTtl.isBefore(now)) {
                 if (ttl.compareAndSet(localTtl, now.plus(rewriteTtl))) {
-                    Params params = Params.of(
-                            "$h", PrimitiveValue.newText(hash),
-                            "$q", PrimitiveValue.newText(query)
-                    );
-                    String updateQuery = String.format(UPDATE_SQL, rewriteTable);
-                    Result<DataQueryResult> res = retryCtx.supplyResult(
-                            session -> session.executeDataQuery(updateQuery, TxControl.serializableRw(), params)
-                    ).join();
-
-                    if (res.isSuccess()) {
-                        ResultSetReader rs = res.getValue().getResultSet(0);
-                        if (rs.next() && rs.getColumn(0).isOptionalItemPresent()) {
-                            String rewrittenQuery = rs.getColumn(0).getText();
-                            rewritten.set(new QueryKey(rewrittenQuery));
-                        }
+                    if (Instant.MIN.equals(localTtl)) {
+                        // the first usage of the query, rewrite must be known before execution
+                        load();
                     } else {
-                        LOGGER.log(Level.WARNING, "Cannot read table {0} -> {1}", new Object[] {
-                            rewriteTable, res.getStatus()
-                        });
+                        // current rewrite is still used until the background refresh is completed
+                        scheduleRefresh(this);
                     }
                 }
                 localTtl = ttl.get();
@@ -169,5 +325,47 @@ public class YdbQueryRewriteCache extends YdbCache {
             QueryKey local = rewritten.get();
             return local != null ? local : origin;
         }
+
+        private void load() {
+            Params params = Params.of(
+                    "$h", PrimitiveValue.newText(hash),
+                    "$q", PrimitiveValue.newText(query)
+            );
+            String updateQuery = String.format(UPDATE_SQL, rewriteTable);
+            Result<DataQueryResult> res = retryCtx.supplyResult(
+                    session -> session.executeDataQuery(updateQuery, TxControl.serializableRw(), params)
+            ).join();
+
+            if (res.isSuccess()) {
+                ResultSetReader rs = res.getValue().getResultSet(0);
+                if (rs.next()) {
+                    setRewritten(rs.getColumn(0));
+                }
+            } else {
+                LOGGER.log(Level.WARNING, "Cannot read table {0} -> {1}", new Object[] {
+                    rewriteTable, res.getStatus()
+                });
+            }
+        }
+
+        private void setRewritten(ValueReader value) {
+            rewritten.set(readRewritten(value));
+        }
+    }
+
+    private static QueryKey readRewritten(ValueReader value) {
+        return value.isOptionalItemPresent() ? new QueryKey(value.getText()) : null;
+    }
+
+    private static class PreloadedRow {
+        private final String hash;
+        private final QueryKey rewritten;
+        private final Instant usedAt;
+
+        PreloadedRow(String hash, ValueReader rewritten, Instant usedAt) {
+            this.hash = hash;
+            this.rewritten = readRewritten(rewritten);
+            this.usedAt = usedAt;
+        }
     }
 }
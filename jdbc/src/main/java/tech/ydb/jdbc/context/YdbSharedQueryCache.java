@@ -0,0 +1,100 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+
+/**
+ * JVM-wide cache of parsed queries. Result of parsing depends only on the query text, the query properties and the
+ * datetime types mode, so all contexts with the same settings share the same parsed queries. The memory budget is
+ * defined by the first context which uses the cache
+ *
+ * @author Aleksandr Gorshenin
+ */
+final class YdbSharedQueryCache {
+    private static final Logger LOGGER = Logger.getLogger(YdbSharedQueryCache.class.getName());
+
+    private static final Object LOCK = new Object();
+    private static volatile YdbSharedQueryCache instance;
+
+    private final long maxWeight;
+    private final Cache<Key, YdbQuery> cache;
+
+    private YdbSharedQueryCache(long maxWeight) {
+        this.maxWeight = maxWeight;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxWeight)
+                .weigher((Key key, YdbQuery query) -> YdbCacheWeigher.weigh(key.queryKey, query))
+                .recordStats()
+                .build();
+    }
+
+    static YdbSharedQueryCache getInstance(long maxWeight) {
+        YdbSharedQueryCache local = instance;
+        if (local == null) {
+            synchronized (LOCK) {
+                local = instance;
+                if (local == null) {
+                    local = new YdbSharedQueryCache(maxWeight);
+                    instance = local;
+                }
+            }
+        }
+
+        if (local.maxWeight != maxWeight) {
+            LOGGER.log(Level.WARNING, "Shared query cache is already created with size {0} bytes, ignore size {1}",
+                    new Object[] {local.maxWeight, maxWeight});
+        }
+        return local;
+    }
+
+    Cache<Key, YdbQuery> getCache() {
+        return cache;
+    }
+
+    YdbQuery parseQuery(QueryKey key, YdbQueryProperties options, YdbTypes types, boolean newDatetypes)
+            throws SQLException {
+        return YdbCache.loadOrWait(cache, new Key(key, options, newDatetypes),
+                () -> YdbQuery.parseQuery(key, options, types));
+    }
+
+    static final class Key {
+        private final QueryKey queryKey;
+        private final YdbQueryProperties options;
+        private final boolean newDatetypes;
+
+        Key(QueryKey queryKey, YdbQueryProperties options, boolean newDatetypes) {
+            this.queryKey = queryKey;
+            this.options = options;
+            this.newDatetypes = newDatetypes;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(queryKey, options, newDatetypes);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return newDatetypes == other.newDatetypes
+                    && Objects.equals(queryKey, other.queryKey)
+                    && Objects.equals(options, other.options);
+        }
+    }
+}
@@ -5,7 +5,9 @@ import java.sql.SQLWarning;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -27,6 +29,7 @@ public class YdbValidator {
     private static final Logger LOGGER = Logger.getLogger(YdbValidator.class.getName());
 
     private final List<Issue> issues = new ArrayList<>();
+    private final Set<Context.CancellableContext> activeContexts = ConcurrentHashMap.newKeySet();
 
     public SQLWarning toSQLWarnings() {
         SQLWarning firstWarning = null;
@@ -57,15 +60,41 @@ public class YdbValidator {
     }
 
     private <T> T joinFuture(Supplier<CompletableFuture<T>> supplier) {
-        Context ctx = Context.current().fork();
+        return startFuture(supplier).join();
+    }
+
+    /**
+     * Starts the asynchronous operation in the forked gRPC context, so the cancellation of the current context
+     * doesn't affect the operation. The operation can be cancelled by {@link #cancel() } until its future is completed
+     *
+     * @param <T> type of result
+     * @param supplier supplier of the operation
+     * @return future of the operation
+     */
+    public <T> CompletableFuture<T> startFuture(Supplier<CompletableFuture<T>> supplier) {
+        Context.CancellableContext ctx = Context.current().fork().withCancellation();
+        activeContexts.add(ctx);
         Context previous = ctx.attach();
         try {
-            return supplier.get().join();
+            return supplier.get().whenComplete((res, th) -> activeContexts.remove(ctx));
+        } catch (RuntimeException ex) {
+            activeContexts.remove(ctx);
+            throw ex;
         } finally {
             ctx.detach(previous);
         }
     }
 
+    /**
+     * Cancels all operations which were started by this validator and are not completed yet. Cancelled gRPC calls
+     * are completed with the status CANCELLED
+     */
+    public void cancel() {
+        for (Context.CancellableContext ctx : activeContexts) {
+            ctx.cancel(null);
+        }
+    }
+
     public void execute(String msg, YdbTracer tracer, Supplier<CompletableFuture<Status>> fn) throws SQLException {
         Status status = joinFuture(fn);
         addStatusIssues(status);
@@ -0,0 +1,101 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+
+/**
+ * Tracks parts of the batch which were sent in background by addBatch. The count of requests in flight is limited,
+ * the caller waits for the completion of the oldest request when the limit is reached. Requests in flight may be
+ * completed in any order, only a single request in flight keeps the order of the parts.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class YdbBatchFlusher {
+    private final int maxInFlight;
+    private final List<Part> parts = new ArrayList<>();
+    private int firstPending = 0;
+    private int sentRows = 0;
+
+    YdbBatchFlusher(int maxInFlight) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+    }
+
+    int sentRows() {
+        return sentRows;
+    }
+
+    /**
+     * Waits until the new request can be sent
+     *
+     * @return false if some of sent requests was failed and new requests must not be sent
+     */
+    boolean awaitSlot() {
+        while (parts.size() - firstPending >= maxInFlight) {
+            parts.get(firstPending).future.join();
+            skipCompleted();
+        }
+        skipCompleted();
+        return firstError() == null;
+    }
+
+    void add(int rowsCount, CompletableFuture<Status> future) {
+        // unexpected exceptions are converted to statuses, so waiting never throws
+        CompletableFuture<Status> safe = future.exceptionally(th -> Status.of(StatusCode.CLIENT_INTERNAL_ERROR, th));
+        parts.add(new Part(rowsCount, safe));
+        sentRows += rowsCount;
+    }
+
+    /**
+     * Waits for the completion of all sent requests and forgets them
+     *
+     * @return update counts of all sent rows
+     */
+    int[] awaitAll() {
+        int[] counts = new int[sentRows];
+        int offset = 0;
+        for (Part part: parts) {
+            boolean isSuccess = part.future.join().isSuccess();
+            int count = isSuccess ? Statement.SUCCESS_NO_INFO : Statement.EXECUTE_FAILED;
+            Arrays.fill(counts, offset, offset + part.rowsCount, count);
+            offset += part.rowsCount;
+        }
+        return counts;
+    }
+
+    Status firstError() {
+        for (Part part: parts) {
+            if (part.future.isDone() && !part.future.join().isSuccess()) {
+                return part.future.join();
+            }
+        }
+        return null;
+    }
+
+    void reset() {
+        parts.clear();
+        firstPending = 0;
+        sentRows = 0;
+    }
+
+    private void skipCompleted() {
+        while (firstPending < parts.size() && parts.get(firstPending).future.isDone()) {
+            firstPending++;
+        }
+    }
+
+    private static class Part {
+        private final int rowsCount;
+        private final CompletableFuture<Status> future;
+
+        Part(int rowsCount, CompletableFuture<Status> future) {
+            this.rowsCount = rowsCount;
+            this.future = future;
+        }
+    }
+}
@@ -13,7 +13,9 @@ import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
@@ -26,6 +28,7 @@ import tech.ydb.jdbc.YdbDatabaseMetaData;
 import tech.ydb.jdbc.YdbPrepareMode;
 import tech.ydb.jdbc.YdbPreparedStatement;
 import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.context.YdbCacheStats;
 import tech.ydb.jdbc.context.YdbContext;
 import tech.ydb.jdbc.context.YdbExecutor;
 import tech.ydb.jdbc.context.YdbValidator;
@@ -257,7 +260,7 @@ public class YdbConnectionImpl implements YdbConnection {
         validator.clearWarnings();
         YdbQuery query = ctx.parseYdbQuery(key);
         YdbPreparedQuery params = ctx.prepareYdbQuery(query, mode);
-        return new YdbPreparedStatementImpl(this, query, params, resultSetType);
+        return new YdbPreparedStatementImpl(this, query, params, mode, resultSetType);
     }
 
     @Override
@@ -315,6 +318,18 @@ public class YdbConnectionImpl implements YdbConnection {
         return executor;
     }
 
+    @Override
+    public List<YdbCacheStats> getCacheStats() throws SQLException {
+        executor.ensureOpened();
+        return ctx.getCacheStats();
+    }
+
+    @Override
+    public int warmup(Collection<String> queries) throws SQLException {
+        executor.ensureOpened();
+        return ctx.warmup(queries);
+    }
+
     private void checkStatementParams(int resultSetType, int resultSetConcurrency,
             int resultSetHoldability) throws SQLException {
         if (resultSetType != ResultSet.TYPE_FORWARD_ONLY && resultSetType != ResultSet.TYPE_SCROLL_INSENSITIVE) {
@@ -6,6 +6,7 @@ import java.io.Reader;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.Array;
+import java.sql.BatchUpdateException;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.Date;
@@ -20,36 +21,72 @@ import java.sql.SQLXML;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import tech.ydb.core.Status;
+import tech.ydb.core.UnexpectedResultException;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbParameterMetaData;
+import tech.ydb.jdbc.YdbPrepareMode;
 import tech.ydb.jdbc.YdbPreparedStatement;
 import tech.ydb.jdbc.YdbQueryResult;
+import tech.ydb.jdbc.YdbResultPublisher;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.common.MappingSetters;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.context.YdbExecutor;
+import tech.ydb.jdbc.exception.ExceptionFactory;
+import tech.ydb.jdbc.exception.YdbSQLException;
 import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbPreparedQuery;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.params.BatchedQuery;
 import tech.ydb.jdbc.query.params.BulkUpsertQuery;
+import tech.ydb.jdbc.settings.YdbOperationProperties;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.query.BulkUpsertData;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.StructValue;
 import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
 
 public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPreparedStatement {
     private static final Logger LOGGER = Logger.getLogger(YdbPreparedStatementImpl.class.getName());
     private final YdbQuery query;
-    private final YdbPreparedQuery prepared;
+    private final YdbPrepareMode mode;
+    private final YdbBatchFlusher flusher;
+    // is replaced if the server rejects the query prepared with entries restored from the cache file
+    private YdbPreparedQuery prepared;
 
-    public YdbPreparedStatementImpl(YdbConnection connection, YdbQuery query, YdbPreparedQuery prepared, int rsType) {
+    public YdbPreparedStatementImpl(YdbConnection connection, YdbQuery query, YdbPreparedQuery prepared,
+            YdbPrepareMode mode, int rsType) {
         super(LOGGER, connection, rsType, true); // is poolable by default
 
         this.query = Objects.requireNonNull(query);
         this.prepared = Objects.requireNonNull(prepared);
+        this.mode = mode;
+
+        YdbOperationProperties props = connection.getCtx().getOperationProperties();
+        boolean isFlushable = (query.getType() == QueryType.BULK_QUERY && prepared instanceof BulkUpsertQuery)
+                || (query.getType() == QueryType.DATA_QUERY && prepared instanceof BatchedQuery);
+        this.flusher = props.getBatchAutoFlush() && isFlushable
+                ? new YdbBatchFlusher(props.getBatchMaxInFlight())
+                : null;
     }
 
     @Override
@@ -60,6 +97,38 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
     @Override
     public void addBatch() throws SQLException {
         prepared.addBatch();
+        if (flusher != null) {
+            flushIfFull();
+        }
+    }
+
+    private void flushIfFull() throws SQLException {
+        YdbOperationProperties props = getConnection().getCtx().getOperationProperties();
+        BatchedQuery batched = (BatchedQuery) prepared;
+        if (!batched.isBatchFull(props.getBatchMaxRows(), props.getBatchMaxBytes())) {
+            return;
+        }
+
+        // rows of explicit transaction are sent only by executeBatch
+        YdbExecutor executor = getConnection().getExecutor();
+        if (executor.isInsideTransaction() || (query.getType() == QueryType.DATA_QUERY && !executor.isAutoCommit())) {
+            return;
+        }
+
+        // after the first error all next rows are kept in the batch, the error is reported by executeBatch
+        if (!flusher.awaitSlot()) {
+            return;
+        }
+
+        int rowsCount = batched.batchSize();
+        if (prepared instanceof BulkUpsertQuery) {
+            BulkUpsertQuery bulk = (BulkUpsertQuery) prepared;
+            BulkUpsertData rows = bulk.detachBatchedBulk();
+            flusher.add(rowsCount, executor.executeBulkUpsertAsync(this, query, bulk.getTablePath(), rows));
+        } else {
+            Params prms = batched.detachBatchParams();
+            flusher.add(rowsCount, executor.executeDataQueryAsync(this, query, batched.getBatchText(prms), prms));
+        }
     }
 
     @Override
@@ -80,6 +149,11 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
     @Override
     public void close() throws SQLException {
         clearParameters();
+        if (flusher != null) {
+            // requests sent in background are completed anyway, but the statement must not outlive them
+            flusher.awaitAll();
+            flusher.reset();
+        }
         super.close();
     }
 
@@ -87,35 +161,176 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
     public int[] executeBatch() throws SQLException {
         cleanState();
 
+        if (flusher == null || flusher.sentRows() == 0) {
+            return executeBufferedBatch();
+        }
+
+        int[] sent = flusher.awaitAll();
+        Status error = flusher.firstError();
+        flusher.reset();
+
+        int bufferedCount = prepared.batchSize();
+        if (error != null) {
+            clearBatch();
+            int[] results = concat(sent, bufferedCount);
+            getValidator().addStatusIssues(error);
+            String msg = "Cannot execute '" + query.getType() + " >>\n" + query.getPreparedYql() + "' with " + error;
+            SQLException ex = ExceptionFactory.createException(msg, new UnexpectedResultException("Unexpected status",
+                    error));
+            throw new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), results, ex);
+        }
+
+        try {
+            int[] buffered = executeBufferedBatch();
+            int[] results = concat(sent, buffered.length);
+            System.arraycopy(buffered, 0, results, sent.length, buffered.length);
+            return results;
+        } catch (BatchUpdateException ex) {
+            int[] counts = ex.getUpdateCounts();
+            int[] results = concat(sent, counts.length);
+            System.arraycopy(counts, 0, results, sent.length, counts.length);
+            Throwable cause = ex.getCause();
+            throw new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), results, cause);
+        } catch (SQLException ex) {
+            int[] results = concat(sent, bufferedCount);
+            throw new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), results, ex);
+        }
+    }
+
+    /**
+     * Appends the given count of failed results to the results of sent rows
+     */
+    private static int[] concat(int[] sent, int count) {
+        int[] results = Arrays.copyOf(sent, sent.length + count);
+        Arrays.fill(results, sent.length, results.length, EXECUTE_FAILED);
+        return results;
+    }
+
+    private int[] executeBufferedBatch() throws SQLException {
+        YdbPreparedQuery executed = prepared;
+        boolean isInsideTx = getConnection().getExecutor().isInsideTransaction();
+        try {
+            return executeBatchRows();
+        } catch (SQLException ex) {
+            if (!reprepare(ex, isInsideTx, null)) {
+                throw ex;
+            }
+        } finally {
+            executed.clearBatch();
+        }
+
+        try {
+            return executeBatchRows();
+        } finally {
+            clearBatch();
+        }
+    }
+
+    private int[] executeBatchRows() throws SQLException {
         int[] results = new int[prepared.batchSize()];
         if (results.length == 0) {
             return results;
         }
 
-        try {
-            if (query.getType() == QueryType.BULK_QUERY && (prepared instanceof BulkUpsertQuery)) {
-                BulkUpsertQuery bulk = (BulkUpsertQuery) prepared;
-                YdbQueryResult newState = executeBulkUpsert(query, bulk.getTablePath(), bulk.getBatchedBulk());
+        YdbOperationProperties props = getConnection().getCtx().getOperationProperties();
+        int maxRows = props.getBatchMaxRows();
+        long maxBytes = props.getBatchMaxBytes();
+
+        if (query.getType() == QueryType.BULK_QUERY && (prepared instanceof BulkUpsertQuery)) {
+            BulkUpsertQuery bulk = (BulkUpsertQuery) prepared;
+            int[][] partitions = bulk.groupBatchByPartitions();
+            if (partitions != null) {
+                return executeBulkUpsertChunks(bulk, partitions, maxRows, maxBytes, results);
+            }
+            int[] chunkEnds = bulk.splitBatch(maxRows, maxBytes);
+            if (chunkEnds.length <= 1) {
+                updateState(executeBulkUpsert(query, bulk.getTablePath(), bulk.getBatchedBulk()));
+            } else {
+                return executeBulkUpsertChunks(bulk, chunkEnds, results);
+            }
+        } else {
+            List<Params> prms = splitBatchParams(maxRows, maxBytes);
+            if (prms.size() == 1) {
+                Params prm = prms.get(0);
+                YdbQueryResult newState = executeDataQuery(query, prepared.getBatchText(prm), prm);
                 updateState(newState);
             } else {
-                List<Params> prms = prepared.getBatchParams();
-                if (prms.size() == 1) {
-                    Params prm = prms.get(0);
-                    YdbQueryResult newState = executeDataQuery(query, prepared.getBatchText(prm), prm);
-                    updateState(newState);
-                } else {
-                    YdbQueryResult newState = executeBatchQuery(query, prepared::getBatchText, prms);
-                    updateState(newState);
-                }
+                YdbQueryResult newState = executeBatchQuery(query, prepared::getBatchText, prms);
+                updateState(newState);
             }
-        } finally {
-            clearBatch();
         }
 
         Arrays.fill(results, SUCCESS_NO_INFO);
         return results;
     }
 
+    private List<Params> splitBatchParams(int maxRows, long maxBytes) throws SQLException {
+        if (!(prepared instanceof BatchedQuery)) {
+            return prepared.getBatchParams();
+        }
+
+        // All chunks are executed in one transaction by executeBatchQuery, so the batch stays atomic
+        BatchedQuery batched = (BatchedQuery) prepared;
+        List<Params> chunks = new ArrayList<>();
+        int from = 0;
+        for (int to: batched.splitBatch(maxRows, maxBytes)) {
+            chunks.add(batched.getBatchParams(from, to));
+            from = to;
+        }
+        return chunks;
+    }
+
+    private int[] executeBulkUpsertChunks(BulkUpsertQuery bulk, int[] chunkEnds, int[] results) throws SQLException {
+        List<Supplier<BulkUpsertData>> chunks = new ArrayList<>(chunkEnds.length);
+        List<Runnable> onChunkDone = new ArrayList<>(chunkEnds.length);
+        for (int idx = 0; idx < chunkEnds.length; idx++) {
+            int from = idx > 0 ? chunkEnds[idx - 1] : 0;
+            int to = chunkEnds[idx];
+            chunks.add(() -> bulk.getBatchedBulk(from, to));
+            onChunkDone.add(() -> Arrays.fill(results, from, to, SUCCESS_NO_INFO));
+        }
+        // without known partitions the same key may be in any chunk, so all chunks are sent sequentially in one lane
+        int[] lanes = new int[] {chunkEnds.length};
+        return executeBulkUpsertChunks(bulk, chunks, lanes, onChunkDone, results);
+    }
+
+    private int[] executeBulkUpsertChunks(BulkUpsertQuery bulk, int[][] partitions, int maxRows, long maxBytes,
+            int[] results) throws SQLException {
+        List<Supplier<BulkUpsertData>> chunks = new ArrayList<>();
+        List<Runnable> onChunkDone = new ArrayList<>();
+        // chunks of one partition are sent sequentially, so rows with the same key are written in the batch order
+        int[] lanes = new int[partitions.length];
+        for (int idx = 0; idx < partitions.length; idx++) {
+            int[] rows = partitions[idx];
+            int from = 0;
+            for (int to: bulk.splitBatch(rows, maxRows, maxBytes)) {
+                int chunkFrom = from;
+                chunks.add(() -> bulk.getBatchedBulk(rows, chunkFrom, to));
+                onChunkDone.add(() -> {
+                    for (int pos = chunkFrom; pos < to; pos++) {
+                        results[rows[pos]] = SUCCESS_NO_INFO;
+                    }
+                });
+                from = to;
+            }
+            lanes[idx] = chunks.size();
+        }
+        return executeBulkUpsertChunks(bulk, chunks, lanes, onChunkDone, results);
+    }
+
+    private int[] executeBulkUpsertChunks(BulkUpsertQuery bulk, List<Supplier<BulkUpsertData>> chunks, int[] lanes,
+            List<Runnable> onChunkDone, int[] results) throws SQLException {
+        // Bulk upserts are not transactional, every chunk is committed independently
+        Arrays.fill(results, EXECUTE_FAILED);
+        try {
+            String tablePath = bulk.getTablePath();
+            updateState(executeBulkUpsert(query, tablePath, chunks, lanes, idx -> onChunkDone.get(idx).run()));
+        } catch (SQLException ex) {
+            throw new BatchUpdateException(ex.getMessage(), ex.getSQLState(), ex.getErrorCode(), results, ex);
+        }
+        return results;
+    }
+
     @Override
     public YdbResultSet executeQuery() throws SQLException {
         if (!execute()) {
@@ -137,8 +352,24 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
         cleanState();
         clearBatch();
 
-        YdbQueryResult newState = null;
         Params prms = prepared.getCurrentParams();
+        boolean isInsideTx = getConnection().getExecutor().isInsideTransaction();
+        YdbQueryResult newState;
+        try {
+            newState = executeCurrent(prms);
+        } catch (SQLException ex) {
+            if (!reprepare(ex, isInsideTx, prms)) {
+                throw ex;
+            }
+            newState = executeCurrent(prepared.getCurrentParams());
+        }
+        prepared.clearParameters();
+
+        return updateState(newState);
+    }
+
+    private YdbQueryResult executeCurrent(Params prms) throws SQLException {
+        YdbQueryResult newState = null;
         switch (query.getType()) {
             case DATA_QUERY:
                 newState = executeDataQuery(query, prepared.getQueryText(prms), prms);
@@ -165,16 +396,24 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
             default:
                 throw new IllegalStateException("Internal error. Unsupported query type " + query.getType());
         }
-        prepared.clearParameters();
-
-        return updateState(newState);
+        return newState;
     }
 
     @Override
     public YdbResultSet executeScanQuery() throws SQLException {
         cleanState();
         Params prms = prepared.getCurrentParams();
-        YdbQueryResult result = executeScanQuery(query, prepared.getQueryText(prms), prms);
+        boolean isInsideTx = getConnection().getExecutor().isInsideTransaction();
+        YdbQueryResult result;
+        try {
+            result = executeScanQuery(query, prepared.getQueryText(prms), prms);
+        } catch (SQLException ex) {
+            if (!reprepare(ex, isInsideTx, prms)) {
+                throw ex;
+            }
+            Params rebound = prepared.getCurrentParams();
+            result = executeScanQuery(query, prepared.getQueryText(rebound), rebound);
+        }
         prepared.clearParameters();
         updateState(result);
         return result.getCurrentResultSet();
@@ -188,6 +427,123 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
         return getResultSet();
     }
 
+    /**
+     * Prepares the query again if the server rejected the query prepared with entries restored from the cache file.
+     * Rows of the batch and current parameters of the failed execution are bound to the new prepared query, so the
+     * execution can be repeated once
+     *
+     * @param ex error of the execution
+     * @param isInsideTx true if the execution was started inside the transaction
+     * @param current current parameters of the failed execution or {@code null}
+     * @return true if the query is prepared again and the execution must be repeated
+     */
+    private boolean reprepare(SQLException ex, boolean isInsideTx, Params current) throws SQLException {
+        Throwable cause = ex instanceof BatchUpdateException ? ex.getCause() : ex;
+        YdbContext ctx = getConnection().getCtx();
+        // the failed query aborts the transaction, so it cannot be repeated inside of it
+        if (!(cause instanceof YdbSQLException) || !ctx.invalidateRestoredQuery(query)
+                || isInsideTx || getConnection().getExecutor().isInsideTransaction()) {
+            return false;
+        }
+
+        try {
+            YdbPreparedQuery fresh = ctx.prepareYdbQuery(query, mode);
+            if (fresh.getClass() != prepared.getClass()) {
+                return false;
+            }
+
+            rebind(ctx.getTypes(), prepared, fresh, current);
+            LOGGER.log(Level.FINE, "Query with restored cache entries is rejected, execute it once more", ex);
+            prepared = fresh;
+            return true;
+        } catch (SQLException | RuntimeException reprepareEx) {
+            ex.addSuppressed(reprepareEx);
+            return false;
+        }
+    }
+
+    /**
+     * Binds rows of the batch and current parameters of the source query to the target query
+     *
+     * @param types types of driver
+     * @param source query with the collected batch
+     * @param target new prepared query of the same class
+     * @param current current parameters of the source query or {@code null}
+     * @throws SQLException if parameters cannot be bound to the target query
+     */
+    static void rebind(YdbTypes types, YdbPreparedQuery source, YdbPreparedQuery target, Params current)
+            throws SQLException {
+        boolean isBatched = target instanceof BatchedQuery;
+        for (Params prms: source.getBatchParams()) {
+            for (Map<String, Value<?>> row: rows(prms, isBatched)) {
+                bindRow(types, target, row);
+                target.addBatch();
+            }
+        }
+        if (current != null) {
+            for (Map<String, Value<?>> row: rows(current, isBatched)) {
+                bindRow(types, target, row);
+            }
+        }
+    }
+
+    /**
+     * Splits parameters into rows, parameters of the batched query keep rows as a list of structs
+     */
+    private static List<Map<String, Value<?>>> rows(Params prms, boolean isBatched) {
+        Map<String, Value<?>> values = prms.values();
+        if (isBatched && values.size() == 1) {
+            Value<?> list = values.values().iterator().next();
+            if (list.getType().getKind() == Type.Kind.LIST) {
+                ListValue listValue = list.asList();
+                List<Map<String, Value<?>>> rows = new ArrayList<>(listValue.size());
+                for (int idx = 0; idx < listValue.size(); idx++) {
+                    StructValue struct = listValue.get(idx).asStruct();
+                    Map<String, Value<?>> row = new HashMap<>();
+                    for (int member = 0; member < struct.getMembersCount(); member++) {
+                        row.put(struct.getType().getMemberName(member), struct.getMemberValue(member));
+                    }
+                    rows.add(row);
+                }
+                return rows;
+            }
+        }
+        return Collections.singletonList(values);
+    }
+
+    private static void bindRow(YdbTypes types, YdbPreparedQuery target, Map<String, Value<?>> row)
+            throws SQLException {
+        for (Map.Entry<String, Value<?>> entry: row.entrySet()) {
+            String name = entry.getKey();
+            if (name.startsWith(YdbConst.VARIABLE_PARAMETER_PREFIX)) {
+                name = name.substring(YdbConst.VARIABLE_PARAMETER_PREFIX.length());
+            }
+
+            Value<?> value = entry.getValue();
+            if (value.getType().getKind() == Type.Kind.OPTIONAL) {
+                OptionalValue optional = value.asOptional();
+                if (!optional.isPresent()) {
+                    target.setParam(name, null, types.toSqlType(optional.getType().getItemType()));
+                    continue;
+                }
+                value = optional.get();
+            }
+
+            int sqlType = types.toSqlType(value.getType());
+            try {
+                target.setParam(name, value, sqlType);
+            } catch (SQLException ex) {
+                // type of parameter is changed, the value is converted as the JDBC object
+                ValueProtos.TypedValue typed = ValueProtos.TypedValue.newBuilder()
+                        .setType(value.getType().toPb())
+                        .setValue(value.toPb())
+                        .build();
+                Object obj = types.find(value.getType()).getters().readObject(ProtoValueReaders.forTypedValue(typed));
+                target.setParam(name, obj, sqlType);
+            }
+        }
+    }
+
     private void setImplReader(String name, Reader reader, long length) throws SQLException {
         prepared.setParam(name, MappingSetters.CharStream.fromReader(reader, length), Types.VARCHAR);
     }
@@ -237,37 +593,37 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
 
     @Override
     public void setBoolean(String parameterName, boolean x) throws SQLException {
-        prepared.setParam(parameterName, x, Types.BOOLEAN);
+        prepared.setBoolean(parameterName, x);
     }
 
     @Override
     public void setByte(String parameterName, byte x) throws SQLException {
-        prepared.setParam(parameterName, x, Types.TINYINT);
+        prepared.setByte(parameterName, x);
     }
 
     @Override
     public void setShort(String parameterName, short x) throws SQLException {
-        prepared.setParam(parameterName, x, Types.SMALLINT);
+        prepared.setShort(parameterName, x);
     }
 
     @Override
     public void setInt(String parameterName, int x) throws SQLException {
-        prepared.setParam(parameterName, x, Types.INTEGER);
+        prepared.setInt(parameterName, x);
     }
 
     @Override
     public void setLong(String parameterName, long x) throws SQLException {
-        prepared.setParam(parameterName, x, Types.BIGINT);
+        prepared.setLong(parameterName, x);
     }
 
     @Override
     public void setFloat(String parameterName, float x) throws SQLException {
-        prepared.setParam(parameterName, x, Types.FLOAT);
+        prepared.setFloat(parameterName, x);
     }
 
     @Override
     public void setDouble(String parameterName, double x) throws SQLException {
-        prepared.setParam(parameterName, x, Types.DOUBLE);
+        prepared.setDouble(parameterName, x);
     }
 
     @Override
@@ -426,37 +782,37 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
 
     @Override
     public void setBoolean(int parameterIndex, boolean x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.BOOLEAN);
+        prepared.setBoolean(parameterIndex, x);
     }
 
     @Override
     public void setByte(int parameterIndex, byte x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.TINYINT);
+        prepared.setByte(parameterIndex, x);
     }
 
     @Override
     public void setShort(int parameterIndex, short x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.SMALLINT);
+        prepared.setShort(parameterIndex, x);
     }
 
     @Override
     public void setInt(int parameterIndex, int x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.INTEGER);
+        prepared.setInt(parameterIndex, x);
     }
 
     @Override
     public void setLong(int parameterIndex, long x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.BIGINT);
+        prepared.setLong(parameterIndex, x);
     }
 
     @Override
     public void setFloat(int parameterIndex, float x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.FLOAT);
+        prepared.setFloat(parameterIndex, x);
     }
 
     @Override
     public void setDouble(int parameterIndex, double x) throws SQLException {
-        prepared.setParam(parameterIndex, x, Types.DOUBLE);
+        prepared.setDouble(parameterIndex, x);
     }
 
     @Override
@@ -685,6 +1041,11 @@ public class YdbPreparedStatementImpl extends YdbStatementBase implements YdbPre
         throw new SQLException(YdbConst.CUSTOM_SQL_UNSUPPORTED);
     }
 
+    @Override
+    public YdbResultPublisher executeQueryPublisher(String sql) throws SQLException {
+        throw new SQLException(YdbConst.CUSTOM_SQL_UNSUPPORTED);
+    }
+
     @Override
     public boolean execute(String sql) throws SQLException {
         throw new SQLException(YdbConst.CUSTOM_SQL_UNSUPPORTED);
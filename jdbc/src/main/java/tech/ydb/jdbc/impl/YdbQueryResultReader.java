@@ -3,29 +3,37 @@ package tech.ydb.jdbc.impl;
 
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import tech.ydb.core.Issue;
 import tech.ydb.core.Status;
 import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
 import tech.ydb.core.grpc.GrpcFlowControl;
 import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.jdbc.YdbResultPublisher;
 import tech.ydb.jdbc.YdbResultSet;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.common.ColumnInfo;
 import tech.ydb.jdbc.common.YdbTypes;
 import tech.ydb.jdbc.context.YdbValidator;
+import tech.ydb.jdbc.exception.ExceptionFactory;
+import tech.ydb.jdbc.query.QueryStatement;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.query.QueryStream;
 import tech.ydb.query.result.QueryResultPart;
@@ -38,36 +46,105 @@ import tech.ydb.table.result.ResultSetReader;
  */
 public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlowControl {
     private static final Logger LOGGER = Logger.getLogger(YdbQueryResultReader.class.getName());
+    private static final long CLOSE_GRACE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
 
     private final YdbTypes types;
     private final YdbStatement statement;
     private final int fetchSize;
+    private final long fetchMaxBytes;
+    private final int partsInFlight;
+    private final int maxRows;
+    private final boolean isSingleResult;
+    private final boolean isWriting;
+    private final Supplier<YdbResultSpill> spills;
 
     private final LazyRs[] rs;
     private final ReentrantLock lock = new ReentrantLock();
     private final Condition isReady = lock.newCondition();
 
+    // parallel scan reads one result set by several calls, all of them share the limits of loaded parts
+    private final List<CallCtrl> calls = new CopyOnWriteArrayList<>();
+    private final AtomicInteger bufferedRows = new AtomicInteger(0);
+    private final AtomicLong bufferedBytes = new AtomicLong(0);
+
     private int lastRsIndex = 0;
-    private CallCtrl callFlow = null;
-    private Runnable canceller = null;
+    private volatile Runnable canceller = null;
+    private volatile boolean isCancelledByLimit = false;
 
     private volatile boolean isStreamCompleted = false;
+    private volatile Throwable streamError = null;
 
     public YdbQueryResultReader(YdbTypes types, YdbStatement statement, YdbQuery query) {
+        this(types, statement, query, 1);
+    }
+
+    /**
+     * @param types types of driver
+     * @param statement statement of the query
+     * @param query executed query
+     * @param partsInFlight count of parts which are requested from the stream ahead of the consumer
+     */
+    public YdbQueryResultReader(YdbTypes types, YdbStatement statement, YdbQuery query, int partsInFlight) {
+        this(types, statement, query, partsInFlight, () -> null);
+    }
+
+    /**
+     * @param types types of driver
+     * @param statement statement of the query
+     * @param query executed query
+     * @param partsInFlight count of parts which are requested from the stream ahead of the consumer
+     * @param spills factory of storages for the result sets which are buffered without limits, the factory may return
+     * {@code null} if spilling is disabled
+     */
+    public YdbQueryResultReader(YdbTypes types, YdbStatement statement, YdbQuery query, int partsInFlight,
+            Supplier<YdbResultSpill> spills) {
         super(query, query.getStatements().size());
         this.types = types;
         this.statement = statement;
         this.fetchSize = statement.getFetchSize();
+        this.fetchMaxBytes = statement.getFetchMaxBytes();
+        this.partsInFlight = Math.max(1, partsInFlight);
+        this.maxRows = statement.getMaxRows();
+        this.isWriting = query.isWriting();
+        this.spills = spills;
+
+        int resultsCount = 0;
+        for (QueryStatement st: query.getStatements()) {
+            resultsCount += st.hasResults() ? 1 : 0;
+        }
+        this.isSingleResult = resultsCount == 1;
         this.rs = new LazyRs[query.getStatements().size()];
         for (int idx = 0; idx < rs.length; idx += 1) {
             rs[idx] = new LazyRs();
         }
     }
 
-    private void waitForUpdates() throws SQLException {
+    /**
+     * Waits until the condition becomes true. Loading thread changes the state before the signal under the same
+     * lock, so the condition checked under the lock cannot miss the update
+     *
+     * @param condition condition to wait
+     * @param timeoutNanos max time of waiting, zero or negative value means waiting without limit
+     * @return the last value of the condition
+     */
+    private boolean awaitUpdates(BooleanSupplier condition, long timeoutNanos) throws SQLException {
+        if (condition.getAsBoolean()) {
+            return true;
+        }
+
         lock.lock();
         try {
-            isReady.await(100, TimeUnit.MILLISECONDS);
+            long nanos = timeoutNanos;
+            while (!condition.getAsBoolean()) {
+                if (timeoutNanos <= 0) {
+                    isReady.await();
+                } else if (nanos > 0) {
+                    nanos = isReady.awaitNanos(nanos);
+                } else {
+                    return false;
+                }
+            }
+            return true;
         } catch (InterruptedException ex) {
             throw new SQLException(ex);
         } finally {
@@ -88,52 +165,116 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
     public void close() throws SQLException {
         super.close();
 
-        if (!isStreamCompleted) {
-            waitForUpdates();
-            if (!isStreamCompleted && canceller != null) {
-                canceller.run();
+        // give the stream a short time to complete before the cancellation
+        if (!awaitUpdates(() -> isStreamCompleted, CLOSE_GRACE_NANOS) && canceller != null) {
+            canceller.run();
+            // wait of completing
+            awaitUpdates(() -> isStreamCompleted, 0);
+        }
+    }
 
-                // wait of completing
-                while (!isStreamCompleted) {
-                    waitForUpdates();
-                }
-            }
+    /**
+     * Cancels the stream of the query if it is still active. Stream is completed with the status CANCELLED
+     */
+    public void cancel() {
+        Runnable streamCanceller = canceller;
+        if (!isStreamCompleted && streamCanceller != null) {
+            streamCanceller.run();
         }
     }
 
+    /**
+     * Checks if the stream can be cancelled when the result set has received maxRows rows. The cancellation must not
+     * affect the changes of the query or the transaction
+     *
+     * @return true if the stream can be cancelled
+     */
+    protected boolean isCancellableOnMaxRows() {
+        return !isWriting;
+    }
+
+    private Status completionStatus(Status status) {
+        if (isCancelledByLimit && status != null && (status.getCode() == StatusCode.CANCELLED
+                || status.getCode() == StatusCode.CLIENT_CANCELLED)) {
+            return Status.SUCCESS;
+        }
+        return status;
+    }
+
     public boolean onRead(int index, ResultSetReader rsr) {
         int count = rsr.getRowCount();
-        if (index < 0 || index >= rs.length || rs[index].isClosed) {
+        if (index < 0 || index >= rs.length || rs[index].isClosed || rs[index].isLimitReached()) {
             LOGGER.log(Level.FINEST, "Skipped {0} rows", count);
             releaseWaiters();
-            return fetchSize > 0;
+            return fetchSize > 0 || fetchMaxBytes > 0;
         }
 
         for (int prev = lastRsIndex; prev < index; prev += 1) {
             rs[prev].isCompleted = true;
+            rs[prev].notifyPublisher();
         }
         lastRsIndex = index;
 
         LOGGER.log(Level.FINEST, "Loaded {0} rows", count);
-        callFlow.loadRows(count);
-        rs[index].queue.offer(rsr);
+        loadPart(rsr);
+        rs[index].loadedRows += count;
+        rs[index].queue.offer(rs[index].store(rsr));
+        rs[index].notifyPublisher();
         releaseWaiters();
 
-        return fetchSize > 0 && callFlow.loaded.get() > fetchSize;
+        // all rows of the statement limit are loaded, the rest of the stream is not needed
+        if (rs[index].isLimitReached() && isSingleResult && !isCancelledByLimit && isCancellableOnMaxRows()) {
+            LOGGER.log(Level.FINE, "Cancel stream after {0} rows because of maxRows", rs[index].loadedRows);
+            isCancelledByLimit = true;
+            cancel();
+        }
+
+        return isFull();
+    }
+
+    private boolean isFull() {
+        return (fetchSize > 0 && bufferedRows.get() >= fetchSize)
+                || (fetchMaxBytes > 0 && bufferedBytes.get() >= fetchMaxBytes);
+    }
+
+    private void loadPart(ResultSetReader part) {
+        bufferedRows.addAndGet(part.getRowCount());
+        if (fetchMaxBytes > 0) {
+            bufferedBytes.addAndGet(estimateBytes(part));
+        }
+    }
+
+    private void processPart(ResultSetReader part) {
+        bufferedRows.addAndGet(-part.getRowCount());
+        if (fetchMaxBytes > 0) {
+            bufferedBytes.addAndGet(-estimateBytes(part));
+        }
+        for (CallCtrl call: calls) {
+            call.requestMore();
+        }
     }
 
     public void onClose(Status status, Throwable th) {
+        if (th != null) {
+            streamError = th;
+        } else if (status != null && !status.isSuccess()) {
+            streamError = ExceptionFactory.createException("Cannot read result set with " + status,
+                    new UnexpectedResultException("Unexpected status", status));
+        }
+
         isStreamCompleted = true;
         for (int idx = 0; idx < rs.length; idx += 1) {
             rs[idx].isCompleted = true;
+            rs[idx].notifyPublisher();
         }
         releaseWaiters();
     }
 
     @Override
     public Call newCall(IntConsumer req) {
-        callFlow = new CallCtrl(req);
-        return callFlow;
+        CallCtrl call = new CallCtrl(req);
+        calls.add(call);
+        return call;
     }
 
     @Override
@@ -143,11 +284,10 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
         }
 
         YdbResultSet ready = rs[index].getReady();
-
-        while (ready == null && !isStreamCompleted) {
-            ready = rs[index].getReady();
+        if (ready == null) {
+            // result set without parts, wait for the end of the stream
+            awaitUpdates(() -> isStreamCompleted, 0);
         }
-
         return ready;
     }
 
@@ -168,7 +308,8 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
             if (onRead(0, rsr)) {
                 resultIsReady.complete(Status.SUCCESS);
             }
-        }).whenComplete((status, th) -> {
+        }).whenComplete((result, th) -> {
+            Status status = completionStatus(result);
             onClose(status, th);
 
             if (status != null) {
@@ -201,7 +342,7 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
         }).whenComplete((result, th) -> {
             Status status = null;
             if (result != null) {
-                status = result.getStatus();
+                status = completionStatus(result.getStatus());
                 if (result.isSuccess() && result.getValue().hasStats()) {
                     stats.accept(result.getValue().getStats());
                 }
@@ -218,10 +359,38 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
         return resultIsReady;
     }
 
+    /**
+     * Estimates the size of the part by the serialized sizes of the first, middle and last rows. The row position of
+     * the reader is reset to the start
+     *
+     * @param part part of the result set
+     * @return estimated size in bytes
+     */
+    static long estimateBytes(ResultSetReader part) {
+        int rows = part.getRowCount();
+        if (rows == 0) {
+            return 0;
+        }
+
+        int[] samples = rows < 3 ? new int[] {0, rows - 1} : new int[] {0, rows / 2, rows - 1};
+        long sampled = 0;
+        for (int row: samples) {
+            part.setRowIndex(row);
+            for (int column = 0; column < part.getColumnCount(); column++) {
+                sampled += part.getColumn(column).getValue().toPb().getSerializedSize();
+            }
+        }
+        part.setRowIndex(0);
+        return sampled * rows / samples.length;
+    }
+
+    /**
+     * Flow control of the stream. Keeps up to partsInFlight requested messages while the loaded and not processed
+     * parts of all calls are within the limits of rows count and of estimated size
+     */
     private class CallCtrl implements GrpcFlowControl.Call {
         private final IntConsumer request;
-        private final AtomicInteger loaded = new AtomicInteger(0);
-        private final AtomicBoolean isPaused = new AtomicBoolean(false);
+        private int requested = 0;
 
         CallCtrl(IntConsumer request) {
             this.request = request;
@@ -229,36 +398,120 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
 
         @Override
         public void onStart() {
-            request.accept(1);
+            synchronized (this) {
+                requested = partsInFlight;
+            }
+            request.accept(partsInFlight);
         }
 
         @Override
         public void onMessageRead() {
-            if (fetchSize <= 0 || loaded.get() < fetchSize) {
-                request.accept(1);
-            } else {
-                isPaused.set(true);
+            synchronized (this) {
+                requested--;
+            }
+            requestMore();
+        }
+
+        private void requestMore() {
+            int count;
+            synchronized (this) {
+                if (requested >= partsInFlight || isFull()) {
+                    return;
+                }
+                count = partsInFlight - requested;
+                requested = partsInFlight;
             }
+            request.accept(count);
         }
+    }
 
-        public void loadRows(int rows) {
-            loaded.addAndGet(rows);
+    private class StreamPublisher extends YdbResultPartsPublisher {
+        private final LazyRs lazyRs;
+
+        StreamPublisher(LazyRs lazyRs) {
+            this.lazyRs = lazyRs;
         }
 
-        public void processRows(int rows) {
-            if (loaded.addAndGet(-rows) < fetchSize) {
-                if (isPaused.compareAndSet(true, false)) {
-                    request.accept(1);
-                }
+        @Override
+        protected ResultSetReader poll() {
+            ResultSetReader next = lazyRs.queue.poll();
+            if (next != null) {
+                processPart(next);
             }
+            return next;
+        }
+
+        @Override
+        protected boolean hasLoadedParts() {
+            return !lazyRs.queue.isEmpty();
+        }
+
+        @Override
+        protected boolean isCompleted() {
+            return lazyRs.isCompleted;
+        }
+
+        @Override
+        protected Throwable completionError() {
+            return streamError;
+        }
+
+        @Override
+        protected void cancelLoading() {
+            lazyRs.isClosed = true;
+            lazyRs.isCompleted = true;
+            ResultSetReader next = lazyRs.queue.poll();
+            while (next != null) {
+                processPart(next);
+                next = lazyRs.queue.poll();
+            }
+
+            cancel();
         }
     }
 
     private class LazyRs {
         private final ConcurrentLinkedQueue<ResultSetReader> queue = new ConcurrentLinkedQueue<>();
         private YdbResultSet rs = null;
-        private boolean isClosed = false;
-        private boolean isCompleted = false;
+        private volatile boolean isClosed = false;
+        private volatile boolean isCompleted = false;
+        private volatile StreamPublisher publisher = null;
+        private long loadedRows = 0;
+        // guarded by this
+        private YdbResultSpill spill = null;
+
+        boolean isLimitReached() {
+            return maxRows > 0 && loadedRows >= maxRows;
+        }
+
+        void notifyPublisher() {
+            StreamPublisher current = publisher;
+            if (current != null) {
+                current.drain();
+            }
+        }
+
+        synchronized StreamPublisher getPublisher() {
+            if (publisher == null) {
+                publisher = new StreamPublisher(this);
+            }
+            return publisher;
+        }
+
+        synchronized ResultSetReader store(ResultSetReader part) {
+            // only the buffer without limits can keep the whole result set
+            if (isClosed || fetchSize > 0 || fetchMaxBytes > 0) {
+                return part;
+            }
+            if (spill == null) {
+                spill = spills.get();
+            }
+            return spill != null ? spill.add(part) : part;
+        }
+
+        synchronized YdbResultSpill getSpill() {
+            return spill;
+        }
 
         void close() throws SQLException {
             if (rs != null) {
@@ -266,6 +519,11 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
             }
             isClosed = true;
             isCompleted = true;
+
+            YdbResultSpill current = getSpill();
+            if (current != null) {
+                current.close();
+            }
         }
 
         YdbResultSet getReady() throws SQLException {
@@ -273,12 +531,10 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
                 return rs;
             }
 
-            while (!isCompleted && queue.isEmpty()) {
-                waitForUpdates();
-            }
+            awaitUpdates(() -> isCompleted || !queue.isEmpty(), 0);
 
             if (isCompleted && fetchSize <= 0) { // can use in memory result set
-                rs = new YdbResultSetMemory(types, statement, queue.toArray(new ResultSetReader[0]));
+                rs = new YdbResultSetMemory(types, statement, getSpill(), queue.toArray(new ResultSetReader[0]));
                 return rs;
             }
 
@@ -295,25 +551,36 @@ public class YdbQueryResultReader extends YdbQueryResultBase implements GrpcFlow
             rs = new YdbResultSetForwardOnly(statement, columns) {
                 @Override
                 protected boolean hasNext() throws SQLException {
-                    while (!isCompleted && queue.isEmpty()) {
-                        waitForUpdates();
-
+                    while (awaitUpdates(() -> isCompleted || !queue.isEmpty(), 0) && !queue.isEmpty()) {
                         ResultSetReader next = queue.peek();
-                        if (next != null && next.getRowCount() == 0) {
-                            queue.remove();
+                        if (next.getRowCount() > 0) {
+                            return true;
                         }
+                        queue.remove();
                     }
-
-                    return !queue.isEmpty();
+                    return false;
                 }
 
                 @Override
                 protected ResultSetReader readNext() throws SQLException {
                     ResultSetReader next  = queue.poll();
                     LOGGER.log(Level.FINEST, "Processed {0} rows", next.getRowCount());
-                    callFlow.processRows(next.getRowCount());
+                    processPart(next);
                     return next;
                 }
+
+                @Override
+                public <T> T unwrap(Class<T> iface) throws SQLException {
+                    if (iface == YdbResultPublisher.class) {
+                        return iface.cast(getPublisher());
+                    }
+                    return super.unwrap(iface);
+                }
+
+                @Override
+                public boolean isWrapperFor(Class<?> iface) {
+                    return iface == YdbResultPublisher.class || super.isWrapperFor(iface);
+                }
             };
             return rs;
         }
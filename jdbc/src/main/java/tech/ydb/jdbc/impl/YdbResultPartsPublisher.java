@@ -0,0 +1,132 @@
+package tech.ydb.jdbc.impl;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tech.ydb.jdbc.YdbResultPublisher;
+import tech.ydb.table.result.ResultSetReader;
+
+/**
+ * Base publisher of the result set parts. Parts are delivered by the thread which requests them or by the thread
+ * which loads them, signals to the subscriber are serialized by the drain loop.
+ *
+ * @author Aleksandr Gorshenin
+ */
+abstract class YdbResultPartsPublisher implements YdbResultPublisher, YdbResultPublisher.Subscription {
+    private final AtomicBoolean isSubscribed = new AtomicBoolean(false);
+    private final AtomicLong requested = new AtomicLong(0);
+    private final AtomicInteger wip = new AtomicInteger(0);
+
+    private volatile Subscriber subscriber = null;
+    private volatile boolean isTerminated = false;
+    private volatile Throwable requestError = null;
+
+    /**
+     * @return next loaded part or null if there are no loaded parts
+     */
+    protected abstract ResultSetReader poll();
+
+    protected abstract boolean hasLoadedParts();
+
+    /**
+     * @return true if all parts are loaded
+     */
+    protected abstract boolean isCompleted();
+
+    /**
+     * @return error of the loading or null if the loading was successful
+     */
+    protected abstract Throwable completionError();
+
+    protected abstract void cancelLoading();
+
+    @Override
+    public void subscribe(Subscriber newSubscriber) {
+        if (!isSubscribed.compareAndSet(false, true)) {
+            newSubscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long count) {
+                    // nothing
+                }
+
+                @Override
+                public void cancel() {
+                    // nothing
+                }
+            });
+            newSubscriber.onError(new IllegalStateException("Publisher supports only one subscriber"));
+            return;
+        }
+
+        subscriber = newSubscriber;
+        newSubscriber.onSubscribe(this);
+        drain();
+    }
+
+    @Override
+    public void request(long count) {
+        if (count <= 0) {
+            requestError = new IllegalArgumentException("Requested count must be positive, got " + count);
+        } else {
+            requested.getAndUpdate(current -> current + count < 0 ? Long.MAX_VALUE : current + count);
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        if (!isTerminated) {
+            isTerminated = true;
+            cancelLoading();
+        }
+    }
+
+    /**
+     * Delivers loaded parts to the subscriber. Must be called after every update of the loaded parts
+     */
+    void drain() {
+        if (subscriber == null || wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            while (!isTerminated) {
+                if (requestError != null) {
+                    cancelLoading();
+                    terminate(requestError);
+                    break;
+                }
+
+                // completion flag must be read before the check of the parts
+                boolean completed = isCompleted();
+                boolean hasParts = hasLoadedParts();
+                if (completed && !hasParts) {
+                    terminate(completionError());
+                    break;
+                }
+
+                if (!hasParts || requested.get() == 0) {
+                    break;
+                }
+
+                ResultSetReader part = poll();
+                if (requested.get() != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                subscriber.onNext(part);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void terminate(Throwable error) {
+        isTerminated = true;
+        if (error != null) {
+            subscriber.onError(error);
+        } else {
+            subscriber.onComplete();
+        }
+    }
+}
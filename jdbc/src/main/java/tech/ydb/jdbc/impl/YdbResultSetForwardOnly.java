@@ -15,14 +15,18 @@ import tech.ydb.table.result.ValueReader;
  * @author Aleksandr Gorshenin
  */
 public abstract class YdbResultSetForwardOnly extends YdbResultSetBase {
+    private final int maxRows;
+
     private ResultSetReader current = null;
     private boolean isClosed = false;
+    private long readRows = 0;
 
     private int currentIndex = 0;
     private int rowIndex = 0;
 
     public YdbResultSetForwardOnly(YdbStatement statement, ColumnInfo[] columns) {
         super(statement, columns);
+        this.maxRows = statement.getMaxRows();
     }
 
     protected abstract boolean hasNext() throws SQLException;
@@ -52,19 +56,24 @@ public abstract class YdbResultSetForwardOnly extends YdbResultSetBase {
             return false;
         }
 
-        if (current != null && current.next()) {
+        // rows over the limit of statement are silently dropped
+        boolean isLimitReached = maxRows > 0 && readRows >= maxRows;
+
+        if (!isLimitReached && current != null && current.next()) {
             rowIndex++;
             currentIndex++;
+            readRows++;
             return true;
         }
 
-        while (hasNext()) {
+        while (!isLimitReached && hasNext()) {
             current = readNext();
             currentIndex = 0;
 
             if (current.next()) {
                 rowIndex++;
                 currentIndex++;
+                readRows++;
                 return true;
             }
         }
@@ -2,9 +2,12 @@ package tech.ydb.jdbc.impl;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.YdbResultPublisher;
 import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.common.ColumnInfo;
 import tech.ydb.jdbc.common.YdbTypes;
@@ -14,6 +17,7 @@ import tech.ydb.table.result.ValueReader;
 public class YdbResultSetMemory extends YdbResultSetBase {
     private final ResultSetReader[] rs;
     private final int totalCount;
+    private final List<YdbResultSpill> spills;
 
     private int fetchDirection;
     private int globalRowIndex = 0; // before start
@@ -24,20 +28,41 @@ public class YdbResultSetMemory extends YdbResultSetBase {
     private boolean isClosed = false;
 
     public YdbResultSetMemory(YdbTypes types, YdbStatement statement, ResultSetReader... rs) {
+        this(types, statement, Collections.emptyList(), rs);
+    }
+
+    public YdbResultSetMemory(YdbTypes types, YdbStatement statement, YdbResultSpill spill, ResultSetReader... rs) {
+        this(types, statement, spill != null ? Collections.singletonList(spill) : Collections.emptyList(), rs);
+    }
+
+    /**
+     * @param types types of driver
+     * @param statement statement of the result set
+     * @param spills storages of spilled parts, they are closed with the result set
+     * @param rs parts of the result set
+     */
+    YdbResultSetMemory(YdbTypes types, YdbStatement statement, List<YdbResultSpill> spills, ResultSetReader[] rs) {
         super(statement, ColumnInfo.fromResultSetReader(types, Objects.requireNonNull(rs[0])));
         this.fetchDirection = statement.getFetchDirection();
         this.rs = rs;
+        this.spills = spills;
         int total = 0;
         for (int idx = 0; idx < rs.length; idx += 1) {
             total += rs[idx].getRowCount();
         }
-        this.totalCount = total;
+        // rows over the limit of statement are silently dropped
+        int maxRows = statement.getMaxRows();
+        this.totalCount = maxRows > 0 ? Math.min(total, maxRows) : total;
     }
 
     public ResultSetReader[] getResultSets() {
         return rs;
     }
 
+    List<YdbResultSpill> getSpills() {
+        return spills;
+    }
+
     @Override
     protected ValueReader getValue(int columnIndex) throws SQLException {
         if (!isRowIndexValid()) {
@@ -49,7 +74,7 @@ public class YdbResultSetMemory extends YdbResultSetBase {
     @Override
     public boolean next() {
         while (true) {
-            if (rsIndex >= rs.length) {
+            if (rsIndex >= rs.length || globalRowIndex >= totalCount) {
                 rsIndex = totalCount;
                 globalRowIndex = totalCount + 1;
                 rowIndex = 0;
@@ -71,6 +96,9 @@ public class YdbResultSetMemory extends YdbResultSetBase {
     @Override
     public void close() {
         isClosed = true;
+        for (YdbResultSpill spill: spills) {
+            spill.close();
+        }
     }
 
     @Override
@@ -215,7 +243,49 @@ public class YdbResultSetMemory extends YdbResultSetBase {
         rs[rsIndex].setRowIndex(rowIndex - 1);
     }
 
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface == YdbResultPublisher.class) {
+            return iface.cast(new MemoryPublisher());
+        }
+        return super.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface == YdbResultPublisher.class || super.isWrapperFor(iface);
+    }
+
     private boolean isRowIndexValid() {
         return rsIndex >= 0 && rsIndex < rs.length && globalRowIndex > 0 && globalRowIndex <= totalCount;
     }
+
+    private class MemoryPublisher extends YdbResultPartsPublisher {
+        private int nextPart = 0;
+
+        @Override
+        protected ResultSetReader poll() {
+            return rs[nextPart++];
+        }
+
+        @Override
+        protected boolean hasLoadedParts() {
+            return nextPart < rs.length;
+        }
+
+        @Override
+        protected boolean isCompleted() {
+            return true;
+        }
+
+        @Override
+        protected Throwable completionError() {
+            return null;
+        }
+
+        @Override
+        protected void cancelLoading() {
+            nextPart = rs.length;
+        }
+    }
 }
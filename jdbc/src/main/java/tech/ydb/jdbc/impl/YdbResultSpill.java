@@ -0,0 +1,257 @@
+package tech.ydb.jdbc.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tech.ydb.jdbc.settings.YdbOperationProperties;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.Type;
+
+/**
+ * Storage of result set parts with limited heap usage. Parts are kept in memory until their estimated size reaches
+ * the threshold, the next parts are written to the temporary file as serialized protobuf result sets and are read
+ * back by memory mapping on access. Only one spilled part is kept on heap at the same time, so the random access to
+ * the rows of result set is still available.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbResultSpill implements Closeable {
+    private static final Logger LOGGER = Logger.getLogger(YdbResultSpill.class.getName());
+
+    private final long thresholdBytes;
+    private final String directory;
+
+    private long memoryBytes = 0;
+    private FileChannel file = null;
+    private long fileSize = 0;
+    private SpilledPart loaded = null;
+    private boolean isClosed = false;
+
+    public YdbResultSpill(long thresholdBytes, String directory) {
+        this.thresholdBytes = thresholdBytes;
+        this.directory = directory;
+    }
+
+    /**
+     * Creates the storage by the properties of connection
+     *
+     * @param props properties of connection
+     * @return storage or {@code null} if spilling is disabled
+     */
+    public static YdbResultSpill of(YdbOperationProperties props) {
+        if (props.getSpillThresholdBytes() <= 0) {
+            return null;
+        }
+        return new YdbResultSpill(props.getSpillThresholdBytes(), props.getSpillDirectory());
+    }
+
+    public long fileSize() {
+        return fileSize;
+    }
+
+    /**
+     * Adds part to the storage
+     *
+     * @param part part of result set
+     * @return the same part if it is kept in memory or the reader of spilled part
+     */
+    public synchronized ResultSetReader add(ResultSetReader part) {
+        // parts which are received after closing are not needed anymore, the new file must not be created
+        if (isClosed || memoryBytes < thresholdBytes) {
+            memoryBytes += YdbQueryResultReader.estimateBytes(part);
+            return part;
+        }
+
+        try {
+            byte[] bytes = serialize(part).toByteArray();
+            FileChannel channel = openFile();
+            long offset = fileSize;
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+            fileSize += bytes.length;
+            return new SpilledPart(offset, bytes.length, part.getRowCount(), part.isTruncated());
+        } catch (IOException ex) {
+            LOGGER.log(Level.WARNING, "Cannot spill result set part, it is kept in memory", ex);
+            return part;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        isClosed = true;
+        loaded = null;
+        if (file != null) {
+            try {
+                file.close();
+            } catch (IOException ex) {
+                LOGGER.log(Level.WARNING, "Cannot close spill file", ex);
+            }
+            file = null;
+        }
+    }
+
+    private FileChannel openFile() throws IOException {
+        if (file == null) {
+            Path dir = directory != null ? Paths.get(directory) : Paths.get(System.getProperty("java.io.tmpdir"));
+            Path path = Files.createTempFile(dir, "ydb-jdbc-", ".spill");
+            file = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        }
+        return file;
+    }
+
+    static ValueProtos.ResultSet serialize(ResultSetReader part) {
+        ValueProtos.ResultSet.Builder builder = ValueProtos.ResultSet.newBuilder();
+        builder.setTruncated(part.isTruncated());
+        int columnsCount = part.getColumnCount();
+        for (int column = 0; column < columnsCount; column++) {
+            Type type = part.getColumnType(column);
+            builder.addColumns(ValueProtos.Column.newBuilder()
+                    .setName(part.getColumnName(column))
+                    .setType(type.toPb()));
+        }
+
+        for (int row = 0; row < part.getRowCount(); row++) {
+            part.setRowIndex(row);
+            ValueProtos.Value.Builder items = ValueProtos.Value.newBuilder();
+            for (int column = 0; column < columnsCount; column++) {
+                items.addItems(part.getColumn(column).getValue().toPb());
+            }
+            builder.addRows(items);
+        }
+        part.setRowIndex(0);
+        return builder.build();
+    }
+
+    private synchronized ResultSetReader load(SpilledPart part) {
+        if (loaded != part) {
+            if (file == null) {
+                throw new IllegalStateException("Spill file is already closed");
+            }
+            try {
+                ByteBuffer buffer = file.map(FileChannel.MapMode.READ_ONLY, part.offset, part.length);
+                ResultSetReader reader = ProtoValueReaders.forResultSet(ValueProtos.ResultSet.parseFrom(buffer));
+                part.restorePosition(reader);
+                part.reader = reader;
+                if (loaded != null) {
+                    loaded.reader = null;
+                }
+                loaded = part;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return part.reader;
+    }
+
+    /**
+     * Reader of the spilled part, keeps the position of the row while the part is not loaded
+     */
+    private class SpilledPart implements ResultSetReader {
+        private final long offset;
+        private final int length;
+        private final int rowCount;
+        private final boolean isTruncated;
+
+        private ResultSetReader reader = null;
+        // position of the reader, the index of the next row and the index of the current row or -1
+        private int rowIndex = 0;
+        private int currentRow = -1;
+
+        SpilledPart(long offset, int length, int rowCount, boolean isTruncated) {
+            this.offset = offset;
+            this.length = length;
+            this.rowCount = rowCount;
+            this.isTruncated = isTruncated;
+        }
+
+        private void restorePosition(ResultSetReader loaded) {
+            if (currentRow >= 0) {
+                loaded.setRowIndex(currentRow);
+                if (rowIndex > currentRow) {
+                    loaded.next();
+                }
+            } else {
+                loaded.setRowIndex(rowIndex);
+                loaded.setRowIndex(-1);
+            }
+        }
+
+        @Override
+        public boolean isTruncated() {
+            return isTruncated;
+        }
+
+        @Override
+        public int getRowCount() {
+            return rowCount;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return load(this).getColumnCount();
+        }
+
+        @Override
+        public void setRowIndex(int index) {
+            ResultSetReader current = load(this);
+            if (index >= 0 && index < rowCount) {
+                rowIndex = index;
+                currentRow = index;
+            } else {
+                currentRow = -1;
+            }
+            current.setRowIndex(index);
+        }
+
+        @Override
+        public boolean next() {
+            ResultSetReader current = load(this);
+            if (rowIndex >= rowCount) {
+                currentRow = -1;
+            } else {
+                currentRow = rowIndex++;
+            }
+            return current.next();
+        }
+
+        @Override
+        public String getColumnName(int index) {
+            return load(this).getColumnName(index);
+        }
+
+        @Override
+        public int getColumnIndex(String name) {
+            return load(this).getColumnIndex(name);
+        }
+
+        @Override
+        public ValueReader getColumn(int index) {
+            return load(this).getColumn(index);
+        }
+
+        @Override
+        public ValueReader getColumn(String name) {
+            return load(this).getColumn(name);
+        }
+
+        @Override
+        public Type getColumnType(int index) {
+            return load(this).getColumnType(index);
+        }
+    }
+}
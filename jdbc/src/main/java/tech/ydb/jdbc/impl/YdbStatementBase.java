@@ -10,6 +10,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import tech.ydb.core.Issue;
@@ -28,9 +30,9 @@ import tech.ydb.jdbc.exception.YdbRetryableException;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.jdbc.settings.FakeTxMode;
 import tech.ydb.jdbc.settings.YdbOperationProperties;
+import tech.ydb.table.query.BulkUpsertData;
 import tech.ydb.table.query.Params;
 import tech.ydb.table.result.ResultSetReader;
-import tech.ydb.table.values.ListValue;
 
 /**
  *
@@ -45,8 +47,9 @@ public abstract class YdbStatementBase implements YdbStatement {
     private final FakeTxMode scanQueryTxMode;
     private final FakeTxMode schemeQueryTxMode;
     private final FakeTxMode bulkQueryTxMode;
+    private final boolean isInjectMaxRowsLimit;
 
-    private YdbQueryResult state = EMPTY_RESULT;
+    private volatile YdbQueryResult state = EMPTY_RESULT;
     private int queryTimeout;
     private boolean isPoolable;
     private boolean isClosed = false;
@@ -54,6 +57,7 @@ public abstract class YdbStatementBase implements YdbStatement {
     /** @see Statement#getMaxRows() */
     private int maxRows = 0; // no limit
     private int fetchSize = 0;
+    private long fetchMaxBytes;
     private int fetchDirection = ResultSet.FETCH_UNKNOWN;
 
     public YdbStatementBase(Logger logger, YdbConnection connection, int resultSetType, boolean isPoolable) {
@@ -67,6 +71,8 @@ public abstract class YdbStatementBase implements YdbStatement {
         this.scanQueryTxMode = props.getScanQueryTxMode();
         this.schemeQueryTxMode = props.getSchemeQueryTxMode();
         this.bulkQueryTxMode = props.getBulkQueryTxMode();
+        this.fetchMaxBytes = props.getFetchMaxBytes();
+        this.isInjectMaxRowsLimit = props.isInjectMaxRowsLimit();
     }
 
     private void prepareNewExecution() throws SQLException {
@@ -171,7 +177,21 @@ public abstract class YdbStatementBase implements YdbStatement {
         return state.hasResultSets();
     }
 
-    protected YdbQueryResult executeBulkUpsert(YdbQuery query, String tablePath, ListValue rows) throws SQLException {
+    protected YdbQueryResult executeBulkUpsert(YdbQuery query, String tablePath, BulkUpsertData rows)
+            throws SQLException {
+        prepareBulkUpsert();
+
+        return connection.getExecutor().executeBulkUpsert(this, query, tablePath, rows);
+    }
+
+    protected YdbQueryResult executeBulkUpsert(YdbQuery query, String tablePath,
+            List<Supplier<BulkUpsertData>> chunks, int[] lanes, IntConsumer onChunkDone) throws SQLException {
+        prepareBulkUpsert();
+
+        return connection.getExecutor().executeBulkUpsert(this, query, tablePath, chunks, lanes, onChunkDone);
+    }
+
+    private void prepareBulkUpsert() throws SQLException {
         prepareNewExecution();
 
         if (connection.getExecutor().isInsideTransaction()) {
@@ -186,8 +206,6 @@ public abstract class YdbStatementBase implements YdbStatement {
                     throw new SQLException(YdbConst.BULK_QUERY_INSIDE_TRANSACTION);
             }
         }
-
-        return connection.getExecutor().executeBulkUpsert(this, query, tablePath, rows);
     }
 
     protected YdbQueryResult executeExplainQuery(YdbQuery query) throws SQLException {
@@ -214,10 +232,11 @@ public abstract class YdbStatementBase implements YdbStatement {
         }
         ctx.traceQueryByFullScanDetector(query, yql);
 
+        String limited = withMaxRowsLimit(query, yql);
         boolean isInsideTx = executor.isInsideTransaction();
         while (true) {
             try {
-                return executor.executeDataQuery(this, query, yql, params);
+                return executor.executeDataQuery(this, query, limited, params);
             } catch (YdbRetryableException ex) {
                 if (isInsideTx || ex.getStatus().getCode() != StatusCode.BAD_SESSION) {
                     throw ex;
@@ -255,6 +274,9 @@ public abstract class YdbStatementBase implements YdbStatement {
             if (autoCommit) {
                 executor.commit(connection.getCtx(), validator);
             }
+        } catch (SQLException | RuntimeException ex) {
+            closeResults(batchResults);
+            throw ex;
         } finally {
             executor.setAutoCommit(autoCommit);
         }
@@ -262,17 +284,29 @@ public abstract class YdbStatementBase implements YdbStatement {
         YdbResultSetMemory[] merged = new YdbResultSetMemory[count];
         for (int idx = 0; idx < count; idx += 1) {
             List<ResultSetReader> expressionResults = new ArrayList<>();
+            List<YdbResultSpill> expressionSpills = new ArrayList<>();
             for (YdbResultSetMemory[] res: batchResults) {
                 if (idx < res.length) {
                     expressionResults.addAll(Arrays.asList(res[idx].getResultSets()));
+                    expressionSpills.addAll(res[idx].getSpills());
                 }
             }
-            merged[idx] = new YdbResultSetMemory(types, this, expressionResults.toArray(new ResultSetReader[0]));
+            merged[idx] = new YdbResultSetMemory(types, this, expressionSpills,
+                    expressionResults.toArray(new ResultSetReader[0]));
         }
 
         return new YdbQueryResultStatic(query, merged);
     }
 
+    private static void closeResults(List<YdbResultSetMemory[]> results) {
+        // results of the failed batch may keep the spilled parts
+        for (YdbResultSetMemory[] res: results) {
+            for (YdbResultSetMemory rs: res) {
+                rs.close();
+            }
+        }
+    }
+
     protected YdbQueryResult executeSchemeQuery(YdbQuery query, String yql, Params params) throws SQLException {
         prepareNewExecution();
 
@@ -308,7 +342,11 @@ public abstract class YdbStatementBase implements YdbStatement {
             }
         }
 
-        return connection.getExecutor().executeScanQuery(this, query, yql, params);
+        return connection.getExecutor().executeScanQuery(this, query, withMaxRowsLimit(query, yql), params);
+    }
+
+    private String withMaxRowsLimit(YdbQuery query, String yql) {
+        return isInjectMaxRowsLimit ? query.withLimit(yql, maxRows) : yql;
     }
 
     // UNSUPPORTED
@@ -354,7 +392,11 @@ public abstract class YdbStatementBase implements YdbStatement {
 
     @Override
     public void cancel() {
-        // has not effect
+        validator.cancel();
+        YdbQueryResult current = state;
+        if (current instanceof YdbQueryResultReader) {
+            ((YdbQueryResultReader) current).cancel();
+        }
     }
 
     @Override
@@ -382,6 +424,19 @@ public abstract class YdbStatementBase implements YdbStatement {
         return fetchSize;
     }
 
+    @Override
+    public void setFetchMaxBytes(long bytes) throws SQLException {
+        if (bytes < 0) {
+            throw new SQLException(YdbConst.INVALID_FETCH_MAX_BYTES + bytes);
+        }
+        this.fetchMaxBytes = bytes;
+    }
+
+    @Override
+    public long getFetchMaxBytes() {
+        return fetchMaxBytes;
+    }
+
     @Override
     public int getResultSetConcurrency() {
         return ResultSet.CONCUR_READ_ONLY;
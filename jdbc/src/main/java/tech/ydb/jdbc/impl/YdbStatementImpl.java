@@ -9,10 +9,17 @@ import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import tech.ydb.core.StatusCode;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbQueryResult;
+import tech.ydb.jdbc.YdbResultPublisher;
 import tech.ydb.jdbc.YdbResultSet;
+import tech.ydb.jdbc.context.YdbContext;
+import tech.ydb.jdbc.context.YdbExecutor;
+import tech.ydb.jdbc.exception.YdbStatusable;
+import tech.ydb.jdbc.query.QueryLiterals;
+import tech.ydb.jdbc.query.QueryType;
 import tech.ydb.jdbc.query.YdbQuery;
 import tech.ydb.table.query.Params;
 
@@ -68,6 +75,11 @@ public class YdbStatementImpl extends YdbStatementBase {
         return getResultSet();
     }
 
+    @Override
+    public YdbResultPublisher executeQueryPublisher(String sql) throws SQLException {
+        return executeQuery(sql).unwrap(YdbResultPublisher.class);
+    }
+
     @Override
     public int executeUpdate(String sql) throws SQLException {
         if (execute(sql)) {
@@ -80,7 +92,43 @@ public class YdbStatementImpl extends YdbStatementBase {
     public boolean execute(String sql) throws SQLException {
         cleanState();
 
-        YdbQuery query = getConnection().getCtx().createYdbQuery(sql);
+        YdbContext ctx = getConnection().getCtx();
+        QueryLiterals literals = ctx.extractLiterals(sql);
+        SQLException rejected = null;
+        if (literals != null && literals.size() > 0) {
+            YdbQuery query = ctx.parseYdbQuery(literals.getKey());
+            if (query.getType() == QueryType.DATA_QUERY) {
+                Params params = literals.toParams(ctx.getTypes());
+                YdbExecutor executor = getConnection().getExecutor();
+                boolean isInsideTx = executor.isInsideTransaction();
+                try {
+                    return updateState(executeDataQuery(query, query.getPreparedYql(), params));
+                } catch (SQLException ex) {
+                    // retry is safe only if the failed query didn't belong to the active transaction
+                    if (isInsideTx || executor.isInsideTransaction() || !isRejectedQuery(ex)) {
+                        throw ex;
+                    }
+                    // parameter types may be incompatible with the columns, the original query is executed once more
+                    LOGGER.log(Level.FINE, "Parameterized query is rejected, execute original query", ex);
+                    rejected = ex;
+                    cleanState();
+                }
+            }
+        }
+
+        try {
+            return executeOriginal(ctx, sql);
+        } catch (SQLException ex) {
+            // the error of the parameterized query may explain the failure of the original one
+            if (rejected != null) {
+                ex.addSuppressed(rejected);
+            }
+            throw ex;
+        }
+    }
+
+    private boolean executeOriginal(YdbContext ctx, String sql) throws SQLException {
+        YdbQuery query = ctx.createYdbQuery(sql);
         YdbQueryResult newState = null;
         switch (query.getType()) {
             case SCHEME_QUERY:
@@ -104,6 +152,19 @@ public class YdbStatementImpl extends YdbStatementBase {
         return updateState(newState);
     }
 
+    private static boolean isRejectedQuery(SQLException ex) {
+        if (!(ex instanceof YdbStatusable)) {
+            return false;
+        }
+        StatusCode code = ((YdbStatusable) ex).getStatus().getCode();
+        if (code != StatusCode.GENERIC_ERROR && code != StatusCode.BAD_REQUEST) {
+            return false;
+        }
+        // only type errors may be caused by the parameters, other errors will be repeated by the original query
+        String issues = ((YdbStatusable) ex).getStatus().toString().toLowerCase();
+        return issues.contains("type") || issues.contains("convert");
+    }
+
     @Override
     public void addBatch(String sql) throws SQLException {
         cleanState();
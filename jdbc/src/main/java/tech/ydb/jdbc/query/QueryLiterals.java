@@ -0,0 +1,406 @@
+package tech.ydb.jdbc.query;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.params.JdbcPrm;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Value;
+
+/**
+ * Replaces integer and text literals of DML statements with parameters. Queries which differ only by values of
+ * literals have the same normalized text, so they share parsed queries, query stats and server plans.
+ * The parameter gets the YQL type of the literal: {@code 42} is {@code Int32} (or {@code Int64} for big values),
+ * suffixed integers like {@code 42u}, {@code 42l} or {@code 42ut} have the type of the suffix and {@code '...'u}
+ * literals are {@code Text}. Fractional numbers and {@code '...'} strings are kept as is, because they are usually
+ * converted to Decimal, Date or String columns by the usage. Only literals after comparison operators and inside
+ * of VALUES and IN lists are replaced; literals in function calls, type parameters, LIMIT/OFFSET and expressions
+ * inside of lists keep their places.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class QueryLiterals {
+    private enum Token {
+        NONE,
+        WORD,
+        VALUES,
+        IN,
+        CONDITION,
+        OPERATOR,
+        COMMA,
+        OPEN_PAREN,
+        CLOSE_PAREN,
+        OTHER
+    }
+
+    private enum Level {
+        TOP,
+        GROUP,
+        LIST,
+        FUNCTION
+    }
+
+    private final QueryKey key;
+    private final List<String> names;
+    private final List<Value<?>> values;
+
+    private QueryLiterals(QueryKey key, List<String> names, List<Value<?>> values) {
+        this.key = key;
+        this.names = names;
+        this.values = values;
+    }
+
+    public QueryKey getKey() {
+        return key;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public Params toParams(YdbTypes types) throws SQLException {
+        Params params = Params.create();
+        for (int idx = 0; idx < names.size(); idx++) {
+            for (JdbcPrm prm: JdbcPrm.simplePrm(types, names.get(idx)).create()) {
+                prm.setValue(values.get(idx), Types.OTHER);
+                prm.copyToParams(params);
+            }
+        }
+        return params;
+    }
+
+    /**
+     * Extracts literals of the query
+     *
+     * @param query text of query
+     * @param declare add DECLARE section for created parameters
+     * @return query with replaced literals or {@code null} if the query is not a DML query or has no literals to
+     * replace
+     */
+    public static QueryLiterals extract(String query, boolean declare) {
+        if (query.contains(YdbConst.AUTO_GENERATED_PARAMETER_PREFIX)) {
+            return null;
+        }
+        return new Extractor(query).extract(declare);
+    }
+
+    private static class Extractor {
+        private final String origin;
+        private final StringBuilder body;
+
+        private final List<String> names = new ArrayList<>();
+        private final List<Value<?>> values = new ArrayList<>();
+        private final List<String> declares = new ArrayList<>();
+
+        private final List<Level> levels = new ArrayList<>();
+        private Level lastClosed = null;
+        private Token prev = Token.NONE;
+        private boolean statementStarted = false;
+        private int fragmentStart = 0;
+
+        Extractor(String origin) {
+            this.origin = origin;
+            this.body = new StringBuilder(origin.length() + 16);
+            this.levels.add(Level.TOP);
+        }
+
+        @SuppressWarnings("MethodLength")
+        QueryLiterals extract(boolean declare) {
+            int length = origin.length();
+            int i = 0;
+            while (i < length) {
+                char ch = origin.charAt(i);
+
+                if (Character.isWhitespace(ch)) {
+                    i++;
+                    continue;
+                }
+
+                if (ch == '-' && i + 1 < length && origin.charAt(i + 1) == '-') {
+                    while (i < length && origin.charAt(i) != '\n' && origin.charAt(i) != '\r') {
+                        i++;
+                    }
+                    continue;
+                }
+
+                if (ch == '/' && i + 1 < length && origin.charAt(i + 1) == '*') {
+                    int end = origin.indexOf("*/", i + 2);
+                    if (end < 0) {
+                        return null;
+                    }
+                    i = end + 2;
+                    continue;
+                }
+
+                if (ch == '?' || ch == '@') { // JDBC parameters and multiline strings are not supported
+                    return null;
+                }
+
+                if (ch == '`') {
+                    int end = origin.indexOf('`', i + 1);
+                    if (end < 0) {
+                        return null;
+                    }
+                    prev = Token.WORD;
+                    i = end + 1;
+                    continue;
+                }
+
+                if (ch == '\'' || ch == '"') {
+                    int end = readString(i, ch);
+                    if (end < 0) {
+                        return null;
+                    }
+                    i = end;
+                    continue;
+                }
+
+                if (Character.isDigit(ch)) {
+                    i = readNumber(i);
+                    continue;
+                }
+
+                if (Character.isJavaIdentifierStart(ch)) {
+                    int end = i + 1;
+                    while (end < length && Character.isJavaIdentifierPart(origin.charAt(end))) {
+                        end++;
+                    }
+                    if (!readWord(i, end)) {
+                        return null;
+                    }
+                    i = end;
+                    continue;
+                }
+
+                switch (ch) {
+                    case '(':
+                        levels.add(openLevel());
+                        prev = Token.OPEN_PAREN;
+                        break;
+                    case ')':
+                        if (levels.size() > 1) {
+                            lastClosed = levels.remove(levels.size() - 1);
+                        }
+                        prev = Token.CLOSE_PAREN;
+                        break;
+                    case ',':
+                        prev = Token.COMMA;
+                        break;
+                    case '=':
+                    case '<':
+                    case '>':
+                    case '!':
+                        prev = Token.OPERATOR;
+                        break;
+                    case ';':
+                        if (levels.size() == 1) {
+                            statementStarted = false;
+                        }
+                        prev = Token.OTHER;
+                        break;
+                    default:
+                        prev = Token.OTHER;
+                        break;
+                }
+                i++;
+            }
+
+            if (names.isEmpty()) {
+                return null;
+            }
+
+            body.append(origin, fragmentStart, length);
+
+            StringBuilder normalized = new StringBuilder(body.length() + 32 * declares.size());
+            if (declare) {
+                for (String line: declares) {
+                    normalized.append(line);
+                }
+            }
+            normalized.append(body);
+
+            return new QueryLiterals(new QueryKey(normalized.toString()), names, values);
+        }
+
+        private Level currentLevel() {
+            return levels.get(levels.size() - 1);
+        }
+
+        private Level openLevel() {
+            Level current = currentLevel();
+            if (current == Level.FUNCTION) {
+                return Level.FUNCTION;
+            }
+            switch (prev) {
+                case VALUES:
+                case IN:
+                    return Level.LIST;
+                case COMMA:
+                    return lastClosed == Level.LIST || current == Level.LIST ? Level.LIST : Level.GROUP;
+                case OPEN_PAREN:
+                    return current == Level.LIST ? Level.LIST : Level.GROUP;
+                case CONDITION:
+                case OPERATOR:
+                case NONE:
+                    return Level.GROUP;
+                default:
+                    return Level.FUNCTION;
+            }
+        }
+
+        private boolean isLiteralPlace(int end) {
+            Level current = currentLevel();
+            if (!statementStarted || current == Level.FUNCTION) {
+                return false;
+            }
+            if (prev == Token.OPERATOR) {
+                return true;
+            }
+            if (current != Level.LIST || (prev != Token.COMMA && prev != Token.OPEN_PAREN)) {
+                return false;
+            }
+
+            // only whole elements of list
+            int next = end;
+            while (next < origin.length() && Character.isWhitespace(origin.charAt(next))) {
+                next++;
+            }
+            return next < origin.length() && (origin.charAt(next) == ',' || origin.charAt(next) == ')');
+        }
+
+        private boolean readWord(int start, int end) {
+            if (!statementStarted) {
+                // only DML statements are supported
+                if (!isWord(start, end, "SELECT") && !isWord(start, end, "UPSERT") && !isWord(start, end, "INSERT")
+                        && !isWord(start, end, "UPDATE") && !isWord(start, end, "DELETE")
+                        && !isWord(start, end, "REPLACE")) {
+                    return false;
+                }
+                statementStarted = true;
+                prev = Token.WORD;
+                return true;
+            }
+
+            if (isWord(start, end, "VALUES")) {
+                prev = Token.VALUES;
+            } else if (isWord(start, end, "IN")) {
+                prev = Token.IN;
+            } else if (isWord(start, end, "WHERE") || isWord(start, end, "AND") || isWord(start, end, "OR")
+                    || isWord(start, end, "NOT") || isWord(start, end, "ON") || isWord(start, end, "HAVING")) {
+                prev = Token.CONDITION;
+            } else {
+                prev = Token.WORD;
+            }
+            return true;
+        }
+
+        private boolean isWord(int start, int end, String word) {
+            return end - start == word.length() && origin.regionMatches(true, start, word, 0, word.length());
+        }
+
+        private int readNumber(int start) {
+            int length = origin.length();
+            int digitsEnd = start;
+            while (digitsEnd < length && Character.isDigit(origin.charAt(digitsEnd))) {
+                digitsEnd++;
+            }
+            int end = digitsEnd;
+            boolean isInteger = true;
+            while (end < length && (Character.isJavaIdentifierPart(origin.charAt(end)) || origin.charAt(end) == '.')) {
+                isInteger = isInteger && origin.charAt(end) != '.';
+                end++;
+            }
+
+            if (isInteger && isLiteralPlace(end)) {
+                Value<?> value = integerValue(origin.substring(start, digitsEnd), origin.substring(digitsEnd, end));
+                if (value != null) {
+                    addLiteral(start, end, value);
+                }
+            }
+
+            prev = Token.OTHER;
+            return end;
+        }
+
+        /**
+         * @return value of the integer literal or {@code null} if the literal is out of range or has unknown suffix
+         */
+        private static Value<?> integerValue(String digits, String suffix) {
+            long value;
+            try {
+                value = Long.parseUnsignedLong(digits);
+            } catch (NumberFormatException ex) {
+                return null;
+            }
+            boolean isSigned = value >= 0; // values over Long.MAX_VALUE fit only to Uint64
+            switch (suffix.toLowerCase()) {
+                case "":
+                    if (isSigned && value <= Integer.MAX_VALUE) {
+                        return PrimitiveValue.newInt32((int) value);
+                    }
+                    return isSigned ? PrimitiveValue.newInt64(value) : null;
+                case "l":
+                    return isSigned ? PrimitiveValue.newInt64(value) : null;
+                case "ul":
+                    return PrimitiveValue.newUint64(value);
+                case "u":
+                    return isSigned && value <= 0xFFFFFFFFL ? PrimitiveValue.newUint32(value) : null;
+                case "s":
+                    return isSigned && value <= Short.MAX_VALUE ? PrimitiveValue.newInt16((short) value) : null;
+                case "us":
+                    return isSigned && value <= 0xFFFF ? PrimitiveValue.newUint16((int) value) : null;
+                case "t":
+                    return isSigned && value <= Byte.MAX_VALUE ? PrimitiveValue.newInt8((byte) value) : null;
+                case "ut":
+                    return isSigned && value <= 0xFF ? PrimitiveValue.newUint8((int) value) : null;
+                default:
+                    return null;
+            }
+        }
+
+        private int readString(int start, char quote) {
+            int length = origin.length();
+            int end = start + 1;
+            boolean hasEscapes = false;
+            while (end < length && origin.charAt(end) != quote) {
+                if (origin.charAt(end) == '\\') {
+                    hasEscapes = true;
+                    end++;
+                }
+                end++;
+            }
+            if (end >= length) {
+                return -1;
+            }
+            end++; // closing quote
+
+            int suffixEnd = end;
+            while (suffixEnd < length && Character.isJavaIdentifierPart(origin.charAt(suffixEnd))) {
+                suffixEnd++;
+            }
+            boolean isText = suffixEnd == end + 1 && (origin.charAt(end) | 32) == 'u';
+
+            if (!hasEscapes && isText && isLiteralPlace(suffixEnd)) {
+                addLiteral(start, suffixEnd, PrimitiveValue.newText(origin.substring(start + 1, end - 1)));
+            }
+
+            prev = Token.OTHER;
+            return suffixEnd;
+        }
+
+        private void addLiteral(int start, int end, Value<?> value) {
+            String name = YdbConst.AUTO_GENERATED_PARAMETER_PREFIX + (names.size() + 1);
+            names.add(name);
+            values.add(value);
+            declares.add("DECLARE " + name + " AS " + value.getType() + ";\n");
+
+            body.append(origin, fragmentStart, start).append(name);
+            fragmentStart = end;
+        }
+    }
+}
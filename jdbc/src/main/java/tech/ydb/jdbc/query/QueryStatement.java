@@ -17,6 +17,8 @@ public class QueryStatement {
     private final List<JdbcPrm.Factory> parameters = new ArrayList<>();
     private boolean hasReturinng = false;
     private boolean hasGenerated = false;
+    private int limitPosition = -1;
+    private YqlScanSource scanSource = null;
 
     public QueryStatement(QueryType custom, QueryType baseType, QueryCmd command) {
         this.queryType = custom != null ? custom : baseType;
@@ -51,6 +53,26 @@ public class QueryStatement {
         this.hasGenerated = hasGenerated;
     }
 
+    /**
+     * @return position in the prepared YQL where the LIMIT clause can be appended or {@code -1} if the statement is
+     * not a simple SELECT
+     */
+    public int getLimitPosition() {
+        return limitPosition;
+    }
+
+    public void setLimitPosition(int position) {
+        this.limitPosition = position;
+    }
+
+    YqlScanSource getScanSource() {
+        return scanSource;
+    }
+
+    void setScanSource(YqlScanSource scanSource) {
+        this.scanSource = scanSource;
+    }
+
     public boolean hasUpdateCount() {
         return (command == QueryCmd.DML || command == QueryCmd.BATCH) && !hasReturinng;
     }
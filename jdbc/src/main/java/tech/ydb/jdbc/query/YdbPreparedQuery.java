@@ -1,6 +1,7 @@
 package tech.ydb.jdbc.query;
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.List;
 
 import javax.annotation.Nullable;
@@ -21,6 +22,63 @@ public interface YdbPreparedQuery {
     void setParam(int index, @Nullable Object obj, int sqlType) throws SQLException;
     void setParam(String name, @Nullable Object obj, int sqlType) throws SQLException;
 
+    // Primitive setters, implementations may override them to skip boxing of values
+    default void setInt(int index, int value) throws SQLException {
+        setParam(index, value, Types.INTEGER);
+    }
+
+    default void setInt(String name, int value) throws SQLException {
+        setParam(name, value, Types.INTEGER);
+    }
+
+    default void setLong(int index, long value) throws SQLException {
+        setParam(index, value, Types.BIGINT);
+    }
+
+    default void setLong(String name, long value) throws SQLException {
+        setParam(name, value, Types.BIGINT);
+    }
+
+    default void setDouble(int index, double value) throws SQLException {
+        setParam(index, value, Types.DOUBLE);
+    }
+
+    default void setDouble(String name, double value) throws SQLException {
+        setParam(name, value, Types.DOUBLE);
+    }
+
+    default void setBoolean(int index, boolean value) throws SQLException {
+        setParam(index, value, Types.BOOLEAN);
+    }
+
+    default void setBoolean(String name, boolean value) throws SQLException {
+        setParam(name, value, Types.BOOLEAN);
+    }
+
+    default void setByte(int index, byte value) throws SQLException {
+        setParam(index, value, Types.TINYINT);
+    }
+
+    default void setByte(String name, byte value) throws SQLException {
+        setParam(name, value, Types.TINYINT);
+    }
+
+    default void setShort(int index, short value) throws SQLException {
+        setParam(index, value, Types.SMALLINT);
+    }
+
+    default void setShort(String name, short value) throws SQLException {
+        setParam(name, value, Types.SMALLINT);
+    }
+
+    default void setFloat(int index, float value) throws SQLException {
+        setParam(index, value, Types.FLOAT);
+    }
+
+    default void setFloat(String name, float value) throws SQLException {
+        setParam(name, value, Types.FLOAT);
+    }
+
     String getNameByIndex(int index) throws SQLException;
 
     void addBatch() throws SQLException;
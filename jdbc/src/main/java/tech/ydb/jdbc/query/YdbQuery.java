@@ -13,28 +13,43 @@ import tech.ydb.jdbc.settings.YdbQueryProperties;
 public class YdbQuery {
     private final QueryKey key;
     private final String preparedYQL;
+    private final YqlTemplate template;
     private final List<QueryStatement> statements;
     private final YqlBatcher batcher;
 
     private final QueryType type;
     private final boolean isPlainYQL;
     private final boolean isWriting;
+    private final int limitPosition;
+    private final YqlScanSource scanSource;
 
     YdbQuery(QueryKey key, String preparedYQL, List<QueryStatement> stats, YqlBatcher batcher, QueryType type) {
         this.key = key;
         this.preparedYQL = preparedYQL;
+        this.template = new YqlTemplate(preparedYQL);
         this.statements = stats;
         this.type = type;
         this.batcher = batcher;
 
         boolean hasJdbcParameters = false;
         boolean hasDML = false;
+        QueryStatement single = null;
+        int count = 0;
         for (QueryStatement st: statements) {
             hasJdbcParameters = hasJdbcParameters || st.hasJdbcParameters();
             hasDML = hasDML || (st.getCmd() == QueryCmd.DML);
+            if (st.getType() != QueryType.DECLARE) {
+                single = st;
+                count++;
+            }
         }
         this.isPlainYQL = !hasJdbcParameters;
         this.isWriting = (type == QueryType.DATA_QUERY) && hasDML;
+
+        boolean isSimpleSelect = count == 1 && single.getCmd() == QueryCmd.SELECT
+                && (type == QueryType.DATA_QUERY || type == QueryType.SCAN_QUERY);
+        this.limitPosition = isSimpleSelect ? single.getLimitPosition() : -1;
+        this.scanSource = isSimpleSelect && type == QueryType.SCAN_QUERY ? single.getScanSource() : null;
     }
 
     public QueryType getType() {
@@ -45,6 +60,60 @@ public class YdbQuery {
         return isWriting;
     }
 
+    /**
+     * Appends the LIMIT clause to the query if it is a simple SELECT without LIMIT, OFFSET and UNION
+     *
+     * @param yql prepared text of the query, optionally prefixed by declarations of parameters
+     * @param limit maximum count of rows
+     * @return query with the LIMIT clause or the same text if the query cannot be limited
+     */
+    public String withLimit(String yql, int limit) {
+        int offset = preparedOffset(yql);
+        if (limit <= 0 || limitPosition < 0 || offset < 0) {
+            return yql;
+        }
+        int position = offset + limitPosition;
+        return yql.substring(0, position) + "\nLIMIT " + limit + yql.substring(position);
+    }
+
+    /**
+     * @return name of the single table which is read by the scan query, or {@code null} if the query reads several
+     * tables or uses joins, aggregations, sorting or limits and cannot be splitted by the key ranges
+     */
+    public String getScanTable() {
+        return scanSource != null ? scanSource.getTableName() : null;
+    }
+
+    /**
+     * Replaces the source table of the scan query by the subquery which reads only rows matched to the condition
+     *
+     * @param yql prepared text of the query, optionally prefixed by declarations of parameters
+     * @param condition condition of the subquery
+     * @return query with the filtered source or {@code null} if the source of the query cannot be replaced
+     */
+    public String withScanCondition(String yql, String condition) {
+        int offset = preparedOffset(yql);
+        if (scanSource == null || offset < 0) {
+            return null;
+        }
+        int start = offset + scanSource.getTableStart();
+        int end = start + scanSource.getTableLength();
+        return yql.substring(0, start) + "(SELECT * FROM " + yql.substring(start, end) + " WHERE " + condition + ")"
+                + yql.substring(end);
+    }
+
+    /**
+     * @param yql text of the query
+     * @return position of the prepared text in the query or {@code -1} if the query doesn't end with it. Prepared
+     * text of the query with JDBC parameters is prefixed by the declarations of parameters
+     */
+    private int preparedOffset(String yql) {
+        if (!yql.endsWith(preparedYQL)) {
+            return -1;
+        }
+        return yql.length() - preparedYQL.length();
+    }
+
     public YqlBatcher getYqlBatcher() {
         return batcher.isValidBatch() ? batcher : null;
     }
@@ -65,6 +134,10 @@ public class YdbQuery {
         return preparedYQL;
     }
 
+    public YqlTemplate getTemplate() {
+        return template;
+    }
+
     public List<QueryStatement> getStatements() {
         return statements;
     }
@@ -20,15 +20,18 @@ public class YdbQueryParser {
     private final boolean isDetectJdbcParameters;
     private final boolean isForceJdbcParamters;
     private final boolean isConvertJdbcInToList;
+    private final boolean isPadJdbcInList;
+    private final YdbQueryProperties props;
 
     private final String origin;
     private final String returning;
-    private final StringBuilder parsed;
+    private final boolean hasAutoPrmNames;
     private final YdbTypes types;
 
     private final List<QueryStatement> statements = new ArrayList<>();
     private final YqlBatcher batcher = new YqlBatcher();
 
+    private StringBuilder parsed = null;
     private int jdbcPrmIndex = 0;
 
     public YdbQueryParser(YdbTypes types, String query, YdbQueryProperties props) {
@@ -40,9 +43,11 @@ public class YdbQueryParser {
         this.isDetectJdbcParameters = props.isDetectJdbcParameters();
         this.isForceJdbcParamters = props.isForceJdbcParameters();
         this.isConvertJdbcInToList = props.isReplaceJdbcInByYqlList();
+        this.isPadJdbcInList = props.isPadJdbcInList();
+        this.props = props;
         this.origin = key.getQuery();
         this.returning = key.getReturning();
-        this.parsed = new StringBuilder(origin.length() + 10);
+        this.hasAutoPrmNames = origin.contains(YdbConst.AUTO_GENERATED_PARAMETER_PREFIX);
         this.types = types;
     }
 
@@ -84,52 +89,62 @@ public class YdbQueryParser {
 
         int parenLevel = 0;
         int keywordStart = -1;
+        boolean isLimitable = false;
+        YqlScanSource scanSource = null;
 
-        char[] chars = origin.toCharArray();
+        final int length = origin.length();
 
-        for (int i = 0; i < chars.length; ++i) {
-            char ch = chars[i];
+        for (int i = 0; i < length; ++i) {
+            char ch = origin.charAt(i);
             boolean isInsideKeyword = false;
 
             int keywordEnd = i; // parseSingleQuotes, parseDoubleQuotes, etc move index so we keep old value
             switch (ch) {
                 case '\'': // single-quotes
-                    int singleQuitesEnd = parseSingleQuotes(chars, i);
-                    batcher.readSingleQuoteLiteral(chars, i, singleQuitesEnd - i + 1);
+                    int singleQuitesEnd = parseSingleQuotes(origin, i);
+                    batcher.readSingleQuoteLiteral(origin, i, singleQuitesEnd - i + 1);
                     i = singleQuitesEnd;
                     break;
 
                 case '"': // double-quotes
-                    int doubleQuitesEnd = parseDoubleQuotes(chars, i);
-                    batcher.readDoubleQuoteLiteral(chars, i, doubleQuitesEnd - i + 1);
+                    int doubleQuitesEnd = parseDoubleQuotes(origin, i);
+                    batcher.readDoubleQuoteLiteral(origin, i, doubleQuitesEnd - i + 1);
                     i = doubleQuitesEnd;
                     break;
 
                 case '`': // backtick-quotes
-                    int backstickQuitesEnd = parseBacktickQuotes(chars, i);
-                    batcher.readIdentifier(chars, i, backstickQuitesEnd - i + 1);
+                    int backstickQuitesEnd = parseBacktickQuotes(origin, i);
+                    batcher.readIdentifier(origin, i, backstickQuitesEnd - i + 1);
+                    if (scanSource != null && parenLevel == 0) {
+                        if (keywordStart >= 0) { // identifier is glued to the keyword
+                            scanSource.readUnsupported();
+                        } else {
+                            scanSource.readQuotedIdentifier(origin, i, backstickQuitesEnd - i + 1,
+                                    parsedLength(i, fragmentStart));
+                        }
+                    }
                     i = backstickQuitesEnd;
                     break;
 
                 case '-': // possibly -- style comment
-                    i = parseLineComment(chars, i);
+                    i = parseLineComment(origin, i);
                     break;
 
                 case '/': // possibly /* */ style comment
-                    i = parseBlockComment(chars, i);
+                    i = parseBlockComment(origin, i);
                     break;
 
                 case '?':
                     if (detectJdbcArgs && statement != null) {
-                        parsed.append(chars, fragmentStart, i - fragmentStart);
-                        if (i + 1 < chars.length && chars[i + 1] == '?') /* replace ?? with ? */ {
-                            parsed.append('?');
-                            batcher.readIdentifier(chars, i, 1);
+                        parsed().append(origin, fragmentStart, i);
+                        if (i + 1 < length && origin.charAt(i + 1) == '?') /* replace ?? with ? */ {
+                            parsed().append('?');
+                            batcher.readIdentifier(origin, i, 1);
                             i++; // make sure the coming ? is not treated as a bind
                         } else {
                             String name = nextJdbcPrmName();
                             statement.addJdbcPrmFactory(JdbcPrm.simplePrm(types, name));
-                            parsed.append(name);
+                            parsed().append(name);
                             batcher.readParameter();
                         }
                         fragmentStart = i + 1;
@@ -149,42 +164,52 @@ public class YdbQueryParser {
             }
 
 
-            if (keywordStart >= 0 && (!isInsideKeyword || (i == chars.length - 1))) {
+            if (keywordStart >= 0 && (!isInsideKeyword || (i == length - 1))) {
                 int keywordLength = (isInsideKeyword ? i + 1 : keywordEnd) - keywordStart;
 
                 if (statement != null) {
-                    batcher.readIdentifier(chars, keywordStart, keywordLength);
+                    batcher.readIdentifier(origin, keywordStart, keywordLength);
 
                     // Detect RETURNING keyword
-                    if (parenLevel == 0 && parseReturningKeyword(chars, keywordStart, keywordLength)) {
+                    if (parenLevel == 0 && parseReturningKeyword(origin, keywordStart, keywordLength)) {
                         statement.setHasReturning(true);
                     }
 
+                    // SELECT with own LIMIT, OFFSET, UNION or INTO cannot be limited by appending of LIMIT clause
+                    if (parenLevel == 0 && isLimitable && isLimitBlocker(origin, keywordStart, keywordLength)) {
+                        isLimitable = false;
+                    }
+
+                    if (scanSource != null && parenLevel == 0) {
+                        scanSource.readKeyword(origin, keywordStart, keywordLength,
+                                parsedLength(keywordStart, fragmentStart));
+                    }
+
                     // Process ? after OFFSET and LIMIT
-                    if (i < chars.length && detectJdbcArgs && Character.isWhitespace(ch)) {
-                        if (parseOffsetKeyword(chars, keywordStart, keywordLength)
-                                || parseLimitKeyword(chars, keywordStart, keywordLength)) {
-                            parsed.append(chars, fragmentStart, i - fragmentStart);
-                            i = parseOffsetLimitParameter(chars, i, statement);
+                    if (i < length && detectJdbcArgs && Character.isWhitespace(ch)) {
+                        if (parseOffsetKeyword(origin, keywordStart, keywordLength)
+                                || parseLimitKeyword(origin, keywordStart, keywordLength)) {
+                            parsed().append(origin, fragmentStart, i);
+                            i = parseOffsetLimitParameter(origin, i, statement);
                             fragmentStart = i;
                         }
                     }
 
                     // Process IN (?, ?, ... )
-                    if (i < chars.length && detectJdbcArgs && isConvertJdbcInToList) {
-                        if (parseInKeyword(chars, keywordStart, keywordLength)) {
-                            parsed.append(chars, fragmentStart, i - fragmentStart);
-                            i = parseInListParameters(chars, i, statement);
+                    if (i < length && detectJdbcArgs && (isConvertJdbcInToList || isPadJdbcInList)) {
+                        if (parseInKeyword(origin, keywordStart, keywordLength)) {
+                            parsed().append(origin, fragmentStart, i);
+                            i = parseInListParameters(origin, i, statement);
                             fragmentStart = i;
                         }
                     }
 
                     // Process JDBC_TABLE (?, ?, ... )
-                    if (i < chars.length && detectJdbcArgs && isConvertJdbcInToList) {
-                        if (parseJdbcTableKeyword(chars, keywordStart, keywordLength)) {
-                            parsed.append(chars, fragmentStart, keywordStart - fragmentStart);
+                    if (i < length && detectJdbcArgs && isConvertJdbcInToList) {
+                        if (parseJdbcTableKeyword(origin, keywordStart, keywordLength)) {
+                            parsed().append(origin, fragmentStart, keywordStart);
                             fragmentStart = keywordStart;
-                            int updated = parseJdbcTableListParameters(chars, i, statement);
+                            int updated = parseJdbcTableListParameters(origin, i, statement);
                             if (updated != i) {
                                 i = updated;
                                 fragmentStart = updated;
@@ -195,26 +220,26 @@ public class YdbQueryParser {
                     boolean skipped = false;
                     if (isDetectQueryType) {
                         // Detect scan expression - starts with SCAN
-                        if (parseScanKeyword(chars, keywordStart, keywordLength)) {
+                        if (parseScanKeyword(origin, keywordStart, keywordLength)) {
                             type = QueryType.SCAN_QUERY;
                             // Skip SCAN prefix
-                            parsed.append(chars, fragmentStart, keywordStart - fragmentStart);
+                            parsed().append(origin, fragmentStart, keywordStart);
                             fragmentStart = isInsideKeyword ? keywordEnd + 1 : keywordEnd;
                             skipped = true;
                         }
                         // Detect explain expression - starts with EXPLAIN
-                        if (parseExplainKeyword(chars, keywordStart, keywordLength)) {
+                        if (parseExplainKeyword(origin, keywordStart, keywordLength)) {
                             type = QueryType.EXPLAIN_QUERY;
                             // Skip EXPLAIN prefix
-                            parsed.append(chars, fragmentStart, keywordStart - fragmentStart);
+                            parsed().append(origin, fragmentStart, keywordStart);
                             fragmentStart = isInsideKeyword ? keywordEnd + 1 : keywordEnd;
                             skipped = true;
                         }
                         // Detect bulk upsert expression - starts with BULK
-                        if (parseBulkKeyword(chars, keywordStart, keywordLength)) {
+                        if (parseBulkKeyword(origin, keywordStart, keywordLength)) {
                             type = QueryType.BULK_QUERY;
                             // Skip BULK prefix
-                            parsed.append(chars, fragmentStart, keywordStart - fragmentStart);
+                            parsed().append(origin, fragmentStart, keywordStart);
                             fragmentStart = isInsideKeyword ? keywordEnd + 1 : keywordEnd;
                             skipped = true;
                         }
@@ -229,58 +254,62 @@ public class YdbQueryParser {
 
                         // Detect data query expression - starts with SELECT, , UPSERT, DELETE, REPLACE
                         // starts with SELECT
-                        if (parseSelectKeyword(chars, keywordStart, keywordLength)) {
+                        isLimitable = false;
+                        scanSource = null;
+                        if (parseSelectKeyword(origin, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.DATA_QUERY, QueryCmd.SELECT);
-                            batcher.readIdentifier(chars, keywordStart, keywordLength);
+                            batcher.readIdentifier(origin, keywordStart, keywordLength);
+                            isLimitable = parenLevel == 0;
+                            scanSource = parenLevel == 0 ? new YqlScanSource() : null;
                         }
 
                         // starts with DECLARE
-                        if (parseDeclareKeyword(chars, keywordStart, keywordLength)) {
+                        if (parseDeclareKeyword(origin, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.DECLARE, QueryCmd.UNKNOWN);
-                            batcher.readIdentifier(chars, keywordStart, keywordLength);
+                            batcher.readIdentifier(origin, keywordStart, keywordLength);
                             detectJdbcArgs = false; // no parse JDBC in DECLARE expression
                         }
 
                         // starts with INSERT, UPSERT
-                        if (parseInsertKeyword(chars, keywordStart, keywordLength)) {
+                        if (parseInsertKeyword(origin, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.DATA_QUERY, QueryCmd.DML);
                             batcher.readInsert();
                         }
-                        if (parseUpsertKeyword(chars, keywordStart, keywordLength)) {
+                        if (parseUpsertKeyword(origin, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.DATA_QUERY, QueryCmd.DML);
                             batcher.readUpsert();
                         }
 
                         // starts with UPDATE, REPLACE, DELETE
-                        if (parseUpdateKeyword(chars, keywordStart, keywordLength)) {
+                        if (parseUpdateKeyword(origin, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.DATA_QUERY, QueryCmd.DML);
                             batcher.readUpdate();
                         }
-                        if (parseDeleteKeyword(chars, keywordStart, keywordLength)) {
+                        if (parseDeleteKeyword(origin, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.DATA_QUERY, QueryCmd.DML);
                             batcher.readDelete();
                         }
-                        if (parseReplaceKeyword(chars, keywordStart, keywordLength)) {
+                        if (parseReplaceKeyword(origin, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.DATA_QUERY, QueryCmd.DML);
                             batcher.readReplace();
                         }
 
                         // Detect scheme expression - starts with ALTER, DROP, CREATE
-                        if (parseAlterKeyword(chars, keywordStart, keywordLength)
-                                || parseCreateKeyword(chars, keywordStart, keywordLength)
-                                || parseDropKeyword(chars, keywordStart, keywordLength)
-                                || parseGrantKeyword(chars, keywordStart, keywordLength)
-                                || parseRevokeKeyword(chars, keywordStart, keywordLength)
+                        if (parseAlterKeyword(origin, keywordStart, keywordLength)
+                                || parseCreateKeyword(origin, keywordStart, keywordLength)
+                                || parseDropKeyword(origin, keywordStart, keywordLength)
+                                || parseGrantKeyword(origin, keywordStart, keywordLength)
+                                || parseRevokeKeyword(origin, keywordStart, keywordLength)
                                 ) {
                             statement = new QueryStatement(type, QueryType.SCHEME_QUERY, QueryCmd.DDL);
-                            batcher.readIdentifier(chars, keywordStart, keywordLength);
+                            batcher.readIdentifier(origin, keywordStart, keywordLength);
                             detectJdbcArgs = false; // no parse JDBC in DECLARE expression
                         }
 
                         // Batch expression - starts with BATCH. It likes scheme expression, but can contains parameters
-                        if (parseBatchKeyword(chars, keywordStart, keywordLength)) {
+                        if (parseBatchKeyword(origin, keywordStart, keywordLength)) {
                             statement = new QueryStatement(type, QueryType.SCHEME_QUERY, QueryCmd.BATCH);
-                            batcher.readIdentifier(chars, keywordStart, keywordLength);
+                            batcher.readIdentifier(origin, keywordStart, keywordLength);
                         }
 
                         statements.add(statement);
@@ -297,6 +326,9 @@ public class YdbQueryParser {
                 case '(':
                     parenLevel++;
                     batcher.readOpenParen();
+                    if (scanSource != null) {
+                        scanSource.readOpenParen();
+                    }
                     break;
                 case ')':
                     parenLevel--;
@@ -304,6 +336,9 @@ public class YdbQueryParser {
                     break;
                 case ',':
                     batcher.readComma();
+                    if (scanSource != null && parenLevel == 0) {
+                        scanSource.readComma();
+                    }
                     break;
                 case '.':
                     batcher.readPoint();
@@ -314,7 +349,15 @@ public class YdbQueryParser {
                 case ';':
                     batcher.readSemiColon();
                     if (parenLevel == 0) {
-                        addReturning(parsed, statement);
+                        if (isLimitable) {
+                            statement.setLimitPosition(parsedLength(i, fragmentStart));
+                            isLimitable = false;
+                        }
+                        if (scanSource != null && scanSource.isValid()) {
+                            statement.setScanSource(scanSource);
+                        }
+                        scanSource = null;
+                        addReturning(statement);
                         statement = null;
                         type = null;
                         detectJdbcArgs = false;
@@ -326,49 +369,73 @@ public class YdbQueryParser {
             }
         }
 
-        if (fragmentStart < chars.length) {
-            parsed.append(chars, fragmentStart, chars.length - fragmentStart);
+        if (isLimitable) {
+            statement.setLimitPosition(parsedLength(length, fragmentStart));
+        }
+        if (scanSource != null && scanSource.isValid()) {
+            statement.setScanSource(scanSource);
         }
 
-        addReturning(parsed, statement);
+        if (parsed == null && !isReturningRequired(statement)) { // query has no changes
+            return origin;
+        }
+
+        if (fragmentStart < length) {
+            parsed().append(origin, fragmentStart, length);
+        }
+
+        addReturning(statement);
 
         return parsed.toString();
     }
 
-    private void addReturning(StringBuilder parsed, QueryStatement st) throws SQLException {
-        if (st == null || returning == null || st.hasResults()) {
-            return;
+    private StringBuilder parsed() {
+        // builder is created only if the query must be changed, otherwise the origin text is used as is
+        if (parsed == null) {
+            parsed = new StringBuilder(origin.length() + 16);
         }
-        if (st.getCmd() != QueryCmd.DML) {
+        return parsed;
+    }
+
+    private int parsedLength(int originOffset, int fragmentStart) {
+        return parsed == null ? originOffset : parsed.length() + originOffset - fragmentStart;
+    }
+
+    private boolean isReturningRequired(QueryStatement st) {
+        return st != null && returning != null && !st.hasResults() && st.getCmd() == QueryCmd.DML;
+    }
+
+    private void addReturning(QueryStatement st) throws SQLException {
+        if (!isReturningRequired(st)) {
             return;
         }
 
         st.setHasGenerated(true);
-        parsed.append("\n").append(returning);
+        parsed().append("\n").append(returning);
     }
 
     private String nextJdbcPrmName() {
         while (true) {
             jdbcPrmIndex += 1;
             String name = YdbConst.AUTO_GENERATED_PARAMETER_PREFIX + jdbcPrmIndex;
-            if (!origin.contains(name)) {
+            if (!hasAutoPrmNames || !origin.contains(name)) {
                 return name;
             }
         }
     }
 
-    private int parseOffsetLimitParameter(char[] query, int offset, QueryStatement st) {
+    private int parseOffsetLimitParameter(CharSequence query, int offset, QueryStatement st) {
         int start = offset;
-        while (++offset < query.length) {
-            char ch = query[offset];
+        while (++offset < query.length()) {
+            char ch = query.charAt(offset);
             switch (ch) {
                 case '?' :
-                    if (offset + 1 < query.length && query[offset + 1] == '?') {
+                    if (offset + 1 < query.length() && query.charAt(offset + 1) == '?') {
                         return start;
                     }
                     String name = nextJdbcPrmName();
-                    parsed.append(query, start, offset - start);
-                    parsed.append(name);
+                    parsed().append(query, start, offset);
+                    parsed().append(name);
                     st.addJdbcPrmFactory(JdbcPrm.uint64Prm(types, name));
                     return offset + 1;
                 case '-': // possibly -- style comment
@@ -378,7 +445,7 @@ public class YdbQueryParser {
                     offset = parseBlockComment(query, offset);
                     break;
                 default:
-                    if (!Character.isWhitespace(query[offset])) {
+                    if (!Character.isWhitespace(query.charAt(offset))) {
                         return start;
                     }
                     break;
@@ -388,13 +455,13 @@ public class YdbQueryParser {
         return start;
     }
 
-    private int parseInListParameters(char[] query, int offset, QueryStatement st) {
+    private int parseInListParameters(CharSequence query, int offset, QueryStatement st) {
         int start = offset;
         int listStartedAt = -1;
         YqlListParser parser = new YqlListParser();
 
-        while (offset < query.length) {
-            char ch = query[offset];
+        while (offset < query.length()) {
+            char ch = query.charAt(offset);
             switch (ch) {
                 case '(':
                     if (parser.isNotStarted()) {
@@ -410,7 +477,7 @@ public class YdbQueryParser {
                     }
                     break;
                 case '?' :
-                    if (offset + 1 < query.length && query[offset + 1] == '?') {
+                    if (offset + 1 < query.length() && query.charAt(offset + 1) == '?') {
                         return start;
                     }
 
@@ -422,11 +489,16 @@ public class YdbQueryParser {
                     if (!parser.readCloseParen()) {
                         return start;
                     }
+                    if (parser.isCompleted() && !isConvertJdbcInToList) {
+                        parsed().append(query, start, listStartedAt);
+                        appendPaddedInList(parser.listSize(), parser.tupleSize(), st);
+                        return offset + 1;
+                    }
                     if (parser.isCompleted()) {
                         String name = nextJdbcPrmName();
-                        parsed.append(query, start, listStartedAt - start);
-                        parsed.append(' '); // add extra space to avoid IN$jpN
-                        parsed.append(name);
+                        parsed().append(query, start, listStartedAt);
+                        parsed().append(' '); // add extra space to avoid IN$jpN
+                        parsed().append(name);
                         st.addJdbcPrmFactory(JdbcPrm.inListOrm(types, name, parser.listSize(), parser.tupleSize()));
                         return offset + 1;
                     }
@@ -438,7 +510,7 @@ public class YdbQueryParser {
                     offset = parseBlockComment(query, offset);
                     break;
                 default:
-                    if (!Character.isWhitespace(query[offset])) {
+                    if (!Character.isWhitespace(query.charAt(offset))) {
                         return start;
                     }
                     break;
@@ -449,13 +521,34 @@ public class YdbQueryParser {
         return start;
     }
 
-    private int parseJdbcTableListParameters(char[] query, int offset, QueryStatement st) {
+    private void appendPaddedInList(int listSize, int tupleSize, QueryStatement st) {
+        int bucketSize = props.getJdbcInListBucket(listSize);
+        String[] names = new String[bucketSize * tupleSize];
+        parsed().append('(');
+        for (int idx = 0; idx < names.length; idx++) {
+            names[idx] = nextJdbcPrmName();
+            if (idx > 0) {
+                parsed().append(", ");
+            }
+            if (tupleSize > 1 && idx % tupleSize == 0) {
+                parsed().append('(');
+            }
+            parsed().append(names[idx]);
+            if (tupleSize > 1 && idx % tupleSize == tupleSize - 1) {
+                parsed().append(')');
+            }
+        }
+        parsed().append(')');
+        st.addJdbcPrmFactory(JdbcPrm.paddedInListOrm(types, names, listSize, tupleSize));
+    }
+
+    private int parseJdbcTableListParameters(CharSequence query, int offset, QueryStatement st) {
         int start = offset;
         int listStartedAt = -1;
         int listSize = 0;
         boolean waitPrm = false;
-        while (offset < query.length) {
-            char ch = query[offset];
+        while (offset < query.length()) {
+            char ch = query.charAt(offset);
             switch (ch) {
                 case '(': // start of list
                     if (listStartedAt >= 0) {
@@ -471,7 +564,7 @@ public class YdbQueryParser {
                     waitPrm = true;
                     break;
                 case '?' :
-                    if (!waitPrm || (offset + 1 < query.length && query[offset + 1] == '?')) {
+                    if (!waitPrm || (offset + 1 < query.length() && query.charAt(offset + 1) == '?')) {
                         return start;
                     }
                     listSize++;
@@ -483,9 +576,9 @@ public class YdbQueryParser {
                     }
 
                     String name = nextJdbcPrmName();
-                    parsed.append(" AS_TABLE(");
-                    parsed.append(name);
-                    parsed.append(")");
+                    parsed().append(" AS_TABLE(");
+                    parsed().append(name);
+                    parsed().append(")");
                     st.addJdbcPrmFactory(JdbcPrm.jdbcTableListOrm(types, name, listSize));
                     return offset + 1;
                 case '-': // possibly -- style comment
@@ -495,7 +588,7 @@ public class YdbQueryParser {
                     offset = parseBlockComment(query, offset);
                     break;
                 default:
-                    if (!Character.isWhitespace(query[offset])) {
+                    if (!Character.isWhitespace(query.charAt(offset))) {
                         return start;
                     }
                     break;
@@ -506,10 +599,10 @@ public class YdbQueryParser {
         return start;
     }
 
-    private static int parseSingleQuotes(final char[] query, int offset) {
+    private static int parseSingleQuotes(final CharSequence query, int offset) {
         // treat backslashes as escape characters
-        while (++offset < query.length) {
-            switch (query[offset]) {
+        while (++offset < query.length()) {
+            switch (query.charAt(offset)) {
                 case '\\':
                     ++offset;
                     break;
@@ -520,30 +613,30 @@ public class YdbQueryParser {
             }
         }
 
-        return query.length;
+        return query.length();
     }
 
     @SuppressWarnings("EmptyBlock")
-    private static int parseDoubleQuotes(final char[] query, int offset) {
-        while (++offset < query.length && query[offset] != '"') {
+    private static int parseDoubleQuotes(final CharSequence query, int offset) {
+        while (++offset < query.length() && query.charAt(offset) != '"') {
             // do nothing
         }
         return offset;
     }
 
     @SuppressWarnings("EmptyBlock")
-    private static int parseBacktickQuotes(final char[] query, int offset) {
-        while (++offset < query.length && query[offset] != '`') {
+    private static int parseBacktickQuotes(final CharSequence query, int offset) {
+        while (++offset < query.length() && query.charAt(offset) != '`') {
             // do nothing
         }
         return offset;
     }
 
-    private static int parseLineComment(final char[] query, int offset) {
-        if (offset + 1 < query.length && query[offset + 1] == '-') {
-            while (offset + 1 < query.length) {
+    private static int parseLineComment(final CharSequence query, int offset) {
+        if (offset + 1 < query.length() && query.charAt(offset + 1) == '-') {
+            while (offset + 1 < query.length()) {
                 offset++;
-                if (query[offset] == '\r' || query[offset] == '\n') {
+                if (query.charAt(offset) == '\r' || query.charAt(offset) == '\n') {
                     break;
                 }
             }
@@ -551,20 +644,20 @@ public class YdbQueryParser {
         return offset;
     }
 
-    private static int parseBlockComment(final char[] query, int offset) {
-        if (offset + 1 < query.length && query[offset + 1] == '*') {
+    private static int parseBlockComment(final CharSequence query, int offset) {
+        if (offset + 1 < query.length() && query.charAt(offset + 1) == '*') {
             // /* /* */ */ nest, according to SQL spec
             int level = 1;
-            for (offset += 2; offset < query.length; ++offset) {
-                switch (query[offset - 1]) {
+            for (offset += 2; offset < query.length(); ++offset) {
+                switch (query.charAt(offset - 1)) {
                     case '*':
-                        if (query[offset] == '/') {
+                        if (query.charAt(offset) == '/') {
                             --level;
                             ++offset; // don't parse / in */* twice
                         }
                         break;
                     case '/':
-                        if (query[offset] == '*') {
+                        if (query.charAt(offset) == '*') {
                             ++level;
                             ++offset; // don't parse * in /*/ twice
                         }
@@ -582,271 +675,332 @@ public class YdbQueryParser {
         return offset;
     }
 
-    private static boolean parseAlterKeyword(char[] query, int offset, int length) {
+    private static boolean parseAlterKeyword(CharSequence query, int offset, int length) {
         if (length != 5) {
             return false;
         }
 
-        return (query[offset] | 32) == 'a'
-                && (query[offset + 1] | 32) == 'l'
-                && (query[offset + 2] | 32) == 't'
-                && (query[offset + 3] | 32) == 'e'
-                && (query[offset + 4] | 32) == 'r';
+        return (query.charAt(offset) | 32) == 'a'
+                && (query.charAt(offset + 1) | 32) == 'l'
+                && (query.charAt(offset + 2) | 32) == 't'
+                && (query.charAt(offset + 3) | 32) == 'e'
+                && (query.charAt(offset + 4) | 32) == 'r';
     }
 
-    private static boolean parseCreateKeyword(char[] query, int offset, int length) {
+    private static boolean parseCreateKeyword(CharSequence query, int offset, int length) {
         if (length != 6) {
             return false;
         }
 
-        return (query[offset] | 32) == 'c'
-                && (query[offset + 1] | 32) == 'r'
-                && (query[offset + 2] | 32) == 'e'
-                && (query[offset + 3] | 32) == 'a'
-                && (query[offset + 4] | 32) == 't'
-                && (query[offset + 5] | 32) == 'e';
+        return (query.charAt(offset) | 32) == 'c'
+                && (query.charAt(offset + 1) | 32) == 'r'
+                && (query.charAt(offset + 2) | 32) == 'e'
+                && (query.charAt(offset + 3) | 32) == 'a'
+                && (query.charAt(offset + 4) | 32) == 't'
+                && (query.charAt(offset + 5) | 32) == 'e';
     }
 
-    private static boolean parseDropKeyword(char[] query, int offset, int length) {
+    private static boolean parseDropKeyword(CharSequence query, int offset, int length) {
         if (length != 4) {
             return false;
         }
 
-        return (query[offset] | 32) == 'd'
-                && (query[offset + 1] | 32) == 'r'
-                && (query[offset + 2] | 32) == 'o'
-                && (query[offset + 3] | 32) == 'p';
+        return (query.charAt(offset) | 32) == 'd'
+                && (query.charAt(offset + 1) | 32) == 'r'
+                && (query.charAt(offset + 2) | 32) == 'o'
+                && (query.charAt(offset + 3) | 32) == 'p';
     }
 
-    private static boolean parseGrantKeyword(char[] query, int offset, int length) {
+    private static boolean parseGrantKeyword(CharSequence query, int offset, int length) {
         if (length != 5) {
             return false;
         }
 
-        return (query[offset] | 32) == 'g'
-                && (query[offset + 1] | 32) == 'r'
-                && (query[offset + 2] | 32) == 'a'
-                && (query[offset + 3] | 32) == 'n'
-                && (query[offset + 4] | 32) == 't';
+        return (query.charAt(offset) | 32) == 'g'
+                && (query.charAt(offset + 1) | 32) == 'r'
+                && (query.charAt(offset + 2) | 32) == 'a'
+                && (query.charAt(offset + 3) | 32) == 'n'
+                && (query.charAt(offset + 4) | 32) == 't';
     }
 
-    private static boolean parseRevokeKeyword(char[] query, int offset, int length) {
+    private static boolean parseRevokeKeyword(CharSequence query, int offset, int length) {
         if (length != 6) {
             return false;
         }
 
-        return (query[offset] | 32) == 'r'
-                && (query[offset + 1] | 32) == 'e'
-                && (query[offset + 2] | 32) == 'v'
-                && (query[offset + 3] | 32) == 'o'
-                && (query[offset + 4] | 32) == 'k'
-                && (query[offset + 5] | 32) == 'e';
+        return (query.charAt(offset) | 32) == 'r'
+                && (query.charAt(offset + 1) | 32) == 'e'
+                && (query.charAt(offset + 2) | 32) == 'v'
+                && (query.charAt(offset + 3) | 32) == 'o'
+                && (query.charAt(offset + 4) | 32) == 'k'
+                && (query.charAt(offset + 5) | 32) == 'e';
     }
-    private static boolean parseScanKeyword(char[] query, int offset, int length) {
+    private static boolean parseScanKeyword(CharSequence query, int offset, int length) {
         if (length != 4) {
             return false;
         }
 
-        return (query[offset] | 32) == 's'
-                && (query[offset + 1] | 32) == 'c'
-                && (query[offset + 2] | 32) == 'a'
-                && (query[offset + 3] | 32) == 'n';
+        return (query.charAt(offset) | 32) == 's'
+                && (query.charAt(offset + 1) | 32) == 'c'
+                && (query.charAt(offset + 2) | 32) == 'a'
+                && (query.charAt(offset + 3) | 32) == 'n';
     }
 
-    private static boolean parseBulkKeyword(char[] query, int offset, int length) {
+    private static boolean parseBulkKeyword(CharSequence query, int offset, int length) {
         if (length != 4) {
             return false;
         }
 
-        return (query[offset] | 32) == 'b'
-                && (query[offset + 1] | 32) == 'u'
-                && (query[offset + 2] | 32) == 'l'
-                && (query[offset + 3] | 32) == 'k';
+        return (query.charAt(offset) | 32) == 'b'
+                && (query.charAt(offset + 1) | 32) == 'u'
+                && (query.charAt(offset + 2) | 32) == 'l'
+                && (query.charAt(offset + 3) | 32) == 'k';
     }
 
-    private static boolean parseExplainKeyword(char[] query, int offset, int length) {
+    private static boolean parseExplainKeyword(CharSequence query, int offset, int length) {
         if (length != 7) {
             return false;
         }
 
-        return (query[offset] | 32) == 'e'
-                && (query[offset + 1] | 32) == 'x'
-                && (query[offset + 2] | 32) == 'p'
-                && (query[offset + 3] | 32) == 'l'
-                && (query[offset + 4] | 32) == 'a'
-                && (query[offset + 5] | 32) == 'i'
-                && (query[offset + 6] | 32) == 'n';
+        return (query.charAt(offset) | 32) == 'e'
+                && (query.charAt(offset + 1) | 32) == 'x'
+                && (query.charAt(offset + 2) | 32) == 'p'
+                && (query.charAt(offset + 3) | 32) == 'l'
+                && (query.charAt(offset + 4) | 32) == 'a'
+                && (query.charAt(offset + 5) | 32) == 'i'
+                && (query.charAt(offset + 6) | 32) == 'n';
     }
 
-    private static boolean parseSelectKeyword(char[] query, int offset, int length) {
+    private static boolean parseSelectKeyword(CharSequence query, int offset, int length) {
         if (length != 6) {
             return false;
         }
 
-        return (query[offset] | 32) == 's'
-                && (query[offset + 1] | 32) == 'e'
-                && (query[offset + 2] | 32) == 'l'
-                && (query[offset + 3] | 32) == 'e'
-                && (query[offset + 4] | 32) == 'c'
-                && (query[offset + 5] | 32) == 't';
+        return (query.charAt(offset) | 32) == 's'
+                && (query.charAt(offset + 1) | 32) == 'e'
+                && (query.charAt(offset + 2) | 32) == 'l'
+                && (query.charAt(offset + 3) | 32) == 'e'
+                && (query.charAt(offset + 4) | 32) == 'c'
+                && (query.charAt(offset + 5) | 32) == 't';
     }
 
-    private static boolean parseDeclareKeyword(char[] query, int offset, int length) {
+    private static boolean parseDeclareKeyword(CharSequence query, int offset, int length) {
         if (length != 7) {
             return false;
         }
 
-        return (query[offset] | 32) == 'd'
-                && (query[offset + 1] | 32) == 'e'
-                && (query[offset + 2] | 32) == 'c'
-                && (query[offset + 3] | 32) == 'l'
-                && (query[offset + 4] | 32) == 'a'
-                && (query[offset + 5] | 32) == 'r'
-                && (query[offset + 6] | 32) == 'e';
+        return (query.charAt(offset) | 32) == 'd'
+                && (query.charAt(offset + 1) | 32) == 'e'
+                && (query.charAt(offset + 2) | 32) == 'c'
+                && (query.charAt(offset + 3) | 32) == 'l'
+                && (query.charAt(offset + 4) | 32) == 'a'
+                && (query.charAt(offset + 5) | 32) == 'r'
+                && (query.charAt(offset + 6) | 32) == 'e';
     }
 
-    private static boolean parseUpdateKeyword(char[] query, int offset, int length) {
+    private static boolean parseUpdateKeyword(CharSequence query, int offset, int length) {
         if (length != 6) {
             return false;
         }
 
-        return (query[offset] | 32) == 'u'
-                && (query[offset + 1] | 32) == 'p'
-                && (query[offset + 2] | 32) == 'd'
-                && (query[offset + 3] | 32) == 'a'
-                && (query[offset + 4] | 32) == 't'
-                && (query[offset + 5] | 32) == 'e';
+        return (query.charAt(offset) | 32) == 'u'
+                && (query.charAt(offset + 1) | 32) == 'p'
+                && (query.charAt(offset + 2) | 32) == 'd'
+                && (query.charAt(offset + 3) | 32) == 'a'
+                && (query.charAt(offset + 4) | 32) == 't'
+                && (query.charAt(offset + 5) | 32) == 'e';
     }
 
-    private static boolean parseUpsertKeyword(char[] query, int offset, int length) {
+    private static boolean parseUpsertKeyword(CharSequence query, int offset, int length) {
         if (length != 6) {
             return false;
         }
 
-        return (query[offset] | 32) == 'u'
-                && (query[offset + 1] | 32) == 'p'
-                && (query[offset + 2] | 32) == 's'
-                && (query[offset + 3] | 32) == 'e'
-                && (query[offset + 4] | 32) == 'r'
-                && (query[offset + 5] | 32) == 't';
+        return (query.charAt(offset) | 32) == 'u'
+                && (query.charAt(offset + 1) | 32) == 'p'
+                && (query.charAt(offset + 2) | 32) == 's'
+                && (query.charAt(offset + 3) | 32) == 'e'
+                && (query.charAt(offset + 4) | 32) == 'r'
+                && (query.charAt(offset + 5) | 32) == 't';
     }
 
-    private static boolean parseInsertKeyword(char[] query, int offset, int length) {
+    private static boolean parseInsertKeyword(CharSequence query, int offset, int length) {
         if (length != 6) {
             return false;
         }
 
-        return (query[offset] | 32) == 'i'
-                && (query[offset + 1] | 32) == 'n'
-                && (query[offset + 2] | 32) == 's'
-                && (query[offset + 3] | 32) == 'e'
-                && (query[offset + 4] | 32) == 'r'
-                && (query[offset + 5] | 32) == 't';
+        return (query.charAt(offset) | 32) == 'i'
+                && (query.charAt(offset + 1) | 32) == 'n'
+                && (query.charAt(offset + 2) | 32) == 's'
+                && (query.charAt(offset + 3) | 32) == 'e'
+                && (query.charAt(offset + 4) | 32) == 'r'
+                && (query.charAt(offset + 5) | 32) == 't';
     }
 
-    private static boolean parseDeleteKeyword(char[] query, int offset, int length) {
+    private static boolean parseDeleteKeyword(CharSequence query, int offset, int length) {
         if (length != 6) {
             return false;
         }
 
-        return (query[offset] | 32) == 'd'
-                && (query[offset + 1] | 32) == 'e'
-                && (query[offset + 2] | 32) == 'l'
-                && (query[offset + 3] | 32) == 'e'
-                && (query[offset + 4] | 32) == 't'
-                && (query[offset + 5] | 32) == 'e';
+        return (query.charAt(offset) | 32) == 'd'
+                && (query.charAt(offset + 1) | 32) == 'e'
+                && (query.charAt(offset + 2) | 32) == 'l'
+                && (query.charAt(offset + 3) | 32) == 'e'
+                && (query.charAt(offset + 4) | 32) == 't'
+                && (query.charAt(offset + 5) | 32) == 'e';
     }
 
-    private static boolean parseReplaceKeyword(char[] query, int offset, int length) {
+    private static boolean parseReplaceKeyword(CharSequence query, int offset, int length) {
         if (length != 7) {
             return false;
         }
 
-        return (query[offset] | 32) == 'r'
-                && (query[offset + 1] | 32) == 'e'
-                && (query[offset + 2] | 32) == 'p'
-                && (query[offset + 3] | 32) == 'l'
-                && (query[offset + 4] | 32) == 'a'
-                && (query[offset + 5] | 32) == 'c'
-                && (query[offset + 6] | 32) == 'e';
+        return (query.charAt(offset) | 32) == 'r'
+                && (query.charAt(offset + 1) | 32) == 'e'
+                && (query.charAt(offset + 2) | 32) == 'p'
+                && (query.charAt(offset + 3) | 32) == 'l'
+                && (query.charAt(offset + 4) | 32) == 'a'
+                && (query.charAt(offset + 5) | 32) == 'c'
+                && (query.charAt(offset + 6) | 32) == 'e';
     }
 
-    private static boolean parseReturningKeyword(char[] query, int offset, int length) {
+    private static boolean parseReturningKeyword(CharSequence query, int offset, int length) {
         if (length != 9) {
             return false;
         }
 
-        return (query[offset] | 32) == 'r'
-                && (query[offset + 1] | 32) == 'e'
-                && (query[offset + 2] | 32) == 't'
-                && (query[offset + 3] | 32) == 'u'
-                && (query[offset + 4] | 32) == 'r'
-                && (query[offset + 5] | 32) == 'n'
-                && (query[offset + 6] | 32) == 'i'
-                && (query[offset + 7] | 32) == 'n'
-                && (query[offset + 8] | 32) == 'g';
+        return (query.charAt(offset) | 32) == 'r'
+                && (query.charAt(offset + 1) | 32) == 'e'
+                && (query.charAt(offset + 2) | 32) == 't'
+                && (query.charAt(offset + 3) | 32) == 'u'
+                && (query.charAt(offset + 4) | 32) == 'r'
+                && (query.charAt(offset + 5) | 32) == 'n'
+                && (query.charAt(offset + 6) | 32) == 'i'
+                && (query.charAt(offset + 7) | 32) == 'n'
+                && (query.charAt(offset + 8) | 32) == 'g';
     }
 
-    private static boolean parseOffsetKeyword(char[] query, int offset, int length) {
+    private static boolean parseOffsetKeyword(CharSequence query, int offset, int length) {
         if (length != 6) {
             return false;
         }
 
-        return (query[offset] | 32) == 'o'
-                && (query[offset + 1] | 32) == 'f'
-                && (query[offset + 2] | 32) == 'f'
-                && (query[offset + 3] | 32) == 's'
-                && (query[offset + 4] | 32) == 'e'
-                && (query[offset + 5] | 32) == 't';
+        return (query.charAt(offset) | 32) == 'o'
+                && (query.charAt(offset + 1) | 32) == 'f'
+                && (query.charAt(offset + 2) | 32) == 'f'
+                && (query.charAt(offset + 3) | 32) == 's'
+                && (query.charAt(offset + 4) | 32) == 'e'
+                && (query.charAt(offset + 5) | 32) == 't';
+    }
+
+    private static boolean parseLimitKeyword(CharSequence query, int offset, int length) {
+        if (length != 5) {
+            return false;
+        }
+
+        return (query.charAt(offset) | 32) == 'l'
+                && (query.charAt(offset + 1) | 32) == 'i'
+                && (query.charAt(offset + 2) | 32) == 'm'
+                && (query.charAt(offset + 3) | 32) == 'i'
+                && (query.charAt(offset + 4) | 32) == 't';
+    }
+
+    private static boolean isLimitBlocker(CharSequence query, int offset, int length) {
+        return parseLimitKeyword(query, offset, length)
+                || parseOffsetKeyword(query, offset, length)
+                || parseUnionKeyword(query, offset, length)
+                || parseIntersectKeyword(query, offset, length)
+                || parseExceptKeyword(query, offset, length)
+                || parseIntoKeyword(query, offset, length);
     }
 
-    private static boolean parseLimitKeyword(char[] query, int offset, int length) {
+    private static boolean parseUnionKeyword(CharSequence query, int offset, int length) {
         if (length != 5) {
             return false;
         }
 
-        return (query[offset] | 32) == 'l'
-                && (query[offset + 1] | 32) == 'i'
-                && (query[offset + 2] | 32) == 'm'
-                && (query[offset + 3] | 32) == 'i'
-                && (query[offset + 4] | 32) == 't';
+        return (query.charAt(offset) | 32) == 'u'
+                && (query.charAt(offset + 1) | 32) == 'n'
+                && (query.charAt(offset + 2) | 32) == 'i'
+                && (query.charAt(offset + 3) | 32) == 'o'
+                && (query.charAt(offset + 4) | 32) == 'n';
+    }
+
+    private static boolean parseIntersectKeyword(CharSequence query, int offset, int length) {
+        if (length != 9) {
+            return false;
+        }
+
+        return (query.charAt(offset) | 32) == 'i'
+                && (query.charAt(offset + 1) | 32) == 'n'
+                && (query.charAt(offset + 2) | 32) == 't'
+                && (query.charAt(offset + 3) | 32) == 'e'
+                && (query.charAt(offset + 4) | 32) == 'r'
+                && (query.charAt(offset + 5) | 32) == 's'
+                && (query.charAt(offset + 6) | 32) == 'e'
+                && (query.charAt(offset + 7) | 32) == 'c'
+                && (query.charAt(offset + 8) | 32) == 't';
+    }
+
+    private static boolean parseExceptKeyword(CharSequence query, int offset, int length) {
+        if (length != 6) {
+            return false;
+        }
+
+        return (query.charAt(offset) | 32) == 'e'
+                && (query.charAt(offset + 1) | 32) == 'x'
+                && (query.charAt(offset + 2) | 32) == 'c'
+                && (query.charAt(offset + 3) | 32) == 'e'
+                && (query.charAt(offset + 4) | 32) == 'p'
+                && (query.charAt(offset + 5) | 32) == 't';
+    }
+
+    private static boolean parseIntoKeyword(CharSequence query, int offset, int length) {
+        if (length != 4) {
+            return false;
+        }
+
+        return (query.charAt(offset) | 32) == 'i'
+                && (query.charAt(offset + 1) | 32) == 'n'
+                && (query.charAt(offset + 2) | 32) == 't'
+                && (query.charAt(offset + 3) | 32) == 'o';
     }
 
-    private static boolean parseInKeyword(char[] query, int offset, int length) {
+    private static boolean parseInKeyword(CharSequence query, int offset, int length) {
         if (length != 2) {
             return false;
         }
 
-        return (query[offset] | 32) == 'i'
-                && (query[offset + 1] | 32) == 'n';
+        return (query.charAt(offset) | 32) == 'i'
+                && (query.charAt(offset + 1) | 32) == 'n';
     }
 
-    private static boolean parseJdbcTableKeyword(char[] query, int offset, int length) {
+    private static boolean parseJdbcTableKeyword(CharSequence query, int offset, int length) {
         if (length != 10) {
             return false;
         }
 
-        return (query[offset] | 32) == 'j'
-                && (query[offset + 1] | 32) == 'd'
-                && (query[offset + 2] | 32) == 'b'
-                && (query[offset + 3] | 32) == 'c'
-                && (query[offset + 4]) == '_'
-                && (query[offset + 5] | 32) == 't'
-                && (query[offset + 6] | 32) == 'a'
-                && (query[offset + 7] | 32) == 'b'
-                && (query[offset + 8] | 32) == 'l'
-                && (query[offset + 9] | 32) == 'e';
+        return (query.charAt(offset) | 32) == 'j'
+                && (query.charAt(offset + 1) | 32) == 'd'
+                && (query.charAt(offset + 2) | 32) == 'b'
+                && (query.charAt(offset + 3) | 32) == 'c'
+                && (query.charAt(offset + 4)) == '_'
+                && (query.charAt(offset + 5) | 32) == 't'
+                && (query.charAt(offset + 6) | 32) == 'a'
+                && (query.charAt(offset + 7) | 32) == 'b'
+                && (query.charAt(offset + 8) | 32) == 'l'
+                && (query.charAt(offset + 9) | 32) == 'e';
     }
 
-    private static boolean parseBatchKeyword(char[] query, int offset, int length) {
+    private static boolean parseBatchKeyword(CharSequence query, int offset, int length) {
         if (length != 5) {
             return false;
         }
 
-        return (query[offset] | 32) == 'b'
-                && (query[offset + 1] | 32) == 'a'
-                && (query[offset + 2] | 32) == 't'
-                && (query[offset + 3] | 32) == 'c'
-                && (query[offset + 4] | 32) == 'h';
+        return (query.charAt(offset) | 32) == 'b'
+                && (query.charAt(offset + 1) | 32) == 'a'
+                && (query.charAt(offset + 2) | 32) == 't'
+                && (query.charAt(offset + 3) | 32) == 'c'
+                && (query.charAt(offset + 4) | 32) == 'h';
     }
 }
@@ -257,17 +257,17 @@ public class YqlBatcher {
         state = State.ERROR;
     }
 
-    public void readSingleQuoteLiteral(char[] query, int start, int length) {
+    public void readSingleQuoteLiteral(CharSequence query, int start, int length) {
         // NOT SUPPORTED YET
         state = State.ERROR;
     }
 
-    public void readDoubleQuoteLiteral(char[] query, int start, int length) {
+    public void readDoubleQuoteLiteral(CharSequence query, int start, int length) {
         // NOT SUPPORTED YET
         state = State.ERROR;
     }
 
-    public void readIdentifier(char[] query, int start, int length) {
+    public void readIdentifier(CharSequence query, int start, int length) {
         if (state == State.CMD) {
             if (cmd == Cmd.UPDATE) {
                 tableName = unquote(query, start, length);
@@ -277,10 +277,10 @@ public class YqlBatcher {
 
             if (cmd == Cmd.DELETE) {
                 if (length == 4
-                        && (query[start] | 32) == 'f'
-                        && (query[start + 1] | 32) == 'r'
-                        && (query[start + 2] | 32) == 'o'
-                        && (query[start + 3] | 32) == 'm') {
+                        && (query.charAt(start) | 32) == 'f'
+                        && (query.charAt(start + 1) | 32) == 'r'
+                        && (query.charAt(start + 2) | 32) == 'o'
+                        && (query.charAt(start + 3) | 32) == 'm') {
                     state = State.FROM;
                     return;
                 }
@@ -288,10 +288,10 @@ public class YqlBatcher {
 
             if  (cmd == Cmd.INSERT || cmd == Cmd.REPLACE || cmd == Cmd.UPSERT) {
                 if (length == 4
-                        && (query[start] | 32) == 'i'
-                        && (query[start + 1] | 32) == 'n'
-                        && (query[start + 2] | 32) == 't'
-                        && (query[start + 3] | 32) == 'o') {
+                        && (query.charAt(start) | 32) == 'i'
+                        && (query.charAt(start + 1) | 32) == 'n'
+                        && (query.charAt(start + 2) | 32) == 't'
+                        && (query.charAt(start + 3) | 32) == 'o') {
                     state = State.INTO;
                     return;
                 }
@@ -300,9 +300,9 @@ public class YqlBatcher {
 
         if (state == State.TABLE_NAME && cmd == Cmd.UPDATE) {
             if (length == 3
-                    && (query[start] | 32) == 's'
-                    && (query[start + 1] | 32) == 'e'
-                    && (query[start + 2] | 32) == 't') {
+                    && (query.charAt(start) | 32) == 's'
+                    && (query.charAt(start + 1) | 32) == 'e'
+                    && (query.charAt(start + 2) | 32) == 't') {
                 state = State.SET;
                 return;
             }
@@ -310,12 +310,12 @@ public class YqlBatcher {
 
         if (state == State.COLUMNS_CLOSE_PAREN) {
             if (length == 6
-                    && (query[start] | 32) == 'v'
-                    && (query[start + 1] | 32) == 'a'
-                    && (query[start + 2] | 32) == 'l'
-                    && (query[start + 3] | 32) == 'u'
-                    && (query[start + 4] | 32) == 'e'
-                    && (query[start + 5] | 32) == 's') {
+                    && (query.charAt(start) | 32) == 'v'
+                    && (query.charAt(start + 1) | 32) == 'a'
+                    && (query.charAt(start + 2) | 32) == 'l'
+                    && (query.charAt(start + 3) | 32) == 'u'
+                    && (query.charAt(start + 4) | 32) == 'e'
+                    && (query.charAt(start + 5) | 32) == 's') {
                 state = State.VALUES;
                 return;
             }
@@ -323,11 +323,11 @@ public class YqlBatcher {
 
         if (state == State.COLUMNS_VALUE || (state == State.TABLE_NAME && cmd == Cmd.DELETE)) {
             if (length == 5
-                    && (query[start] | 32) == 'w'
-                    && (query[start + 1] | 32) == 'h'
-                    && (query[start + 2] | 32) == 'e'
-                    && (query[start + 3] | 32) == 'r'
-                    && (query[start + 4] | 32) == 'e') {
+                    && (query.charAt(start) | 32) == 'w'
+                    && (query.charAt(start + 1) | 32) == 'h'
+                    && (query.charAt(start + 2) | 32) == 'e'
+                    && (query.charAt(start + 3) | 32) == 'r'
+                    && (query.charAt(start + 4) | 32) == 'e') {
                 state = State.WHERE;
                 return;
             }
@@ -335,9 +335,9 @@ public class YqlBatcher {
 
         if (state == State.WHERE_VALUE) {
             if (length == 3
-                    && (query[start] | 32) == 'a'
-                    && (query[start + 1] | 32) == 'n'
-                    && (query[start + 2] | 32) == 'd') {
+                    && (query.charAt(start) | 32) == 'a'
+                    && (query.charAt(start + 1) | 32) == 'n'
+                    && (query.charAt(start + 2) | 32) == 'd') {
                 state = State.WHERE_AND;
                 return;
             }
@@ -381,10 +381,10 @@ public class YqlBatcher {
         state = State.ERROR;
     }
 
-    private String unquote(char[] chars, int start, int length) {
-        if (chars[start] == '`' && chars[start + length - 1] == '`') {
-            return String.valueOf(chars, start + 1, length - 2);
+    private String unquote(CharSequence query, int start, int length) {
+        if (query.charAt(start) == '`' && query.charAt(start + length - 1) == '`') {
+            return query.subSequence(start + 1, start + length - 1).toString();
         }
-        return String.valueOf(chars, start, length);
+        return query.subSequence(start, start + length).toString();
     }
 }
@@ -0,0 +1,117 @@
+package tech.ydb.jdbc.query;
+
+/**
+ * Detects SELECT statement which reads only one table without joins, aggregations, sorting and limits. Rows of such
+ * statement can be read by several scans of the key ranges of the table and merged in any order.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class YqlScanSource {
+    private static final String[] NOT_SUPPORTED_CLAUSES = new String[] {
+        "JOIN", "GROUP", "ORDER", "ASSUME", "LIMIT", "OFFSET", "UNION", "INTERSECT", "EXCEPT", "INTO", "VIEW",
+        "FLATTEN", "HAVING", "WINDOW", "WITH", "SAMPLE", "TABLESAMPLE", "MATCH_RECOGNIZE", "FROM",
+    };
+
+    private enum State {
+        PROJECTION, // Readed SELECT keyword, only simple columns without functions are supported
+        FROM,       // Readed FROM keyword
+        SOURCE,     // Readed table name
+        ERROR
+    }
+
+    private State state = State.PROJECTION;
+    private String tableName = null;
+    private int tableStart = -1;
+    private int tableLength = 0;
+
+    boolean isValid() {
+        return state == State.SOURCE;
+    }
+
+    String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * @return position of the table name in the prepared YQL
+     */
+    int getTableStart() {
+        return tableStart;
+    }
+
+    int getTableLength() {
+        return tableLength;
+    }
+
+    /**
+     * Reads keyword or identifier of top level of the statement
+     *
+     * @param query text of the query
+     * @param start start of the keyword
+     * @param length length of the keyword
+     * @param parsedStart position of the keyword in the prepared YQL
+     */
+    void readKeyword(String query, int start, int length, int parsedStart) {
+        switch (state) {
+            case PROJECTION:
+                if (isKeyword(query, start, length, "FROM")) {
+                    state = State.FROM;
+                } else if (isKeyword(query, start, length, "DISTINCT")) {
+                    state = State.ERROR;
+                }
+                break;
+            case FROM:
+                if (query.charAt(start) == '$') { // named expressions are not supported
+                    state = State.ERROR;
+                    return;
+                }
+                readTable(query.substring(start, start + length), parsedStart, length);
+                break;
+            case SOURCE:
+                for (String clause: NOT_SUPPORTED_CLAUSES) {
+                    if (isKeyword(query, start, length, clause)) {
+                        state = State.ERROR;
+                        return;
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    void readQuotedIdentifier(String query, int start, int length, int parsedStart) {
+        if (state == State.FROM) {
+            readTable(query.substring(start + 1, start + length - 1), parsedStart, length);
+        }
+    }
+
+    void readOpenParen() {
+        // functions in projection may be aggregations, subqueries and table functions are not supported
+        if (state == State.PROJECTION || state == State.FROM) {
+            state = State.ERROR;
+        }
+    }
+
+    void readComma() {
+        // comma after the table is a cross join
+        if (state == State.SOURCE || state == State.FROM) {
+            state = State.ERROR;
+        }
+    }
+
+    void readUnsupported() {
+        state = State.ERROR;
+    }
+
+    private void readTable(String name, int parsedStart, int length) {
+        tableName = name;
+        tableStart = parsedStart;
+        tableLength = length;
+        state = State.SOURCE;
+    }
+
+    private static boolean isKeyword(String query, int start, int length, String keyword) {
+        return length == keyword.length() && query.regionMatches(true, start, keyword, 0, length);
+    }
+}
@@ -0,0 +1,128 @@
+package tech.ydb.jdbc.query;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Text of parsed query with cached renderings. Query text depends only on the types of parameters (for DECLARE
+ * section) and on the prefix pragma of context, so the last rendered text is reused while they are not changed.
+ * Template is shared between all statements of the parsed query and may be used concurrently
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YqlTemplate {
+    private static final String DECLARE = "DECLARE ";
+    private static final String AS = " AS ";
+    private static final String END = ";\n";
+
+    private final String yql;
+
+    private volatile Declared lastDeclared = null;
+    private volatile Prefixed lastPrefixed = null;
+
+    YqlTemplate(String yql) {
+        this.yql = yql;
+    }
+
+    public String getYql() {
+        return yql;
+    }
+
+    /**
+     * Returns query text with DECLARE section for all parameters
+     *
+     * @param prms parameters of query
+     * @return query text with declared parameters
+     */
+    public String withDeclares(Params prms) {
+        Map<String, Value<?>> values = prms.values();
+        Declared last = lastDeclared;
+        if (last != null && last.isSameShape(values)) {
+            return last.text;
+        }
+
+        Declared declared = new Declared(values, yql);
+        lastDeclared = declared;
+        return declared.text;
+    }
+
+    /**
+     * Returns text with the prefix. Both arguments are usually the same string instances for all executions of the
+     * query, so the previous concatenation is reused
+     *
+     * @param prefix prefix pragma of context
+     * @param text query text
+     * @return concatenated text
+     */
+    public String withPrefix(String prefix, String text) {
+        if (prefix.isEmpty()) {
+            return text;
+        }
+
+        Prefixed last = lastPrefixed;
+        if (last != null && last.prefix == prefix && last.source == text) {
+            return last.text;
+        }
+
+        Prefixed prefixed = new Prefixed(prefix, text);
+        lastPrefixed = prefixed;
+        return prefixed.text;
+    }
+
+    private static class Declared {
+        private final String[] names;
+        private final Type[] types;
+        private final String text;
+
+        Declared(Map<String, Value<?>> values, String yql) {
+            this.names = new String[values.size()];
+            this.types = new Type[values.size()];
+
+            int length = yql.length();
+            int idx = 0;
+            for (Map.Entry<String, Value<?>> entry: values.entrySet()) {
+                names[idx] = entry.getKey();
+                types[idx] = entry.getValue().getType();
+                length += DECLARE.length() + names[idx].length() + AS.length() + END.length() + 16;
+                idx++;
+            }
+
+            StringBuilder sb = new StringBuilder(length);
+            for (idx = 0; idx < names.length; idx++) {
+                sb.append(DECLARE).append(names[idx]).append(AS).append(types[idx].toString()).append(END);
+            }
+            sb.append(yql);
+            this.text = sb.toString();
+        }
+
+        boolean isSameShape(Map<String, Value<?>> values) {
+            if (values.size() != names.length) {
+                return false;
+            }
+            Iterator<Map.Entry<String, Value<?>>> it = values.entrySet().iterator();
+            for (int idx = 0; idx < names.length; idx++) {
+                Map.Entry<String, Value<?>> entry = it.next();
+                if (!names[idx].equals(entry.getKey()) || !types[idx].equals(entry.getValue().getType())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static class Prefixed {
+        private final String prefix;
+        private final String source;
+        private final String text;
+
+        Prefixed(String prefix, String source) {
+            this.prefix = prefix;
+            this.source = source;
+            this.text = prefix + source;
+        }
+    }
+}
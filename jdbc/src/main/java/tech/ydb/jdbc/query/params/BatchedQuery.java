@@ -4,6 +4,7 @@ package tech.ydb.jdbc.query.params;
 import java.sql.SQLDataException;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -38,21 +39,26 @@ public class BatchedQuery implements YdbPreparedQuery {
     private final String singleQuery;
     private final String batchQuery;
     private final String batchParamName;
-    private final Map<String, ParamDescription> paramsByName;
+    private final Map<String, Integer> indexesByName;
     private final ParamDescription[] params;
 
-    private final List<StructValue> batchList = new ArrayList<>();
-    private final Map<String, Value<?>> currentValues = new HashMap<>();
+    private final Value<?>[] currentValues;
+    private ColumnarBatch batch;
+    // estimated size of the first estimatedRows rows of the batch
+    private int estimatedRows = 0;
+    private long estimatedBytes = 0;
 
     protected BatchedQuery(String single, String batched, String prm, ParamDescription[] params) throws SQLException {
         this.singleQuery = single;
         this.batchQuery = batched;
         this.batchParamName = prm;
-        this.paramsByName = new HashMap<>();
+        this.indexesByName = new HashMap<>();
         this.params = params;
+        this.currentValues = new Value<?>[params.length];
+        this.batch = new ColumnarBatch(params);
 
-        for (ParamDescription pd: params) {
-            paramsByName.put(pd.name(), pd);
+        for (int idx = 0; idx < params.length; idx++) {
+            indexesByName.put(params[idx].name(), idx);
         }
     }
 
@@ -73,36 +79,81 @@ public class BatchedQuery implements YdbPreparedQuery {
 
     @Override
     public int batchSize() {
-        return batchList.size();
+        return batch.size();
     }
 
     @Override
     public void clearParameters() {
-        currentValues.clear();
+        Arrays.fill(currentValues, null);
     }
 
     @Override
     public void addBatch() throws SQLException {
-        batchList.add(StructValue.of(validateValues()));
-        currentValues.clear();
+        batch.addRow(currentValues);
+        clearParameters();
     }
 
     @Override
     public void clearBatch() {
-        batchList.clear();
+        // values of the sent batch may be still referenced, so the new batch is created instead of reusing
+        if (batch.size() > 0) {
+            batch = new ColumnarBatch(params);
+            estimatedRows = 0;
+            estimatedBytes = 0;
+        }
+    }
+
+    /**
+     * Checks if the batch reached any of limits
+     *
+     * @param maxRows maximum count of rows or {@code 0} for no limit
+     * @param maxBytes maximum estimated size of rows in bytes or {@code 0} for no limit
+     * @return true if the batch is not empty and reached any of limits
+     */
+    public boolean isBatchFull(int maxRows, long maxBytes) {
+        if (batch.size() == 0) {
+            return false;
+        }
+        if (maxRows > 0 && batch.size() >= maxRows) {
+            return true;
+        }
+        if (maxBytes > 0) {
+            while (estimatedRows < batch.size()) {
+                estimatedBytes += batch.estimateRowSize(estimatedRows++);
+            }
+            return estimatedBytes >= maxBytes;
+        }
+        return false;
+    }
+
+    /**
+     * Returns parameters with all rows of the batch and starts the new empty batch
+     *
+     * @return parameters of the detached batch
+     */
+    public Params detachBatchParams() {
+        return Params.of(batchParamName, detachBatch().toValue());
+    }
+
+    protected ColumnarBatch detachBatch() {
+        ColumnarBatch detached = batch;
+        clearBatch();
+        return detached;
     }
 
     protected Map<String, Value<?>> validateValues() throws SQLException {
-        for (ParamDescription prm: params) {
-            if (!currentValues.containsKey(prm.name())) {
-                throw new SQLDataException(YdbConst.MISSING_VALUE_FOR_PARAMETER + prm.displayName());
+        Map<String, Value<?>> values = new HashMap<>();
+        for (int idx = 0; idx < params.length; idx++) {
+            if (currentValues[idx] == null) {
+                throw new SQLDataException(YdbConst.MISSING_VALUE_FOR_PARAMETER + params[idx].displayName());
             }
+            values.put(params[idx].name(), currentValues[idx]);
         }
-        return currentValues;
+        return values;
     }
 
-    protected List<StructValue> getBatchedValues() {
-        return batchList;
+    protected ColumnarBatch getBatch() {
+        return batch;
     }
 
     @Override
@@ -118,33 +169,137 @@ public class BatchedQuery implements YdbPreparedQuery {
 
     @Override
     public List<Params> getBatchParams() {
-        if (batchList.isEmpty()) {
+        if (batch.size() == 0) {
             return Collections.emptyList();
         }
 
-        Value<?>[] batchStructs = batchList.toArray(new Value<?>[0]);
-        ListValue list = ListValue.of(batchStructs);
-        return Collections.singletonList(Params.of(batchParamName, list));
+        return Collections.singletonList(Params.of(batchParamName, batch.toValue()));
+    }
+
+    /**
+     * Splits added rows into continuous chunks
+     *
+     * @param maxRows maximum count of rows in one chunk or {@code 0} for no limit
+     * @param maxBytes maximum estimated size of one chunk in bytes or {@code 0} for no limit
+     * @return array of exclusive ends of chunks
+     */
+    public int[] splitBatch(int maxRows, long maxBytes) {
+        return batch.split(maxRows, maxBytes);
+    }
+
+    public Params getBatchParams(int fromRow, int toRow) {
+        return Params.of(batchParamName, batch.toValue(fromRow, toRow));
     }
 
     @Override
     public void setParam(int index, Object obj, int sqlType) throws SQLException {
+        int idx = findParam(index);
+        currentValues[idx] = ValueFactory.readValue(params[idx].displayName(), obj, params[idx].type());
+    }
+
+    @Override
+    public void setParam(String name, Object obj, int sqlType) throws SQLException {
+        int idx = findParam(name);
+        currentValues[idx] = ValueFactory.readValue(params[idx].displayName(), obj, params[idx].type());
+    }
+
+    @Override
+    public void setInt(int index, int value) throws SQLException {
+        int idx = findParam(index);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setInt(String name, int value) throws SQLException {
+        int idx = findParam(name);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setLong(int index, long value) throws SQLException {
+        int idx = findParam(index);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setLong(String name, long value) throws SQLException {
+        int idx = findParam(name);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setDouble(int index, double value) throws SQLException {
+        int idx = findParam(index);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setDouble(String name, double value) throws SQLException {
+        int idx = findParam(name);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setBoolean(int index, boolean value) throws SQLException {
+        int idx = findParam(index);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setBoolean(String name, boolean value) throws SQLException {
+        int idx = findParam(name);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setByte(int index, byte value) throws SQLException {
+        int idx = findParam(index);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setByte(String name, byte value) throws SQLException {
+        int idx = findParam(name);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setShort(int index, short value) throws SQLException {
+        int idx = findParam(index);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setShort(String name, short value) throws SQLException {
+        int idx = findParam(name);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setFloat(int index, float value) throws SQLException {
+        int idx = findParam(index);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    @Override
+    public void setFloat(String name, float value) throws SQLException {
+        int idx = findParam(name);
+        currentValues[idx] = ValueFactory.readValue(value, params[idx].type());
+    }
+
+    private int findParam(int index) throws SQLException {
         if (index <= 0 || index > params.length) {
             throw new SQLException(YdbConst.PARAMETER_NUMBER_NOT_FOUND + index);
         }
-        ParamDescription desc = params[index - 1];
-        Value<?> value = ValueFactory.readValue(desc.displayName(), obj, desc.type());
-        currentValues.put(desc.name(), value);
+        return index - 1;
     }
 
-    @Override
-    public void setParam(String name, Object obj, int sqlType) throws SQLException {
-        if (!paramsByName.containsKey(name)) {
+    private int findParam(String name) throws SQLException {
+        Integer idx = indexesByName.get(name);
+        if (idx == null) {
             throw new SQLException(YdbConst.PARAMETER_NOT_FOUND + name);
         }
-        ParamDescription desc = paramsByName.get(name);
-        Value<?> value = ValueFactory.readValue(desc.displayName(), obj, desc.type());
-        currentValues.put(desc.name(), value);
+        return idx;
     }
 
     @Override
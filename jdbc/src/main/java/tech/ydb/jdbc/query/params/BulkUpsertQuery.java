@@ -11,8 +11,8 @@ import tech.ydb.jdbc.common.YdbTypes;
 import tech.ydb.jdbc.query.ParamDescription;
 import tech.ydb.table.description.TableColumn;
 import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.BulkUpsertData;
 import tech.ydb.table.values.ListType;
-import tech.ydb.table.values.ListValue;
 import tech.ydb.table.values.StructType;
 import tech.ydb.table.values.StructValue;
 import tech.ydb.table.values.Type;
@@ -24,23 +24,68 @@ import tech.ydb.table.values.Type;
 public class BulkUpsertQuery extends BatchedQuery {
     private final String tablePath;
     private final ListType bulkType;
+    private final PartitionRouter router;
 
-    private BulkUpsertQuery(String tablePath, String yql, ListType tp, ParamDescription[] params) throws SQLException {
+    private BulkUpsertQuery(String tablePath, String yql, ListType tp, ParamDescription[] params,
+            TableDescription description) throws SQLException {
         super(null, yql, "$bulk", params);
         this.tablePath = tablePath;
         this.bulkType = tp;
+        this.router = PartitionRouter.of(description, params);
     }
 
     public String getTablePath() {
         return tablePath;
     }
 
-    public ListValue getCurrentBulk() throws SQLException {
-        return bulkType.newValue(Collections.singletonList(StructValue.of(validateValues())));
+    public BulkUpsertData getCurrentBulk() throws SQLException {
+        return new BulkUpsertData(bulkType.newValue(Collections.singletonList(StructValue.of(validateValues()))));
     }
 
-    public ListValue getBatchedBulk() {
-        return bulkType.newValue(getBatchedValues());
+    public BulkUpsertData getBatchedBulk() {
+        return new BulkUpsertData(getBatch().toTypedValue());
+    }
+
+    /**
+     * Returns all rows of the batch and starts the new empty batch
+     *
+     * @return rows of the detached batch
+     */
+    public BulkUpsertData detachBatchedBulk() {
+        return new BulkUpsertData(detachBatch().toTypedValue());
+    }
+
+    public BulkUpsertData getBatchedBulk(int fromRow, int toRow) {
+        return new BulkUpsertData(getBatch().toTypedValue(fromRow, toRow));
+    }
+
+    /**
+     * Groups rows of the batch by partitions of the table. Partitions are known only if the table description was
+     * loaded with shard key bounds
+     *
+     * @return array of row indexes for each non empty partition or {@code null} if partitions of table are unknown
+     */
+    public int[][] groupBatchByPartitions() {
+        if (router == null || batchSize() == 0) {
+            return null;
+        }
+        return router.groupRows(getBatch());
+    }
+
+    /**
+     * Splits selected rows into continuous chunks
+     *
+     * @param rows indexes of selected rows
+     * @param maxRows maximum count of rows in one chunk or {@code 0} for no limit
+     * @param maxBytes maximum estimated size of one chunk in bytes or {@code 0} for no limit
+     * @return array of exclusive ends of chunks in the selection
+     */
+    public int[] splitBatch(int[] rows, int maxRows, long maxBytes) {
+        return getBatch().split(rows, maxRows, maxBytes);
+    }
+
+    public BulkUpsertData getBatchedBulk(int[] rows, int from, int to) {
+        return new BulkUpsertData(getBatch().toTypedValue(rows, from, to));
     }
 
     public static BulkUpsertQuery build(YdbTypes types, String path, List<String> columns, TableDescription description)
@@ -69,6 +114,7 @@ public class BulkUpsertQuery extends BatchedQuery {
             params[idx++] = new ParamDescription(column, types.find(type));
         }
 
-        return new BulkUpsertQuery(path, yql.toString(), ListType.of(StructType.of(structTypes)), params);
+        ListType bulkType = ListType.of(StructType.of(structTypes));
+        return new BulkUpsertQuery(path, yql.toString(), bulkType, params, description);
     }
 }
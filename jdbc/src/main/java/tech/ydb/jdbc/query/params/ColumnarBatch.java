@@ -0,0 +1,533 @@
+package tech.ydb.jdbc.query.params;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+
+import tech.ydb.jdbc.YdbConst;
+import tech.ydb.jdbc.common.TypeDescription;
+import tech.ydb.jdbc.query.ParamDescription;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.proto.ValueProtos.Value.ValueCase;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructType;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+import tech.ydb.table.values.proto.ProtoValue;
+
+/**
+ * Columnar storage of batched rows. Values of primitive and decimal columns are kept in arrays of primitives and
+ * values of text and binary columns are kept in byte arenas, so the batch doesn't hold any objects per cell. The
+ * protobuf representation of rows is built only when the batch is sent.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class ColumnarBatch {
+    private static final int INITIAL_CAPACITY = 16;
+    // tag and length of the struct message inside of the list
+    private static final int STRUCT_OVERHEAD = 4;
+    // tag and length of the value message inside of the struct
+    private static final int ITEM_OVERHEAD = 2;
+
+    private final ParamDescription[] params;
+    private final ListType listType;
+    private final int[] memberIndexes;
+    private final Column[] columns;
+    private int size = 0;
+
+    ColumnarBatch(ParamDescription[] params) {
+        Map<String, Type> memberTypes = new HashMap<>();
+        for (ParamDescription prm: params) {
+            memberTypes.put(prm.name(), fullType(prm.type()));
+        }
+
+        StructType rowType = StructType.of(memberTypes);
+        this.params = params;
+        this.listType = ListType.of(rowType);
+        this.memberIndexes = new int[params.length];
+        for (int idx = 0; idx < params.length; idx++) {
+            memberIndexes[idx] = rowType.getMemberIndex(params[idx].name());
+        }
+        this.columns = new Column[rowType.getMembersCount()];
+        for (int idx = 0; idx < columns.length; idx++) {
+            columns[idx] = Column.of(rowType.getMemberType(idx));
+        }
+    }
+
+    ListType getType() {
+        return listType;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Appends new row to the batch. Values must be ordered as parameters of the batch
+     *
+     * @param values values of row
+     * @throws SQLException if some value is missing or cannot be stored in the column
+     */
+    void addRow(Value<?>[] values) throws SQLException {
+        for (int idx = 0; idx < params.length; idx++) {
+            if (values[idx] == null) {
+                throw new SQLDataException(YdbConst.MISSING_VALUE_FOR_PARAMETER + params[idx].displayName());
+            }
+        }
+
+        // Values are written to the position of the next row, so the failed row is just overwritten by the next one
+        for (int idx = 0; idx < params.length; idx++) {
+            columns[memberIndexes[idx]].write(size, values[idx], params[idx]);
+        }
+        size++;
+    }
+
+    /**
+     * Returns the value of the batch. Returned value contains only rows added before the call of this method and
+     * isn't changed by following calls of {@link #addRow(Value[]) }
+     *
+     * @return list value of all rows of the batch
+     */
+    Value<ListType> toValue() {
+        return toValue(0, size);
+    }
+
+    Value<ListType> toValue(int from, int to) {
+        return toValue(null, from, to);
+    }
+
+    /**
+     * Returns the value with selected rows of the batch
+     *
+     * @param rows indexes of selected rows or {@code null} to select all rows in order
+     * @param from inclusive start position in the selection
+     * @param to exclusive end position in the selection
+     * @return list value of selected rows
+     */
+    Value<ListType> toValue(int[] rows, int from, int to) {
+        return new BatchValue(listType, columns, rows, from, to);
+    }
+
+    ValueProtos.TypedValue toTypedValue() {
+        return toTypedValue(null, 0, size);
+    }
+
+    ValueProtos.TypedValue toTypedValue(int from, int to) {
+        return toTypedValue(null, from, to);
+    }
+
+    ValueProtos.TypedValue toTypedValue(int[] rows, int from, int to) {
+        return ValueProtos.TypedValue.newBuilder()
+                .setType(listType.toPb())
+                .setValue(toValue(rows, from, to).toPb())
+                .build();
+    }
+
+    /**
+     * Returns protobuf value of the parameter in the row
+     */
+    ValueProtos.Value valuePb(int paramIndex, int row) {
+        return columns[memberIndexes[paramIndex]].toPb(row);
+    }
+
+    int[] split(int maxRows, long maxBytes) {
+        return split(null, maxRows, maxBytes);
+    }
+
+    /**
+     * Splits selected rows of the batch into continuous chunks with limited count of rows and limited estimated size
+     * of serialized values
+     *
+     * @param rows indexes of selected rows or {@code null} to select all rows in order
+     * @param maxRows maximum count of rows in one chunk or {@code 0} for no limit
+     * @param maxBytes maximum estimated size of one chunk in bytes or {@code 0} for no limit
+     * @return array of exclusive ends of chunks, the last element is always equal to the size of selection
+     */
+    int[] split(int[] rows, int maxRows, long maxBytes) {
+        int count = rows != null ? rows.length : size;
+        if (count == 0) {
+            return new int[0];
+        }
+        if (maxRows <= 0 && maxBytes <= 0) {
+            return new int[] {count};
+        }
+
+        int[] ends = new int[INITIAL_CAPACITY];
+        int chunks = 0;
+        int from = 0;
+        long bytes = 0;
+        for (int pos = 0; pos < count; pos++) {
+            long rowBytes = maxBytes > 0 ? estimateRowSize(rows != null ? rows[pos] : pos) : 0;
+            boolean isFull = (maxRows > 0 && pos - from >= maxRows) || (maxBytes > 0 && bytes + rowBytes > maxBytes);
+            // each chunk contains at least one row, even if the row is larger than limit
+            if (pos > from && isFull) {
+                if (chunks == ends.length) {
+                    ends = Arrays.copyOf(ends, chunks * 2);
+                }
+                ends[chunks++] = pos;
+                from = pos;
+                bytes = 0;
+            }
+            bytes += rowBytes;
+        }
+
+        ends = Arrays.copyOf(ends, chunks + 1);
+        ends[chunks] = count;
+        return ends;
+    }
+
+    long estimateRowSize(int row) {
+        long bytes = STRUCT_OVERHEAD;
+        for (Column column: columns) {
+            bytes += column.estimateSize(row) + ITEM_OVERHEAD;
+        }
+        return bytes;
+    }
+
+    private static Type fullType(TypeDescription desc) {
+        return desc.isOptional() ? desc.ydbType().makeOptional() : desc.ydbType();
+    }
+
+    private static int grow(int capacity, int required) {
+        return Math.max(required, Math.max(INITIAL_CAPACITY, capacity + (capacity >> 1)));
+    }
+
+    private abstract static class Column {
+        abstract void write(int row, Value<?> value, ParamDescription prm) throws SQLException;
+
+        abstract ValueProtos.Value toPb(int row);
+
+        abstract int estimateSize(int row);
+
+        static Column of(Type type) {
+            if (isScalar(type)) {
+                return new ScalarColumn(null);
+            }
+            if (type.getKind() == Type.Kind.OPTIONAL) {
+                OptionalType optional = (OptionalType) type;
+                // only optionals of scalar types are encoded as plain values
+                if (isScalar(optional.getItemType())) {
+                    return new ScalarColumn(optional.emptyValue().toPb());
+                }
+            }
+            return new ObjectColumn();
+        }
+
+        private static boolean isScalar(Type type) {
+            return type.getKind() == Type.Kind.PRIMITIVE || type.getKind() == Type.Kind.DECIMAL;
+        }
+    }
+
+    private static class ObjectColumn extends Column {
+        private Value<?>[] values = new Value<?>[0];
+
+        @Override
+        void write(int row, Value<?> value, ParamDescription prm) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row + 1));
+            }
+            values[row] = value;
+        }
+
+        @Override
+        ValueProtos.Value toPb(int row) {
+            return values[row].toPb();
+        }
+
+        @Override
+        int estimateSize(int row) {
+            return values[row].toPb().getSerializedSize();
+        }
+    }
+
+    private static class ScalarColumn extends Column {
+        private final ValueProtos.Value nullValue;
+        private final BitSet nulls;
+
+        private ValueCase valueCase = null;
+        private long[] numbers = new long[0];
+        private byte[] arena = new byte[0];
+        private int[] ends = new int[0];
+
+        ScalarColumn(ValueProtos.Value nullValue) {
+            this.nullValue = nullValue;
+            this.nulls = nullValue != null ? new BitSet() : null;
+        }
+
+        @Override
+        void write(int row, Value<?> value, ParamDescription prm) throws SQLException {
+            Value<?> item = value;
+            if (value instanceof OptionalValue) {
+                OptionalValue optional = (OptionalValue) value;
+                if (nulls == null) {
+                    if (!optional.isPresent()) {
+                        throw new SQLDataException(YdbConst.MISSING_REQUIRED_VALUE + prm.displayName());
+                    }
+                } else {
+                    nulls.set(row, !optional.isPresent());
+                    if (!optional.isPresent()) {
+                        writeEmpty(row);
+                        return;
+                    }
+                }
+                item = optional.get();
+            } else if (nulls != null) {
+                nulls.clear(row);
+            }
+
+            if (!(item instanceof PrimitiveValue) || !writePrimitive(row, (PrimitiveValue) item)) {
+                writeProto(row, item.toPb());
+            }
+        }
+
+        @Override
+        ValueProtos.Value toPb(int row) {
+            if (nulls != null && nulls.get(row)) {
+                return nullValue;
+            }
+
+            ValueProtos.Value.Builder builder = ValueProtos.Value.newBuilder();
+            switch (valueCase) {
+                case BOOL_VALUE:
+                    return builder.setBoolValue(numbers[row] != 0).build();
+                case INT32_VALUE:
+                    return builder.setInt32Value((int) numbers[row]).build();
+                case UINT32_VALUE:
+                    return builder.setUint32Value((int) numbers[row]).build();
+                case INT64_VALUE:
+                    return builder.setInt64Value(numbers[row]).build();
+                case UINT64_VALUE:
+                    return builder.setUint64Value(numbers[row]).build();
+                case FLOAT_VALUE:
+                    return builder.setFloatValue(Float.intBitsToFloat((int) numbers[row])).build();
+                case DOUBLE_VALUE:
+                    return builder.setDoubleValue(Double.longBitsToDouble(numbers[row])).build();
+                case TEXT_VALUE:
+                    return builder.setTextValueBytes(bytes(row)).build();
+                case BYTES_VALUE:
+                    return builder.setBytesValue(bytes(row)).build();
+                case LOW_128:
+                    return builder.setLow128(numbers[2 * row]).setHigh128(numbers[2 * row + 1]).build();
+                default:
+                    throw new IllegalStateException("Internal error. Unsupported value case " + valueCase);
+            }
+        }
+
+        @Override
+        int estimateSize(int row) {
+            if (nulls != null && nulls.get(row)) {
+                return nullValue.getSerializedSize();
+            }
+            switch (valueCase) {
+                case BOOL_VALUE:
+                    return 2;
+                case FLOAT_VALUE:
+                    return 5;
+                case DOUBLE_VALUE:
+                    return 9;
+                case TEXT_VALUE:
+                case BYTES_VALUE:
+                    int length = ends[row] - (row == 0 ? 0 : ends[row - 1]);
+                    return length + 6;
+                case LOW_128:
+                    return 18;
+                default: // varints
+                    return 11;
+            }
+        }
+
+        private boolean writePrimitive(int row, PrimitiveValue value) throws SQLException {
+            switch (value.getType()) {
+                case Bool:
+                    writeNumber(row, ValueCase.BOOL_VALUE, value.getBool() ? 1 : 0);
+                    return true;
+                case Int8:
+                    writeNumber(row, ValueCase.INT32_VALUE, value.getInt8());
+                    return true;
+                case Uint8:
+                    writeNumber(row, ValueCase.UINT32_VALUE, value.getUint8());
+                    return true;
+                case Int16:
+                    writeNumber(row, ValueCase.INT32_VALUE, value.getInt16());
+                    return true;
+                case Uint16:
+                    writeNumber(row, ValueCase.UINT32_VALUE, value.getUint16());
+                    return true;
+                case Int32:
+                    writeNumber(row, ValueCase.INT32_VALUE, value.getInt32());
+                    return true;
+                case Uint32:
+                    writeNumber(row, ValueCase.UINT32_VALUE, value.getUint32());
+                    return true;
+                case Int64:
+                    writeNumber(row, ValueCase.INT64_VALUE, value.getInt64());
+                    return true;
+                case Uint64:
+                    writeNumber(row, ValueCase.UINT64_VALUE, value.getUint64());
+                    return true;
+                case Float:
+                    writeNumber(row, ValueCase.FLOAT_VALUE, Float.floatToRawIntBits(value.getFloat()));
+                    return true;
+                case Double:
+                    writeNumber(row, ValueCase.DOUBLE_VALUE, Double.doubleToRawLongBits(value.getDouble()));
+                    return true;
+                case Text:
+                    byte[] text = value.getText().getBytes(StandardCharsets.UTF_8);
+                    writeBytes(row, ValueCase.TEXT_VALUE, text, 0, text.length);
+                    return true;
+                case Bytes:
+                    byte[] bytes = value.getBytesUnsafe();
+                    writeBytes(row, ValueCase.BYTES_VALUE, bytes, 0, bytes.length);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private void writeProto(int row, ValueProtos.Value pb) throws SQLException {
+            switch (pb.getValueCase()) {
+                case BOOL_VALUE:
+                    writeNumber(row, pb.getValueCase(), pb.getBoolValue() ? 1 : 0);
+                    break;
+                case INT32_VALUE:
+                    writeNumber(row, pb.getValueCase(), pb.getInt32Value());
+                    break;
+                case UINT32_VALUE:
+                    writeNumber(row, pb.getValueCase(), pb.getUint32Value());
+                    break;
+                case INT64_VALUE:
+                    writeNumber(row, pb.getValueCase(), pb.getInt64Value());
+                    break;
+                case UINT64_VALUE:
+                    writeNumber(row, pb.getValueCase(), pb.getUint64Value());
+                    break;
+                case FLOAT_VALUE:
+                    writeNumber(row, pb.getValueCase(), Float.floatToRawIntBits(pb.getFloatValue()));
+                    break;
+                case DOUBLE_VALUE:
+                    writeNumber(row, pb.getValueCase(), Double.doubleToRawLongBits(pb.getDoubleValue()));
+                    break;
+                case TEXT_VALUE:
+                    byte[] text = pb.getTextValueBytes().toByteArray();
+                    writeBytes(row, pb.getValueCase(), text, 0, text.length);
+                    break;
+                case BYTES_VALUE:
+                    byte[] bytes = pb.getBytesValue().toByteArray();
+                    writeBytes(row, pb.getValueCase(), bytes, 0, bytes.length);
+                    break;
+                case LOW_128:
+                    checkCase(pb.getValueCase(), 2 * row + 2);
+                    numbers[2 * row] = pb.getLow128();
+                    numbers[2 * row + 1] = pb.getHigh128();
+                    break;
+                default:
+                    throw new SQLException("Internal error. Unsupported value case " + pb.getValueCase());
+            }
+        }
+
+        private void writeEmpty(int row) {
+            if (valueCase == ValueCase.TEXT_VALUE
+                    || valueCase == ValueCase.BYTES_VALUE) {
+                writeArena(row, arena, 0, 0);
+            }
+        }
+
+        private void writeNumber(int row, ValueCase vc, long value) throws SQLException {
+            checkCase(vc, row + 1);
+            numbers[row] = value;
+        }
+
+        private void writeBytes(int row, ValueCase vc, byte[] src, int offset, int length)
+                throws SQLException {
+            checkCase(vc, 0);
+            writeArena(row, src, offset, length);
+        }
+
+        private void writeArena(int row, byte[] src, int offset, int length) {
+            if (row >= ends.length) {
+                ends = Arrays.copyOf(ends, grow(ends.length, row + 1));
+            }
+            int start = row == 0 ? 0 : ends[row - 1];
+            if (start + length > arena.length) {
+                arena = Arrays.copyOf(arena, grow(arena.length, start + length));
+            }
+            System.arraycopy(src, offset, arena, start, length);
+            ends[row] = start + length;
+        }
+
+        private ByteString bytes(int row) {
+            int start = row == 0 ? 0 : ends[row - 1];
+            // bytes of stored rows are never changed, so the arena may be wrapped without copying
+            return UnsafeByteOperations.unsafeWrap(arena, start, ends[row] - start);
+        }
+
+        private void checkCase(ValueCase vc, int numbersCount) throws SQLException {
+            if (valueCase == null) {
+                valueCase = vc;
+            } else if (valueCase != vc) {
+                throw new SQLException("Internal error. Unexpected value case " + vc + ", expected " + valueCase);
+            }
+            if (numbersCount > numbers.length) {
+                numbers = Arrays.copyOf(numbers, grow(numbers.length, numbersCount));
+            }
+        }
+    }
+
+    private static final class BatchValue implements Value<ListType> {
+        private static final long serialVersionUID = 1L;
+
+        private final ListType type;
+        private final transient Column[] columns;
+        private final transient int[] rows;
+        private final int from;
+        private final int to;
+
+        BatchValue(ListType type, Column[] columns, int[] rows, int from, int to) {
+            this.type = type;
+            this.columns = columns;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public ListType getType() {
+            return type;
+        }
+
+        @Override
+        public ValueProtos.Value toPb() {
+            ValueProtos.Value.Builder list = ValueProtos.Value.newBuilder();
+            for (int pos = from; pos < to; pos++) {
+                int row = rows != null ? rows[pos] : pos;
+                ValueProtos.Value.Builder struct = list.addItemsBuilder();
+                for (Column column: columns) {
+                    struct.addItems(column.toPb(row));
+                }
+            }
+            return list.build();
+        }
+
+        @Override
+        public ListValue asList() {
+            // rows are read back only on rare paths, so the list of values is built from the protobuf
+            return ProtoValue.fromPb(type, toPb()).asList();
+        }
+
+        @Override
+        public String toString() {
+            return "List[" + (to - from) + " rows]";
+        }
+    }
+}
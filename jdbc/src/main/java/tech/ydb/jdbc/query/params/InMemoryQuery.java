@@ -14,6 +14,7 @@ import tech.ydb.jdbc.common.TypeDescription;
 import tech.ydb.jdbc.query.QueryStatement;
 import tech.ydb.jdbc.query.YdbPreparedQuery;
 import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.YqlTemplate;
 import tech.ydb.table.query.Params;
 
 
@@ -22,14 +23,14 @@ import tech.ydb.table.query.Params;
  * @author Aleksandr Gorshenin
  */
 public class InMemoryQuery implements YdbPreparedQuery {
-    private final String yql;
+    private final YqlTemplate template;
     private final boolean isAutoDeclare;
     private final List<JdbcPrm> parameters = new ArrayList<>();
     private final Map<String, JdbcPrm> parametersByName = new HashMap<>();
     private final List<Params> batchList = new ArrayList<>();
 
     public InMemoryQuery(YdbQuery query, boolean isAutoDeclare) {
-        this.yql = query.getPreparedYql();
+        this.template = query.getTemplate();
         this.isAutoDeclare = isAutoDeclare;
 
         for (QueryStatement st: query.getStatements()) {
@@ -45,20 +46,9 @@ public class InMemoryQuery implements YdbPreparedQuery {
     @Override
     public String getQueryText(Params prms) {
         if (!isAutoDeclare) {
-            return yql;
+            return template.getYql();
         }
-
-        StringBuilder query = new StringBuilder();
-        prms.values().forEach((name, value) -> query
-                .append("DECLARE ")
-                .append(name)
-                .append(" AS ")
-                .append(value.getType().toString())
-                .append(";\n")
-        );
-
-        query.append(yql);
-        return query.toString();
+        return template.withDeclares(prms);
     }
 
     @Override
@@ -132,19 +122,96 @@ public class InMemoryQuery implements YdbPreparedQuery {
 
     @Override
     public void setParam(int index, Object obj, int sqlType) throws SQLException {
+        findParam(index).setValue(obj, sqlType);
+    }
+
+    @Override
+    public void setParam(String name, Object obj, int sqlType) throws SQLException {
+        findParam(name).setValue(obj, sqlType);
+    }
+
+    @Override
+    public void setInt(int index, int value) throws SQLException {
+        findParam(index).setInt(value);
+    }
+
+    @Override
+    public void setInt(String name, int value) throws SQLException {
+        findParam(name).setInt(value);
+    }
+
+    @Override
+    public void setLong(int index, long value) throws SQLException {
+        findParam(index).setLong(value);
+    }
+
+    @Override
+    public void setLong(String name, long value) throws SQLException {
+        findParam(name).setLong(value);
+    }
+
+    @Override
+    public void setDouble(int index, double value) throws SQLException {
+        findParam(index).setDouble(value);
+    }
+
+    @Override
+    public void setDouble(String name, double value) throws SQLException {
+        findParam(name).setDouble(value);
+    }
+
+    @Override
+    public void setBoolean(int index, boolean value) throws SQLException {
+        findParam(index).setBoolean(value);
+    }
+
+    @Override
+    public void setBoolean(String name, boolean value) throws SQLException {
+        findParam(name).setBoolean(value);
+    }
+
+    @Override
+    public void setByte(int index, byte value) throws SQLException {
+        findParam(index).setByte(value);
+    }
+
+    @Override
+    public void setByte(String name, byte value) throws SQLException {
+        findParam(name).setByte(value);
+    }
+
+    @Override
+    public void setShort(int index, short value) throws SQLException {
+        findParam(index).setShort(value);
+    }
+
+    @Override
+    public void setShort(String name, short value) throws SQLException {
+        findParam(name).setShort(value);
+    }
+
+    @Override
+    public void setFloat(int index, float value) throws SQLException {
+        findParam(index).setFloat(value);
+    }
+
+    @Override
+    public void setFloat(String name, float value) throws SQLException {
+        findParam(name).setFloat(value);
+    }
+
+    private JdbcPrm findParam(int index) throws SQLException {
         if (index <= 0 || index > parameters.size()) {
             throw new SQLDataException(YdbConst.PARAMETER_NUMBER_NOT_FOUND + index);
         }
-
-        parameters.get(index - 1).setValue(obj, sqlType);
+        return parameters.get(index - 1);
     }
 
-    @Override
-    public void setParam(String name, Object obj, int sqlType) throws SQLException {
+    private JdbcPrm findParam(String name) throws SQLException {
         JdbcPrm param = parametersByName.get(name);
         if (param == null) {
             throw new SQLDataException(YdbConst.PARAMETER_NUMBER_NOT_FOUND + name);
         }
-        param.setValue(obj, sqlType);
+        return param;
     }
 }
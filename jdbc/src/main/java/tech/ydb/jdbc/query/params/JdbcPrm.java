@@ -2,6 +2,7 @@ package tech.ydb.jdbc.query.params;
 
 
 import java.sql.SQLException;
+import java.sql.Types;
 import java.util.Collections;
 import java.util.List;
 
@@ -18,6 +19,34 @@ public interface JdbcPrm {
     TypeDescription getType();
 
     void setValue(Object obj, int sqlType) throws SQLException;
+
+    default void setInt(int value) throws SQLException {
+        setValue(value, Types.INTEGER);
+    }
+
+    default void setLong(long value) throws SQLException {
+        setValue(value, Types.BIGINT);
+    }
+
+    default void setDouble(double value) throws SQLException {
+        setValue(value, Types.DOUBLE);
+    }
+
+    default void setBoolean(boolean value) throws SQLException {
+        setValue(value, Types.BOOLEAN);
+    }
+
+    default void setByte(byte value) throws SQLException {
+        setValue(value, Types.TINYINT);
+    }
+
+    default void setShort(short value) throws SQLException {
+        setValue(value, Types.SMALLINT);
+    }
+
+    default void setFloat(float value) throws SQLException {
+        setValue(value, Types.FLOAT);
+    }
     void copyToParams(Params params) throws SQLException;
 
     void reset();
@@ -38,6 +67,10 @@ public interface JdbcPrm {
         return () -> new InListJdbcPrm(types, name, listSize, tupleSize).toJdbcPrmList();
     }
 
+    static Factory paddedInListOrm(YdbTypes types, String[] names, int listSize, int tupleSize) {
+        return () -> new PaddedInListJdbcPrm(types, names, listSize, tupleSize).toJdbcPrmList();
+    }
+
     static Factory jdbcTableListOrm(YdbTypes types, String name, int count) {
         return () -> new AsTableJdbcPrm(types, name, count).toJdbcPrmList();
     }
@@ -0,0 +1,60 @@
+package tech.ydb.jdbc.query.params;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.Value;
+
+/**
+ * Parameters of SQL operation IN (?, ?, ... ,?) padded to the bucket size. Only the first parameters are visible by
+ * JDBC, the padding parameters repeat the values of the last tuple of the list. Repeated values don't change the
+ * result of IN and NOT IN operations, but queries with different count of elements in the same bucket have the same
+ * text
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class PaddedInListJdbcPrm {
+    private final List<SimpleJdbcPrm> items = new ArrayList<>();
+
+    public PaddedInListJdbcPrm(YdbTypes types, String[] names, int listSize, int tupleSize) {
+        int visible = listSize * tupleSize;
+        for (int idx = 0; idx < visible; idx += 1) {
+            if (idx < visible - tupleSize) {
+                items.add(new SimpleJdbcPrm(types, names[idx]));
+                continue;
+            }
+
+            int memberIdx = idx % tupleSize;
+            String[] mirrors = new String[(names.length - visible) / tupleSize];
+            for (int mirror = 0; mirror < mirrors.length; mirror += 1) {
+                mirrors[mirror] = names[visible + mirror * tupleSize + memberIdx];
+            }
+            items.add(new Item(types, names[idx], mirrors));
+        }
+    }
+
+    public List<? extends JdbcPrm> toJdbcPrmList() {
+        return items;
+    }
+
+    private static class Item extends SimpleJdbcPrm {
+        private final String[] mirrors;
+
+        Item(YdbTypes types, String name, String[] mirrors) {
+            super(types, name);
+            this.mirrors = mirrors;
+        }
+
+        @Override
+        public void copyToParams(Params params) throws SQLException {
+            super.copyToParams(params);
+            Value<?> value = params.values().get(getName());
+            for (String mirror: mirrors) {
+                params.put(mirror, value);
+            }
+        }
+    }
+}
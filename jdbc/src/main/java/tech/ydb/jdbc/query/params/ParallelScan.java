@@ -0,0 +1,159 @@
+package tech.ydb.jdbc.query.params;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.description.KeyBound;
+import tech.ydb.table.description.KeyRange;
+import tech.ydb.table.description.TableColumn;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.TupleValue;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Splits the scan query of one table into several queries by ranges of the first column of the primary key. Split
+ * points are the upper bounds of the table partitions, so every query reads its own set of partitions. Rows with
+ * NULL key are read by the first query. Queries are executed independently, so every range is read in its own
+ * snapshot and rows which are changed during the scan may be missed or read in different versions by different
+ * ranges. The merged result is not a consistent read of the table even if the ranges are returned in order.
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class ParallelScan {
+    static final String FROM_PRM = "$jdbc_scan_from";
+    static final String TO_PRM = "$jdbc_scan_to";
+
+    private final String[] queries;
+    private final Params[] params;
+
+    private ParallelScan(String[] queries, Params[] params) {
+        this.queries = queries;
+        this.params = params;
+    }
+
+    public int size() {
+        return queries.length;
+    }
+
+    public String getQuery(int index) {
+        return queries[index];
+    }
+
+    public Params getParams(int index) {
+        return params[index];
+    }
+
+    /**
+     * Creates the set of range queries
+     *
+     * @param query parsed scan query
+     * @param yql prepared text of the query
+     * @param prms parameters of the query
+     * @param description description of the scanned table with key ranges
+     * @param parallelism maximum count of range queries
+     * @return range queries or {@code null} if the query cannot be splitted
+     */
+    public static ParallelScan build(YdbQuery query, String yql, Params prms, TableDescription description,
+            int parallelism) {
+        List<String> keys = description.getPrimaryKeys();
+        if (parallelism < 2 || keys.isEmpty() || query.withScanCondition(yql, "TRUE") == null) {
+            return null;
+        }
+
+        Type keyType = null;
+        for (TableColumn column: description.getColumns()) {
+            if (column.getName().equals(keys.get(0))) {
+                keyType = column.getType();
+            }
+        }
+        if (keyType == null) {
+            return null;
+        }
+        if (keyType.getKind() == Type.Kind.OPTIONAL) {
+            keyType = ((OptionalType) keyType).getItemType();
+        }
+
+        List<Value<?>> splitPoints = splitPoints(description.getKeyRanges());
+        // split points are grouped evenly if the table has more partitions than the parallelism
+        int partitions = splitPoints.size() + 1;
+        int count = Math.min(parallelism, partitions);
+        if (count < 2) {
+            return null;
+        }
+
+        Value<?>[] bounds = new Value<?>[count - 1];
+        for (int idx = 0; idx < bounds.length; idx++) {
+            bounds[idx] = splitPoints.get((idx + 1) * partitions / count - 1);
+        }
+
+        String key = "`" + keys.get(0) + "`";
+        String[] queries = new String[count];
+        Params[] params = new Params[count];
+        for (int idx = 0; idx < count; idx++) {
+            StringBuilder declares = new StringBuilder();
+            String condition;
+            params[idx] = Params.copyOf(prms);
+            if (idx == 0) {
+                condition = key + " IS NULL OR " + key + " < " + TO_PRM;
+            } else if (idx == count - 1) {
+                condition = key + " >= " + FROM_PRM;
+            } else {
+                condition = key + " >= " + FROM_PRM + " AND " + key + " < " + TO_PRM;
+            }
+            if (idx > 0) {
+                declares.append("DECLARE ").append(FROM_PRM).append(" AS ").append(keyType).append(";\n");
+                params[idx].put(FROM_PRM, bounds[idx - 1]);
+            }
+            if (idx < count - 1) {
+                declares.append("DECLARE ").append(TO_PRM).append(" AS ").append(keyType).append(";\n");
+                params[idx].put(TO_PRM, bounds[idx]);
+            }
+            queries[idx] = declares + query.withScanCondition(yql, condition);
+        }
+
+        return new ParallelScan(queries, params);
+    }
+
+    /**
+     * @return distinct non null values of the first key column of upper bounds of partitions in ascending order
+     */
+    private static List<Value<?>> splitPoints(List<KeyRange> ranges) {
+        List<Value<?>> points = new ArrayList<>();
+        ValueProtos.Value last = null;
+        // the last range is not limited
+        for (int idx = 0; idx < ranges.size() - 1; idx++) {
+            if (!ranges.get(idx).getTo().isPresent()) {
+                continue;
+            }
+            KeyBound bound = ranges.get(idx).getTo().get();
+            Value<?> value = bound.getValue();
+            if (value.getType().getKind() == Type.Kind.TUPLE) {
+                TupleValue tuple = (TupleValue) value;
+                if (tuple.size() == 0) {
+                    continue;
+                }
+                value = tuple.get(0);
+            }
+            if (value.getType().getKind() == Type.Kind.OPTIONAL) {
+                OptionalValue optional = (OptionalValue) value;
+                if (!optional.isPresent()) {
+                    continue;
+                }
+                value = optional.get();
+            }
+
+            ValueProtos.Value pb = value.toPb();
+            if (last == null || PartitionRouter.compare(last, pb) < 0) {
+                points.add(value);
+                last = pb;
+            }
+        }
+        return points;
+    }
+}
@@ -0,0 +1,194 @@
+package tech.ydb.jdbc.query.params;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import com.google.protobuf.ByteString;
+
+import tech.ydb.jdbc.query.ParamDescription;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.description.KeyBound;
+import tech.ydb.table.description.KeyRange;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Finds partitions of the table for rows of the batch by key ranges of the table description. Keys are compared by
+ * their protobuf values, values which cannot be compared are considered as equal. The wrong routing affects only
+ * the performance, server forwards rows to the right partition anyway.
+ *
+ * @author Aleksandr Gorshenin
+ */
+class PartitionRouter {
+    private static final Comparator<ByteString> BYTES_COMPARATOR = ByteString.unsignedLexicographicalComparator();
+
+    private final int[] keyParams;
+    private final ValueProtos.Value[][] upperBounds;
+    private final boolean[] inclusive;
+
+    private PartitionRouter(int[] keyParams, ValueProtos.Value[][] upperBounds, boolean[] inclusive) {
+        this.keyParams = keyParams;
+        this.upperBounds = upperBounds;
+        this.inclusive = inclusive;
+    }
+
+    int partitionsCount() {
+        return upperBounds.length + 1;
+    }
+
+    /**
+     * Groups rows of the batch by partitions. The order of rows inside of each group is the order of the batch
+     *
+     * @param batch batch of rows
+     * @return array of row indexes for each non empty partition
+     */
+    int[][] groupRows(ColumnarBatch batch) {
+        int[] partitions = new int[batch.size()];
+        int[] counts = new int[partitionsCount()];
+        ValueProtos.Value[] key = new ValueProtos.Value[keyParams.length];
+        for (int row = 0; row < partitions.length; row++) {
+            for (int idx = 0; idx < keyParams.length; idx++) {
+                key[idx] = batch.valuePb(keyParams[idx], row);
+            }
+            partitions[row] = findPartition(key);
+            counts[partitions[row]]++;
+        }
+
+        List<int[]> groups = new ArrayList<>();
+        int[][] rowsByPartition = new int[counts.length][];
+        for (int partition = 0; partition < counts.length; partition++) {
+            if (counts[partition] > 0) {
+                rowsByPartition[partition] = new int[counts[partition]];
+                groups.add(rowsByPartition[partition]);
+            }
+        }
+
+        Arrays.fill(counts, 0);
+        for (int row = 0; row < partitions.length; row++) {
+            int partition = partitions[row];
+            rowsByPartition[partition][counts[partition]++] = row;
+        }
+        return groups.toArray(new int[0][]);
+    }
+
+    int findPartition(ValueProtos.Value[] key) {
+        int low = 0;
+        int high = upperBounds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareKey(key, upperBounds[mid]);
+            if (cmp < 0 || (cmp == 0 && inclusive[mid])) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Creates the router for the batch with given parameters
+     *
+     * @param description description of the table with key ranges
+     * @param params parameters of the batch
+     * @return router or {@code null} if the table has only one partition or not all key columns are in the batch
+     */
+    static PartitionRouter of(TableDescription description, ParamDescription[] params) {
+        List<KeyRange> ranges = description.getKeyRanges();
+        List<String> keys = description.getPrimaryKeys();
+        if (ranges.size() < 2 || keys.isEmpty()) {
+            return null;
+        }
+
+        int[] keyParams = new int[keys.size()];
+        for (int idx = 0; idx < keyParams.length; idx++) {
+            keyParams[idx] = -1;
+            for (int prm = 0; prm < params.length; prm++) {
+                if (params[prm].name().equals(keys.get(idx))) {
+                    keyParams[idx] = prm;
+                }
+            }
+            if (keyParams[idx] < 0) {
+                return null;
+            }
+        }
+
+        // the last range is not limited, upper bounds of the others are the split points of the table
+        ValueProtos.Value[][] upperBounds = new ValueProtos.Value[ranges.size() - 1][];
+        boolean[] inclusive = new boolean[upperBounds.length];
+        for (int idx = 0; idx < upperBounds.length; idx++) {
+            if (!ranges.get(idx).getTo().isPresent()) {
+                return null;
+            }
+            KeyBound bound = ranges.get(idx).getTo().get();
+            upperBounds[idx] = keyItems(bound.getValue());
+            inclusive[idx] = bound.isInclusive();
+        }
+
+        return new PartitionRouter(keyParams, upperBounds, inclusive);
+    }
+
+    private static ValueProtos.Value[] keyItems(Value<?> value) {
+        ValueProtos.Value pb = value.toPb();
+        if (value.getType().getKind() == Type.Kind.TUPLE) {
+            return pb.getItemsList().toArray(new ValueProtos.Value[0]);
+        }
+        return new ValueProtos.Value[] {pb};
+    }
+
+    /**
+     * Compares the full key with the bound. Bound may contain only prefix of the key, missing columns of the bound
+     * are considered as the minimal values
+     */
+    static int compareKey(ValueProtos.Value[] key, ValueProtos.Value[] bound) {
+        int count = Math.min(key.length, bound.length);
+        for (int idx = 0; idx < count; idx++) {
+            int cmp = compare(key[idx], bound[idx]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(key.length, bound.length);
+    }
+
+    static int compare(ValueProtos.Value v1, ValueProtos.Value v2) {
+        boolean isNull1 = v1.getValueCase() == ValueProtos.Value.ValueCase.NULL_FLAG_VALUE;
+        boolean isNull2 = v2.getValueCase() == ValueProtos.Value.ValueCase.NULL_FLAG_VALUE;
+        if (isNull1 || isNull2) {
+            // NULL is less than any other value
+            return Boolean.compare(!isNull1, !isNull2);
+        }
+        if (v1.getValueCase() != v2.getValueCase()) {
+            return 0;
+        }
+
+        switch (v1.getValueCase()) {
+            case BOOL_VALUE:
+                return Boolean.compare(v1.getBoolValue(), v2.getBoolValue());
+            case INT32_VALUE:
+                return Integer.compare(v1.getInt32Value(), v2.getInt32Value());
+            case UINT32_VALUE:
+                return Integer.compareUnsigned(v1.getUint32Value(), v2.getUint32Value());
+            case INT64_VALUE:
+                return Long.compare(v1.getInt64Value(), v2.getInt64Value());
+            case UINT64_VALUE:
+                return Long.compareUnsigned(v1.getUint64Value(), v2.getUint64Value());
+            case FLOAT_VALUE:
+                return Float.compare(v1.getFloatValue(), v2.getFloatValue());
+            case DOUBLE_VALUE:
+                return Double.compare(v1.getDoubleValue(), v2.getDoubleValue());
+            case TEXT_VALUE:
+                return BYTES_COMPARATOR.compare(v1.getTextValueBytes(), v2.getTextValueBytes());
+            case BYTES_VALUE:
+                return BYTES_COMPARATOR.compare(v1.getBytesValue(), v2.getBytesValue());
+            case LOW_128:
+                int cmp = Long.compare(v1.getHigh128(), v2.getHigh128());
+                return cmp != 0 ? cmp : Long.compareUnsigned(v1.getLow128(), v2.getLow128());
+            default:
+                return 0;
+        }
+    }
+}
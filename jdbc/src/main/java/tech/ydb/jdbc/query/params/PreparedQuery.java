@@ -85,23 +85,113 @@ public class PreparedQuery implements YdbPreparedQuery {
 
     @Override
     public void setParam(int index, Object obj, int sqlType) throws SQLException {
+        ParamDescription desc = findParam(index);
+        paramValues.put(desc.name(), ValueFactory.readValue(desc.name(), obj, desc.type()));
+    }
+
+    @Override
+    public void setParam(String name, Object obj, int sqlType) throws SQLException {
+        ParamDescription desc = findParam(name);
+        paramValues.put(desc.name(), ValueFactory.readValue(desc.name(), obj, desc.type()));
+    }
+
+    @Override
+    public void setInt(int index, int value) throws SQLException {
+        ParamDescription desc = findParam(index);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setInt(String name, int value) throws SQLException {
+        ParamDescription desc = findParam(name);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setLong(int index, long value) throws SQLException {
+        ParamDescription desc = findParam(index);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setLong(String name, long value) throws SQLException {
+        ParamDescription desc = findParam(name);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setDouble(int index, double value) throws SQLException {
+        ParamDescription desc = findParam(index);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setDouble(String name, double value) throws SQLException {
+        ParamDescription desc = findParam(name);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setBoolean(int index, boolean value) throws SQLException {
+        ParamDescription desc = findParam(index);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setBoolean(String name, boolean value) throws SQLException {
+        ParamDescription desc = findParam(name);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setByte(int index, byte value) throws SQLException {
+        ParamDescription desc = findParam(index);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setByte(String name, byte value) throws SQLException {
+        ParamDescription desc = findParam(name);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setShort(int index, short value) throws SQLException {
+        ParamDescription desc = findParam(index);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setShort(String name, short value) throws SQLException {
+        ParamDescription desc = findParam(name);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setFloat(int index, float value) throws SQLException {
+        ParamDescription desc = findParam(index);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    @Override
+    public void setFloat(String name, float value) throws SQLException {
+        ParamDescription desc = findParam(name);
+        paramValues.put(desc.name(), ValueFactory.readValue(value, desc.type()));
+    }
+
+    private ParamDescription findParam(int index) throws SQLException {
         if (index <= 0 || index > paramNames.length) {
             throw new SQLException(YdbConst.PARAMETER_NUMBER_NOT_FOUND + index);
         }
-        String varName = paramNames[index - 1];
-        ParamDescription desc = params.get(varName);
-        paramValues.put(varName, ValueFactory.readValue(desc.name(), obj, desc.type()));
+        return params.get(paramNames[index - 1]);
     }
 
-    @Override
-    public void setParam(String name, Object obj, int sqlType) throws SQLException {
-        String varName = YdbConst.VARIABLE_PARAMETER_PREFIX + name;
-        if (!params.containsKey(varName)) {
+    private ParamDescription findParam(String name) throws SQLException {
+        ParamDescription desc = params.get(YdbConst.VARIABLE_PARAMETER_PREFIX + name);
+        if (desc == null) {
             throw new SQLException(YdbConst.PARAMETER_NOT_FOUND + name);
         }
-
-        ParamDescription desc = params.get(varName);
-        paramValues.put(varName, ValueFactory.readValue(desc.name(), obj, desc.type()));
+        return desc;
     }
 
     @Override
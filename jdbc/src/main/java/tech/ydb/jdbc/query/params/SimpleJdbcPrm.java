@@ -2,6 +2,7 @@ package tech.ydb.jdbc.query.params;
 
 import java.sql.SQLDataException;
 import java.sql.SQLException;
+import java.sql.Types;
 
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.common.TypeDescription;
@@ -69,4 +70,44 @@ class SimpleJdbcPrm implements JdbcPrm {
 
         value = types.find(type).toYdbValue(obj);
     }
+
+    @Override
+    public void setInt(int x) throws SQLException {
+        value = primitiveType(Types.INTEGER).toYdbValue(x);
+    }
+
+    @Override
+    public void setLong(long x) throws SQLException {
+        value = primitiveType(Types.BIGINT).toYdbValue(x);
+    }
+
+    @Override
+    public void setDouble(double x) throws SQLException {
+        value = primitiveType(Types.DOUBLE).toYdbValue(x);
+    }
+
+    @Override
+    public void setBoolean(boolean x) throws SQLException {
+        value = primitiveType(Types.BOOLEAN).toYdbValue(x);
+    }
+
+    @Override
+    public void setByte(byte x) throws SQLException {
+        value = primitiveType(Types.TINYINT).toYdbValue(x);
+    }
+
+    @Override
+    public void setShort(short x) throws SQLException {
+        value = primitiveType(Types.SMALLINT).toYdbValue(x);
+    }
+
+    @Override
+    public void setFloat(float x) throws SQLException {
+        value = primitiveType(Types.FLOAT).toYdbValue(x);
+    }
+
+    private TypeDescription primitiveType(int sqlType) {
+        // primitive sql types are always mapped by sqlType, value is not used
+        return types.find(types.findType(null, sqlType));
+    }
 }
@@ -58,6 +58,38 @@ public class ValueFactory {
         }
     }
 
+    public static Value<?> readValue(int value, TypeDescription type) throws SQLException {
+        return wrapOptional(type.toYdbValue(value), type);
+    }
+
+    public static Value<?> readValue(long value, TypeDescription type) throws SQLException {
+        return wrapOptional(type.toYdbValue(value), type);
+    }
+
+    public static Value<?> readValue(double value, TypeDescription type) throws SQLException {
+        return wrapOptional(type.toYdbValue(value), type);
+    }
+
+    public static Value<?> readValue(boolean value, TypeDescription type) throws SQLException {
+        return wrapOptional(type.toYdbValue(value), type);
+    }
+
+    public static Value<?> readValue(byte value, TypeDescription type) throws SQLException {
+        return wrapOptional(type.toYdbValue(value), type);
+    }
+
+    public static Value<?> readValue(short value, TypeDescription type) throws SQLException {
+        return wrapOptional(type.toYdbValue(value), type);
+    }
+
+    public static Value<?> readValue(float value, TypeDescription type) throws SQLException {
+        return wrapOptional(type.toYdbValue(value), type);
+    }
+
+    private static Value<?> wrapOptional(Value<?> value, TypeDescription type) {
+        return type.isOptional() ? value.makeOptional() : value;
+    }
+
     private static void checkType(String name, Type type, Type objectType) throws SQLException {
         if (!type.equals(objectType)) {
             String msg = String.format(YdbConst.INVALID_PARAMETER_TYPE, name, objectType, type);
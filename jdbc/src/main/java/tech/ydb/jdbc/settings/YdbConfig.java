@@ -6,6 +6,8 @@ import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.sql.DriverPropertyInfo;
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -35,6 +37,33 @@ public class YdbConfig {
             "Specifies the maximum number of entries in per-transport cache of prepared statements. A value of "
                     + "{@code 0} disables the cache.", 256
     );
+    static final YdbProperty<Integer> PREPARED_STATEMENT_CACHE_SIZE_MIB = YdbProperty.integer(
+            "preparedStatementCacheSizeMiB",
+            "Specifies the maximum size (in megabytes) of each per-transport cache of parsed queries, prepared "
+                    + "statements and table descriptions. Entries are weighted by estimated heap size. A value of "
+                    + "{@code 0} limits caches only by number of entries.", 0
+    );
+    static final YdbProperty<Integer> SHARED_QUERY_CACHE_SIZE_MIB = YdbProperty.integer(
+            "sharedQueryCacheSizeMiB",
+            "Specifies the maximum size (in megabytes) of JVM-wide cache of parsed queries shared by all contexts. "
+                    + "A value of {@code 0} uses per-transport cache of parsed queries", 0
+    );
+    static final YdbProperty<String> PREPARED_STATEMENT_CACHE_FILE = YdbProperty.string(
+            "preparedStatementCacheFile",
+            "Path to the local file to keep types of prepared statements and table descriptions between restarts"
+    );
+    static final YdbProperty<Duration> PREPARED_STATEMENT_CACHE_FILE_TTL = YdbProperty.duration(
+            "preparedStatementCacheFileTtl",
+            "Time to live of entries of the prepared statements cache file", "24h"
+    );
+    static final YdbProperty<String> WARMUP_QUERIES = YdbProperty.content(
+            "warmupQueries",
+            "List of queries to prepare on context creation, separated by empty lines. Can be a 'file:' or "
+                    + "'classpath:' reference to the resource with queries"
+    );
+    static final YdbProperty<Integer> WARMUP_CONCURRENCY = YdbProperty.integer(
+            "warmupConcurrency", "Maximum number of queries prepared in parallel during warm-up", 4
+    );
     static final YdbProperty<Boolean> USE_QUERY_SERVICE = YdbProperty.bool("useQueryService",
             "Use QueryService instead of TableService", true
     );
@@ -51,6 +80,9 @@ public class YdbConfig {
     static final YdbProperty<Boolean> TRANSACTION_TRACER = YdbProperty.bool(
             "enableTxTracer", "Enable collecting of transaction execution traces", false
     );
+    static final YdbProperty<Boolean> CACHE_MBEANS_ENABLED = YdbProperty.bool(
+            "enableCacheMBeans", "Register JMX MBeans with statistics of driver caches", false
+    );
     static final YdbProperty<Integer> CACHED_TRANSPORT_COUNT = YdbProperty.integer(
             "cachedTransportsCount", "Use specified count of YDB transports in context cache", 1
     );
@@ -65,6 +97,12 @@ public class YdbConfig {
     private final Properties properties;
     private final boolean isCacheConnectionsInDriver;
     private final int preparedStatementsCacheSize;
+    private final int preparedStatementsCacheSizeMiB;
+    private final int sharedQueryCacheSizeMiB;
+    private final YdbValue<String> preparedStatementsCacheFile;
+    private final Duration preparedStatementsCacheFileTtl;
+    private final List<String> warmupQueries;
+    private final int warmupConcurrency;
 
     private final boolean useQueryService;
     private final boolean useDiscovery;
@@ -72,6 +110,7 @@ public class YdbConfig {
 
     private final boolean fullScanDetectorEnabled;
     private final boolean txTracerEnabled;
+    private final boolean cacheMBeansEnabled;
     private final int transportIndex;
 
     private YdbConfig(
@@ -85,6 +124,13 @@ public class YdbConfig {
         this.properties = props;
         this.isCacheConnectionsInDriver = CACHE_CONNECTIONS_IN_DRIVER.readValue(props).getValue();
         this.preparedStatementsCacheSize = Math.max(0, PREPARED_STATEMENT_CACHE_SIZE.readValue(props).getValue());
+        this.preparedStatementsCacheSizeMiB = Math.max(0,
+                PREPARED_STATEMENT_CACHE_SIZE_MIB.readValue(props).getValue());
+        this.sharedQueryCacheSizeMiB = Math.max(0, SHARED_QUERY_CACHE_SIZE_MIB.readValue(props).getValue());
+        this.preparedStatementsCacheFile = PREPARED_STATEMENT_CACHE_FILE.readValue(props);
+        this.preparedStatementsCacheFileTtl = PREPARED_STATEMENT_CACHE_FILE_TTL.readValue(props).getValue();
+        this.warmupQueries = splitQueries(WARMUP_QUERIES.readValue(props).getValue());
+        this.warmupConcurrency = Math.max(1, WARMUP_CONCURRENCY.readValue(props).getValue());
 
         this.useQueryService = USE_QUERY_SERVICE.readValue(props).getValue();
         this.useDiscovery = USE_DISCOVERY.readValue(props).getValue();
@@ -92,6 +138,7 @@ public class YdbConfig {
 
         this.fullScanDetectorEnabled = FULLSCAN_DETECTOR_ENABLED.readValue(props).getValue();
         this.txTracerEnabled = TRANSACTION_TRACER.readValue(props).getValue();
+        this.cacheMBeansEnabled = CACHE_MBEANS_ENABLED.readValue(props).getValue();
 
         int transportsCount = CACHED_TRANSPORT_COUNT.readValue(props).getValue();
         if (transportsCount > 1) {
@@ -125,6 +172,34 @@ public class YdbConfig {
         return this.preparedStatementsCacheSize;
     }
 
+    public int getPreparedStatementsCacheSizeMiB() {
+        return this.preparedStatementsCacheSizeMiB;
+    }
+
+    public int getSharedQueryCacheSizeMiB() {
+        return this.sharedQueryCacheSizeMiB;
+    }
+
+    public boolean hasPreparedStatementsCacheFile() {
+        return preparedStatementsCacheFile.hasValue();
+    }
+
+    public String getPreparedStatementsCacheFile() {
+        return preparedStatementsCacheFile.getValue();
+    }
+
+    public Duration getPreparedStatementsCacheFileTtl() {
+        return preparedStatementsCacheFileTtl;
+    }
+
+    public List<String> getWarmupQueries() {
+        return warmupQueries;
+    }
+
+    public int getWarmupConcurrency() {
+        return warmupConcurrency;
+    }
+
     public boolean isUseQueryService() {
         return this.useQueryService;
     }
@@ -149,6 +224,36 @@ public class YdbConfig {
         return txTracerEnabled;
     }
 
+    public boolean isCacheMBeansEnabled() {
+        return cacheMBeansEnabled;
+    }
+
+    static List<String> splitQueries(String text) {
+        List<String> queries = new ArrayList<>();
+        if (text == null) {
+            return queries;
+        }
+
+        StringBuilder query = new StringBuilder();
+        for (String line: text.split("\\r?\\n", -1)) {
+            if (line.trim().isEmpty()) {
+                if (query.length() > 0) {
+                    queries.add(query.toString());
+                    query.setLength(0);
+                }
+                continue;
+            }
+            if (query.length() > 0) {
+                query.append('\n');
+            }
+            query.append(line);
+        }
+        if (query.length() > 0) {
+            queries.add(query.toString());
+        }
+        return queries;
+    }
+
     static boolean isSensetive(String key) {
         return TOKEN_KEY.equalsIgnoreCase(key)  || PASSWORD_KEY.equalsIgnoreCase(key);
     }
@@ -70,6 +70,68 @@ public class YdbOperationProperties {
     static final YdbProperty<Duration> QUERY_REWRITE_TABLE_TTL = YdbProperty.duration("queryRewriteTtl",
             "Name of working table to hot replacemnt of queies", "300s");
 
+    static final YdbProperty<Boolean> QUERY_REWRITE_TABLE_PRELOAD = YdbProperty.bool("queryRewritePreload",
+            "Read all rewrites from the query rewrite table at start", false);
+
+    static final YdbProperty<Integer> QUERY_REWRITE_TABLE_PRELOAD_LIMIT = YdbProperty.integer(
+            "queryRewritePreloadLimit",
+            "Limit of preloaded rewrites, only the most recently used queries are kept. The limit is capped "
+                    + "by preparedStatementCacheQueries, a value of {@code 0} means the size of this cache", 0);
+
+    static final YdbProperty<Integer> BATCH_MAX_ROWS = YdbProperty.integer("batchMaxRows",
+            "Maximum count of rows in one request of executeBatch, larger batches are split into several requests. "
+                    + "A value of {@code 0} means no limit", 0);
+
+    static final YdbProperty<Integer> BATCH_MAX_BYTES = YdbProperty.integer("batchMaxBytes",
+            "Maximum estimated size of one request of executeBatch in bytes, larger batches are split into several "
+                    + "requests. A value of {@code 0} means no limit", 32 * 1024 * 1024);
+
+    static final YdbProperty<Integer> BULK_UPSERT_CONCURRENCY = YdbProperty.integer("bulkUpsertConcurrency",
+            "Maximum count of concurrent requests of one split bulk upsert batch. Values greater than {@code 1} also "
+                    + "enable grouping of rows by partitions of the table, batches with unknown partitions are sent "
+                    + "sequentially", 1);
+
+    static final YdbProperty<Boolean> BATCH_AUTO_FLUSH = YdbProperty.bool("batchAutoFlush",
+            "Send rows of addBatch in background when the batch reaches batchMaxRows or batchMaxBytes. Works only "
+                    + "for bulk upserts and for batches in auto-commit mode, errors are reported by executeBatch",
+            false);
+
+    static final YdbProperty<Integer> BATCH_MAX_IN_FLIGHT = YdbProperty.integer("batchMaxInFlight",
+            "Maximum count of background requests of one statement with batchAutoFlush, addBatch waits for the "
+                    + "completion of the oldest request when the limit is reached. Requests in flight are not ordered, "
+                    + "so with values greater than {@code 1} a later part of the batch may be committed before an "
+                    + "earlier one", 1);
+
+    static final YdbProperty<Boolean> INJECT_MAX_ROWS_LIMIT = YdbProperty.bool("injectMaxRowsLimit",
+            "Append LIMIT clause with the value of Statement.setMaxRows to simple SELECT queries without own LIMIT, "
+                    + "OFFSET and UNION", false);
+
+    static final YdbProperty<Integer> FETCH_MAX_BYTES = YdbProperty.integer("fetchMaxBytes",
+            "Maximum estimated size of loaded but not read parts of stream result set in bytes, the stream is paused "
+                    + "when the limit is reached. A value of {@code 0} means no limit", 0);
+
+    static final YdbProperty<Integer> STREAM_PARTS_IN_FLIGHT = YdbProperty.integer("streamPartsInFlight",
+            "Count of parts of stream result set which are requested from the server ahead of the reading", 1);
+
+    static final YdbProperty<Integer> SPILL_THRESHOLD_BYTES = YdbProperty.integer("spillThresholdBytes",
+            "Estimated size of in-memory result set in bytes, next parts of the result set are written to the "
+                    + "temporary file. A value of {@code 0} means that result sets are always kept in memory", 0);
+
+    static final YdbProperty<String> SPILL_DIRECTORY = YdbProperty.string("spillDirectory",
+            "Directory for temporary files of spilled result sets, the default temporary directory is used if "
+                    + "not set");
+
+    static final YdbProperty<Integer> SCAN_PARALLELISM = YdbProperty.integer("scanParallelism",
+            "Maximum count of concurrent streams of scan query which reads one table. Values greater than {@code 1} "
+                    + "split simple single-table SELECT by key ranges of the table partitions. Every range is read in "
+                    + "its own snapshot, so the result is not a consistent read of the table; use {@code 1} if the "
+                    + "consistency is required", 1);
+
+    static final YdbProperty<Boolean> SCAN_PARALLEL_ORDERED = YdbProperty.bool("scanParallelOrdered",
+            "Return rows of parallel scan in order of key ranges, a few parts of the next ranges are buffered and "
+                    + "their streams are paused until the previous ranges are read. The order of rows doesn't make "
+                    + "the result consistent, every range is still read in its own snapshot", false);
+
     private final YdbValue<Duration> joinDuration;
     private final YdbValue<Duration> queryTimeout;
     private final YdbValue<Duration> scanQueryTimeout;
@@ -88,6 +150,20 @@ public class YdbOperationProperties {
     private final YdbValue<String> txValidationTable;
     private final YdbValue<String> queryRewriteTable;
     private final YdbValue<Duration> queryRewriteTTL;
+    private final YdbValue<Boolean> queryRewritePreload;
+    private final YdbValue<Integer> queryRewritePreloadLimit;
+    private final YdbValue<Integer> batchMaxRows;
+    private final YdbValue<Integer> batchMaxBytes;
+    private final YdbValue<Integer> bulkUpsertConcurrency;
+    private final YdbValue<Boolean> batchAutoFlush;
+    private final YdbValue<Integer> batchMaxInFlight;
+    private final YdbValue<Boolean> injectMaxRowsLimit;
+    private final YdbValue<Integer> fetchMaxBytes;
+    private final YdbValue<Integer> streamPartsInFlight;
+    private final YdbValue<Integer> spillThresholdBytes;
+    private final YdbValue<String> spillDirectory;
+    private final YdbValue<Integer> scanParallelism;
+    private final YdbValue<Boolean> scanParallelOrdered;
 
     public YdbOperationProperties(YdbConfig config) throws SQLException {
         Properties props = config.getProperties();
@@ -110,6 +186,20 @@ public class YdbOperationProperties {
         this.txValidationTable = TX_VALIDATION_TABLE.readValue(props);
         this.queryRewriteTable = QUERY_REWRITE_TABLE.readValue(props);
         this.queryRewriteTTL = QUERY_REWRITE_TABLE_TTL.readValue(props);
+        this.queryRewritePreload = QUERY_REWRITE_TABLE_PRELOAD.readValue(props);
+        this.queryRewritePreloadLimit = QUERY_REWRITE_TABLE_PRELOAD_LIMIT.readValue(props);
+        this.batchMaxRows = BATCH_MAX_ROWS.readValue(props);
+        this.batchMaxBytes = BATCH_MAX_BYTES.readValue(props);
+        this.bulkUpsertConcurrency = BULK_UPSERT_CONCURRENCY.readValue(props);
+        this.batchAutoFlush = BATCH_AUTO_FLUSH.readValue(props);
+        this.batchMaxInFlight = BATCH_MAX_IN_FLIGHT.readValue(props);
+        this.injectMaxRowsLimit = INJECT_MAX_ROWS_LIMIT.readValue(props);
+        this.fetchMaxBytes = FETCH_MAX_BYTES.readValue(props);
+        this.streamPartsInFlight = STREAM_PARTS_IN_FLIGHT.readValue(props);
+        this.spillThresholdBytes = SPILL_THRESHOLD_BYTES.readValue(props);
+        this.spillDirectory = SPILL_DIRECTORY.readValue(props);
+        this.scanParallelism = SCAN_PARALLELISM.readValue(props);
+        this.scanParallelOrdered = SCAN_PARALLEL_ORDERED.readValue(props);
     }
 
     public Duration getJoinDuration() {
@@ -175,4 +265,60 @@ public class YdbOperationProperties {
     public Duration getQueryRewriteTtl() {
         return queryRewriteTTL.getValue();
     }
+
+    public boolean isQueryRewritePreload() {
+        return queryRewritePreload.getValue();
+    }
+
+    public int getQueryRewritePreloadLimit() {
+        return queryRewritePreloadLimit.getValue();
+    }
+
+    public int getBatchMaxRows() {
+        return batchMaxRows.getValue();
+    }
+
+    public int getBatchMaxBytes() {
+        return batchMaxBytes.getValue();
+    }
+
+    public int getBulkUpsertConcurrency() {
+        return bulkUpsertConcurrency.getValue();
+    }
+
+    public boolean getBatchAutoFlush() {
+        return batchAutoFlush.getValue();
+    }
+
+    public int getBatchMaxInFlight() {
+        return batchMaxInFlight.getValue();
+    }
+
+    public boolean isInjectMaxRowsLimit() {
+        return injectMaxRowsLimit.getValue();
+    }
+
+    public int getFetchMaxBytes() {
+        return fetchMaxBytes.getValue();
+    }
+
+    public int getStreamPartsInFlight() {
+        return streamPartsInFlight.getValue();
+    }
+
+    public int getSpillThresholdBytes() {
+        return spillThresholdBytes.getValue();
+    }
+
+    public String getSpillDirectory() {
+        return spillDirectory.getValue();
+    }
+
+    public int getScanParallelism() {
+        return scanParallelism.getValue();
+    }
+
+    public boolean isScanParallelOrdered() {
+        return scanParallelOrdered.getValue();
+    }
 }
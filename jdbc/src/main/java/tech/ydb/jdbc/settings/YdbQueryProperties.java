@@ -1,6 +1,8 @@
 package tech.ydb.jdbc.settings;
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.logging.Logger;
 
@@ -34,6 +36,10 @@ public class YdbQueryProperties {
     static final YdbProperty<Boolean> REPLACE_JDBC_IN_BY_YQL_LIST = YdbProperty.bool("replaceJdbcInByYqlList",
             "Convert SQL operation IN (?, ?, ... ,?) to YQL operation IN $list", true);
 
+    static final YdbProperty<String> JDBC_IN_LIST_BUCKETS = YdbProperty.string("jdbcInListBuckets",
+            "Pad SQL operation IN (?, ?, ... ,?) to the nearest bucket size when it is not converted to YQL list. "
+            + "Value is 'pow2' for powers of two or increasing list of sizes like '10,100,1000'");
+
     static final YdbProperty<Boolean> DISABLE_JDBC_PARAMETERS_DECLARE = YdbProperty.bool("disableJdbcParameterDeclare",
             "Disable enforce DECLARE section for JDBC parameters '?'", false);
 
@@ -55,9 +61,15 @@ public class YdbQueryProperties {
     static final YdbProperty<Boolean> FORCE_SCAN_SELECT = YdbProperty.bool("forceScanSelect",
             "Execute all SELECT statements as ScanQuery", false);
 
+    static final YdbProperty<Boolean> AUTO_PARAMETERIZE_LITERALS = YdbProperty.bool("autoParameterizeLiterals",
+            "Replace integer and text ('...'u) literals of DML statements executed by Statement with parameters. "
+                    + "The query rejected because of parameter types is executed once more with original literals",
+            false);
+
     private final boolean isDetectQueryType;
     private final boolean isDetectJdbcParameters;
     private final boolean isReplaceJdbcInToYqlList;
+    private final int[] jdbcInListBuckets;
     private final boolean isDeclareJdbcParameters;
     private final boolean isForceJdbcParameters;
 
@@ -67,6 +79,7 @@ public class YdbQueryProperties {
     private final boolean isReplaceInsertToUpsert;
     private final boolean isForceBulkUpsert;
     private final boolean isForceScanSelect;
+    private final boolean isAutoParameterizeLiterals;
 
     public YdbQueryProperties(YdbConfig config) throws SQLException {
         this(config.getProperties());
@@ -89,6 +102,7 @@ public class YdbQueryProperties {
         this.isDetectJdbcParameters = isForceJdbcParameters || (isDetectQueryType && !disableJdbcParametersParse);
         this.isDeclareJdbcParameters = isDetectJdbcParameters && !disableJdbcParametersDeclare;
         this.isReplaceJdbcInToYqlList = isDetectJdbcParameters && replaceJdbcInByYqlList;
+        this.jdbcInListBuckets = parseBuckets(JDBC_IN_LIST_BUCKETS.readValue(props).getValue());
 
 
         YdbValue<QueryType> forcedType = FORCE_QUERY_MODE.readValue(props);
@@ -108,6 +122,8 @@ public class YdbQueryProperties {
                 .getValueOrOther(forceScanAndBulk.getValue() || forcedType.getValue() == QueryType.BULK_QUERY);
         this.isForceScanSelect = FORCE_SCAN_SELECT.readValue(props)
                 .getValueOrOther(forceScanAndBulk.getValue() || forcedType.getValue() == QueryType.SCAN_QUERY);
+
+        this.isAutoParameterizeLiterals = AUTO_PARAMETERIZE_LITERALS.readValue(props).getValue();
     }
 
     public boolean isDetectQueryType() {
@@ -126,6 +142,56 @@ public class YdbQueryProperties {
         return isReplaceJdbcInToYqlList;
     }
 
+    public boolean isPadJdbcInList() {
+        return isDetectJdbcParameters && !isReplaceJdbcInToYqlList && jdbcInListBuckets.length > 0;
+    }
+
+    /**
+     * Returns the size of the bucket for IN list with given count of elements. Lists longer than the biggest bucket
+     * are not padded
+     *
+     * @param listSize count of elements in the list
+     * @return size of padded list
+     */
+    public int getJdbcInListBucket(int listSize) {
+        int idx = Arrays.binarySearch(jdbcInListBuckets, listSize);
+        if (idx >= 0) {
+            return listSize;
+        }
+        int bucket = -idx - 1;
+        return bucket < jdbcInListBuckets.length ? jdbcInListBuckets[bucket] : listSize;
+    }
+
+    private static int[] parseBuckets(String value) throws SQLException {
+        if (value == null || value.trim().isEmpty()) {
+            return new int[0];
+        }
+
+        if ("pow2".equalsIgnoreCase(value.trim())) {
+            int[] buckets = new int[31];
+            for (int idx = 0; idx < buckets.length; idx++) {
+                buckets[idx] = 1 << idx;
+            }
+            return buckets;
+        }
+
+        String[] parts = value.split(",");
+        int[] buckets = new int[parts.length];
+        for (int idx = 0; idx < parts.length; idx++) {
+            try {
+                buckets[idx] = Integer.parseInt(parts[idx].trim());
+            } catch (NumberFormatException ex) {
+                throw new SQLException("Invalid value of property " + JDBC_IN_LIST_BUCKETS.getName()
+                        + ", must be 'pow2' or list of sizes, got " + value, ex);
+            }
+            if (buckets[idx] <= 0 || (idx > 0 && buckets[idx] <= buckets[idx - 1])) {
+                throw new SQLException("Invalid value of property " + JDBC_IN_LIST_BUCKETS.getName()
+                        + ", sizes must be positive and increasing, got " + value);
+            }
+        }
+        return buckets;
+    }
+
     public boolean isPrepareDataQueries() {
         return isPrepareDataQueries;
     }
@@ -149,4 +215,39 @@ public class YdbQueryProperties {
     public boolean isForceJdbcParameters() {
         return isForceJdbcParameters;
     }
+
+    public boolean isAutoParameterizeLiterals() {
+        return isAutoParameterizeLiterals;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof YdbQueryProperties)) {
+            return false;
+        }
+        YdbQueryProperties that = (YdbQueryProperties) o;
+        return isDetectQueryType == that.isDetectQueryType
+                && isDetectJdbcParameters == that.isDetectJdbcParameters
+                && isReplaceJdbcInToYqlList == that.isReplaceJdbcInToYqlList
+                && Arrays.equals(jdbcInListBuckets, that.jdbcInListBuckets)
+                && isDeclareJdbcParameters == that.isDeclareJdbcParameters
+                && isForceJdbcParameters == that.isForceJdbcParameters
+                && isPrepareDataQueries == that.isPrepareDataQueries
+                && isDetectBatchQueries == that.isDetectBatchQueries
+                && isReplaceInsertToUpsert == that.isReplaceInsertToUpsert
+                && isForceBulkUpsert == that.isForceBulkUpsert
+                && isForceScanSelect == that.isForceScanSelect
+                && isAutoParameterizeLiterals == that.isAutoParameterizeLiterals;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isDetectQueryType, isDetectJdbcParameters, isReplaceJdbcInToYqlList,
+                isDeclareJdbcParameters, isForceJdbcParameters, isPrepareDataQueries, isDetectBatchQueries,
+                isReplaceInsertToUpsert, isForceBulkUpsert, isForceScanSelect, isAutoParameterizeLiterals,
+                Arrays.hashCode(jdbcInListBuckets));
+    }
 }
@@ -130,6 +130,89 @@ public class YdbDriverQueryRewriteTest {
         }
     }
 
+    @Test
+    public void refreshAheadTest() throws SQLException, InterruptedException {
+        String url = jdbcURL
+                .withArg("withQueryRewriteTable", "query_rewrite3")
+                .withArg("queryRewriteTtl", "1s")
+                .build();
+
+        try (Connection conn = DriverManager.getConnection(url)) {
+            Assertions.assertEquals(1, selectValue(conn, "SELECT 1 AS v"));
+
+            try (PreparedStatement update = jdbc.connection().prepareStatement(
+                    "UPDATE query_rewrite3 SET rewritten = ? WHERE query = ?")) {
+                update.setString(1, "SELECT 2 AS v");
+                update.setString(2, "SELECT 1 AS v");
+                update.execute();
+            }
+
+            // ttl is not expired yet
+            Assertions.assertEquals(1, selectValue(conn, "SELECT 1 AS v"));
+
+            Thread.sleep(1100);
+
+            // expired rewrite is still used, the refresh is executed in background
+            Assertions.assertEquals(1, selectValue(conn, "SELECT 1 AS v"));
+
+            long deadline = System.currentTimeMillis() + 10000;
+            while (selectValue(conn, "SELECT 1 AS v") != 2) {
+                Assertions.assertTrue(System.currentTimeMillis() < deadline, "Rewrite was not refreshed");
+                Thread.sleep(100);
+            }
+        } finally {
+            jdbc.connection().createStatement().execute("DROP TABLE query_rewrite3");
+        }
+    }
+
+    @Test
+    public void preloadTest() throws SQLException {
+        String url = jdbcURL.withArg("withQueryRewriteTable", "query_rewrite4").build();
+        String readUsedAt = "SELECT used_at FROM query_rewrite4 WHERE query = 'SELECT 1 AS v'";
+
+        try {
+            try (Connection conn = DriverManager.getConnection(url)) {
+                Assertions.assertEquals(1, selectValue(conn, "SELECT 1 AS v"));
+                Assertions.assertEquals(3, selectValue(conn, "SELECT 3 AS v"));
+            }
+
+            jdbc.connection().createStatement().execute("UPDATE query_rewrite4 SET rewritten = 'SELECT 2 AS v' "
+                    + "WHERE query = 'SELECT 1 AS v'");
+
+            Object usedAt;
+            try (ResultSet rs = jdbc.connection().createStatement().executeQuery(readUsedAt)) {
+                Assertions.assertTrue(rs.next());
+                usedAt = rs.getObject(1);
+            }
+
+            // new context with preloading of rewrites
+            String preloadUrl = jdbcURL.withArg("withQueryRewriteTable", "query_rewrite4")
+                    .withArg("queryRewritePreload", "true")
+                    .build();
+            try (Connection conn = DriverManager.getConnection(preloadUrl)) {
+                Assertions.assertEquals(2, selectValue(conn, "SELECT 1 AS v"));
+                Assertions.assertEquals(3, selectValue(conn, "SELECT 3 AS v"));
+            }
+
+            // preloaded query didn't update the table
+            try (ResultSet rs = jdbc.connection().createStatement().executeQuery(readUsedAt)) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals(usedAt, rs.getObject(1));
+            }
+        } finally {
+            jdbc.connection().createStatement().execute("DROP TABLE query_rewrite4");
+        }
+    }
+
+    private static int selectValue(Connection conn, String sql) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            try (ResultSet rs = ps.executeQuery()) {
+                Assertions.assertTrue(rs.next());
+                return rs.getInt("v");
+            }
+        }
+    }
+
     @Test
     public void testContextCacheConncurrent() throws SQLException {
         String url = jdbcURL.withArg("withQueryRewriteTable", "query_rewrite2").build();
@@ -1,6 +1,7 @@
 package tech.ydb.jdbc;
 
 
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.DriverManager;
@@ -13,6 +14,7 @@ import java.time.LocalDate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
 
 import tech.ydb.jdbc.impl.helper.ExceptionAssert;
 import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
@@ -534,4 +536,166 @@ public class YdbDriverTablesTest {
             }
         }
     }
+
+    @Test
+    public void batchAutoFlushTest() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(jdbcURL
+                .withArg("batchMaxRows", "100")
+                .withArg("batchAutoFlush", "true")
+                .withArg("batchMaxInFlight", "3")
+                .withArg("bulkUpsertConcurrency", "4")
+                .build()
+        )) {
+            try {
+                conn.createStatement().execute(DROP_TABLE);
+            } catch (SQLException e) {
+                // ignore
+            }
+
+            conn.createStatement().execute(CREATE_TABLE);
+
+            LocalDate ld = LocalDate.of(2017, 12, 3);
+            String prefix = "text-value-";
+            int idx = 0;
+
+            // batch bulk upsert is sent by addBatch
+            try (PreparedStatement ps = conn.prepareStatement("BULK " + UPSERT_ROW)) {
+                for (int j = 0; j < 1050; j++) {
+                    ps.setInt(1, ++idx);
+                    ps.setString(2, prefix + idx);
+                    ps.setDate(3, Date.valueOf(ld.plusDays(idx)));
+                    ps.addBatch();
+                }
+                int[] results = ps.executeBatch();
+                Assertions.assertEquals(1050, results.length);
+                for (int result: results) {
+                    Assertions.assertEquals(Statement.SUCCESS_NO_INFO, result);
+                }
+            }
+
+            // batch upsert in auto commit mode is sent by addBatch
+            try (PreparedStatement ps = conn.prepareStatement(UPSERT_ROW)) {
+                for (int j = 0; j < 1050; j++) {
+                    ps.setInt(1, ++idx);
+                    ps.setString(2, prefix + idx);
+                    ps.setDate(3, Date.valueOf(ld.plusDays(idx)));
+                    ps.addBatch();
+                }
+                int[] results = ps.executeBatch();
+                Assertions.assertEquals(1050, results.length);
+                for (int result: results) {
+                    Assertions.assertEquals(Statement.SUCCESS_NO_INFO, result);
+                }
+            }
+
+            // batch upsert in transaction is sent only by executeBatch
+            conn.setAutoCommit(false);
+            try (PreparedStatement ps = conn.prepareStatement(UPSERT_ROW)) {
+                for (int j = 0; j < 250; j++) {
+                    ps.setInt(1, ++idx);
+                    ps.setString(2, prefix + idx);
+                    ps.setDate(3, Date.valueOf(ld.plusDays(idx)));
+                    ps.addBatch();
+                }
+                Assertions.assertEquals(250, ps.executeBatch().length);
+            }
+            conn.rollback();
+            conn.setAutoCommit(true);
+
+            try (Statement st = conn.createStatement()) {
+                int readed = 0;
+                try (ResultSet rs = st.executeQuery(SELECT_ALL)) {
+                    while (rs.next()) {
+                        readed++;
+                        Assertions.assertEquals(readed, rs.getInt("id"));
+                        Assertions.assertEquals(prefix + readed, rs.getString("value"));
+                    }
+                }
+                Assertions.assertEquals(2100, readed);
+            }
+
+            conn.createStatement().execute(DROP_TABLE);
+        }
+    }
+
+    @Test
+    public void spilledResultsTest() throws SQLException {
+        // query service reads the result in parts, the parts over the threshold are written to the file
+        JdbcUrlHelper spilledURL = jdbcURL.withArg("useQueryService", "true").withArg("spillThresholdBytes", "1024");
+        try (Connection conn = DriverManager.getConnection(spilledURL.build())) {
+            try {
+                conn.createStatement().execute(DROP_TABLE);
+            } catch (SQLException e) {
+                // ignore
+            }
+
+            conn.createStatement().execute(CREATE_TABLE);
+
+            String prefix = "text-value-";
+            try (PreparedStatement ps = conn.prepareStatement("BULK " + UPSERT_ROW)) {
+                for (int idx = 1; idx <= 5000; idx++) {
+                    ps.setInt(1, idx);
+                    ps.setString(2, prefix + idx);
+                    ps.setDate(3, Date.valueOf(LocalDate.of(2017, 12, 3)));
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+
+            try (Statement st = conn.createStatement()) {
+                try (ResultSet rs = st.executeQuery(SELECT_ALL)) {
+                    Assertions.assertTrue(rs.absolute(4000));
+                    Assertions.assertEquals(prefix + 4000, rs.getString("value"));
+                    Assertions.assertTrue(rs.absolute(10));
+                    Assertions.assertEquals(prefix + 10, rs.getString("value"));
+                    Assertions.assertTrue(rs.last());
+                    Assertions.assertEquals(5000, rs.getInt("id"));
+                }
+            }
+
+            conn.createStatement().execute(DROP_TABLE);
+        }
+    }
+
+    @Test
+    public void outdatedCacheFileTest(@TempDir Path dir) throws SQLException {
+        JdbcUrlHelper cachedURL = jdbcURL
+                .withArg("cacheConnectionsInDriver", "false")
+                .withArg("preparedStatementCacheFile", dir.resolve("cache.bin").toString());
+        String createTable = "CREATE TABLE cached_table (id Int32 NOT NULL, value %s, PRIMARY KEY (id))";
+        String upsert = "UPSERT INTO cached_table (id, value) VALUES (?, ?)";
+
+        try (Connection conn = DriverManager.getConnection(cachedURL.build())) {
+            conn.createStatement().execute(String.format(createTable, "Int32"));
+            try (PreparedStatement ps = conn.prepareStatement(upsert)) {
+                ps.setInt(1, 1);
+                ps.setInt(2, 1);
+                ps.addBatch();
+                ps.executeBatch();
+            }
+        }
+
+        // table is recreated with other type of column, description from the cache file is outdated
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            conn.createStatement().execute("DROP TABLE cached_table");
+            conn.createStatement().execute(String.format(createTable, "Text"));
+        }
+
+        try (Connection conn = DriverManager.getConnection(cachedURL.build())) {
+            // rejected query is prepared again and executed in the same call
+            try (PreparedStatement ps = conn.prepareStatement(upsert)) {
+                ps.setInt(1, 2);
+                ps.setInt(2, 2);
+                ps.addBatch();
+                Assertions.assertEquals(1, ps.executeBatch().length);
+            }
+
+            try (ResultSet rs = conn.createStatement().executeQuery("SELECT value FROM cached_table WHERE id = 2")) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals("2", rs.getString("value"));
+            }
+
+            conn.createStatement().execute("DROP TABLE cached_table");
+        }
+    }
 }
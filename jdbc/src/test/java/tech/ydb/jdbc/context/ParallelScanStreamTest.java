@@ -0,0 +1,200 @@
+package tech.ydb.jdbc.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class ParallelScanStreamTest {
+    private static class TestStream implements GrpcReadStream<ResultSetReader> {
+        private final CompletableFuture<Status> finished = new CompletableFuture<>();
+        private Observer<ResultSetReader> observer = null;
+        private boolean isCancelled = false;
+
+        @Override
+        public CompletableFuture<Status> start(Observer<ResultSetReader> partsObserver) {
+            this.observer = partsObserver;
+            return finished;
+        }
+
+        void send(int id) {
+            ValueProtos.ResultSet rs = ValueProtos.ResultSet.newBuilder()
+                    .addColumns(ValueProtos.Column.newBuilder().setName("id").setType(PrimitiveType.Int32.toPb()))
+                    .addRows(ValueProtos.Value.newBuilder().addItems(PrimitiveValue.newInt32(id).toPb()))
+                    .build();
+            observer.onNext(ProtoValueReaders.forResultSet(rs));
+        }
+
+        void complete(Status status) {
+            finished.complete(status);
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+            finished.complete(Status.of(StatusCode.CLIENT_CANCELLED));
+        }
+    }
+
+    private final List<TestStream> streams = new ArrayList<>();
+    private final AtomicInteger closedStreams = new AtomicInteger();
+
+    private ParallelScanStream merged(int count, boolean isOrdered) {
+        ParallelScanStream merged = new ParallelScanStream(count, isOrdered);
+        for (int idx = 0; idx < count; idx++) {
+            TestStream stream = new TestStream();
+            streams.add(stream);
+            merged.addRange(stream, closedStreams::incrementAndGet);
+        }
+        return merged;
+    }
+
+    private static int id(ResultSetReader part) {
+        part.setRowIndex(0);
+        return part.getColumn(0).getInt32();
+    }
+
+    @Test
+    public void unorderedTest() {
+        List<Integer> ids = new ArrayList<>();
+        CompletableFuture<Status> finished = merged(3, false).start(part -> ids.add(id(part)));
+
+        // all streams are started at once
+        for (TestStream stream: streams) {
+            Assertions.assertNotNull(stream.observer);
+        }
+
+        streams.get(2).send(20);
+        streams.get(0).send(0);
+        streams.get(1).send(10);
+        streams.get(0).send(1);
+        streams.get(1).complete(Status.SUCCESS);
+        Assertions.assertEquals(1, closedStreams.get());
+        streams.get(2).send(21);
+        streams.get(0).complete(Status.SUCCESS);
+        Assertions.assertFalse(finished.isDone());
+        streams.get(2).complete(Status.SUCCESS);
+
+        Assertions.assertEquals(Status.SUCCESS, finished.join());
+        Assertions.assertEquals(Arrays.asList(20, 0, 10, 1, 21), ids);
+        Assertions.assertEquals(3, closedStreams.get());
+    }
+
+    @Test
+    public void orderedTest() {
+        List<Integer> ids = new ArrayList<>();
+        CompletableFuture<Status> finished = merged(3, true).start(part -> ids.add(id(part)));
+
+        streams.get(2).send(20);
+        streams.get(1).send(10);
+        streams.get(0).send(0);
+        streams.get(2).send(21);
+        streams.get(2).complete(Status.SUCCESS);
+        Assertions.assertEquals(Arrays.asList(0), ids, "parts of the next ranges are buffered");
+
+        streams.get(0).send(1);
+        streams.get(0).complete(Status.SUCCESS);
+        Assertions.assertEquals(Arrays.asList(0, 1, 10), ids);
+
+        streams.get(1).send(11);
+        Assertions.assertEquals(Arrays.asList(0, 1, 10, 11), ids, "parts of the current range are forwarded");
+        streams.get(1).complete(Status.SUCCESS);
+
+        Assertions.assertEquals(Status.SUCCESS, finished.join());
+        Assertions.assertEquals(Arrays.asList(0, 1, 10, 11, 20, 21), ids);
+        Assertions.assertEquals(3, closedStreams.get());
+    }
+
+    @Test
+    public void failureTest() {
+        List<Integer> ids = new ArrayList<>();
+        CompletableFuture<Status> finished = merged(3, false).start(part -> ids.add(id(part)));
+
+        streams.get(0).send(0);
+        streams.get(0).complete(Status.SUCCESS);
+        streams.get(1).complete(Status.of(StatusCode.OVERLOADED));
+
+        // the first error cancels other streams and completes the merged stream
+        Assertions.assertFalse(streams.get(0).isCancelled);
+        Assertions.assertTrue(streams.get(2).isCancelled);
+        Assertions.assertEquals(StatusCode.OVERLOADED, finished.join().getCode());
+        Assertions.assertEquals(3, closedStreams.get());
+    }
+
+    @Test
+    public void cancelTest() {
+        ParallelScanStream merged = merged(2, true);
+        CompletableFuture<Status> finished = merged.start(part -> { });
+        streams.get(1).send(10);
+
+        merged.cancel();
+        Assertions.assertTrue(streams.get(0).isCancelled);
+        Assertions.assertTrue(streams.get(1).isCancelled);
+        Assertions.assertEquals(StatusCode.CLIENT_CANCELLED, finished.join().getCode());
+        Assertions.assertEquals(2, closedStreams.get());
+    }
+
+    @Test
+    public void backpressureTest() {
+        List<Integer> ids = new ArrayList<>();
+        ParallelScanStream merged = merged(2, true);
+        AtomicInteger requested = new AtomicInteger();
+        GrpcFlowControl.Call flow = merged.flowControl(1, null).newCall(requested::addAndGet);
+        CompletableFuture<Status> finished = merged.start(part -> ids.add(id(part)));
+
+        flow.onStart();
+        for (int idx = 0; idx < ParallelScanStream.MAX_BUFFERED_PARTS; idx++) {
+            streams.get(1).send(10 + idx);
+            flow.onMessageRead();
+        }
+        Assertions.assertEquals(ParallelScanStream.MAX_BUFFERED_PARTS, requested.get(),
+                "stream of the next range is paused");
+
+        streams.get(0).send(0);
+        streams.get(0).complete(Status.SUCCESS);
+        Assertions.assertEquals(ParallelScanStream.MAX_BUFFERED_PARTS + 1, requested.get(),
+                "paused stream is resumed after completion of the previous range");
+        Assertions.assertEquals(Arrays.asList(0, 10, 11), ids);
+
+        streams.get(1).send(12);
+        flow.onMessageRead();
+        Assertions.assertEquals(ParallelScanStream.MAX_BUFFERED_PARTS + 2, requested.get());
+        streams.get(1).complete(Status.SUCCESS);
+
+        Assertions.assertEquals(Status.SUCCESS, finished.join());
+        Assertions.assertEquals(Arrays.asList(0, 10, 11, 12), ids);
+    }
+
+    @Test
+    public void unorderedFlowTest() {
+        ParallelScanStream merged = merged(2, false);
+        AtomicInteger requested = new AtomicInteger();
+        GrpcFlowControl.Call flow = merged.flowControl(1, null).newCall(requested::addAndGet);
+        merged.start(part -> { });
+
+        flow.onStart();
+        for (int idx = 0; idx < 5; idx++) {
+            streams.get(1).send(10 + idx);
+            flow.onMessageRead();
+        }
+        Assertions.assertEquals(6, requested.get(), "unordered streams are never paused");
+    }
+}
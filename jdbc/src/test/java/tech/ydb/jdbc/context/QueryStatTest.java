@@ -0,0 +1,114 @@
+package tech.ydb.jdbc.context;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.query.ExplainDataQueryResult;
+import tech.ydb.table.result.ResultSetReader;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class QueryStatTest {
+    private static final String SQL = "SELECT * FROM t WHERE id = ?";
+    private static final String YQL = "DECLARE $jp1 AS Int32;\nSELECT * FROM t WHERE id = $jp1";
+
+    private static ExplainDataQueryResult explain(String ast, String plan) {
+        return new ExplainDataQueryResult(YdbTable.ExplainQueryResult.newBuilder()
+                .setQueryAst(ast)
+                .setQueryPlan(plan)
+                .build());
+    }
+
+    private static String printedPlan(QueryStat stat) {
+        ResultSetReader rs = QueryStat.toResultSetReader(Collections.singletonList(stat));
+        Assertions.assertEquals(1, rs.getRowCount());
+        rs.setRowIndex(0);
+        return rs.getColumn("plan").getText();
+    }
+
+    @Test
+    public void pendingPlanTest() {
+        QueryStat stat = new QueryStat(SQL, YQL);
+        stat.incrementUsage();
+
+        // plan is not available until the background explain is finished
+        Assertions.assertFalse(stat.isAnalyzed());
+        Assertions.assertEquals("pending", stat.getPlan());
+        Assertions.assertNull(stat.getAst());
+        Assertions.assertFalse(stat.isFullScan());
+        Assertions.assertFalse(stat.isError());
+        Assertions.assertEquals(1, stat.getUsageCounter());
+        Assertions.assertEquals("pending", printedPlan(stat));
+
+        // explain is scheduled only once
+        Assertions.assertTrue(stat.tryScheduleAnalyze());
+        Assertions.assertFalse(stat.tryScheduleAnalyze());
+        Assertions.assertEquals("pending", stat.getPlan());
+
+        String plan = "{\"Node Type\":\"TableFullScan\"}";
+        YdbCache.analyzeQuery(stat, () -> CompletableFuture.completedFuture(Result.success(explain("ast", plan))));
+
+        Assertions.assertTrue(stat.isAnalyzed());
+        Assertions.assertEquals("ast", stat.getAst());
+        Assertions.assertEquals(plan, stat.getPlan());
+        Assertions.assertTrue(stat.isFullScan());
+        Assertions.assertFalse(stat.isError());
+        Assertions.assertEquals(plan, printedPlan(stat));
+
+        // analyzed query is not scheduled again
+        Assertions.assertFalse(stat.tryScheduleAnalyze());
+    }
+
+    @Test
+    public void explainErrorTest() {
+        QueryStat stat = new QueryStat(SQL, YQL);
+        Assertions.assertTrue(stat.tryScheduleAnalyze());
+
+        Status error = Status.of(StatusCode.SCHEME_ERROR);
+        YdbCache.analyzeQuery(stat, () -> CompletableFuture.completedFuture(Result.fail(error)));
+
+        // error of the explain is the result of the analysis, the query is not rescheduled
+        Assertions.assertTrue(stat.isAnalyzed());
+        Assertions.assertTrue(stat.isError());
+        Assertions.assertFalse(stat.isFullScan());
+        Assertions.assertNull(stat.getAst());
+        Assertions.assertEquals(error.toString(), stat.getPlan());
+        Assertions.assertFalse(stat.tryScheduleAnalyze());
+    }
+
+    @Test
+    public void failedExplainIsRescheduledTest() {
+        QueryStat stat = new QueryStat(SQL, YQL);
+        Assertions.assertTrue(stat.tryScheduleAnalyze());
+
+        CompletableFuture<Result<ExplainDataQueryResult>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("transport failure"));
+        YdbCache.analyzeQuery(stat, () -> failed);
+
+        // neither plan nor error is stored, the query is analyzed again on the next execution
+        Assertions.assertFalse(stat.isAnalyzed());
+        Assertions.assertEquals("pending", stat.getPlan());
+        Assertions.assertFalse(stat.isError());
+        Assertions.assertTrue(stat.tryScheduleAnalyze());
+
+        YdbCache.analyzeQuery(stat, () -> {
+            throw new IllegalStateException("explain cannot be started");
+        });
+        Assertions.assertFalse(stat.isAnalyzed());
+        Assertions.assertTrue(stat.tryScheduleAnalyze());
+
+        YdbCache.analyzeQuery(stat, () -> CompletableFuture.completedFuture(Result.success(explain("ast", "{}"))));
+        Assertions.assertTrue(stat.isAnalyzed());
+        Assertions.assertEquals("{}", stat.getPlan());
+        Assertions.assertFalse(stat.isFullScan());
+    }
+}
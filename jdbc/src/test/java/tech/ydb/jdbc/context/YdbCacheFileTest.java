@@ -0,0 +1,173 @@
+package tech.ydb.jdbc.context;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.StructType;
+import tech.ydb.table.values.Type;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbCacheFileTest {
+    private static final String DATABASE = "/local";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    @TempDir
+    private Path tempDir;
+
+    private static Map<String, Type> queryTypes() {
+        Map<String, Type> types = new HashMap<>();
+        types.put("$p1", PrimitiveType.Int32);
+        types.put("$p2", OptionalType.of(PrimitiveType.Text));
+        types.put("$p3", DecimalType.of(22, 9));
+        types.put("$list", ListType.of(StructType.of("id", PrimitiveType.Uint64, "value", PrimitiveType.Bytes)));
+        return types;
+    }
+
+    private static TableDescription tableDescription() {
+        return TableDescription.newBuilder()
+                .addNonnullColumn("id", PrimitiveType.Int64)
+                .addNullableColumn("value", PrimitiveType.Text)
+                .addNullableColumn("ts", PrimitiveType.Timestamp)
+                .setPrimaryKeys("id")
+                .build();
+    }
+
+    @Test
+    public void writeAndReadTest() {
+        String fileName = tempDir.resolve("cache.bin").toString();
+
+        YdbCacheFile file = new YdbCacheFile(fileName, DATABASE, TTL, 100);
+        Assertions.assertTrue(file.getQueries().isEmpty());
+        Assertions.assertTrue(file.getTables().isEmpty());
+
+        file.putQuery("SELECT 1", queryTypes());
+        file.putTable("/local/table", tableDescription());
+        file.close();
+
+        Assertions.assertTrue(Files.exists(tempDir.resolve("cache.bin")));
+
+        YdbCacheFile restored = new YdbCacheFile(fileName, DATABASE, TTL, 100);
+        Assertions.assertEquals(1, restored.getQueries().size());
+        Assertions.assertEquals(queryTypes(), restored.getQueries().get("SELECT 1"));
+
+        Assertions.assertEquals(1, restored.getTables().size());
+        TableDescription description = restored.getTables().get("/local/table");
+        Assertions.assertNotNull(description);
+        Assertions.assertEquals(tableDescription().getPrimaryKeys(), description.getPrimaryKeys());
+        Assertions.assertEquals(3, description.getColumns().size());
+        for (int idx = 0; idx < 3; idx++) {
+            Assertions.assertEquals(tableDescription().getColumns().get(idx).getName(),
+                    description.getColumns().get(idx).getName());
+            Assertions.assertEquals(tableDescription().getColumns().get(idx).getType(),
+                    description.getColumns().get(idx).getType());
+        }
+
+        restored.removeQuery("SELECT 1");
+        restored.close();
+
+        YdbCacheFile removed = new YdbCacheFile(fileName, DATABASE, TTL, 100);
+        Assertions.assertTrue(removed.getQueries().isEmpty());
+        Assertions.assertEquals(1, removed.getTables().size());
+        removed.close();
+    }
+
+    @Test
+    public void closeAfterBackgroundWriteTest() throws InterruptedException {
+        Path path = tempDir.resolve("cache.bin");
+
+        YdbCacheFile file = new YdbCacheFile(path.toString(), DATABASE, TTL, 100);
+        file.putQuery("SELECT 1", queryTypes());
+        // wait for the delayed write
+        for (int idx = 0; idx < 100 && !Files.exists(path); idx++) {
+            Thread.sleep(50);
+        }
+        Assertions.assertTrue(Files.exists(path));
+
+        file.putQuery("SELECT 2", queryTypes());
+        file.close();
+
+        YdbCacheFile restored = new YdbCacheFile(path.toString(), DATABASE, TTL, 100);
+        Assertions.assertEquals(2, restored.getQueries().size());
+        restored.close();
+    }
+
+    @Test
+    public void otherDatabaseTest() {
+        String fileName = tempDir.resolve("cache.bin").toString();
+
+        YdbCacheFile file = new YdbCacheFile(fileName, DATABASE, TTL, 100);
+        file.putQuery("SELECT 1", queryTypes());
+        file.close();
+
+        YdbCacheFile other = new YdbCacheFile(fileName, "/other", TTL, 100);
+        Assertions.assertTrue(other.getQueries().isEmpty());
+        other.close();
+    }
+
+    @Test
+    public void expiredEntriesTest() {
+        String fileName = tempDir.resolve("cache.bin").toString();
+
+        YdbCacheFile file = new YdbCacheFile(fileName, DATABASE, TTL, 100);
+        file.putQuery("SELECT 1", queryTypes());
+        file.close();
+
+        YdbCacheFile expired = new YdbCacheFile(fileName, DATABASE, Duration.ZERO, 100);
+        Assertions.assertTrue(expired.getQueries().isEmpty());
+        expired.close();
+    }
+
+    @Test
+    public void maxSizeTest() throws InterruptedException {
+        String fileName = tempDir.resolve("cache.bin").toString();
+
+        YdbCacheFile file = new YdbCacheFile(fileName, DATABASE, TTL, 2);
+        file.putQuery("SELECT 1", queryTypes());
+        Thread.sleep(5);
+        file.putQuery("SELECT 2", queryTypes());
+        Thread.sleep(5);
+        file.putQuery("SELECT 3", queryTypes());
+        // entries in memory are bounded too
+        Assertions.assertEquals(2, file.getQueries().size());
+        Assertions.assertFalse(file.getQueries().containsKey("SELECT 1"));
+        file.close();
+
+        YdbCacheFile restored = new YdbCacheFile(fileName, DATABASE, TTL, 2);
+        Assertions.assertEquals(2, restored.getQueries().size());
+        Assertions.assertFalse(restored.getQueries().containsKey("SELECT 1"));
+        restored.close();
+    }
+
+    @Test
+    public void brokenFileTest() throws Exception {
+        Path path = tempDir.resolve("cache.bin");
+        Files.write(path, new byte[] {1, 2, 3});
+
+        YdbCacheFile file = new YdbCacheFile(path.toString(), DATABASE, TTL, 100);
+        Assertions.assertTrue(file.getQueries().isEmpty());
+        Assertions.assertTrue(file.getTables().isEmpty());
+
+        // broken file is overwritten by the next write
+        file.putQuery("SELECT 1", queryTypes());
+        file.close();
+
+        YdbCacheFile restored = new YdbCacheFile(path.toString(), DATABASE, TTL, 100);
+        Assertions.assertEquals(1, restored.getQueries().size());
+        restored.close();
+    }
+}
@@ -0,0 +1,69 @@
+package tech.ydb.jdbc.context;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ExecutionException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbCacheStatsTest {
+
+    @Test
+    public void cacheStatsTest() throws ExecutionException {
+        Cache<String, String> cache = CacheBuilder.newBuilder().maximumSize(2).recordStats().build();
+        YdbCacheStats stats = new YdbCacheStats("test", cache);
+
+        Assertions.assertEquals("test", stats.getName());
+        Assertions.assertEquals(0, stats.getSize());
+        Assertions.assertEquals(0, stats.getHitCount());
+        Assertions.assertEquals(0, stats.getMissCount());
+
+        Assertions.assertEquals("v1", cache.get("k1", () -> "v1"));
+        Assertions.assertEquals("v1", cache.get("k1", () -> "other"));
+        Assertions.assertNull(cache.getIfPresent("k2"));
+        Assertions.assertThrows(ExecutionException.class, () -> cache.get("k2", () -> {
+            throw new Exception("test");
+        }));
+        cache.put("k3", "v3");
+        cache.put("k4", "v4");
+
+        Assertions.assertEquals(2, stats.getSize());
+        Assertions.assertEquals(1, stats.getHitCount());
+        Assertions.assertEquals(3, stats.getMissCount());
+        Assertions.assertEquals(0.25d, stats.getHitRate(), 0.001d);
+        Assertions.assertEquals(1, stats.getEvictionCount());
+        Assertions.assertEquals(1, stats.getLoadSuccessCount());
+        Assertions.assertEquals(1, stats.getLoadExceptionCount());
+        Assertions.assertTrue(stats.getTotalLoadTimeNanos() > 0);
+        Assertions.assertTrue(stats.getAverageLoadPenaltyNanos() > 0);
+    }
+
+    @Test
+    public void mbeanTest() throws JMException {
+        Cache<String, String> cache = CacheBuilder.newBuilder().maximumSize(10).recordStats().build();
+        cache.put("k1", "v1");
+        Assertions.assertEquals("v1", cache.getIfPresent("k1"));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("tech.ydb.jdbc:type=YdbCache,context=test,name=test");
+        server.registerMBean(new YdbCacheStats("test", cache), name);
+        try {
+            Assertions.assertEquals("test", server.getAttribute(name, "Name"));
+            Assertions.assertEquals(1L, server.getAttribute(name, "Size"));
+            Assertions.assertEquals(1L, server.getAttribute(name, "HitCount"));
+            Assertions.assertEquals(0L, server.getAttribute(name, "MissCount"));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
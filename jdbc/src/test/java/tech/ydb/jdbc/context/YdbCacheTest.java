@@ -0,0 +1,243 @@
+package tech.ydb.jdbc.context;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import tech.ydb.jdbc.YdbConnection;
+import tech.ydb.jdbc.impl.YdbTracerImpl;
+import tech.ydb.jdbc.impl.YdbTracerNone;
+import tech.ydb.jdbc.impl.helper.JdbcUrlHelper;
+import tech.ydb.test.junit5.YdbHelperExtension;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbCacheTest {
+    private static final int THREADS_COUNT = 16;
+
+    @RegisterExtension
+    private static final YdbHelperExtension ydb = new YdbHelperExtension();
+
+    private static final JdbcUrlHelper jdbcURL = new JdbcUrlHelper(ydb)
+            .withArg("enableTxTracer", "true");
+
+    @Test
+    public void concurrentPrepareTest() throws SQLException, InterruptedException, ExecutionException {
+        String sql = "DECLARE $p1 AS Int32; SELECT $p1 + 1 AS res;";
+        AtomicInteger prepareCount = new AtomicInteger();
+
+        String url = jdbcURL.build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS_COUNT);
+            try {
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Integer>> results = new ArrayList<>();
+                for (int idx = 0; idx < THREADS_COUNT; idx++) {
+                    final int value = idx;
+                    results.add(executor.submit(() -> {
+                        YdbTracerImpl.use(new PrepareCounter(prepareCount));
+                        try (Connection local = DriverManager.getConnection(url)) {
+                            start.await();
+                            try (PreparedStatement ps = local.prepareStatement(sql)) {
+                                ps.setInt(1, value);
+                                try (ResultSet rs = ps.executeQuery()) {
+                                    Assertions.assertTrue(rs.next());
+                                    return rs.getInt("res");
+                                }
+                            }
+                        }
+                    }));
+                }
+
+                start.countDown();
+                for (int idx = 0; idx < THREADS_COUNT; idx++) {
+                    Assertions.assertEquals(idx + 1, results.get(idx).get().intValue());
+                }
+            } finally {
+                executor.shutdown();
+                Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+            }
+
+            // Only one thread executed prepareDataQuery, all others waited for its result
+            Assertions.assertEquals(1, prepareCount.get());
+
+            // Next calls use cached value
+            YdbTracerImpl.use(new PrepareCounter(prepareCount));
+            try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                ps.setInt(1, 10);
+                try (ResultSet rs = ps.executeQuery()) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(11, rs.getInt("res"));
+                }
+            } finally {
+                YdbTracerImpl.clear();
+            }
+            Assertions.assertEquals(1, prepareCount.get());
+        }
+    }
+
+    @Test
+    public void warmupTest() throws SQLException {
+        String sql1 = "DECLARE $p1 AS Int32; SELECT $p1 + 3 AS res;";
+        String sql2 = "DECLARE $p1 AS Int32; SELECT $p1 + 4 AS res;";
+        String invalid = "DECLARE $p1 AS Int32; SELECT $p1 + 5 AS res FROM unknown_table;";
+        AtomicInteger prepareCount = new AtomicInteger();
+
+        String url = jdbcURL.withArg("warmupQueries", sql1 + "\n\n" + invalid).build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbConnection ydb = conn.unwrap(YdbConnection.class);
+            Assertions.assertEquals(1, ydb.warmup(Arrays.asList(sql2, invalid)));
+
+            YdbTracerImpl.use(new PrepareCounter(prepareCount));
+            try {
+                for (String sql: Arrays.asList(sql1, sql2)) {
+                    try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                        ps.setInt(1, 1);
+                        try (ResultSet rs = ps.executeQuery()) {
+                            Assertions.assertTrue(rs.next());
+                        }
+                    }
+                }
+            } finally {
+                YdbTracerImpl.clear();
+            }
+
+            // both queries were prepared before the first execution
+            Assertions.assertEquals(0, prepareCount.get());
+        }
+    }
+
+    @Test
+    public void autoParameterizeLiteralsTest() throws SQLException {
+        String url = jdbcURL.withArg("autoParameterizeLiterals", "true").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            YdbConnection ydb = conn.unwrap(YdbConnection.class);
+            for (int idx = 1; idx <= 10; idx++) {
+                String sql = "SELECT k FROM AS_TABLE(AsList(AsStruct(1 AS k, 'one'u AS v), AsStruct(2 AS k, 'two'u AS v)))"
+                        + " WHERE v = " + (idx % 2 == 0 ? "'one'u" : "'two'u");
+                try (Statement st = conn.createStatement()) {
+                    try (ResultSet rs = st.executeQuery(sql)) {
+                        Assertions.assertTrue(rs.next());
+                        Assertions.assertEquals(idx % 2 == 0 ? 1 : 2, rs.getInt("k"));
+                        Assertions.assertFalse(rs.next());
+                    }
+                }
+            }
+
+            // all queries use the same parsed query
+            YdbCacheStats stats = findStats(ydb, "queries");
+            Assertions.assertEquals(1, stats.getSize());
+            Assertions.assertEquals(1, stats.getLoadSuccessCount());
+            Assertions.assertEquals(9, stats.getHitCount());
+        }
+    }
+
+    @Test
+    public void autoParameterizeLiteralsTypesTest() throws SQLException {
+        String url = jdbcURL.withArg("autoParameterizeLiterals", "true").build();
+        try (Connection conn = DriverManager.getConnection(url)) {
+            try (Statement st = conn.createStatement()) {
+                st.execute("CREATE TABLE literals_types (id Uint8, i16 Int16, dt Date, dc Decimal(22, 9), "
+                        + "s String, t Text, PRIMARY KEY(id))");
+            }
+            try (Statement st = conn.createStatement()) {
+                // Int32 parameter doesn't fit to Uint8 column, so the original query with literals is executed
+                Assertions.assertEquals(1, st.executeUpdate("UPSERT INTO literals_types (id, i16, dt, dc, s, t) "
+                        + "VALUES (1, -2, Date('2024-01-02'), Decimal('1.5', 22, 9), 'bytes', 'text'u)"));
+                // text parameters are converted to String columns
+                Assertions.assertEquals(1, st.executeUpdate("UPSERT INTO literals_types (id, s, t) "
+                        + "VALUES (2, 'other'u, 'other'u)"));
+
+                try (ResultSet rs = st.executeQuery("SELECT * FROM literals_types WHERE s = 'bytes'")) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals(1, rs.getInt("id"));
+                    Assertions.assertEquals(-2, rs.getShort("i16"));
+                    Assertions.assertEquals("2024-01-02", rs.getString("dt"));
+                    Assertions.assertEquals(0, new BigDecimal("1.5").compareTo(rs.getBigDecimal("dc")));
+                    Assertions.assertEquals("text", rs.getString("t"));
+                    Assertions.assertFalse(rs.next());
+                }
+                try (ResultSet rs = st.executeQuery("SELECT s, t FROM literals_types WHERE t = 'other'u")) {
+                    Assertions.assertTrue(rs.next());
+                    Assertions.assertEquals("other", rs.getString("s"));
+                    Assertions.assertEquals("other", rs.getString("t"));
+                    Assertions.assertFalse(rs.next());
+                }
+            } finally {
+                try (Statement st = conn.createStatement()) {
+                    st.execute("DROP TABLE literals_types");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void cacheStatsTest() throws SQLException {
+        String sql = "DECLARE $p1 AS Int32; SELECT $p1 + 2 AS res;";
+
+        try (Connection conn = DriverManager.getConnection(jdbcURL.build())) {
+            YdbConnection ydb = conn.unwrap(YdbConnection.class);
+            for (int idx = 0; idx < 3; idx++) {
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    ps.setInt(1, idx);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        Assertions.assertTrue(rs.next());
+                        Assertions.assertEquals(idx + 2, rs.getInt("res"));
+                    }
+                }
+            }
+
+            YdbCacheStats after = findStats(ydb, "queryParams");
+            Assertions.assertTrue(after.getSize() >= 1);
+            Assertions.assertTrue(after.getLoadSuccessCount() >= 1);
+            Assertions.assertTrue(after.getHitCount() >= 2);
+
+            Assertions.assertNotNull(findStats(ydb, "queries"));
+            Assertions.assertNotNull(findStats(ydb, "tableDescriptions"));
+        }
+    }
+
+    private static YdbCacheStats findStats(YdbConnection conn, String name) throws SQLException {
+        for (YdbCacheStats stats: conn.getCacheStats()) {
+            if (name.equals(stats.getName())) {
+                return stats;
+            }
+        }
+        return null;
+    }
+
+    private static class PrepareCounter extends YdbTracerNone {
+        private final AtomicInteger counter;
+
+        PrepareCounter(AtomicInteger counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public void trace(String message) {
+            if ("--> prepare data query".equals(message)) {
+                counter.incrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbCacheWeigherTest {
+    private final YdbTypes types = new YdbTypes(false);
+
+    private YdbQuery parse(String sql) throws SQLException {
+        YdbQueryProperties props = new YdbQueryProperties(new Properties());
+        return YdbQuery.parseQuery(new QueryKey(sql), props, types);
+    }
+
+    private static String inListQuery(int size) {
+        StringBuilder sb = new StringBuilder("SELECT * FROM t WHERE id IN (?");
+        for (int idx = 1; idx < size; idx++) {
+            sb.append(", ?");
+        }
+        return sb.append(")").toString();
+    }
+
+    @Test
+    public void queriesWeightTest() throws SQLException {
+        String small = "SELECT * FROM t WHERE id = ?";
+        String large = inListQuery(5000);
+
+        int smallWeight = YdbCacheWeigher.weigh(new QueryKey(small), parse(small));
+        int largeWeight = YdbCacheWeigher.weigh(new QueryKey(large), parse(large));
+
+        Assertions.assertTrue(smallWeight > 2 * small.length());
+        Assertions.assertTrue(largeWeight > 2 * large.length());
+        Assertions.assertTrue(largeWeight > 20 * smallWeight);
+    }
+
+    @Test
+    public void queryParamsWeightTest() {
+        Map<String, Type> one = Collections.singletonMap("$p1", PrimitiveType.Int32);
+        Map<String, Type> many = new HashMap<>();
+        for (int idx = 0; idx < 100; idx++) {
+            many.put("$p" + idx, PrimitiveType.Int32);
+        }
+
+        Assertions.assertTrue(YdbCacheWeigher.weigh("q", one) < YdbCacheWeigher.weigh("q", many));
+        Assertions.assertTrue(YdbCacheWeigher.weigh("q", one) < YdbCacheWeigher.weigh("long query text", one));
+    }
+
+    @Test
+    public void tablesWeightTest() {
+        TableDescription narrow = TableDescription.newBuilder()
+                .addNonnullColumn("id", PrimitiveType.Int32)
+                .setPrimaryKey("id")
+                .build();
+
+        TableDescription.Builder builder = TableDescription.newBuilder().addNonnullColumn("id", PrimitiveType.Int32);
+        for (int idx = 0; idx < 200; idx++) {
+            builder.addNullableColumn("column_" + idx, PrimitiveType.Text);
+        }
+        TableDescription wide = builder.setPrimaryKey("id").build();
+
+        Assertions.assertTrue(YdbCacheWeigher.weigh("/t", narrow) * 50 < YdbCacheWeigher.weigh("/t", wide));
+    }
+
+    @Test
+    public void weightedCacheTest() throws SQLException {
+        Cache<QueryKey, YdbQuery> cache = CacheBuilder.newBuilder()
+                .maximumWeight(256 * 1024)
+                .weigher(YdbCacheWeigher.QUERIES)
+                .build();
+
+        for (int idx = 0; idx < 100; idx++) {
+            String sql = inListQuery(1000 + idx);
+            cache.put(new QueryKey(sql), parse(sql));
+        }
+
+        long totalWeight = 0;
+        for (Map.Entry<QueryKey, YdbQuery> entry: cache.asMap().entrySet()) {
+            totalWeight += YdbCacheWeigher.weigh(entry.getKey(), entry.getValue());
+        }
+
+        Assertions.assertTrue(cache.size() < 100);
+        Assertions.assertTrue(totalWeight <= 256 * 1024);
+    }
+}
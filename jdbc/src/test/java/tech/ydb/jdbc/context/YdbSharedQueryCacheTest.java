@@ -0,0 +1,62 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbSharedQueryCacheTest {
+    private static final long CACHE_SIZE = 16 * 1024 * 1024;
+
+    private static YdbQueryProperties options(String key, String value) throws SQLException {
+        Properties props = new Properties();
+        if (key != null) {
+            props.put(key, value);
+        }
+        return new YdbQueryProperties(props);
+    }
+
+    @Test
+    public void sharedBetweenContextsTest() throws SQLException {
+        YdbSharedQueryCache cache = YdbSharedQueryCache.getInstance(CACHE_SIZE);
+        Assertions.assertSame(cache, YdbSharedQueryCache.getInstance(CACHE_SIZE));
+
+        String sql = "SELECT * FROM shared_test WHERE id = ?";
+        YdbTypes types1 = new YdbTypes(false);
+        YdbTypes types2 = new YdbTypes(false);
+
+        // different instances of equal options use the same parsed query
+        YdbQuery q1 = cache.parseQuery(new QueryKey(sql), options(null, null), types1, false);
+        YdbQuery q2 = cache.parseQuery(new QueryKey(sql), options(null, null), types2, false);
+        Assertions.assertSame(q1, q2);
+
+        // other types mode or other options are parsed again
+        YdbQuery q3 = cache.parseQuery(new QueryKey(sql), options(null, null), types1, true);
+        Assertions.assertNotSame(q1, q3);
+
+        YdbQuery q4 = cache.parseQuery(new QueryKey(sql), options("disableJdbcParameters", "true"), types1, false);
+        Assertions.assertNotSame(q1, q4);
+        Assertions.assertNotEquals(q1.getPreparedYql(), q4.getPreparedYql());
+
+        Assertions.assertSame(q4,
+                cache.parseQuery(new QueryKey(sql), options("disableJdbcParameters", "true"), types2, false));
+    }
+
+    @Test
+    public void queryPropertiesEqualityTest() throws SQLException {
+        Assertions.assertEquals(options(null, null), options(null, null));
+        Assertions.assertEquals(options(null, null).hashCode(), options(null, null).hashCode());
+        Assertions.assertEquals(options(null, null), options("replaceJdbcInByYqlList", "true"));
+        Assertions.assertNotEquals(options(null, null), options("forceScanSelect", "true"));
+    }
+}
@@ -0,0 +1,76 @@
+package tech.ydb.jdbc.context;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.Context;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.jdbc.YdbTracer;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbValidatorTest {
+    /** Emulates gRPC call which is completed with CANCELLED status by the cancellation of its context */
+    private static CompletableFuture<Status> grpcCall() {
+        CompletableFuture<Status> future = new CompletableFuture<>();
+        Context.current().addListener(ctx -> future.complete(Status.of(StatusCode.CANCELLED)), Runnable::run);
+        return future;
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void cancelTest() throws Exception {
+        YdbValidator validator = new YdbValidator();
+
+        CompletableFuture<Status> first = validator.startFuture(YdbValidatorTest::grpcCall);
+        CompletableFuture<Status> second = validator.startFuture(YdbValidatorTest::grpcCall);
+        Assertions.assertFalse(first.isDone());
+        Assertions.assertFalse(second.isDone());
+
+        validator.cancel();
+        Assertions.assertEquals(StatusCode.CANCELLED, first.join().getCode());
+        Assertions.assertEquals(StatusCode.CANCELLED, second.join().getCode());
+
+        // completed operations are not affected by the next cancellations
+        CompletableFuture<Status> completed = validator.startFuture(() -> CompletableFuture.completedFuture(
+                Status.SUCCESS));
+        CompletableFuture<Status> next = validator.startFuture(YdbValidatorTest::grpcCall);
+        Assertions.assertFalse(next.isDone());
+        validator.cancel();
+        Assertions.assertEquals(Status.SUCCESS, completed.join());
+        Assertions.assertEquals(StatusCode.CANCELLED, next.join().getCode());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void cancelBlockedExecuteTest() throws Exception {
+        YdbValidator validator = new YdbValidator();
+
+        CompletableFuture<SQLException> executed = CompletableFuture.supplyAsync(() -> {
+            try {
+                validator.execute("blocked query", YdbTracer.current(), YdbValidatorTest::grpcCall);
+                return null;
+            } catch (SQLException ex) {
+                return ex;
+            }
+        });
+
+        while (!executed.isDone()) {
+            validator.cancel();
+            Thread.sleep(10);
+        }
+
+        SQLException ex = executed.join();
+        Assertions.assertNotNull(ex);
+        Assertions.assertTrue(ex.getMessage().contains("CANCELLED"), ex.getMessage());
+    }
+}
@@ -0,0 +1,75 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbBatchFlusherTest {
+
+    @Test
+    public void inFlightLimitTest() throws Exception {
+        YdbBatchFlusher flusher = new YdbBatchFlusher(2);
+        CompletableFuture<Status> first = new CompletableFuture<>();
+        CompletableFuture<Status> second = new CompletableFuture<>();
+
+        Assertions.assertTrue(flusher.awaitSlot());
+        flusher.add(3, first);
+        Assertions.assertTrue(flusher.awaitSlot());
+        flusher.add(2, second);
+        Assertions.assertEquals(5, flusher.sentRows());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> slot = executor.submit(flusher::awaitSlot);
+            Thread.sleep(100);
+            Assertions.assertFalse(slot.isDone(), "awaitSlot must wait for the oldest request");
+
+            first.complete(Status.SUCCESS);
+            Assertions.assertTrue(slot.get(1, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        second.complete(Status.SUCCESS);
+        Assertions.assertArrayEquals(new int[] {
+            Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO,
+            Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO,
+        }, flusher.awaitAll());
+        Assertions.assertNull(flusher.firstError());
+
+        flusher.reset();
+        Assertions.assertEquals(0, flusher.sentRows());
+        Assertions.assertArrayEquals(new int[0], flusher.awaitAll());
+    }
+
+    @Test
+    public void failedRequestTest() {
+        YdbBatchFlusher flusher = new YdbBatchFlusher(3);
+        Status error = Status.of(StatusCode.OVERLOADED);
+
+        flusher.add(1, CompletableFuture.completedFuture(Status.SUCCESS));
+        flusher.add(2, CompletableFuture.completedFuture(error));
+        CompletableFuture<Status> broken = new CompletableFuture<>();
+        broken.completeExceptionally(new IllegalStateException("broken"));
+        flusher.add(1, broken);
+
+        Assertions.assertFalse(flusher.awaitSlot(), "new requests must not be sent after error");
+        Assertions.assertEquals(error, flusher.firstError());
+        Assertions.assertArrayEquals(new int[] {
+            Statement.SUCCESS_NO_INFO, Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED, Statement.EXECUTE_FAILED,
+        }, flusher.awaitAll());
+    }
+}
@@ -11,6 +11,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.AfterAll;
@@ -28,11 +29,14 @@ import org.junit.jupiter.params.provider.ValueSource;
 import tech.ydb.jdbc.YdbConnection;
 import tech.ydb.jdbc.YdbConst;
 import tech.ydb.jdbc.YdbDatabaseMetaData;
+import tech.ydb.jdbc.YdbResultPublisher;
+import tech.ydb.jdbc.YdbStatement;
 import tech.ydb.jdbc.impl.helper.ExceptionAssert;
 import tech.ydb.jdbc.impl.helper.JdbcConnectionExtention;
 import tech.ydb.jdbc.impl.helper.SqlQueries;
 import tech.ydb.jdbc.impl.helper.StatsAssert;
 import tech.ydb.jdbc.impl.helper.TableAssert;
+import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.test.junit5.YdbHelperExtension;
 
 public class YdbConnectionImplTest {
@@ -957,6 +961,61 @@ public class YdbConnectionImplTest {
         }
     }
 
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS, threadMode = Timeout.ThreadMode.SAME_THREAD)
+    public void testResultPublisher() throws Exception {
+        String bulkUpsert = QUERIES.upsertOne(SqlQueries.JdbcQuery.BULK, "c_Text", "Text?");
+        String selectAll = QUERIES.selectSQL();
+
+        try (Connection conn = jdbc.createCustomConnection("useStreamResultSets", "true")) {
+            try (PreparedStatement ps = conn.prepareStatement(bulkUpsert)) {
+                for (int idx = 1; idx <= 5000; idx++) {
+                    ps.setInt(1, idx);
+                    ps.setString(2, "value-" + idx);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+            }
+
+            try (YdbStatement st = conn.createStatement().unwrap(YdbStatement.class)) {
+                st.setFetchSize(500);
+                CompletableFuture<Integer> readed = new CompletableFuture<>();
+                st.executeQueryPublisher(selectAll).subscribe(new YdbResultPublisher.Subscriber() {
+                    private YdbResultPublisher.Subscription subscription;
+                    private int count = 0;
+
+                    @Override
+                    public void onSubscribe(YdbResultPublisher.Subscription s) {
+                        subscription = s;
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onNext(ResultSetReader part) {
+                        while (part.next()) {
+                            count++;
+                        }
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onError(Throwable th) {
+                        readed.completeExceptionally(th);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        readed.complete(count);
+                    }
+                });
+
+                Assertions.assertEquals(5000, readed.get(20, TimeUnit.SECONDS));
+            }
+        } finally {
+            cleanTable();
+        }
+    }
+
     @Test
     public void testAnsiLexer() throws SQLException {
         try (Statement statement = jdbc.connection().createStatement()) {
@@ -1032,6 +1091,7 @@ public class YdbConnectionImplTest {
 
         try (Connection connection = jdbc.createCustomConnection("jdbcFullScanDetector", "true")) {
             try (Statement st = connection.createStatement()) {
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery(" print_JDBC_stats();  ")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1042,6 +1102,7 @@ public class YdbConnectionImplTest {
                 Assertions.assertFalse(st.execute(createTable));
                 Assertions.assertFalse(st.execute(dropTable));
 
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("Print_JDBC_stats();\n")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1059,6 +1120,7 @@ public class YdbConnectionImplTest {
 
         try (Connection connection = jdbc.createCustomConnection("jdbcFullScanDetector", "true")) {
             try (Statement st = connection.createStatement()) {
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("print_JDBC_stats();")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1067,6 +1129,7 @@ public class YdbConnectionImplTest {
 
                 ExceptionAssert.ydbException("Cannot find table", () -> st.execute(wrongQuery));
 
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("Print_JDBC_stats();\n")) {
                     TableAssert.ResultSetAssert check = sa.check(rs).assertMetaColumns();
 
@@ -1080,6 +1143,7 @@ public class YdbConnectionImplTest {
                 }
 
                 Assertions.assertFalse(st.execute("reset_jdbc_stats();\n"));
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("print_JDBC_stats();")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1098,6 +1162,7 @@ public class YdbConnectionImplTest {
 
         try (Connection connection = jdbc.createCustomConnection("jdbcFullScanDetector", "true")) {
             try (Statement st = connection.createStatement()) {
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery(" print_JDBC_stats();  ")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1109,6 +1174,7 @@ public class YdbConnectionImplTest {
                     Assertions.assertFalse(rs.next());
                 }
 
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("\tPrint_JDBC_staTs();")) {
                     TableAssert.ResultSetAssert check = sa.check(rs).assertMetaColumns();
 
@@ -1126,6 +1192,7 @@ public class YdbConnectionImplTest {
                     Assertions.assertFalse(rs.next());
                 }
 
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("print_JDBC_staTs();")) {
                     TableAssert.ResultSetAssert check = sa.check(rs).assertMetaColumns();
 
@@ -1149,6 +1216,7 @@ public class YdbConnectionImplTest {
                     Assertions.assertFalse(rs.next());
                 }
 
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("print_JDBC_staTs();")) {
                     TableAssert.ResultSetAssert check = sa.check(rs).assertMetaColumns();
 
@@ -1168,6 +1236,7 @@ public class YdbConnectionImplTest {
                 }
 
                 Assertions.assertFalse(st.execute("\t\treSet_jdbc_statS();"));
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("print_JDBC_stats();")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1185,6 +1254,7 @@ public class YdbConnectionImplTest {
         String preparedSelectByColumn = QUERIES.selectAllByColumnValue("c_Text", "?");
 
         try (Connection connection = jdbc.createCustomConnection("jdbcFullScanDetector", "true")) {
+            StatsAssert.waitForAnalysis(connection);
             try (PreparedStatement ps = connection.prepareStatement("print_JDBC_stats();")) {
                 sa.check(ps.executeQuery())
                             .assertMetaColumns()
@@ -1199,6 +1269,7 @@ public class YdbConnectionImplTest {
                 ps.execute();
             }
 
+            StatsAssert.waitForAnalysis(connection);
             try (PreparedStatement ps = connection.prepareStatement("print_JDBC_stats();")) {
                 TableAssert.ResultSetAssert check = sa.check(ps.executeQuery()).assertMetaColumns();
 
@@ -1219,6 +1290,7 @@ public class YdbConnectionImplTest {
                 ps.execute();
             }
 
+            StatsAssert.waitForAnalysis(connection);
             try (PreparedStatement ps = connection.prepareStatement("print_JDBC_stats();")) {
                 TableAssert.ResultSetAssert check = sa.check(ps.executeQuery()).assertMetaColumns();
 
@@ -1247,6 +1319,7 @@ public class YdbConnectionImplTest {
                 Assertions.assertFalse(ps.execute());
             }
 
+            StatsAssert.waitForAnalysis(connection);
             try (PreparedStatement ps = connection.prepareStatement("print_JDBC_stats();")) {
                 sa.check(ps.executeQuery())
                             .assertMetaColumns()
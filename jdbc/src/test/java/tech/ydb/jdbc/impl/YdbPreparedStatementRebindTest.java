@@ -0,0 +1,72 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.query.params.BatchedQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructValue;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbPreparedStatementRebindTest {
+    private static final YdbTypes TYPES = new YdbTypes(false);
+    private static final String UPSERT = "UPSERT INTO t (id, value) VALUES (?, ?)";
+
+    private static BatchedQuery batched(PrimitiveType valueType) throws SQLException {
+        TableDescription description = TableDescription.newBuilder()
+                .addNonnullColumn("id", PrimitiveType.Int32)
+                .addNullableColumn("value", valueType)
+                .setPrimaryKeys("id")
+                .build();
+        YdbQuery query = YdbQuery.parseQuery(new QueryKey(UPSERT), new YdbQueryProperties(new Properties()), TYPES);
+        BatchedQuery batched = BatchedQuery.createAutoBatched(TYPES, query, description);
+        Assertions.assertNotNull(batched);
+        return batched;
+    }
+
+    @Test
+    public void rebindBatchTest() throws SQLException {
+        BatchedQuery restored = batched(PrimitiveType.Int32);
+        for (int idx = 1; idx <= 3; idx++) {
+            restored.setParam(1, idx, Types.INTEGER);
+            restored.setParam(2, idx * 10, Types.INTEGER);
+            restored.addBatch();
+        }
+        restored.setParam(1, 4, Types.INTEGER);
+        restored.setParam(2, null, Types.INTEGER);
+
+        // column type was changed on the server, values are converted to the new type
+        BatchedQuery fresh = batched(PrimitiveType.Text);
+        YdbPreparedStatementImpl.rebind(TYPES, restored, fresh, restored.getCurrentParams());
+
+        Assertions.assertEquals(1, fresh.getBatchParams().size());
+        Params prms = fresh.getBatchParams().get(0);
+        ListValue rows = prms.values().values().iterator().next().asList();
+        Assertions.assertEquals(3, rows.size());
+        for (int idx = 0; idx < 3; idx++) {
+            StructValue row = rows.get(idx).asStruct();
+            Assertions.assertEquals(PrimitiveValue.newInt32(idx + 1), row.getMemberValue(0));
+            Assertions.assertEquals(PrimitiveValue.newText(String.valueOf((idx + 1) * 10)).makeOptional(),
+                    row.getMemberValue(1));
+        }
+
+        Params current = fresh.getCurrentParams();
+        Assertions.assertEquals(restored.getCurrentParams().values().keySet(), current.values().keySet());
+        Assertions.assertEquals(2, current.values().size());
+    }
+}
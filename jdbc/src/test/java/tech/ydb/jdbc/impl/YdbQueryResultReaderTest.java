@@ -0,0 +1,416 @@
+package tech.ydb.jdbc.impl;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.grpc.GrpcFlowControl;
+import tech.ydb.core.grpc.GrpcReadStream;
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbQueryResultReaderTest {
+    private static final YdbTypes TYPES = new YdbTypes(false);
+
+    @TempDir
+    private Path tempDir;
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void init() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static YdbStatement statement(int fetchSize, long fetchMaxBytes) {
+        return statement(fetchSize, fetchMaxBytes, 0);
+    }
+
+    private static YdbStatement statement(int fetchSize, long fetchMaxBytes, int maxRows) {
+        return (YdbStatement) Proxy.newProxyInstance(YdbStatement.class.getClassLoader(),
+                new Class<?>[] {YdbStatement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getFetchSize":
+                            return fetchSize;
+                        case "getFetchMaxBytes":
+                            return fetchMaxBytes;
+                        case "getMaxRows":
+                            return maxRows;
+                        case "getFetchDirection":
+                            return ResultSet.FETCH_FORWARD;
+                        case "getResultSetType":
+                            return ResultSet.TYPE_FORWARD_ONLY;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static YdbQueryResultReader reader(YdbStatement statement, int partsInFlight) throws SQLException {
+        YdbQueryProperties props = new YdbQueryProperties(new Properties());
+        YdbQuery query = YdbQuery.parseQuery(new QueryKey("SELECT 1"), props, TYPES);
+        return new YdbQueryResultReader(TYPES, statement, query, partsInFlight);
+    }
+
+    private static YdbQueryResultReader reader(int fetchSize, AtomicInteger requested) throws SQLException {
+        YdbQueryResultReader reader = reader(statement(fetchSize, 0), 1);
+        reader.newCall(requested::addAndGet).onStart();
+        return reader;
+    }
+
+    private static ResultSetReader part(int from, int count) {
+        ValueProtos.ResultSet.Builder rs = ValueProtos.ResultSet.newBuilder()
+                .addColumns(ValueProtos.Column.newBuilder().setName("id").setType(PrimitiveType.Int32.toPb()));
+        for (int idx = 0; idx < count; idx++) {
+            rs.addRows(ValueProtos.Value.newBuilder().addItems(PrimitiveValue.newInt32(from + idx).toPb()));
+        }
+        return ProtoValueReaders.forResultSet(rs.build());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void streamReadingTest() throws Exception {
+        AtomicInteger requested = new AtomicInteger();
+        YdbQueryResultReader reader = reader(10, requested);
+
+        Future<?> loading = executor.submit(() -> {
+            int rows = 0;
+            for (int idx = 0; idx < 5; idx++) {
+                Thread.sleep(20);
+                reader.onRead(0, part(rows, 4));
+                rows += 4;
+            }
+            Thread.sleep(20);
+            reader.onClose(Status.SUCCESS, null);
+            return null;
+        });
+
+        // consumer waits for the first part and for every next one
+        ResultSet rs = reader.getCurrentResultSet();
+        Assertions.assertNotNull(rs);
+        int count = 0;
+        while (rs.next()) {
+            Assertions.assertEquals(count, rs.getInt("id"));
+            count++;
+        }
+        Assertions.assertEquals(20, count);
+        loading.get();
+
+        reader.close();
+    }
+
+    @Test
+    public void spilledInMemoryResultTest() throws Exception {
+        YdbQueryProperties props = new YdbQueryProperties(new Properties());
+        YdbQuery query = YdbQuery.parseQuery(new QueryKey("SELECT 1"), props, TYPES);
+        YdbResultSpill spill = new YdbResultSpill(1, tempDir.toString());
+        // result set without fetch limits is read into memory after the end of the stream
+        YdbQueryResultReader reader = new YdbQueryResultReader(TYPES, statement(0, 0), query, 1, () -> spill);
+
+        for (int idx = 0; idx < 5; idx++) {
+            reader.onRead(0, part(idx * 10, 10));
+        }
+        reader.onClose(Status.SUCCESS, null);
+
+        ResultSet rs = reader.getCurrentResultSet();
+        Assertions.assertTrue(rs instanceof YdbResultSetMemory);
+        Assertions.assertTrue(spill.fileSize() > 0, "parts after the first one are spilled");
+
+        int count = 0;
+        while (rs.next()) {
+            Assertions.assertEquals(count, rs.getInt("id"));
+            count++;
+        }
+        Assertions.assertEquals(50, count);
+
+        reader.close();
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void emptyResultSetTest() throws Exception {
+        AtomicInteger requested = new AtomicInteger();
+        YdbQueryResultReader reader = reader(10, requested);
+
+        Future<?> loading = executor.submit(() -> {
+            Thread.sleep(50);
+            reader.onClose(Status.SUCCESS, null);
+            return null;
+        });
+
+        // result set without parts waits for the end of the stream
+        Assertions.assertNull(reader.getCurrentResultSet());
+        loading.get();
+        reader.close();
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void closeWaitsCompletionTest() throws Exception {
+        AtomicInteger requested = new AtomicInteger();
+        YdbQueryResultReader reader = reader(10, requested);
+        reader.onRead(0, part(0, 1));
+
+        Future<?> loading = executor.submit(() -> {
+            Thread.sleep(20);
+            reader.onClose(Status.SUCCESS, null);
+            return null;
+        });
+
+        // stream is completed during the grace period, the reader is closed without cancellation
+        reader.close();
+        loading.get();
+    }
+
+    @Test
+    public void estimateBytesTest() {
+        Assertions.assertEquals(0, YdbQueryResultReader.estimateBytes(part(0, 0)));
+
+        ResultSetReader part = part(0, 100);
+        long bytes = YdbQueryResultReader.estimateBytes(part);
+        Assertions.assertTrue(bytes >= 200 && bytes <= 1000, "Unexpected estimation " + bytes);
+
+        // estimation doesn't change the position of the reader
+        Assertions.assertTrue(part.next());
+        Assertions.assertEquals(0, part.getColumn(0).getInt32());
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void byteBudgetTest() throws Exception {
+        ResultSetReader[] parts = new ResultSetReader[] {
+            part(0, 100), part(100, 100), part(200, 100), part(300, 100),
+        };
+        long partBytes = YdbQueryResultReader.estimateBytes(parts[0]);
+
+        // budget for two parts, three parts are requested ahead of the consumer
+        AtomicInteger requested = new AtomicInteger();
+        YdbQueryResultReader reader = reader(statement(0, 2 * partBytes), 3);
+        GrpcFlowControl.Call call = reader.newCall(requested::addAndGet);
+
+        call.onStart();
+        Assertions.assertEquals(3, requested.get());
+
+        call.onMessageRead();
+        Assertions.assertFalse(reader.onRead(0, parts[0]));
+        Assertions.assertEquals(4, requested.get(), "the window of requested messages is refilled");
+
+        call.onMessageRead();
+        Assertions.assertTrue(reader.onRead(0, parts[1]), "result is ready when the budget is reached");
+        call.onMessageRead();
+        reader.onRead(0, parts[2]);
+        Assertions.assertEquals(5, requested.get(), "the stream is paused when the budget is reached");
+
+        // reading of the parts resumes the stream
+        ResultSet rs = reader.getCurrentResultSet();
+        for (int row = 0; row < 201; row++) {
+            Assertions.assertTrue(rs.next());
+        }
+        Assertions.assertTrue(requested.get() > 5, "the stream must be resumed");
+
+        call.onMessageRead();
+        reader.onRead(0, parts[3]);
+        reader.onClose(Status.SUCCESS, null);
+
+        int count = 201;
+        while (rs.next()) {
+            Assertions.assertEquals(count, rs.getInt("id"));
+            count++;
+        }
+        Assertions.assertEquals(400, count);
+        reader.close();
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void sharedBudgetTest() throws Exception {
+        // two calls of the parallel scan share the limit of loaded rows
+        AtomicInteger firstRequested = new AtomicInteger();
+        AtomicInteger secondRequested = new AtomicInteger();
+        YdbQueryResultReader reader = reader(statement(15, 0), 1);
+        GrpcFlowControl.Call first = reader.newCall(firstRequested::addAndGet);
+        GrpcFlowControl.Call second = reader.newCall(secondRequested::addAndGet);
+        first.onStart();
+        second.onStart();
+
+        first.onMessageRead();
+        Assertions.assertFalse(reader.onRead(0, part(0, 10)));
+        Assertions.assertEquals(2, firstRequested.get());
+        second.onMessageRead();
+        Assertions.assertTrue(reader.onRead(0, part(10, 10)), "result is ready when the limit is reached");
+        Assertions.assertEquals(2, secondRequested.get());
+
+        // both calls are paused
+        first.onMessageRead();
+        reader.onRead(0, part(20, 10));
+        second.onMessageRead();
+        Assertions.assertEquals(2, firstRequested.get());
+        Assertions.assertEquals(2, secondRequested.get());
+
+        // reading of the parts resumes both calls
+        ResultSet rs = reader.getCurrentResultSet();
+        for (int row = 0; row < 21; row++) {
+            Assertions.assertTrue(rs.next());
+        }
+        Assertions.assertEquals(3, firstRequested.get());
+        Assertions.assertEquals(3, secondRequested.get());
+
+        reader.onClose(Status.SUCCESS, null);
+        int count = 21;
+        while (rs.next()) {
+            count++;
+        }
+        Assertions.assertEquals(30, count);
+        reader.close();
+    }
+
+    private static class TestStream implements GrpcReadStream<ResultSetReader> {
+        private final CompletableFuture<Status> finished = new CompletableFuture<>();
+        private Observer<ResultSetReader> observer;
+        private int sentParts = 0;
+        private boolean isCancelled = false;
+
+        @Override
+        public CompletableFuture<Status> start(Observer<ResultSetReader> observer) {
+            this.observer = observer;
+            return finished;
+        }
+
+        boolean send() {
+            if (finished.isDone()) {
+                return false;
+            }
+            observer.onNext(part(sentParts * 10, 10));
+            sentParts++;
+            return true;
+        }
+
+        @Override
+        public void cancel() {
+            isCancelled = true;
+            finished.complete(Status.of(StatusCode.CANCELLED));
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void cancelStreamTest() throws Exception {
+        TestStream stream = new TestStream();
+        YdbQueryResultReader reader = reader(statement(10, 0), 1);
+        reader.newCall(count -> { }).onStart();
+
+        CompletableFuture<Status> isReady = reader.load(stream);
+        Assertions.assertTrue(stream.send());
+        Assertions.assertEquals(Status.SUCCESS, isReady.join());
+
+        ResultSet rs = reader.getCurrentResultSet();
+        Assertions.assertTrue(rs.next());
+        Assertions.assertEquals(0, rs.getInt("id"));
+
+        reader.cancel();
+        Assertions.assertTrue(stream.isCancelled);
+        Assertions.assertFalse(stream.send(), "server stream must be stopped");
+
+        // already loaded rows are still available
+        for (int idx = 1; idx < 10; idx++) {
+            Assertions.assertTrue(rs.next());
+        }
+        Assertions.assertFalse(rs.next());
+
+        // cancellation of completed stream has no effect
+        stream.isCancelled = false;
+        reader.cancel();
+        Assertions.assertFalse(stream.isCancelled);
+        reader.close();
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void maxRowsInMemoryTest() throws Exception {
+        TestStream stream = new TestStream();
+        YdbQueryResultReader reader = reader(statement(0, 0, 15), 1);
+        reader.newCall(count -> { }).onStart();
+
+        CompletableFuture<Status> isReady = reader.load(stream);
+        Assertions.assertTrue(stream.send());
+        Assertions.assertFalse(isReady.isDone());
+        Assertions.assertFalse(stream.isCancelled);
+
+        // the stream is cancelled when the limit is reached, the cancellation is not an error
+        Assertions.assertTrue(stream.send());
+        Assertions.assertTrue(stream.isCancelled);
+        Assertions.assertFalse(stream.send());
+        Assertions.assertEquals(Status.SUCCESS, isReady.join());
+
+        ResultSet rs = reader.getCurrentResultSet();
+        int count = 0;
+        while (rs.next()) {
+            Assertions.assertEquals(count, rs.getInt("id"));
+            count++;
+        }
+        Assertions.assertEquals(15, count);
+        reader.close();
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    public void maxRowsStreamTest() throws Exception {
+        TestStream stream = new TestStream();
+        YdbQueryResultReader reader = reader(statement(10, 0, 25), 1);
+        reader.newCall(count -> { }).onStart();
+
+        CompletableFuture<Status> isReady = reader.load(stream);
+        Assertions.assertTrue(stream.send());
+        Assertions.assertEquals(Status.SUCCESS, isReady.join());
+
+        ResultSet rs = reader.getCurrentResultSet();
+        int count = 0;
+        while (count < 10 && rs.next()) {
+            count++;
+        }
+        Assertions.assertTrue(stream.send());
+        Assertions.assertTrue(stream.send());
+        Assertions.assertTrue(stream.isCancelled);
+
+        while (rs.next()) {
+            Assertions.assertEquals(count, rs.getInt("id"));
+            count++;
+        }
+        Assertions.assertEquals(25, count);
+        reader.close();
+    }
+}
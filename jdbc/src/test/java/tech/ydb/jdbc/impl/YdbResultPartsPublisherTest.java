@@ -0,0 +1,166 @@
+package tech.ydb.jdbc.impl;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.YdbResultPublisher;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbResultPartsPublisherTest {
+
+    private static ResultSetReader part() {
+        return ProtoValueReaders.forResultSet(ValueProtos.ResultSet.getDefaultInstance());
+    }
+
+    private static class QueuePublisher extends YdbResultPartsPublisher {
+        private final ConcurrentLinkedQueue<ResultSetReader> queue = new ConcurrentLinkedQueue<>();
+        private volatile boolean isCompleted = false;
+        private volatile Throwable error = null;
+        private boolean isCancelled = false;
+
+        void load(ResultSetReader part) {
+            queue.offer(part);
+            drain();
+        }
+
+        void complete(Throwable th) {
+            error = th;
+            isCompleted = true;
+            drain();
+        }
+
+        @Override
+        protected ResultSetReader poll() {
+            return queue.poll();
+        }
+
+        @Override
+        protected boolean hasLoadedParts() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        protected boolean isCompleted() {
+            return isCompleted;
+        }
+
+        @Override
+        protected Throwable completionError() {
+            return error;
+        }
+
+        @Override
+        protected void cancelLoading() {
+            isCancelled = true;
+        }
+    }
+
+    private static class TestSubscriber implements YdbResultPublisher.Subscriber {
+        private final List<ResultSetReader> parts = new ArrayList<>();
+        private YdbResultPublisher.Subscription subscription = null;
+        private Throwable error = null;
+        private boolean isCompleted = false;
+
+        @Override
+        public void onSubscribe(YdbResultPublisher.Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(ResultSetReader part) {
+            parts.add(part);
+        }
+
+        @Override
+        public void onError(Throwable th) {
+            this.error = th;
+        }
+
+        @Override
+        public void onComplete() {
+            this.isCompleted = true;
+        }
+    }
+
+    @Test
+    public void demandTest() {
+        QueuePublisher publisher = new QueuePublisher();
+        TestSubscriber subscriber = new TestSubscriber();
+
+        publisher.load(part());
+        publisher.load(part());
+        publisher.subscribe(subscriber);
+        Assertions.assertNotNull(subscriber.subscription);
+        Assertions.assertTrue(subscriber.parts.isEmpty(), "parts must not be sent without demand");
+
+        subscriber.subscription.request(1);
+        Assertions.assertEquals(1, subscriber.parts.size());
+
+        subscriber.subscription.request(3);
+        Assertions.assertEquals(2, subscriber.parts.size());
+
+        // loaded parts are sent by the loading thread while there is demand
+        publisher.load(part());
+        publisher.load(part());
+        publisher.load(part());
+        Assertions.assertEquals(4, subscriber.parts.size());
+        Assertions.assertFalse(subscriber.isCompleted);
+
+        // completion is signaled only after delivery of all parts
+        publisher.complete(null);
+        Assertions.assertFalse(subscriber.isCompleted);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        Assertions.assertEquals(5, subscriber.parts.size());
+        Assertions.assertTrue(subscriber.isCompleted);
+        Assertions.assertNull(subscriber.error);
+        Assertions.assertFalse(publisher.isCancelled);
+
+        // second subscriber is rejected
+        TestSubscriber other = new TestSubscriber();
+        publisher.subscribe(other);
+        Assertions.assertNotNull(other.subscription);
+        Assertions.assertTrue(other.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void errorsTest() {
+        QueuePublisher failed = new QueuePublisher();
+        TestSubscriber subscriber = new TestSubscriber();
+        failed.subscribe(subscriber);
+        failed.complete(new SQLException("stream error"));
+        Assertions.assertTrue(subscriber.error instanceof SQLException);
+        Assertions.assertFalse(subscriber.isCompleted);
+
+        QueuePublisher wrongRequest = new QueuePublisher();
+        subscriber = new TestSubscriber();
+        wrongRequest.subscribe(subscriber);
+        subscriber.subscription.request(0);
+        Assertions.assertTrue(subscriber.error instanceof IllegalArgumentException);
+        Assertions.assertTrue(wrongRequest.isCancelled);
+
+        QueuePublisher cancelled = new QueuePublisher();
+        subscriber = new TestSubscriber();
+        cancelled.subscribe(subscriber);
+        subscriber.subscription.request(10);
+        subscriber.subscription.cancel();
+        Assertions.assertTrue(cancelled.isCancelled);
+
+        cancelled.load(part());
+        cancelled.complete(null);
+        Assertions.assertTrue(subscriber.parts.isEmpty());
+        Assertions.assertFalse(subscriber.isCompleted);
+        Assertions.assertNull(subscriber.error);
+    }
+}
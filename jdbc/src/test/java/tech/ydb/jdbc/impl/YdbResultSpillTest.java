@@ -0,0 +1,149 @@
+package tech.ydb.jdbc.impl;
+
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tech.ydb.jdbc.YdbStatement;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YdbResultSpillTest {
+    private static final YdbTypes TYPES = new YdbTypes(false);
+
+    @TempDir
+    private Path tempDir;
+
+    private static YdbStatement statement() {
+        return (YdbStatement) Proxy.newProxyInstance(YdbStatement.class.getClassLoader(),
+                new Class<?>[] {YdbStatement.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getFetchDirection":
+                            return ResultSet.FETCH_FORWARD;
+                        case "getMaxRows":
+                            return 0;
+                        case "getResultSetType":
+                            return ResultSet.TYPE_SCROLL_INSENSITIVE;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static ResultSetReader part(int from, int count) {
+        ValueProtos.ResultSet.Builder rs = ValueProtos.ResultSet.newBuilder()
+                .addColumns(ValueProtos.Column.newBuilder().setName("id").setType(PrimitiveType.Int32.toPb()))
+                .addColumns(ValueProtos.Column.newBuilder().setName("value")
+                        .setType(OptionalType.of(PrimitiveType.Text).toPb()));
+        for (int idx = 0; idx < count; idx++) {
+            int id = from + idx;
+            ValueProtos.Value value = id % 3 == 0
+                    ? OptionalType.of(PrimitiveType.Text).emptyValue().toPb()
+                    : PrimitiveValue.newText("value-" + id).toPb();
+            rs.addRows(ValueProtos.Value.newBuilder().addItems(PrimitiveValue.newInt32(id).toPb()).addItems(value));
+        }
+        return ProtoValueReaders.forResultSet(rs.build());
+    }
+
+    private long spillFiles() throws Exception {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.count();
+        }
+    }
+
+    private static void assertRow(ResultSet rs, int id) throws Exception {
+        Assertions.assertEquals(id, rs.getInt("id"));
+        if (id % 3 == 0) {
+            Assertions.assertNull(rs.getString("value"));
+        } else {
+            Assertions.assertEquals("value-" + id, rs.getString("value"));
+        }
+    }
+
+    @Test
+    public void spilledPartsTest() throws Exception {
+        ResultSetReader first = part(0, 100);
+        YdbResultSpill spill = new YdbResultSpill(YdbQueryResultReader.estimateBytes(first), tempDir.toString());
+
+        Assertions.assertSame(first, spill.add(first), "first part must be kept in memory");
+        Assertions.assertEquals(0, spill.fileSize());
+
+        ResultSetReader[] parts = new ResultSetReader[] {
+            first, spill.add(part(100, 100)), spill.add(part(200, 100)), spill.add(part(300, 50)),
+        };
+        Assertions.assertNotEquals(first.getClass(), parts[1].getClass());
+        Assertions.assertTrue(spill.fileSize() > 0);
+        Assertions.assertEquals(50, parts[3].getRowCount());
+        Assertions.assertEquals(2, parts[3].getColumnCount());
+        Assertions.assertEquals("value", parts[3].getColumnName(1));
+
+        ResultSet rs = new YdbResultSetMemory(TYPES, statement(), spill, parts);
+        int count = 0;
+        while (rs.next()) {
+            assertRow(rs, count);
+            count++;
+        }
+        Assertions.assertEquals(350, count);
+
+        // random access reloads spilled parts
+        Assertions.assertTrue(rs.absolute(250));
+        assertRow(rs, 249);
+        Assertions.assertTrue(rs.absolute(120));
+        assertRow(rs, 119);
+        Assertions.assertTrue(rs.previous());
+        assertRow(rs, 118);
+        Assertions.assertTrue(rs.absolute(-1));
+        assertRow(rs, 349);
+        Assertions.assertTrue(rs.absolute(5));
+        assertRow(rs, 4);
+
+        // temporary file is removed with the result set
+        rs.close();
+        Assertions.assertEquals(0, spillFiles());
+    }
+
+    @Test
+    public void readerPositionTest() throws Exception {
+        YdbResultSpill spill = new YdbResultSpill(0, tempDir.toString());
+        ResultSetReader first = spill.add(part(0, 10));
+        ResultSetReader second = spill.add(part(10, 10));
+
+        Assertions.assertTrue(first.next());
+        Assertions.assertTrue(first.next());
+        Assertions.assertEquals(1, first.getColumn("id").getInt32());
+
+        // loading of another part doesn't change the position of the first one
+        Assertions.assertTrue(second.next());
+        Assertions.assertEquals(10, second.getColumn(0).getInt32());
+        Assertions.assertEquals(1, first.getColumn("id").getInt32());
+        Assertions.assertTrue(first.next());
+        Assertions.assertEquals(2, first.getColumn(0).getInt32());
+
+        first.setRowIndex(9);
+        Assertions.assertEquals(10, second.getColumn(0).getInt32());
+        Assertions.assertEquals(9, first.getColumn(0).getInt32());
+        Assertions.assertTrue(second.next());
+        Assertions.assertTrue(first.next());
+        Assertions.assertEquals(9, first.getColumn(0).getInt32());
+        Assertions.assertEquals(11, second.getColumn(0).getInt32());
+        Assertions.assertFalse(first.next());
+
+        spill.close();
+        Assertions.assertEquals(0, spillFiles());
+    }
+}
@@ -1031,6 +1031,7 @@ public class YdbTableConnectionImplTest {
 
         try (Connection connection = jdbc.createCustomConnection("jdbcFullScanDetector", "true")) {
             try (Statement st = connection.createStatement()) {
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery(" print_JDBC_stats();  ")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1041,6 +1042,7 @@ public class YdbTableConnectionImplTest {
                 Assertions.assertFalse(st.execute(createTable));
                 Assertions.assertFalse(st.execute(dropTable));
 
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("Print_JDBC_stats();\n")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1058,6 +1060,7 @@ public class YdbTableConnectionImplTest {
 
         try (Connection connection = jdbc.createCustomConnection("jdbcFullScanDetector", "true")) {
             try (Statement st = connection.createStatement()) {
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("print_JDBC_stats();")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1066,6 +1069,7 @@ public class YdbTableConnectionImplTest {
 
                 ExceptionAssert.ydbException("Cannot find table", () -> st.execute(wrongQuery));
 
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("Print_JDBC_stats();\n")) {
                     TableAssert.ResultSetAssert check = sa.check(rs).assertMetaColumns();
 
@@ -1079,6 +1083,7 @@ public class YdbTableConnectionImplTest {
                 }
 
                 Assertions.assertFalse(st.execute("reset_jdbc_stats();\n"));
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("print_JDBC_stats();")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1097,6 +1102,7 @@ public class YdbTableConnectionImplTest {
 
         try (Connection connection = jdbc.createCustomConnection("jdbcFullScanDetector", "true")) {
             try (Statement st = connection.createStatement()) {
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery(" print_JDBC_stats();  ")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1108,6 +1114,7 @@ public class YdbTableConnectionImplTest {
                     Assertions.assertFalse(rs.next());
                 }
 
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("\tPrint_JDBC_staTs();")) {
                     TableAssert.ResultSetAssert check = sa.check(rs).assertMetaColumns();
 
@@ -1125,6 +1132,7 @@ public class YdbTableConnectionImplTest {
                     Assertions.assertFalse(rs.next());
                 }
 
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("print_JDBC_staTs();")) {
                     TableAssert.ResultSetAssert check = sa.check(rs).assertMetaColumns();
 
@@ -1148,6 +1156,7 @@ public class YdbTableConnectionImplTest {
                     Assertions.assertFalse(rs.next());
                 }
 
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("print_JDBC_staTs();")) {
                     TableAssert.ResultSetAssert check = sa.check(rs).assertMetaColumns();
 
@@ -1167,6 +1176,7 @@ public class YdbTableConnectionImplTest {
                 }
 
                 Assertions.assertFalse(st.execute("\t\treSet_jdbc_statS();"));
+                StatsAssert.waitForAnalysis(connection);
                 try (ResultSet rs = st.executeQuery("print_JDBC_stats();")) {
                     sa.check(rs)
                             .assertMetaColumns()
@@ -1184,6 +1194,7 @@ public class YdbTableConnectionImplTest {
         String preparedSelectByColumn = QUERIES.selectAllByColumnValue("c_Text", "?");
 
         try (Connection connection = jdbc.createCustomConnection("jdbcFullScanDetector", "true")) {
+            StatsAssert.waitForAnalysis(connection);
             try (PreparedStatement ps = connection.prepareStatement("print_JDBC_stats();")) {
                 sa.check(ps.executeQuery())
                         .assertMetaColumns()
@@ -1198,6 +1209,7 @@ public class YdbTableConnectionImplTest {
                 ps.execute();
             }
 
+            StatsAssert.waitForAnalysis(connection);
             try (PreparedStatement ps = connection.prepareStatement("print_JDBC_stats();")) {
                 TableAssert.ResultSetAssert check = sa.check(ps.executeQuery()).assertMetaColumns();
 
@@ -1218,6 +1230,7 @@ public class YdbTableConnectionImplTest {
                 ps.execute();
             }
 
+            StatsAssert.waitForAnalysis(connection);
             try (PreparedStatement ps = connection.prepareStatement("print_JDBC_stats();")) {
                 TableAssert.ResultSetAssert check = sa.check(ps.executeQuery()).assertMetaColumns();
 
@@ -1246,6 +1259,7 @@ public class YdbTableConnectionImplTest {
                 Assertions.assertFalse(ps.execute());
             }
 
+            StatsAssert.waitForAnalysis(connection);
             try (PreparedStatement ps = connection.prepareStatement("print_JDBC_stats();")) {
                 sa.check(ps.executeQuery())
                         .assertMetaColumns()
@@ -1,5 +1,12 @@
 package tech.ydb.jdbc.impl.helper;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.Assertions;
+
 /**
  *
  * @author Aleksandr Gorshenin
@@ -13,6 +20,38 @@ public final class StatsAssert extends TableAssert {
     private final TextColumn queryAst = addTextColumn("ast", "Text");
     private final TextColumn queryPlan = addTextColumn("plan", "Text");
 
+    /**
+     * Query plans are analyzed in background, so wait until all collected stats become analyzed
+     *
+     * @param connection connection with enabled full scan detector
+     * @throws SQLException if print of stats failed
+     */
+    public static void waitForAnalysis(Connection connection) throws SQLException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (hasPendingStats(connection)) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "Query stats are not analyzed");
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(ex);
+            }
+        }
+    }
+
+    private static boolean hasPendingStats(Connection connection) throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            try (ResultSet rs = st.executeQuery("print_jdbc_stats();")) {
+                while (rs.next()) {
+                    if ("pending".equals(rs.getString("plan"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     public ValueAssert sql(String sql) {
         return querySql.eq(sql);
     }
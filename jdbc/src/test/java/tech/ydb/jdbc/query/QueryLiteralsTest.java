@@ -0,0 +1,126 @@
+package tech.ydb.jdbc.query;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.PrimitiveValue;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class QueryLiteralsTest {
+    private final YdbTypes types = new YdbTypes(false);
+
+    private static String normalized(String query) {
+        QueryLiterals literals = QueryLiterals.extract(query, false);
+        Assertions.assertNotNull(literals, "Literals of " + query + " must be extracted");
+        return literals.getKey().getQuery();
+    }
+
+    @Test
+    public void comparisonLiteralsTest() throws SQLException {
+        Assertions.assertEquals("SELECT * FROM t WHERE id = $jp1 AND name <> $jp2",
+                normalized("SELECT * FROM t WHERE id = 42 AND name <> 'abc'u"));
+        Assertions.assertEquals("UPDATE t SET v = $jp1, d = 1.5, s = 'y' WHERE id >= $jp2 AND n = $jp3;",
+                normalized("UPDATE t SET v = 'x'u, d = 1.5, s = 'y' WHERE id >= 3000000000 AND n = 'z'U;"));
+
+        QueryLiterals literals = QueryLiterals.extract("UPDATE t SET v = 'x'u, d = 1.5 WHERE id = 3000000000", true);
+        Assertions.assertEquals(2, literals.size());
+        Assertions.assertEquals("DECLARE $jp1 AS Text;\nDECLARE $jp2 AS Int64;\n"
+                + "UPDATE t SET v = $jp1, d = 1.5 WHERE id = $jp2", literals.getKey().getQuery());
+
+        Params params = literals.toParams(types);
+        Assertions.assertEquals(PrimitiveValue.newText("x"), params.values().get("$jp1"));
+        Assertions.assertEquals(PrimitiveValue.newInt64(3000000000L), params.values().get("$jp2"));
+    }
+
+    @Test
+    public void integerLiteralsTest() throws SQLException {
+        QueryLiterals literals = QueryLiterals.extract("SELECT * FROM t WHERE a = 1 AND b = 2l AND c = 3u "
+                + "AND d = 4UL AND e = 5s AND f = 6us AND g = 7t AND h = 8ut AND i = 18446744073709551615ul", true);
+        Assertions.assertEquals("DECLARE $jp1 AS Int32;\nDECLARE $jp2 AS Int64;\nDECLARE $jp3 AS Uint32;\n"
+                + "DECLARE $jp4 AS Uint64;\nDECLARE $jp5 AS Int16;\nDECLARE $jp6 AS Uint16;\n"
+                + "DECLARE $jp7 AS Int8;\nDECLARE $jp8 AS Uint8;\nDECLARE $jp9 AS Uint64;\n"
+                + "SELECT * FROM t WHERE a = $jp1 AND b = $jp2 AND c = $jp3 AND d = $jp4 AND e = $jp5 AND f = $jp6 "
+                + "AND g = $jp7 AND h = $jp8 AND i = $jp9", literals.getKey().getQuery());
+
+        Params params = literals.toParams(types);
+        Assertions.assertEquals(PrimitiveValue.newInt32(1), params.values().get("$jp1"));
+        Assertions.assertEquals(PrimitiveValue.newInt64(2), params.values().get("$jp2"));
+        Assertions.assertEquals(PrimitiveValue.newUint32(3), params.values().get("$jp3"));
+        Assertions.assertEquals(PrimitiveValue.newUint64(4), params.values().get("$jp4"));
+        Assertions.assertEquals(PrimitiveValue.newInt16((short) 5), params.values().get("$jp5"));
+        Assertions.assertEquals(PrimitiveValue.newUint16(6), params.values().get("$jp6"));
+        Assertions.assertEquals(PrimitiveValue.newInt8((byte) 7), params.values().get("$jp7"));
+        Assertions.assertEquals(PrimitiveValue.newUint8(8), params.values().get("$jp8"));
+        Assertions.assertEquals(PrimitiveValue.newUint64(-1L), params.values().get("$jp9"));
+
+        // fractional numbers, out of range values and unknown suffixes are kept as is
+        Assertions.assertEquals("SELECT * FROM t WHERE a = 1.5 AND b = 1.5f AND c = 300ut AND d = 1e10 AND e = 0x10 "
+                + "AND f = 99999999999999999999 AND g = $jp1",
+                normalized("SELECT * FROM t WHERE a = 1.5 AND b = 1.5f AND c = 300ut AND d = 1e10 AND e = 0x10 "
+                + "AND f = 99999999999999999999 AND g = 1"));
+    }
+
+    @Test
+    public void listLiteralsTest() throws SQLException {
+        Assertions.assertEquals("UPSERT INTO t (id, v) VALUES ($jp1, $jp2), ($jp3, $jp4)",
+                normalized("UPSERT INTO t (id, v) VALUES (1, 'a'u), (2, 'b'u)"));
+        Assertions.assertEquals("SELECT * FROM t WHERE id IN ($jp1, $jp2, $jp3) AND v NOT IN ($jp4, 'b')",
+                normalized("SELECT * FROM t WHERE id IN (1, 2, 3) AND v NOT IN ('a'u, 'b')"));
+
+        Params params = QueryLiterals.extract("SELECT * FROM t WHERE v IN ('a'u, 'b'u)", false).toParams(types);
+        Assertions.assertEquals(PrimitiveValue.newText("a"), params.values().get("$jp1"));
+        Assertions.assertEquals(PrimitiveValue.newText("b"), params.values().get("$jp2"));
+    }
+
+    @Test
+    public void keptLiteralsTest() {
+        // literals of function calls, type parameters, LIMIT and expressions are not changed
+        Assertions.assertEquals("UPSERT INTO t (id, v, d) VALUES ($jp1, CAST('1.5'u AS Decimal(22, 9)), 'a'u || 'b'u)",
+                normalized("UPSERT INTO t (id, v, d) VALUES ('x'u, CAST('1.5'u AS Decimal(22, 9)), 'a'u || 'b'u)"));
+        Assertions.assertEquals("SELECT 1, 'a'u FROM t WHERE JSON_VALUE(j, '$.a') = $jp1 LIMIT 10 OFFSET 5",
+                normalized("SELECT 1, 'a'u FROM t WHERE JSON_VALUE(j, '$.a') = 'b'u LIMIT 10 OFFSET 5"));
+        Assertions.assertEquals("SELECT * FROM t WHERE a = $jp1 AND b = 'x'y AND c = 'a\\'b'u AND d = $jp2 -- = 'x'u\n",
+                normalized("SELECT * FROM t WHERE a = 1u AND b = 'x'y AND c = 'a\\'b'u AND d = 'e'u -- = 'x'u\n"));
+    }
+
+    @Test
+    public void sameNormalizedQueryTest() {
+        QueryKey key = QueryLiterals.extract("SELECT * FROM t WHERE name = 'n1'u", true).getKey();
+        for (int idx = 2; idx < 100; idx++) {
+            Assertions.assertEquals(key, QueryLiterals.extract("SELECT * FROM t WHERE name = 'n" + idx + "'u", true)
+                    .getKey());
+        }
+
+        key = QueryLiterals.extract("SELECT * FROM t WHERE id = 1", true).getKey();
+        for (int idx = 2; idx < 100; idx++) {
+            Assertions.assertEquals(key, QueryLiterals.extract("SELECT * FROM t WHERE id = " + idx, true).getKey());
+        }
+    }
+
+    @ParameterizedTest(name = "[{index}] {0} is not changed")
+    @ValueSource(strings = {
+        "SELECT * FROM t",
+        "SELECT * FROM t WHERE v = 1.5 AND w = -2",
+        "UPSERT INTO t (d, i16, dt, s) VALUES (1.5, -2, Date('2024-01-01'), 'x')",
+        "SELECT * FROM t WHERE s IN ('a', 'b')",
+        "SELECT * FROM t WHERE id = ?",
+        "SELECT * FROM t WHERE id = $jp1 AND v = 'a'u",
+        "DECLARE $p1 AS Int32; SELECT * FROM t WHERE id = $p1 AND v = 'a'u",
+        "CREATE TABLE t (id Int32 DEFAULT 1, PRIMARY KEY(id))",
+        "SCAN SELECT * FROM t WHERE v = 'a'u",
+        "SELECT * FROM t WHERE v = 'a'u; DROP TABLE t;",
+        "SELECT * FROM t WHERE v = @@multiline@@",
+    })
+    public void notChangedTest(String query) {
+        Assertions.assertNull(QueryLiterals.extract(query, true));
+    }
+}
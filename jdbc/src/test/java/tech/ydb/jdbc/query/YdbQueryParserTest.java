@@ -1,8 +1,13 @@
 package tech.ydb.jdbc.query;
 
 import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Properties;
+import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,7 +19,9 @@ import org.junit.jupiter.params.provider.ValueSource;
 import tech.ydb.jdbc.common.YdbTypes;
 import tech.ydb.jdbc.query.params.JdbcPrm;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.query.Params;
 import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
 
 
 
@@ -361,6 +368,102 @@ public class YdbQueryParserTest {
         }
     }
 
+    @ParameterizedTest(name = "[{index}] {0} has padded in list parameters")
+    @CsvSource(value = {
+        "'select * from test_table where id in (?)'"
+            + "@'select * from test_table where id in ($jp1)'",
+        "'select * from test_table where id in (?, ?, ?)'"
+            + "@'select * from test_table where id in ($jp1, $jp2, $jp3, $jp4)'",
+        "'select * from test_table where id in (?,\n?, ?, \t?) and value = ?'"
+            + "@'select * from test_table where id in ($jp1, $jp2, $jp3, $jp4) and value = $jp5'",
+        "'select * from test_table where (id, value) in ((?, ?), (?, ?), (?, ?))'"
+            + "@'select * from test_table where (id, value) in (($jp1, $jp2), ($jp3, $jp4), ($jp5, $jp6), ($jp7, $jp8))'",
+        "'select * from test_table where id in (?, 1, ?)'"
+            + "@'select * from test_table where id in ($jp1, 1, $jp2)'",
+    }, delimiter = '@')
+    public void inListParameterPaddedTest(String query, String parsed) throws SQLException {
+        Properties config = new Properties();
+        config.put("replaceJdbcInByYqlList", "false");
+        config.put("jdbcInListBuckets", "pow2");
+        YdbQueryParser parser = new YdbQueryParser(types, query, new YdbQueryProperties(config));
+        Assertions.assertEquals(parsed, parser.parseSQL());
+        Assertions.assertEquals(1, parser.getStatements().size());
+    }
+
+    @Test
+    public void inListParameterBucketsTest() throws SQLException {
+        Properties config = new Properties();
+        config.put("replaceJdbcInByYqlList", "false");
+        config.put("jdbcInListBuckets", "4, 16");
+        YdbQueryProperties padded = new YdbQueryProperties(config);
+
+        Set<String> texts = new HashSet<>();
+        for (int size = 1; size <= 20; size++) {
+            StringBuilder query = new StringBuilder("SELECT * FROM test_table WHERE id IN (?");
+            for (int idx = 1; idx < size; idx++) {
+                query.append(", ?");
+            }
+            query.append(") AND value = ?");
+
+            YdbQueryParser parser = new YdbQueryParser(types, query.toString(), padded);
+            texts.add(parser.parseSQL());
+
+            // only the origin parameters are visible
+            int count = 0;
+            for (JdbcPrm.Factory factory : parser.getStatements().get(0).getJdbcPrmFactories()) {
+                count += factory.create().size();
+            }
+            Assertions.assertEquals(size + 1, count);
+        }
+        // buckets 4 and 16 and unpadded lists with 17, 18, 19 and 20 elements
+        Assertions.assertEquals(6, texts.size());
+
+        YdbQueryParser parser = new YdbQueryParser(types, "SELECT * FROM test_table WHERE id IN (?, ?)", padded);
+        Assertions.assertEquals("SELECT * FROM test_table WHERE id IN ($jp1, $jp2, $jp3, $jp4)", parser.parseSQL());
+
+        List<JdbcPrm> prms = new ArrayList<>();
+        for (JdbcPrm.Factory factory : parser.getStatements().get(0).getJdbcPrmFactories()) {
+            prms.addAll(factory.create());
+        }
+        Assertions.assertEquals(2, prms.size());
+        prms.get(0).setValue(1, Types.INTEGER);
+        prms.get(1).setValue(2, Types.INTEGER);
+
+        Params params = Params.create();
+        for (JdbcPrm prm: prms) {
+            prm.copyToParams(params);
+        }
+        Assertions.assertEquals(PrimitiveValue.newInt32(1), params.values().get("$jp1"));
+        Assertions.assertEquals(PrimitiveValue.newInt32(2), params.values().get("$jp2"));
+        Assertions.assertEquals(PrimitiveValue.newInt32(2), params.values().get("$jp3"));
+        Assertions.assertEquals(PrimitiveValue.newInt32(2), params.values().get("$jp4"));
+    }
+
+    @Test
+    public void inListBucketsPropertyTest() throws SQLException {
+        Properties config = new Properties();
+        config.put("jdbcInListBuckets", "10,100");
+        YdbQueryProperties ladder = new YdbQueryProperties(config);
+        Assertions.assertFalse(ladder.isPadJdbcInList(), "lists are converted to YQL lists by default");
+        Assertions.assertEquals(10, ladder.getJdbcInListBucket(1));
+        Assertions.assertEquals(10, ladder.getJdbcInListBucket(10));
+        Assertions.assertEquals(100, ladder.getJdbcInListBucket(11));
+        Assertions.assertEquals(101, ladder.getJdbcInListBucket(101));
+
+        config.put("jdbcInListBuckets", "pow2");
+        config.put("replaceJdbcInByYqlList", "false");
+        YdbQueryProperties pow2 = new YdbQueryProperties(config);
+        Assertions.assertTrue(pow2.isPadJdbcInList());
+        Assertions.assertEquals(1, pow2.getJdbcInListBucket(1));
+        Assertions.assertEquals(8, pow2.getJdbcInListBucket(5));
+        Assertions.assertEquals(1024, pow2.getJdbcInListBucket(1000));
+
+        config.put("jdbcInListBuckets", "100,10");
+        Assertions.assertThrows(SQLException.class, () -> new YdbQueryProperties(config));
+        config.put("jdbcInListBuckets", "10,abc");
+        Assertions.assertThrows(SQLException.class, () -> new YdbQueryProperties(config));
+    }
+
     @ParameterizedTest(name = "[{index}] {0} doesn't have in list parameter")
     @CsvSource(value = {
         "'select * from test_table where id in (?, 1, ?)'"
@@ -836,4 +939,52 @@ public class YdbQueryParserTest {
         Assertions.assertEquals(3, batch.getColumns().size());
         Assertions.assertEquals(Arrays.asList("c1", "c2", "c3"), batch.getColumns());
     }
+
+    @ParameterizedTest(name = "[{index}] {0} is not changed by parser")
+    @ValueSource(strings = {
+        "SELECT * FROM table WHERE id = $id",
+        "-- comment\nDECLARE $p1 AS Int32; /* block */ SELECT $p1;",
+        "CREATE TABLE test(id Int32, PRIMARY KEY(id));",
+        "UPSERT INTO test SELECT * FROM AS_TABLE($list); SELECT 1;",
+    })
+    public void unchangedQueryTest(String query) throws SQLException {
+        YdbQueryParser parser = new YdbQueryParser(types, query, props);
+        // queries without JDBC parameters and special prefixes are not copied
+        Assertions.assertSame(query, parser.parseSQL());
+    }
+
+    @Test
+    public void largeQueriesTest() throws SQLException {
+        int count = 5000;
+
+        StringBuilder insert = new StringBuilder("INSERT INTO test_table (id, value) VALUES (?, ?)");
+        StringBuilder inList = new StringBuilder("SELECT * FROM test_table WHERE id IN (");
+        StringBuilder script = new StringBuilder();
+        for (int idx = 0; idx < count; idx++) {
+            if (idx > 0) {
+                insert.append(", (?, ?)");
+                inList.append(", ");
+            }
+            inList.append("?");
+            script.append("-- statement ").append(idx).append("\n")
+                    .append("/* comment */ UPSERT INTO test_table (id, value) VALUES (").append(idx).append(", 'v');\n");
+        }
+        inList.append(")");
+
+        YdbQueryParser insertParser = new YdbQueryParser(types, insert.toString(), props);
+        String insertYql = insertParser.parseSQL();
+        Assertions.assertEquals(1, insertParser.getStatements().size());
+        Assertions.assertEquals(2 * count, insertParser.getStatements().get(0).getJdbcPrmFactories().size());
+        Assertions.assertTrue(insertYql.endsWith("($jp" + (2 * count - 1) + ", $jp" + (2 * count) + ")"));
+
+        YdbQueryParser inListParser = new YdbQueryParser(types, inList.toString(), props);
+        Assertions.assertEquals("SELECT * FROM test_table WHERE id IN  $jp1", inListParser.parseSQL());
+        Assertions.assertEquals(1, inListParser.getStatements().get(0).getJdbcPrmFactories().size());
+
+        String scriptText = script.toString();
+        YdbQueryParser scriptParser = new YdbQueryParser(types, scriptText, props);
+        Assertions.assertSame(scriptText, scriptParser.parseSQL());
+        Assertions.assertEquals(count, scriptParser.getStatements().size());
+        Assertions.assertFalse(scriptParser.getYqlBatcher().isValidBatch());
+    }
 }
@@ -8,7 +8,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.params.InMemoryQuery;
 import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.PrimitiveValue;
 
 
 
@@ -243,4 +246,109 @@ public class YdbQueryTest {
                 "EXPLAIN SELECT id, value FROM test_table"
         ));
     }
+
+    private static String limited(YdbQueryProperties opts, String sql, int limit) throws SQLException {
+        YdbQuery query = YdbQuery.parseQuery(new QueryKey(sql), opts, new YdbTypes(false));
+        return query.withLimit(query.getPreparedYql(), limit);
+    }
+
+    @Test
+    public void maxRowsLimitTest() throws SQLException {
+        YdbQueryProperties opts = new ParamsBuilder().build();
+
+        Assertions.assertEquals("SELECT * FROM test_table\nLIMIT 100", limited(opts, "SELECT * FROM test_table", 100));
+        Assertions.assertEquals("SELECT * FROM test_table", limited(opts, "SELECT * FROM test_table", 0));
+        Assertions.assertEquals("select id from t order by id\nLIMIT 5;",
+                limited(opts, "select id from t order by id;", 5));
+        Assertions.assertEquals("SELECT * FROM t -- comment\nLIMIT 5",
+                limited(opts, "SELECT * FROM t -- comment", 5));
+        Assertions.assertEquals("DECLARE $p AS Int32;\nSELECT * FROM t WHERE id = $p\nLIMIT 5;\n",
+                limited(opts, "DECLARE $p AS Int32;\nSELECT * FROM t WHERE id = $p;\n", 5));
+        Assertions.assertEquals("SELECT * FROM t WHERE id = $jp1\nLIMIT 5",
+                limited(opts, "SELECT * FROM t WHERE id = ?", 5));
+        Assertions.assertEquals("SELECT * FROM t WHERE id IN (SELECT id FROM t2 LIMIT 10)\nLIMIT 5",
+                limited(opts, "SELECT * FROM t WHERE id IN (SELECT id FROM t2 LIMIT 10)", 5));
+        Assertions.assertEquals(" SELECT * FROM t\nLIMIT 5", limited(opts, "SCAN SELECT * FROM t", 5));
+
+        // queries with own limits, several statements or not SELECT are not changed
+        String[] unchanged = new String[] {
+            "SELECT * FROM t LIMIT 10",
+            "SELECT * FROM t LIMIT ?",
+            "SELECT * FROM t OFFSET 10",
+            "SELECT * FROM t UNION ALL SELECT * FROM t2",
+            "SELECT * FROM t INTERSECT SELECT * FROM t2",
+            "SELECT * FROM t EXCEPT SELECT * FROM t2",
+            "SELECT 1 INTO RESULT one",
+            "SELECT * FROM t; SELECT * FROM t2",
+            "$v = SELECT * FROM t; SELECT * FROM $v",
+            "(SELECT * FROM t)",
+            "UPSERT INTO t SELECT * FROM t2",
+            "EXPLAIN SELECT * FROM t",
+        };
+        for (String sql: unchanged) {
+            YdbQuery query = YdbQuery.parseQuery(new QueryKey(sql), opts, new YdbTypes(false));
+            Assertions.assertEquals(query.getPreparedYql(), query.withLimit(query.getPreparedYql(), 5), sql);
+        }
+
+        // only the prepared text can be changed
+        YdbQuery query = YdbQuery.parseQuery(new QueryKey("SELECT * FROM t"), opts, new YdbTypes(false));
+        Assertions.assertEquals("SELECT 1", query.withLimit("SELECT 1", 5));
+
+        // declarations of JDBC parameters are added before the prepared text
+        query = YdbQuery.parseQuery(new QueryKey("SELECT * FROM t WHERE id = ?"), opts, new YdbTypes(false));
+        String declared = new InMemoryQuery(query, true).getQueryText(Params.of("$jp1", PrimitiveValue.newInt32(1)));
+        Assertions.assertNotEquals(query.getPreparedYql(), declared);
+        Assertions.assertEquals(declared + "\nLIMIT 5", query.withLimit(declared, 5));
+    }
+
+    @Test
+    public void scanSourceTest() throws SQLException {
+        YdbQueryProperties opts = new ParamsBuilder().build();
+
+        YdbQuery query = YdbQuery.parseQuery(new QueryKey("SCAN SELECT id, value FROM test_table WHERE value > 0"),
+                opts, new YdbTypes(false));
+        Assertions.assertEquals("test_table", query.getScanTable());
+        Assertions.assertEquals(" SELECT id, value FROM (SELECT * FROM test_table WHERE id < 10) WHERE value > 0",
+                query.withScanCondition(query.getPreparedYql(), "id < 10"));
+        Assertions.assertNull(query.withScanCondition("SELECT 1", "id < 10"), "only the prepared text can be changed");
+
+        query = YdbQuery.parseQuery(new QueryKey("SCAN SELECT * FROM t WHERE value > ?"), opts, new YdbTypes(false));
+        String declared = new InMemoryQuery(query, true).getQueryText(Params.of("$jp1", PrimitiveValue.newInt32(1)));
+        Assertions.assertEquals(declared.replace("FROM t WHERE", "FROM (SELECT * FROM t WHERE id < 10) WHERE"),
+                query.withScanCondition(declared, "id < 10"), "declarations of JDBC parameters are kept");
+
+        query = YdbQuery.parseQuery(new QueryKey("DECLARE $p AS Int32;\nSCAN SELECT * FROM `dir/t` AS t WHERE t.id > ?"),
+                opts, new YdbTypes(false));
+        Assertions.assertEquals("dir/t", query.getScanTable());
+        Assertions.assertEquals("DECLARE $p AS Int32;\n SELECT * FROM (SELECT * FROM `dir/t` WHERE TRUE) AS t "
+                + "WHERE t.id > $jp1", query.withScanCondition(query.getPreparedYql(), "TRUE"));
+
+        query = YdbQuery.parseQuery(new QueryKey("scan select * from t where id in (select id from t2 limit 1);"),
+                opts, new YdbTypes(false));
+        Assertions.assertEquals("t", query.getScanTable());
+
+        // queries which cannot be splitted by key ranges
+        String[] unsupported = new String[] {
+            "SELECT * FROM t",
+            "SCAN SELECT COUNT(*) FROM t",
+            "SCAN SELECT DISTINCT id FROM t",
+            "SCAN SELECT * FROM t ORDER BY id",
+            "SCAN SELECT * FROM t LIMIT 10",
+            "SCAN SELECT id, SUM(v) FROM t GROUP BY id",
+            "SCAN SELECT * FROM t JOIN t2 ON t.id = t2.id",
+            "SCAN SELECT * FROM t, t2",
+            "SCAN SELECT * FROM t VIEW idx WHERE v = 1",
+            "SCAN SELECT * FROM t WITH INLINE",
+            "SCAN SELECT * FROM $t",
+            "SCAN SELECT * FROM (SELECT * FROM t)",
+            "SCAN SELECT * FROM t UNION ALL SELECT * FROM t2",
+            "SCAN SELECT * FROM t; SCAN SELECT * FROM t2",
+            "SCAN SELECT 1",
+        };
+        for (String sql: unsupported) {
+            query = YdbQuery.parseQuery(new QueryKey(sql), opts, new YdbTypes(false));
+            Assertions.assertNull(query.getScanTable(), sql);
+            Assertions.assertNull(query.withScanCondition(query.getPreparedYql(), "TRUE"), sql);
+        }
+    }
 }
@@ -0,0 +1,53 @@
+package tech.ydb.jdbc.query;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.PrimitiveValue;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class YqlTemplateTest {
+    private static final String YQL = "SELECT * FROM t WHERE id = $jp1 AND v = $jp2";
+
+    @Test
+    public void declaresTest() {
+        YqlTemplate template = new YqlTemplate(YQL);
+
+        String text = template.withDeclares(Params.of(
+                "$jp1", PrimitiveValue.newInt32(1), "$jp2", PrimitiveValue.newText("a")));
+        Assertions.assertTrue(text.endsWith(YQL));
+        Assertions.assertTrue(text.contains("DECLARE $jp1 AS Int32;\n"));
+        Assertions.assertTrue(text.contains("DECLARE $jp2 AS Text;\n"));
+
+        // the same types of parameters reuse rendered text
+        Assertions.assertSame(text, template.withDeclares(Params.of(
+                "$jp1", PrimitiveValue.newInt32(2), "$jp2", PrimitiveValue.newText("b"))));
+
+        // other types render new text
+        String other = template.withDeclares(Params.of(
+                "$jp1", PrimitiveValue.newInt64(2), "$jp2", PrimitiveValue.newText("b")));
+        Assertions.assertNotSame(text, other);
+        Assertions.assertTrue(other.contains("DECLARE $jp1 AS Int64;\n"));
+
+        Assertions.assertEquals(YQL, template.withDeclares(Params.empty()));
+    }
+
+    @Test
+    public void prefixTest() {
+        YqlTemplate template = new YqlTemplate(YQL);
+        String prefix = "PRAGMA TablePathPrefix = \"/local/dir\";\n";
+
+        Assertions.assertSame(YQL, template.withPrefix("", YQL));
+
+        String text = template.withPrefix(prefix, YQL);
+        Assertions.assertEquals(prefix + YQL, text);
+        Assertions.assertSame(text, template.withPrefix(prefix, YQL));
+
+        String declared = template.withDeclares(Params.of("$jp1", PrimitiveValue.newInt32(1)));
+        Assertions.assertEquals(prefix + declared, template.withPrefix(prefix, declared));
+    }
+}
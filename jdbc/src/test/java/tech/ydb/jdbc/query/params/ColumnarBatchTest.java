@@ -0,0 +1,218 @@
+package tech.ydb.jdbc.query.params;
+
+import java.math.BigDecimal;
+import java.sql.SQLDataException;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.ParamDescription;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructValue;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class ColumnarBatchTest {
+    private static final YdbTypes TYPES = new YdbTypes(false);
+
+    private static final Value<?>[] SAMPLES = new Value<?>[] {
+        PrimitiveValue.newBool(true),
+        PrimitiveValue.newInt8((byte) -5),
+        PrimitiveValue.newUint8((byte) -5),
+        PrimitiveValue.newInt16((short) -300),
+        PrimitiveValue.newUint16((short) -300),
+        PrimitiveValue.newInt32(-70000),
+        PrimitiveValue.newUint32(-70000),
+        PrimitiveValue.newInt64(Long.MIN_VALUE),
+        PrimitiveValue.newUint64(-1L),
+        PrimitiveValue.newFloat(-1.25f),
+        PrimitiveValue.newDouble(Double.NaN),
+        PrimitiveValue.newText("Текст"),
+        PrimitiveValue.newBytes(new byte[] {0, 1, 2, -1}),
+        PrimitiveValue.newJson("{\"a\": 1}"),
+        PrimitiveValue.newYson(new byte[] {'#'}),
+        PrimitiveValue.newUuid(UUID.randomUUID()),
+        PrimitiveValue.newDate(LocalDate.of(2024, 2, 29)),
+        PrimitiveValue.newDatetime(LocalDateTime.of(2024, 2, 29, 12, 30)),
+        PrimitiveValue.newTimestamp(Instant.ofEpochSecond(1700000000L, 123456000L)),
+        PrimitiveValue.newInterval(Duration.ofMillis(-1500)),
+        PrimitiveValue.newDate32(LocalDate.of(1900, 1, 1)),
+        DecimalType.getDefault().newValue(new BigDecimal("-12345.678")),
+        ListValue.of(PrimitiveValue.newInt32(1), PrimitiveValue.newInt32(2)),
+    };
+
+    private static ParamDescription[] params(List<Type> types) {
+        ParamDescription[] params = new ParamDescription[types.size()];
+        for (int idx = 0; idx < params.length; idx++) {
+            params[idx] = new ParamDescription("c" + idx, TYPES.find(types.get(idx)));
+        }
+        return params;
+    }
+
+    private static StructValue struct(ParamDescription[] params, Value<?>[] values) {
+        Map<String, Value<?>> members = new HashMap<>();
+        for (int idx = 0; idx < params.length; idx++) {
+            members.put(params[idx].name(), values[idx]);
+        }
+        return StructValue.of(members);
+    }
+
+    @Test
+    public void allTypesTest() throws SQLException {
+        List<Type> types = new ArrayList<>();
+        for (Value<?> sample: SAMPLES) {
+            types.add(sample.getType());
+            types.add(sample.getType().makeOptional());
+        }
+        ParamDescription[] params = params(types);
+
+        ColumnarBatch batch = new ColumnarBatch(params);
+        List<StructValue> expected = new ArrayList<>();
+        for (int row = 0; row < 5; row++) {
+            Value<?>[] values = new Value<?>[params.length];
+            for (int idx = 0; idx < SAMPLES.length; idx++) {
+                values[2 * idx] = SAMPLES[idx];
+                // every third row contains nulls in optional columns
+                values[2 * idx + 1] = row % 3 == 1
+                        ? SAMPLES[idx].getType().makeOptional().emptyValue()
+                        : SAMPLES[idx].makeOptional();
+            }
+            batch.addRow(values);
+            expected.add(struct(params, values));
+        }
+
+        ListValue list = ListValue.of(expected.toArray(new Value<?>[0]));
+        Value<ListType> value = batch.toValue();
+
+        Assertions.assertEquals(5, batch.size());
+        Assertions.assertEquals(list.getType(), value.getType());
+        Assertions.assertEquals(list.toPb(), value.toPb());
+
+        ValueProtos.TypedValue typed = batch.toTypedValue();
+        Assertions.assertEquals(list.getType().toPb(), typed.getType());
+        Assertions.assertEquals(list.toPb(), typed.getValue());
+    }
+
+    @Test
+    public void valueIsSnapshotTest() throws SQLException {
+        List<Type> types = new ArrayList<>();
+        types.add(PrimitiveType.Int32);
+        types.add(PrimitiveType.Text.makeOptional());
+        ParamDescription[] params = params(types);
+
+        ColumnarBatch batch = new ColumnarBatch(params);
+        batch.addRow(new Value<?>[] {PrimitiveValue.newInt32(1), PrimitiveValue.newText("first").makeOptional()});
+        Value<ListType> first = batch.toValue();
+        ValueProtos.Value firstPb = first.toPb();
+
+        for (int idx = 0; idx < 100; idx++) {
+            batch.addRow(new Value<?>[] {
+                PrimitiveValue.newInt32(idx), PrimitiveValue.newText("row " + idx).makeOptional()
+            });
+        }
+
+        Assertions.assertEquals(101, batch.size());
+        Assertions.assertEquals(firstPb, first.toPb());
+        Assertions.assertEquals(1, first.toPb().getItemsCount());
+        Assertions.assertEquals(101, batch.toValue().toPb().getItemsCount());
+        Assertions.assertEquals("row 99", batch.toValue().toPb().getItems(100).getItems(1).getTextValue());
+    }
+
+    @Test
+    public void invalidRowTest() throws SQLException {
+        List<Type> types = new ArrayList<>();
+        types.add(PrimitiveType.Text);
+        types.add(PrimitiveType.Int64);
+        ParamDescription[] params = params(types);
+
+        ColumnarBatch batch = new ColumnarBatch(params);
+
+        SQLDataException ex = Assertions.assertThrows(SQLDataException.class,
+                () -> batch.addRow(new Value<?>[] {PrimitiveValue.newText("skipped"), null}));
+        Assertions.assertTrue(ex.getMessage().contains("$c1"), ex.getMessage());
+
+        ex = Assertions.assertThrows(SQLDataException.class, () -> batch.addRow(new Value<?>[] {
+            PrimitiveValue.newText("skipped"), PrimitiveType.Int64.makeOptional().emptyValue()
+        }));
+        Assertions.assertTrue(ex.getMessage().contains("$c1"), ex.getMessage());
+        Assertions.assertEquals(0, batch.size());
+
+        Value<?>[] valid = new Value<?>[] {PrimitiveValue.newText("valid"), PrimitiveValue.newInt64(1)};
+        batch.addRow(valid);
+
+        Assertions.assertEquals(1, batch.size());
+        Assertions.assertEquals(ListValue.of(struct(params, valid)).toPb(), batch.toValue().toPb());
+    }
+
+    @Test
+    public void splitTest() throws SQLException {
+        List<Type> types = new ArrayList<>();
+        types.add(PrimitiveType.Int64);
+        types.add(PrimitiveType.Text.makeOptional());
+        ParamDescription[] params = params(types);
+
+        ColumnarBatch batch = new ColumnarBatch(params);
+        Assertions.assertArrayEquals(new int[0], batch.split(10, 1000));
+
+        List<StructValue> rows = new ArrayList<>();
+        for (int idx = 0; idx < 10; idx++) {
+            Value<?>[] values = new Value<?>[] {
+                PrimitiveValue.newInt64(idx),
+                idx == 3 ? PrimitiveType.Text.makeOptional().emptyValue()
+                        : PrimitiveValue.newText(idx == 7 ? repeat('x', 1000) : "row " + idx).makeOptional()
+            };
+            batch.addRow(values);
+            rows.add(struct(params, values));
+        }
+
+        Assertions.assertArrayEquals(new int[] {10}, batch.split(0, 0));
+        Assertions.assertArrayEquals(new int[] {10}, batch.split(10, 0));
+        Assertions.assertArrayEquals(new int[] {4, 8, 10}, batch.split(4, 0));
+        Assertions.assertArrayEquals(new int[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, batch.split(1, 0));
+
+        // the large row is sent in a separate chunk even if it exceeds the limit
+        int[] bySize = batch.split(0, 250);
+        Assertions.assertArrayEquals(new int[] {7, 8, 10}, bySize);
+        int[] combined = batch.split(3, 250);
+        Assertions.assertArrayEquals(new int[] {3, 6, 7, 8, 10}, combined);
+
+        // estimated sizes are not less than real size of the chunks
+        int from = 0;
+        for (int to: bySize) {
+            ListValue expected = ListValue.of(rows.subList(from, to).toArray(new Value<?>[0]));
+            Assertions.assertEquals(expected.toPb(), batch.toValue(from, to).toPb());
+            Assertions.assertEquals(expected.toPb(), batch.toTypedValue(from, to).getValue());
+            if (to - from > 1) {
+                Assertions.assertTrue(expected.toPb().getSerializedSize() <= 250);
+            }
+            from = to;
+        }
+    }
+
+    private static String repeat(char ch, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, ch);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,117 @@
+package tech.ydb.jdbc.query.params;
+
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.description.KeyBound;
+import tech.ydb.table.description.KeyRange;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.TupleValue;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class ParallelScanTest {
+    private static final YdbTypes TYPES = new YdbTypes(false);
+
+    private static YdbQuery query(String sql) throws SQLException {
+        return YdbQuery.parseQuery(new QueryKey(sql), new YdbQueryProperties(new Properties()), TYPES);
+    }
+
+    private static KeyBound bound(long id) {
+        return KeyBound.exclusive(TupleValue.of(PrimitiveValue.newInt64(id).makeOptional()));
+    }
+
+    /**
+     * @param splitPoints upper bounds of partitions
+     * @return table with partitions (-inf, p1) [p1, p2) ... [pN, +inf)
+     */
+    private static TableDescription table(long... splitPoints) {
+        TableDescription.Builder builder = TableDescription.newBuilder()
+                .addNullableColumn("id", PrimitiveType.Int64)
+                .addNullableColumn("value", PrimitiveType.Text)
+                .setPrimaryKeys("id");
+
+        KeyBound from = null;
+        for (long point: splitPoints) {
+            KeyBound to = bound(point);
+            builder.addKeyRange(new KeyRange(Optional.ofNullable(from), Optional.of(to)));
+            from = KeyBound.inclusive(to.getValue());
+        }
+        builder.addKeyRange(new KeyRange(Optional.ofNullable(from), Optional.empty()));
+        return builder.build();
+    }
+
+    @Test
+    public void rangesTest() throws SQLException {
+        YdbQuery query = query("SCAN SELECT * FROM t WHERE value = $v");
+        String yql = query.getPreparedYql();
+        Params params = Params.of("$v", PrimitiveValue.newText("a"));
+
+        ParallelScan scan = ParallelScan.build(query, yql, params, table(100, 200), 4);
+        Assertions.assertNotNull(scan);
+        Assertions.assertEquals(3, scan.size());
+
+        Assertions.assertEquals("DECLARE $jdbc_scan_to AS Int64;\n SELECT * FROM (SELECT * FROM t WHERE "
+                + "`id` IS NULL OR `id` < $jdbc_scan_to) WHERE value = $v", scan.getQuery(0));
+        Assertions.assertEquals("DECLARE $jdbc_scan_from AS Int64;\nDECLARE $jdbc_scan_to AS Int64;\n SELECT * FROM "
+                + "(SELECT * FROM t WHERE `id` >= $jdbc_scan_from AND `id` < $jdbc_scan_to) WHERE value = $v",
+                scan.getQuery(1));
+        Assertions.assertEquals("DECLARE $jdbc_scan_from AS Int64;\n SELECT * FROM (SELECT * FROM t WHERE "
+                + "`id` >= $jdbc_scan_from) WHERE value = $v", scan.getQuery(2));
+
+        Assertions.assertEquals(2, scan.getParams(0).values().size());
+        Assertions.assertEquals(PrimitiveValue.newText("a"), scan.getParams(0).values().get("$v"));
+        Assertions.assertEquals(PrimitiveValue.newInt64(100), scan.getParams(0).values().get("$jdbc_scan_to"));
+        Assertions.assertEquals(3, scan.getParams(1).values().size());
+        Assertions.assertEquals(PrimitiveValue.newInt64(100), scan.getParams(1).values().get("$jdbc_scan_from"));
+        Assertions.assertEquals(PrimitiveValue.newInt64(200), scan.getParams(1).values().get("$jdbc_scan_to"));
+        Assertions.assertEquals(2, scan.getParams(2).values().size());
+        Assertions.assertEquals(PrimitiveValue.newInt64(200), scan.getParams(2).values().get("$jdbc_scan_from"));
+
+        // parameters of the original query are not changed
+        Assertions.assertEquals(1, params.values().size());
+    }
+
+    @Test
+    public void parallelismTest() throws SQLException {
+        YdbQuery query = query("SCAN SELECT * FROM t");
+        String yql = query.getPreparedYql();
+
+        // ten partitions are grouped into four ranges
+        ParallelScan scan = ParallelScan.build(query, yql, Params.empty(),
+                table(10, 20, 30, 40, 50, 60, 70, 80, 90), 4);
+        Assertions.assertNotNull(scan);
+        Assertions.assertEquals(4, scan.size());
+        Assertions.assertEquals(PrimitiveValue.newInt64(20), scan.getParams(0).values().get("$jdbc_scan_to"));
+        Assertions.assertEquals(PrimitiveValue.newInt64(50), scan.getParams(1).values().get("$jdbc_scan_to"));
+        Assertions.assertEquals(PrimitiveValue.newInt64(70), scan.getParams(2).values().get("$jdbc_scan_to"));
+        Assertions.assertEquals(PrimitiveValue.newInt64(70), scan.getParams(3).values().get("$jdbc_scan_from"));
+
+        // duplicated split points of the first key column are ignored
+        scan = ParallelScan.build(query, yql, Params.empty(), table(10, 10, 20), 8);
+        Assertions.assertNotNull(scan);
+        Assertions.assertEquals(3, scan.size());
+
+        // single partition or disabled parallelism
+        Assertions.assertNull(ParallelScan.build(query, yql, Params.empty(), table(), 4));
+        Assertions.assertNull(ParallelScan.build(query, yql, Params.empty(), table(10, 20), 1));
+
+        // changed text of the query or the query which cannot be splitted
+        Assertions.assertNull(ParallelScan.build(query, "SELECT 1", Params.empty(), table(10, 20), 4));
+        YdbQuery ordered = query("SCAN SELECT * FROM t ORDER BY id");
+        Assertions.assertNull(ParallelScan.build(ordered, ordered.getPreparedYql(), Params.empty(), table(10), 4));
+    }
+}
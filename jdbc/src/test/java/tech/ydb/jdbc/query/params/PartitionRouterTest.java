@@ -0,0 +1,150 @@
+package tech.ydb.jdbc.query.params;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.description.KeyBound;
+import tech.ydb.table.description.KeyRange;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.TupleValue;
+import tech.ydb.table.values.Value;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class PartitionRouterTest {
+    private static final YdbTypes TYPES = new YdbTypes(false);
+
+    private static TableDescription.Builder table() {
+        return TableDescription.newBuilder()
+                .addNullableColumn("id", PrimitiveType.Int64)
+                .addNullableColumn("name", PrimitiveType.Text)
+                .addNullableColumn("value", PrimitiveType.Double)
+                .setPrimaryKeys("id", "name");
+    }
+
+    private static KeyBound bound(boolean inclusive, Value<?>... values) {
+        TupleValue tuple = TupleValue.ofCopy(values);
+        return inclusive ? KeyBound.inclusive(tuple) : KeyBound.exclusive(tuple);
+    }
+
+    private static KeyRange range(KeyBound from, KeyBound to) {
+        return new KeyRange(Optional.ofNullable(from), Optional.ofNullable(to));
+    }
+
+    private static TableDescription partitionedTable() {
+        // partitions: (-inf, 100) [100, (200, "b")] ((200, "b"), +inf)
+        KeyBound first = bound(false, PrimitiveValue.newInt64(100).makeOptional());
+        KeyBound second = bound(true,
+                PrimitiveValue.newInt64(200).makeOptional(), PrimitiveValue.newText("b").makeOptional());
+        return table()
+                .addKeyRange(range(null, first))
+                .addKeyRange(range(KeyBound.inclusive(first.getValue()), second))
+                .addKeyRange(range(KeyBound.exclusive(second.getValue()), null))
+                .build();
+    }
+
+    private static void addRow(BulkUpsertQuery query, Long id, String name) throws SQLException {
+        query.setParam(1, id, Types.BIGINT);
+        query.setParam(2, name, Types.VARCHAR);
+        query.setParam(3, 1.0d, Types.DOUBLE);
+        query.addBatch();
+    }
+
+    @Test
+    public void compareTest() {
+        ValueProtos.Value nullValue = PrimitiveType.Int32.makeOptional().emptyValue().toPb();
+        ValueProtos.Value minus = PrimitiveValue.newInt32(-1).toPb();
+        ValueProtos.Value plus = PrimitiveValue.newInt32(1).toPb();
+
+        Assertions.assertTrue(PartitionRouter.compare(nullValue, minus) < 0);
+        Assertions.assertTrue(PartitionRouter.compare(minus, nullValue) > 0);
+        Assertions.assertEquals(0, PartitionRouter.compare(nullValue, nullValue));
+        Assertions.assertTrue(PartitionRouter.compare(minus, plus) < 0);
+
+        // unsigned values
+        Assertions.assertTrue(PartitionRouter.compare(
+                PrimitiveValue.newUint64(1).toPb(), PrimitiveValue.newUint64(-1).toPb()) < 0);
+        Assertions.assertTrue(PartitionRouter.compare(
+                PrimitiveValue.newUint32(1).toPb(), PrimitiveValue.newUint32(-1).toPb()) < 0);
+
+        // strings are compared as bytes
+        Assertions.assertTrue(PartitionRouter.compare(
+                PrimitiveValue.newText("a").toPb(), PrimitiveValue.newText("ab").toPb()) < 0);
+        Assertions.assertTrue(PartitionRouter.compare(
+                PrimitiveValue.newText("z").toPb(), PrimitiveValue.newText("я").toPb()) < 0);
+        Assertions.assertTrue(PartitionRouter.compare(
+                PrimitiveValue.newBytes(new byte[] {1}).toPb(), PrimitiveValue.newBytes(new byte[] {-1}).toPb()) < 0);
+
+        // values of different kinds cannot be compared
+        Assertions.assertEquals(0, PartitionRouter.compare(plus, PrimitiveValue.newText("a").toPb()));
+
+        // missing components of the bound are the minimal values
+        Assertions.assertTrue(PartitionRouter.compareKey(
+                new ValueProtos.Value[] {plus, minus}, new ValueProtos.Value[] {plus}) > 0);
+    }
+
+    @Test
+    public void groupByPartitionsTest() throws SQLException {
+        BulkUpsertQuery query = BulkUpsertQuery.build(TYPES, "/local/table",
+                Arrays.asList("id", "name", "value"), partitionedTable());
+
+        addRow(query, 500L, "z");  // 0 -> partition 2
+        addRow(query, 1L, "a");    // 1 -> partition 0
+        addRow(query, 200L, "b");  // 2 -> partition 1, bound is inclusive
+        addRow(query, 100L, null); // 3 -> partition 1, bound is inclusive
+        addRow(query, 99L, "z");   // 4 -> partition 0
+        addRow(query, null, "a");  // 5 -> partition 0, null is the minimal value
+        addRow(query, 200L, "ba"); // 6 -> partition 2
+        addRow(query, 150L, "x");  // 7 -> partition 1
+
+        int[][] groups = query.groupBatchByPartitions();
+        Assertions.assertNotNull(groups);
+        Assertions.assertEquals(3, groups.length);
+        Assertions.assertArrayEquals(new int[] {1, 4, 5}, groups[0]);
+        Assertions.assertArrayEquals(new int[] {2, 3, 7}, groups[1]);
+        Assertions.assertArrayEquals(new int[] {0, 6}, groups[2]);
+
+        Assertions.assertArrayEquals(new int[] {2, 3}, query.splitBatch(groups[1], 2, 0));
+
+        YdbTable.BulkUpsertRequest.Builder request = YdbTable.BulkUpsertRequest.newBuilder();
+        query.getBatchedBulk(groups[1], 2, 3).applyToRequest(request);
+        ValueProtos.TypedValue chunk = request.getRows();
+        Assertions.assertEquals(1, chunk.getValue().getItemsCount());
+        Assertions.assertEquals(150L, chunk.getValue().getItems(0).getItems(0).getInt64Value());
+        Assertions.assertEquals("x", chunk.getValue().getItems(0).getItems(1).getTextValue());
+    }
+
+    @Test
+    public void unknownPartitionsTest() throws SQLException {
+        // table description without key ranges
+        BulkUpsertQuery noRanges = BulkUpsertQuery.build(TYPES, "/local/table",
+                Arrays.asList("id", "name", "value"), table().build());
+        addRow(noRanges, 1L, "a");
+        Assertions.assertNull(noRanges.groupBatchByPartitions());
+
+        // not all key columns are in the batch
+        BulkUpsertQuery noKey = BulkUpsertQuery.build(TYPES, "/local/table",
+                Arrays.asList("id", "value"), partitionedTable());
+        noKey.setParam(1, 1L, Types.BIGINT);
+        noKey.setParam(2, 1.0d, Types.DOUBLE);
+        noKey.addBatch();
+        Assertions.assertNull(noKey.groupBatchByPartitions());
+
+        // empty batch
+        BulkUpsertQuery empty = BulkUpsertQuery.build(TYPES, "/local/table",
+                Arrays.asList("id", "name", "value"), partitionedTable());
+        Assertions.assertNull(empty.groupBatchByPartitions());
+    }
+}
@@ -0,0 +1,243 @@
+package tech.ydb.jdbc.query.params;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import tech.ydb.jdbc.common.TypeDescription;
+import tech.ydb.jdbc.common.YdbTypes;
+import tech.ydb.jdbc.query.QueryKey;
+import tech.ydb.jdbc.query.YdbQuery;
+import tech.ydb.jdbc.settings.YdbQueryProperties;
+import tech.ydb.table.description.TableDescription;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.DecimalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ *
+ * @author Aleksandr Gorshenin
+ */
+public class PrimitiveParamsTest {
+    private static final YdbTypes TYPES = new YdbTypes(false);
+
+    private static final Type[] TARGET_TYPES = new Type[] {
+        PrimitiveType.Bool,
+        PrimitiveType.Int8, PrimitiveType.Uint8, PrimitiveType.Int16, PrimitiveType.Uint16,
+        PrimitiveType.Int32, PrimitiveType.Uint32, PrimitiveType.Int64, PrimitiveType.Uint64,
+        PrimitiveType.Float, PrimitiveType.Double,
+        PrimitiveType.Text, PrimitiveType.Bytes, PrimitiveType.Timestamp, PrimitiveType.Interval,
+        DecimalType.getDefault(),
+    };
+
+    private static final long[] LONG_VALUES = new long[] {
+        0, 1, -1, 127, 128, -129, 40000, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE
+    };
+
+    private static final double[] DOUBLE_VALUES = new double[] {
+        0, -0.0d, 1.5d, -1e10d, Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY
+    };
+
+    @FunctionalInterface
+    private interface ValueReader {
+        Value<?> read() throws SQLException;
+    }
+
+    private static void assertSameValue(ValueReader boxed, ValueReader primitive) {
+        Value<?> expected;
+        try {
+            expected = boxed.read();
+        } catch (SQLException ex) {
+            Assertions.assertThrows(SQLException.class, primitive::read);
+            return;
+        }
+
+        Value<?> actual = Assertions.assertDoesNotThrow(primitive::read);
+        Assertions.assertEquals(expected.getType(), actual.getType());
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    public void readValueTest() {
+        for (Type type: TARGET_TYPES) {
+            for (TypeDescription desc: new TypeDescription[] {TYPES.find(type), TYPES.find(type.makeOptional())}) {
+                for (long value: LONG_VALUES) {
+                    int intValue = (int) value;
+                    assertSameValue(
+                            () -> ValueFactory.readValue("p", Integer.valueOf(intValue), desc),
+                            () -> ValueFactory.readValue(intValue, desc)
+                    );
+                    assertSameValue(
+                            () -> ValueFactory.readValue("p", Long.valueOf(value), desc),
+                            () -> ValueFactory.readValue(value, desc)
+                    );
+                }
+
+                for (long value: LONG_VALUES) {
+                    byte byteValue = (byte) value;
+                    short shortValue = (short) value;
+                    assertSameValue(
+                            () -> ValueFactory.readValue("p", Byte.valueOf(byteValue), desc),
+                            () -> ValueFactory.readValue(byteValue, desc)
+                    );
+                    assertSameValue(
+                            () -> ValueFactory.readValue("p", Short.valueOf(shortValue), desc),
+                            () -> ValueFactory.readValue(shortValue, desc)
+                    );
+                }
+
+                for (double value: DOUBLE_VALUES) {
+                    float floatValue = (float) value;
+                    assertSameValue(
+                            () -> ValueFactory.readValue("p", Double.valueOf(value), desc),
+                            () -> ValueFactory.readValue(value, desc)
+                    );
+                    assertSameValue(
+                            () -> ValueFactory.readValue("p", Float.valueOf(floatValue), desc),
+                            () -> ValueFactory.readValue(floatValue, desc)
+                    );
+                }
+
+                for (boolean value: new boolean[] {true, false}) {
+                    assertSameValue(
+                            () -> ValueFactory.readValue("p", Boolean.valueOf(value), desc),
+                            () -> ValueFactory.readValue(value, desc)
+                    );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void preparedQueryTest() throws SQLException {
+        Map<String, Type> types = new HashMap<>();
+        types.put("$p1", PrimitiveType.Int32);
+        types.put("$p2", PrimitiveType.Int64.makeOptional());
+        types.put("$p3", PrimitiveType.Double);
+        types.put("$p4", PrimitiveType.Float.makeOptional());
+        types.put("$p5", PrimitiveType.Bool);
+        types.put("$p6", PrimitiveType.Int8.makeOptional());
+        types.put("$p7", PrimitiveType.Int16);
+        types.put("$p8", PrimitiveType.Float);
+
+        YdbQuery query = YdbQuery.parseQuery(new QueryKey("SELECT 1"), queryOptions(), TYPES);
+
+        PreparedQuery boxed = new PreparedQuery(TYPES, query, types);
+        boxed.setParam(1, 10, Types.INTEGER);
+        boxed.setParam("p2", 20L, Types.BIGINT);
+        boxed.setParam(3, 30.5d, Types.DOUBLE);
+        boxed.setParam("p4", 40, Types.INTEGER);
+        boxed.setParam(5, true, Types.BOOLEAN);
+        boxed.setParam("p6", (byte) 60, Types.TINYINT);
+        boxed.setParam(7, (short) 70, Types.SMALLINT);
+        boxed.setParam("p8", 80.5f, Types.FLOAT);
+
+        PreparedQuery primitive = new PreparedQuery(TYPES, query, types);
+        primitive.setInt(1, 10);
+        primitive.setLong("p2", 20L);
+        primitive.setDouble(3, 30.5d);
+        primitive.setInt("p4", 40);
+        primitive.setBoolean(5, true);
+        primitive.setByte("p6", (byte) 60);
+        primitive.setShort(7, (short) 70);
+        primitive.setFloat("p8", 80.5f);
+
+        assertParams(boxed.getCurrentParams(), primitive.getCurrentParams());
+
+        Assertions.assertThrows(SQLException.class, () -> primitive.setInt(9, 1));
+        Assertions.assertThrows(SQLException.class, () -> primitive.setLong("p9", 1L));
+        Assertions.assertThrows(SQLException.class, () -> primitive.setBoolean("p9", true));
+    }
+
+    @Test
+    public void inMemoryQueryTest() throws SQLException {
+        YdbQuery query = YdbQuery.parseQuery(new QueryKey("SELECT ?, ?, ?, ?, ?, ?, ?"), queryOptions(), TYPES);
+
+        InMemoryQuery boxed = new InMemoryQuery(query, true);
+        boxed.setParam(1, 10, Types.INTEGER);
+        boxed.setParam(2, 20L, Types.BIGINT);
+        boxed.setParam(3, 30.5d, Types.DOUBLE);
+        boxed.setParam(4, true, Types.BOOLEAN);
+        boxed.setParam(5, (byte) 50, Types.TINYINT);
+        boxed.setParam(6, (short) 60, Types.SMALLINT);
+        boxed.setParam(7, 70.5f, Types.FLOAT);
+
+        InMemoryQuery primitive = new InMemoryQuery(query, true);
+        primitive.setInt(1, 10);
+        primitive.setLong(2, 20L);
+        primitive.setDouble(3, 30.5d);
+        primitive.setBoolean(4, true);
+        primitive.setByte(5, (byte) 50);
+        primitive.setShort(6, (short) 60);
+        primitive.setFloat(7, 70.5f);
+
+        assertParams(boxed.getCurrentParams(), primitive.getCurrentParams());
+        Assertions.assertThrows(SQLException.class, () -> primitive.setDouble(8, 1d));
+    }
+
+    @Test
+    public void batchedQueryTest() throws SQLException {
+        TableDescription description = TableDescription.newBuilder()
+                .addNonnullColumn("id", PrimitiveType.Int64)
+                .addNullableColumn("amount", PrimitiveType.Int32)
+                .addNullableColumn("score", PrimitiveType.Double)
+                .addNullableColumn("active", PrimitiveType.Bool)
+                .addNullableColumn("level", PrimitiveType.Int8)
+                .addNullableColumn("rank", PrimitiveType.Int16)
+                .addNullableColumn("ratio", PrimitiveType.Float)
+                .setPrimaryKeys("id")
+                .build();
+
+        String sql = "UPSERT INTO t (id, amount, score, active, level, rank, ratio) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        YdbQuery query = YdbQuery.parseQuery(new QueryKey(sql), queryOptions(), TYPES);
+
+        BatchedQuery boxed = BatchedQuery.createAutoBatched(TYPES, query, description);
+        BatchedQuery primitive = BatchedQuery.createAutoBatched(TYPES, query, description);
+        Assertions.assertNotNull(boxed);
+        Assertions.assertNotNull(primitive);
+
+        for (int idx = 0; idx < 3; idx++) {
+            boxed.setParam(1, (long) idx, Types.BIGINT);
+            boxed.setParam(2, idx * 10, Types.INTEGER);
+            boxed.setParam(3, idx * 0.5d, Types.DOUBLE);
+            boxed.setParam(4, idx % 2 == 0, Types.BOOLEAN);
+            boxed.setParam(5, (byte) idx, Types.TINYINT);
+            boxed.setParam(6, (short) (idx * 100), Types.SMALLINT);
+            boxed.setParam(7, idx * 0.25f, Types.FLOAT);
+            boxed.addBatch();
+
+            primitive.setLong(1, idx);
+            primitive.setInt(2, idx * 10);
+            primitive.setDouble(3, idx * 0.5d);
+            primitive.setBoolean(4, idx % 2 == 0);
+            primitive.setByte(5, (byte) idx);
+            primitive.setShort(6, (short) (idx * 100));
+            primitive.setFloat(7, idx * 0.25f);
+            primitive.addBatch();
+        }
+
+        Assertions.assertEquals(1, boxed.getBatchParams().size());
+        Assertions.assertEquals(1, primitive.getBatchParams().size());
+        assertParams(boxed.getBatchParams().get(0), primitive.getBatchParams().get(0));
+        Assertions.assertThrows(SQLException.class, () -> primitive.setInt(8, 1));
+    }
+
+    private static YdbQueryProperties queryOptions() throws SQLException {
+        return new YdbQueryProperties(new Properties());
+    }
+
+    private static void assertParams(Params expected, Params actual) {
+        Assertions.assertEquals(expected.values().keySet(), actual.values().keySet());
+        expected.values().forEach((name, value) -> {
+            Assertions.assertEquals(value.getType(), actual.values().get(name).getType(), name);
+            Assertions.assertEquals(value.toPb(), actual.values().get(name).toPb(), name);
+        });
+    }
+}
@@ -277,6 +277,15 @@ public class YdbDriverProperitesTest {
                 () -> driver.getPropertyInfo(url, null));
     }
 
+    @Test
+    public void splitWarmupQueries() {
+        Assertions.assertEquals(Arrays.asList(), YdbConfig.splitQueries(null));
+        Assertions.assertEquals(Arrays.asList(), YdbConfig.splitQueries(" \n\n"));
+        Assertions.assertEquals(Arrays.asList("SELECT 1"), YdbConfig.splitQueries("SELECT 1"));
+        Assertions.assertEquals(Arrays.asList("SELECT 1;", "DECLARE $p1 AS Int32;\nSELECT $p1;", "SELECT 3"),
+                YdbConfig.splitQueries("\nSELECT 1;\n\n\r\nDECLARE $p1 AS Int32;\r\nSELECT $p1;\n  \nSELECT 3\n"));
+    }
+
     @Test
     public void getMajorVersion() {
         Assertions.assertEquals(2, driver.getMajorVersion());